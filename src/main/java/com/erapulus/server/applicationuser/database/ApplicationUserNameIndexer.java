@@ -0,0 +1,83 @@
+package com.erapulus.server.applicationuser.database;
+
+import lombok.AllArgsConstructor;
+import org.reactivestreams.Publisher;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+import org.springframework.data.r2dbc.mapping.event.AfterSaveCallback;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.stream.Collectors;
+
+@Component
+@AllArgsConstructor
+public class ApplicationUserNameIndexer implements AfterSaveCallback<ApplicationUserEntity> {
+
+    private static final String USER_PARAM = "user";
+    private static final String SUFFIX_PARAM = "suffix";
+    private static final String SUFFIX_COLUMN = "suffix";
+    private static final String SELECT_QUERY = "SELECT suffix FROM application_user_name_suffix WHERE application_user = :user";
+    private static final String DELETE_QUERY = "DELETE FROM application_user_name_suffix WHERE application_user = :user";
+    private static final String INSERT_QUERY = "INSERT INTO application_user_name_suffix(application_user, suffix) VALUES ";
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Publisher<ApplicationUserEntity> onAfterSave(ApplicationUserEntity entity, OutboundRow outboundRow, SqlIdentifier table) {
+        Set<String> suffixes = suffixes(entity.firstName(), entity.lastName());
+        return databaseClient.sql(SELECT_QUERY)
+                             .bind(USER_PARAM, entity.id())
+                             .map(row -> row.get(SUFFIX_COLUMN, String.class))
+                             .all()
+                             .collect(Collectors.toSet())
+                             .filter(indexed -> !indexed.equals(suffixes))
+                             .flatMap(indexed -> reindex(entity.id(), List.copyOf(suffixes)))
+                             .thenReturn(entity);
+    }
+
+    public static Set<String> suffixes(String firstName, String lastName) {
+        String first = Objects.toString(firstName, "");
+        String last = Objects.toString(lastName, "");
+        Set<String> suffixes = new LinkedHashSet<>();
+        addSuffixes(suffixes, (first + last).toLowerCase(Locale.ROOT));
+        addSuffixes(suffixes, (last + first).toLowerCase(Locale.ROOT));
+        return suffixes;
+    }
+
+    private Mono<Integer> reindex(int userId, List<String> suffixes) {
+        Mono<Integer> deleteSuffixes = databaseClient.sql(DELETE_QUERY)
+                                                     .bind(USER_PARAM, userId)
+                                                     .fetch()
+                                                     .rowsUpdated();
+        if (suffixes.isEmpty()) {
+            return deleteSuffixes;
+        }
+        return deleteSuffixes.then(insertSuffixes(userId, suffixes));
+    }
+
+    private Mono<Integer> insertSuffixes(int userId, List<String> suffixes) {
+        StringJoiner values = new StringJoiner(", ", INSERT_QUERY, "");
+        for (int i = 0; i < suffixes.size(); i++) {
+            values.add("(:" + USER_PARAM + ", :" + SUFFIX_PARAM + i + ")");
+        }
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(values.toString()).bind(USER_PARAM, userId);
+        for (int i = 0; i < suffixes.size(); i++) {
+            spec = spec.bind(SUFFIX_PARAM + i, suffixes.get(i));
+        }
+        return spec.fetch().rowsUpdated();
+    }
+
+    private static void addSuffixes(Set<String> suffixes, String name) {
+        for (int start = 0; start < name.length(); start++) {
+            suffixes.add(name.substring(start));
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.erapulus.server.applicationuser.database;
+
+import com.erapulus.server.common.database.PagedResult;
+import com.erapulus.server.common.database.UserType;
+import reactor.core.publisher.Mono;
+
+public interface ApplicationUserPageRepository {
+
+    String FILTERS = """
+            WHERE (:university IS NULL OR university = :university)
+            AND (:type IS NULL OR type = :type)
+            AND (:email IS NULL OR email LIKE CONCAT(:email, '%'))
+            AND (:name IS NULL OR id IN (SELECT s.application_user FROM application_user_name_suffix s
+                                         WHERE s.suffix LIKE CONCAT(LOWER(:name), '%')))
+            """;
+    String COUNT_QUERY = "SELECT COUNT(*) FROM application_user " + FILTERS;
+
+    Mono<PagedResult<ApplicationUserEntity>> findPageByFilters(Integer universityId, UserType userType, String name, String email, long offset, int pageSize);
+}
@@ -0,0 +1,31 @@
+package com.erapulus.server.applicationuser.database;
+
+import com.erapulus.server.common.database.PagedQueryExecutor;
+import com.erapulus.server.common.database.PagedResult;
+import com.erapulus.server.common.database.UserType;
+import lombok.AllArgsConstructor;
+import org.springframework.r2dbc.core.Parameter;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+@AllArgsConstructor
+class ApplicationUserPageRepositoryImpl implements ApplicationUserPageRepository {
+
+    private static final String PAGE_QUERY = "SELECT *, COUNT(*) OVER() AS total_count FROM application_user " + FILTERS + """
+            ORDER BY id OFFSET :offset ROWS
+            FETCH NEXT :size ROWS ONLY
+            """;
+
+    private final PagedQueryExecutor pagedQueryExecutor;
+
+    @Override
+    public Mono<PagedResult<ApplicationUserEntity>> findPageByFilters(Integer universityId, UserType userType, String name, String email, long offset, int pageSize) {
+        Map<String, Parameter> filters = Map.of(
+                "university", Parameter.fromOrEmpty(universityId, Integer.class),
+                "type", Parameter.fromOrEmpty(userType != null ? userType.name() : null, String.class),
+                "name", Parameter.fromOrEmpty(name, String.class),
+                "email", Parameter.fromOrEmpty(email, String.class));
+        return pagedQueryExecutor.fetch(ApplicationUserEntity.class, PAGE_QUERY, COUNT_QUERY, filters, offset, pageSize);
+    }
+}
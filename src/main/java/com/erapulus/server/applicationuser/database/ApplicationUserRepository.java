@@ -9,18 +9,12 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Repository
-public interface ApplicationUserRepository extends R2dbcRepository<ApplicationUserEntity, Integer> {
+public interface ApplicationUserRepository extends R2dbcRepository<ApplicationUserEntity, Integer>, ApplicationUserPageRepository {
 
     @Query("SELECT * FROM application_user WHERE email = :email")
     Mono<ApplicationUserEntity> findByEmail(@Param("email") String email);
 
-    @Query("""
-            SELECT * FROM application_user
-            WHERE (:university IS NULL OR university = :university)
-            AND (:type IS NULL OR type = :type)
-            AND (:email IS NULL OR email LIKE CONCAT(:email, '%'))
-            AND (:name IS NULL OR LOWER(CONCAT(first_name, last_name)) LIKE LOWER(CONCAT('%', :name, '%'))
-                               OR LOWER(CONCAT(last_name, first_name)) LIKE LOWER(CONCAT('%', :name, '%')))
+    @Query("SELECT * FROM application_user " + FILTERS + """
             ORDER BY id OFFSET :offset ROWS
             FETCH NEXT :size ROWS ONLY
             """)
@@ -31,14 +25,19 @@ public interface ApplicationUserRepository extends R2dbcRepository<ApplicationUs
                                                  @Param("offset") long offset,
                                                  @Param("size") int pageSize);
 
-    @Query("""
-            SELECT COUNT(*) FROM application_user
-            WHERE (:university IS NULL OR university = :university)
-            AND (:type IS NULL OR type = :type)
-            AND (:email IS NULL OR email LIKE CONCAT(:email, '%'))
-            AND (:name IS NULL OR LOWER(CONCAT(first_name, last_name)) LIKE LOWER(CONCAT('%', :name, '%'))
-                               OR LOWER(CONCAT(last_name, first_name)) LIKE LOWER(CONCAT('%', :name, '%')))
+    @Query("SELECT * FROM application_user " + FILTERS + """
+            AND id > :afterId
+            ORDER BY id OFFSET 0 ROWS
+            FETCH NEXT :size ROWS ONLY
             """)
+    Flux<ApplicationUserEntity> findAllByFiltersAfter(@Param("university") Integer universityId,
+                                                      @Param("type") UserType userType,
+                                                      @Param("name") String name,
+                                                      @Param("email") String email,
+                                                      @Param("afterId") int afterId,
+                                                      @Param("size") int pageSize);
+
+    @Query(COUNT_QUERY)
     Mono<Integer> countByFilters(@Param("university") Integer universityId,
                                  @Param("type") UserType userType,
                                  @Param("name") String name,
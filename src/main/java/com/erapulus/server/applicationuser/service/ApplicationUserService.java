@@ -4,10 +4,17 @@ import com.erapulus.server.applicationuser.database.ApplicationUserEntity;
 import com.erapulus.server.applicationuser.database.ApplicationUserRepository;
 import com.erapulus.server.applicationuser.dto.ApplicationUserDto;
 import com.erapulus.server.applicationuser.mapper.ApplicationUserEntityToDtoMapper;
+import com.erapulus.server.common.database.AfterTransaction;
+import com.erapulus.server.common.database.PagedResult;
 import com.erapulus.server.common.database.UserType;
+import com.erapulus.server.common.web.CountMode;
+import com.erapulus.server.common.web.PageCursor;
 import com.erapulus.server.common.web.PageablePayload;
+import com.erapulus.server.common.web.PaginationRequest;
 import com.erapulus.server.device.service.DeviceService;
 import com.erapulus.server.friendship.service.FriendshipService;
+import com.erapulus.server.security.PrincipalCache;
+import com.erapulus.server.security.UserEpochRegistry;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
@@ -26,6 +33,8 @@ public class ApplicationUserService {
     private final DeviceService deviceService;
     private final FriendshipService friendshipService;
     private final ApplicationUserEntityToDtoMapper applicationUserEntityToDtoMapper;
+    private final PrincipalCache principalCache;
+    private final UserEpochRegistry userEpochRegistry;
 
     public Mono<PageablePayload<ApplicationUserDto>> listApplicationUsers(String universityId, String userType, String name, String email, PageRequest pageRequest) {
         Integer universityParsed;
@@ -40,11 +49,23 @@ public class ApplicationUserService {
         } catch (IllegalArgumentException e) {
             return Mono.error(new IllegalArgumentException());
         }
-        return applicationUserRepository.findAllByFilters(universityParsed, userTypeParsed, nameParsed, emailParsed, pageRequest.getOffset(), pageRequest.getPageSize())
-                                        .map(applicationUserEntityToDtoMapper::from)
-                                        .collectList()
-                                        .zipWith(applicationUserRepository.countByFilters(universityParsed, userTypeParsed, nameParsed, emailParsed))
-                                        .map(dtoListAndTotalCount -> new PageablePayload<>(dtoListAndTotalCount.getT1(), pageRequest, dtoListAndTotalCount.getT2()));
+        return findApplicationUsers(universityParsed, userTypeParsed, nameParsed, emailParsed, pageRequest)
+                .map(page -> page.map(applicationUserEntityToDtoMapper::from))
+                .map(page -> new PageablePayload<>(page.content(), pageRequest, page.totalCount(),
+                        user -> PageCursor.of(user.id())));
+    }
+
+    private Mono<PagedResult<ApplicationUserEntity>> findApplicationUsers(Integer universityId, UserType userType, String name, String email, PageRequest pageRequest) {
+        PageCursor after = PaginationRequest.after(pageRequest);
+        if (after != null) {
+            return PagedResult.of(applicationUserRepository.findAllByFiltersAfter(universityId, userType, name, email, after.id(), pageRequest.getPageSize()),
+                    pageRequest, () -> applicationUserRepository.countByFilters(universityId, userType, name, email));
+        }
+        if (PaginationRequest.countMode(pageRequest) == CountMode.EXACT) {
+            return applicationUserRepository.findPageByFilters(universityId, userType, name, email, pageRequest.getOffset(), pageRequest.getPageSize());
+        }
+        return PagedResult.of(applicationUserRepository.findAllByFilters(universityId, userType, name, email, pageRequest.getOffset(), pageRequest.getPageSize()),
+                pageRequest, () -> applicationUserRepository.countByFilters(universityId, userType, name, email));
     }
 
     @Transactional
@@ -52,6 +73,8 @@ public class ApplicationUserService {
         return applicationUserRepository.findById(userId)
                                         .switchIfEmpty(Mono.error(new NoSuchElementException("user")))
                                         .flatMap(this::deleteApplicationUser)
+                                        .then(Mono.fromRunnable(() -> userEpochRegistry.revoke(userId)))
+                                        .then(AfterTransaction.run(() -> principalCache.invalidate(userId)))
                                         .thenReturn(true);
     }
 
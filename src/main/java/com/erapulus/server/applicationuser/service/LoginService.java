@@ -7,12 +7,12 @@ import com.erapulus.server.applicationuser.dto.EmployeeLoginDto;
 import com.erapulus.server.security.FacebookTokenValidator;
 import com.erapulus.server.security.GoogleTokenValidator;
 import com.erapulus.server.security.JwtGenerator;
+import com.erapulus.server.security.PasswordHashingService;
 import com.erapulus.server.student.database.StudentEntity;
 import com.erapulus.server.student.database.StudentRepository;
 import com.erapulus.server.applicationuser.dto.StudentLoginDto;
 import lombok.AllArgsConstructor;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 import reactor.core.publisher.Mono;
@@ -26,7 +26,7 @@ public class LoginService {
 
     private final EmployeeRepository employeeRepository;
     private final StudentRepository studentRepository;
-    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final JwtGenerator jwtGenerator;
     private final GoogleTokenValidator googleTokenValidator;
     private final FacebookTokenValidator facebookTokenValidator;
@@ -34,7 +34,8 @@ public class LoginService {
     public Mono<LoginResponseDto> validateEmployeeCredentials(@Valid EmployeeLoginDto employeeLoginDTO) {
         return employeeRepository.findByEmailAndType(employeeLoginDTO.email())
                                  .switchIfEmpty(Mono.error(new BadCredentialsException("login")))
-                                 .flatMap(employee -> validatePassword(employeeLoginDTO, employee));
+                                 .flatMap(employee -> passwordHashingService.matches(employeeLoginDTO.password(), employee.password())
+                                                                            .flatMap(isPasswordValid -> validatePassword(isPasswordValid, employee)));
     }
 
     public Mono<LoginResponseDto> validateGoogleStudentCredentials(@Valid StudentLoginDto studentLoginDTO) {
@@ -47,8 +48,7 @@ public class LoginService {
                                      .flatMap(this::validateToken);
     }
 
-    private Mono<LoginResponseDto> validatePassword(EmployeeLoginDto employeeLoginDTO, EmployeeEntity employeeEntity) {
-        boolean isPasswordValid = bCryptPasswordEncoder.matches(employeeLoginDTO.password(), employeeEntity.password());
+    private Mono<LoginResponseDto> validatePassword(boolean isPasswordValid, EmployeeEntity employeeEntity) {
         if (isPasswordValid) {
             LoginResponseDto responseDTO = LoginResponseDto.builder()
                                                            .userId(employeeEntity.id())
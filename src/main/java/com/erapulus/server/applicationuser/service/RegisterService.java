@@ -6,9 +6,9 @@ import com.erapulus.server.employee.dto.EmployeeCreateRequestDto;
 import com.erapulus.server.employee.dto.EmployeeResponseDto;
 import com.erapulus.server.applicationuser.mapper.EmployeeCreateRequestToEmployeeEntityMapper;
 import com.erapulus.server.employee.mapper.EmployeeEntityToResponseDtoMapper;
+import com.erapulus.server.security.PasswordHashingService;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 import reactor.core.publisher.Mono;
@@ -21,7 +21,7 @@ import javax.validation.Valid;
 @AllArgsConstructor
 public class RegisterService {
 
-    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final EmployeeRepository employeeRepository;
     private final EmployeeEntityToResponseDtoMapper employeeEntityToResponseDtoMapper;
 
@@ -38,12 +38,12 @@ public class RegisterService {
     }
 
     private Mono<EmployeeResponseDto> createEmployee(EmployeeCreateRequestDto employeeCreateRequestDto, UserType userType) {
-        String encryptedPassword = bCryptPasswordEncoder.encode(employeeCreateRequestDto.password());
+        CharSequence password = employeeCreateRequestDto.password();
         employeeCreateRequestDto.password("");
-        return Mono.just(employeeCreateRequestDto)
-                   .map(dto -> EmployeeCreateRequestToEmployeeEntityMapper.from(dto, userType))
-                   .map(employee -> employee.password(encryptedPassword))
-                   .flatMap(employeeRepository::save)
-                   .map(employeeEntityToResponseDtoMapper::from);
+        return passwordHashingService.encode(password)
+                                     .map(encryptedPassword -> EmployeeCreateRequestToEmployeeEntityMapper.from(employeeCreateRequestDto, userType)
+                                                                                                         .password(encryptedPassword))
+                                     .flatMap(employeeRepository::save)
+                                     .map(employeeEntityToResponseDtoMapper::from);
     }
 }
@@ -3,6 +3,7 @@ package com.erapulus.server.applicationuser.web;
 import com.erapulus.server.applicationuser.dto.LoginResponseDto;
 import com.erapulus.server.applicationuser.service.LoginService;
 import com.erapulus.server.common.exception.InvalidTokenException;
+import com.erapulus.server.common.exception.ServiceUnavailableException;
 import com.erapulus.server.common.web.ServerResponseFactory;
 import com.erapulus.server.applicationuser.dto.EmployeeLoginDto;
 import com.erapulus.server.applicationuser.dto.StudentLoginDto;
@@ -42,7 +43,8 @@ public class LoginController {
                     @ApiResponse(responseCode = "200", description = OK, content = @Content(schema = @Schema(implementation = LoginResponseDto.class))),
                     @ApiResponse(responseCode = "400", description = BAD_REQUEST),
                     @ApiResponse(responseCode = "401", description = UNAUTHORIZED),
-                    @ApiResponse(responseCode = "500", description = INTERNAL_SERVER_ERROR)
+                    @ApiResponse(responseCode = "500", description = INTERNAL_SERVER_ERROR),
+                    @ApiResponse(responseCode = "503", description = SERVICE_UNAVAILABLE)
             }
     )
     public Mono<ServerResponse> loginEmployee(ServerRequest request) {
@@ -51,6 +53,7 @@ public class LoginController {
                       .flatMap(ServerResponseFactory::createHttpSuccessResponse)
                       .onErrorResume(ConstraintViolationException.class, ServerResponseFactory::createHttpBadRequestConstraintViolationErrorResponse)
                       .onErrorResume(BadCredentialsException.class, e -> ServerResponseFactory.createHttpBadRequestInvalidCredentialsErrorResponse())
+                      .onErrorResume(ServiceUnavailableException.class, e -> ServerResponseFactory.createHttpServiceUnavailableErrorResponse())
                       .doOnError(e -> log.error(e.getMessage(), e))
                       .onErrorResume(e -> ServerResponseFactory.createHttpInternalServerErrorResponse())
                       .switchIfEmpty(ServerResponseFactory.createHttpBadRequestNoBodyFoundErrorResponse());
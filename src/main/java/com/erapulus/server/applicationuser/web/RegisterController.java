@@ -3,6 +3,7 @@ package com.erapulus.server.applicationuser.web;
 import com.erapulus.server.applicationuser.database.ApplicationUserEntity;
 import com.erapulus.server.applicationuser.service.RegisterService;
 import com.erapulus.server.common.database.UserType;
+import com.erapulus.server.common.exception.ServiceUnavailableException;
 import com.erapulus.server.common.web.ServerResponseFactory;
 import com.erapulus.server.employee.dto.EmployeeCreateRequestDto;
 import com.erapulus.server.employee.dto.EmployeeResponseDto;
@@ -47,7 +48,8 @@ public class RegisterController {
                     @ApiResponse(responseCode = "401", description = UNAUTHORIZED),
                     @ApiResponse(responseCode = "403", description = FORBIDDEN),
                     @ApiResponse(responseCode = "409", description = CONFLICT),
-                    @ApiResponse(responseCode = "500", description = INTERNAL_SERVER_ERROR)
+                    @ApiResponse(responseCode = "500", description = INTERNAL_SERVER_ERROR),
+                    @ApiResponse(responseCode = "503", description = SERVICE_UNAVAILABLE)
             }
     )
     public Mono<ServerResponse> createAdministrator(ServerRequest request) {
@@ -56,6 +58,7 @@ public class RegisterController {
                       .flatMap(ServerResponseFactory::createHttpCreatedResponse)
                       .onErrorResume(ConstraintViolationException.class, ServerResponseFactory::createHttpBadRequestConstraintViolationErrorResponse)
                       .onErrorResume(DataIntegrityViolationException.class, e -> ServerResponseFactory.createHttpConflictResponse("administrator"))
+                      .onErrorResume(ServiceUnavailableException.class, e -> ServerResponseFactory.createHttpServiceUnavailableErrorResponse())
                       .doOnError(e -> log.error(e.getMessage(), e))
                       .onErrorResume(e -> ServerResponseFactory.createHttpInternalServerErrorResponse())
                       .switchIfEmpty(ServerResponseFactory.createHttpBadRequestNoBodyFoundErrorResponse());
@@ -74,7 +77,8 @@ public class RegisterController {
                     @ApiResponse(responseCode = "401", description = UNAUTHORIZED),
                     @ApiResponse(responseCode = "403", description = FORBIDDEN),
                     @ApiResponse(responseCode = "409", description = CONFLICT),
-                    @ApiResponse(responseCode = "500", description = INTERNAL_SERVER_ERROR)
+                    @ApiResponse(responseCode = "500", description = INTERNAL_SERVER_ERROR),
+                    @ApiResponse(responseCode = "503", description = SERVICE_UNAVAILABLE)
             }
     )
     public Mono<ServerResponse> createUniversityAdministrator(ServerRequest request) {
@@ -85,6 +89,7 @@ public class RegisterController {
                       .onErrorResume(AccessDeniedException.class, e -> ServerResponseFactory.createHttpForbiddenErrorResponse())
                       .onErrorResume(ConstraintViolationException.class, ServerResponseFactory::createHttpBadRequestConstraintViolationErrorResponse)
                       .onErrorResume(DataIntegrityViolationException.class, e -> ServerResponseFactory.createHttpConflictResponse("universityAdministrator"))
+                      .onErrorResume(ServiceUnavailableException.class, e -> ServerResponseFactory.createHttpServiceUnavailableErrorResponse())
                       .doOnError(e -> log.error(e.getMessage(), e))
                       .onErrorResume(e -> ServerResponseFactory.createHttpInternalServerErrorResponse())
                       .switchIfEmpty(ServerResponseFactory.createHttpBadRequestNoBodyFoundErrorResponse());
@@ -103,7 +108,8 @@ public class RegisterController {
                     @ApiResponse(responseCode = "401", description = UNAUTHORIZED),
                     @ApiResponse(responseCode = "403", description = FORBIDDEN),
                     @ApiResponse(responseCode = "409", description = CONFLICT),
-                    @ApiResponse(responseCode = "500", description = INTERNAL_SERVER_ERROR)
+                    @ApiResponse(responseCode = "500", description = INTERNAL_SERVER_ERROR),
+                    @ApiResponse(responseCode = "503", description = SERVICE_UNAVAILABLE)
             }
     )
     public Mono<ServerResponse> createUniversityEmployee(ServerRequest request) {
@@ -114,6 +120,7 @@ public class RegisterController {
                       .onErrorResume(AccessDeniedException.class, e -> ServerResponseFactory.createHttpForbiddenErrorResponse())
                       .onErrorResume(ConstraintViolationException.class, ServerResponseFactory::createHttpBadRequestConstraintViolationErrorResponse)
                       .onErrorResume(DataIntegrityViolationException.class, e -> ServerResponseFactory.createHttpConflictResponse("employee"))
+                      .onErrorResume(ServiceUnavailableException.class, e -> ServerResponseFactory.createHttpServiceUnavailableErrorResponse())
                       .doOnError(e -> log.error(e.getMessage(), e))
                       .onErrorResume(e -> ServerResponseFactory.createHttpInternalServerErrorResponse())
                       .switchIfEmpty(ServerResponseFactory.createHttpBadRequestNoBodyFoundErrorResponse());
@@ -1,5 +1,7 @@
 package com.erapulus.server.building.dto;
 
+import com.erapulus.server.common.web.VersionedResponse;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -7,12 +9,13 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class BuildingResponseDto {
+public class BuildingResponseDto implements VersionedResponse {
 
     @NotNull
     @JsonProperty("id")
@@ -36,4 +39,7 @@ public class BuildingResponseDto {
 
     @JsonProperty("universityId")
     private Integer universityId;
+
+    @JsonIgnore
+    private LocalDateTime lastModifiedDate;
 }
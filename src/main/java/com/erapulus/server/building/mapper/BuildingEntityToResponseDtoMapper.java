@@ -16,6 +16,7 @@ public class BuildingEntityToResponseDtoMapper implements EntityToResponseDtoMap
                                   .latitude(buildingEntity.latitude())
                                   .longitude(buildingEntity.longitude())
                                   .universityId(buildingEntity.universityId())
+                                  .lastModifiedDate(buildingEntity.lastModifiedDate())
                                   .build();
     }
 }
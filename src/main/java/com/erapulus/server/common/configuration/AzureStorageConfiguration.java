@@ -3,12 +3,14 @@ package com.erapulus.server.common.configuration;
 import com.azure.storage.blob.BlobContainerAsyncClient;
 import com.azure.storage.blob.BlobServiceAsyncClient;
 import com.azure.storage.blob.BlobServiceClientBuilder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import static java.lang.String.format;
 
 @Configuration
+@ConditionalOnProperty(name = "storage.type", havingValue = "azure", matchIfMissing = true)
 public class AzureStorageConfiguration {
 
     private static final String CONNECTION_STRING = """
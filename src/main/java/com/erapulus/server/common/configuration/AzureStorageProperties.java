@@ -3,11 +3,14 @@ package com.erapulus.server.common.configuration;
 import com.azure.spring.autoconfigure.storage.StorageProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Primary;
+import org.springframework.util.unit.DataSize;
 
 @Primary
 @ConfigurationProperties("azure.storage")
 public class AzureStorageProperties extends StorageProperties {
     private String containerName;
+    private DataSize uploadBlockSize = DataSize.ofMegabytes(4);
+    private int uploadMaxConcurrency = 4;
 
     public String getContainerName() {
         return containerName;
@@ -16,4 +19,20 @@ public class AzureStorageProperties extends StorageProperties {
     public void setContainerName(String containerName) {
         this.containerName = containerName;
     }
+
+    public DataSize getUploadBlockSize() {
+        return uploadBlockSize;
+    }
+
+    public void setUploadBlockSize(DataSize uploadBlockSize) {
+        this.uploadBlockSize = uploadBlockSize;
+    }
+
+    public int getUploadMaxConcurrency() {
+        return uploadMaxConcurrency;
+    }
+
+    public void setUploadMaxConcurrency(int uploadMaxConcurrency) {
+        this.uploadMaxConcurrency = uploadMaxConcurrency;
+    }
 }
@@ -1,14 +1,25 @@
 package com.erapulus.server.common.configuration;
 
 import com.erapulus.server.applicationuser.database.ApplicationUserEntity;
+import com.erapulus.server.common.database.MeteredConnectionPool;
 import com.erapulus.server.security.SecurityContextUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcProperties;
+import org.springframework.boot.r2dbc.ConnectionFactoryBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.data.domain.ReactiveAuditorAware;
 import org.springframework.data.r2dbc.config.EnableR2dbcAuditing;
+import reactor.core.publisher.Mono;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+
+@Slf4j
 @Configuration
-@EnableR2dbcAuditing
+@EnableR2dbcAuditing(dateTimeProviderRef = "auditingDateTimeProvider")
 public class DatabaseConfig {
 
     @Bean
@@ -16,4 +27,30 @@ public class DatabaseConfig {
         return () -> SecurityContextUtils.getUserAuthenticationData()
                                          .map(ApplicationUserEntity::id);
     }
+
+    @Bean
+    DateTimeProvider auditingDateTimeProvider() {
+        return () -> Optional.of(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+    }
+
+    @Bean
+    MeteredConnectionPool connectionFactory(R2dbcProperties r2dbcProperties, ErapulusProperties erapulusProperties) {
+        ErapulusProperties.DatabasePoolProperties poolProperties = erapulusProperties.databasePool();
+        MeteredConnectionPool connectionPool = new MeteredConnectionPool(ConnectionFactoryBuilder.withUrl(r2dbcProperties.getUrl())
+                                                                                                 .username(r2dbcProperties.getUsername())
+                                                                                                 .password(r2dbcProperties.getPassword())
+                                                                                                 .build(),
+                poolProperties);
+        if (poolProperties.warmUp()) {
+            connectionPool.warmup()
+                          .timeout(poolProperties.maxAcquireTime())
+                          .doOnNext(connections -> log.info("Warmed up database connection pool with {} connections", connections))
+                          .onErrorResume(e -> {
+                              log.warn("Cannot warm up database connection pool: {}", e.getMessage());
+                              return Mono.empty();
+                          })
+                          .block();
+        }
+        return connectionPool;
+    }
 }
@@ -5,6 +5,8 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.ConstructorBinding;
 
+import java.time.Duration;
+
 @Data
 @AllArgsConstructor
 @ConstructorBinding
@@ -14,18 +16,23 @@ public class ErapulusProperties {
     private final JwtProperties jwt;
     private final LoginProperties login;
     private final AdministratorProperties administrator;
+    private final PasswordHashingProperties passwordHashing;
+    private final DatabasePoolProperties databasePool;
 
     @Data
     @AllArgsConstructor
     public static class JwtProperties {
         private final String issuer;
         private final String secret;
+        private final boolean selfContained;
     }
 
     @Data
     @AllArgsConstructor
     public static class LoginProperties {
         private final String googleClientId;
+        private final Duration facebookConnectTimeout;
+        private final Duration facebookReadTimeout;
     }
 
     @Data
@@ -36,4 +43,24 @@ public class ErapulusProperties {
         private final String email;
         private CharSequence password;
     }
+
+    @Data
+    @AllArgsConstructor
+    public static class PasswordHashingProperties {
+        private final int threads;
+        private final int queueLimit;
+    }
+
+    @Data
+    @AllArgsConstructor
+    public static class DatabasePoolProperties {
+        private final int initialSize;
+        private final int maxSize;
+        private final Duration maxIdleTime;
+        private final Duration maxLifeTime;
+        private final Duration maxAcquireTime;
+        private final String validationQuery;
+        private final boolean warmUp;
+        private final boolean registerJmx;
+    }
 }
@@ -0,0 +1,27 @@
+package com.erapulus.server.common.configuration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.file.Path;
+
+@ConfigurationProperties("storage.local")
+public class LocalStorageProperties {
+    private Path root = Path.of("storage");
+    private String baseUrl = "/files/";
+
+    public Path getRoot() {
+        return root;
+    }
+
+    public void setRoot(Path root) {
+        this.root = root;
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    public void setBaseUrl(String baseUrl) {
+        this.baseUrl = baseUrl;
+    }
+}
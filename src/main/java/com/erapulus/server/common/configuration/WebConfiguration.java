@@ -0,0 +1,15 @@
+package com.erapulus.server.common.configuration;
+
+import com.erapulus.server.common.web.ConditionalGetFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+@Configuration
+public class WebConfiguration {
+
+    @Bean
+    ConditionalGetFilter conditionalGetFilter(DatabaseClient databaseClient) {
+        return new ConditionalGetFilter(databaseClient);
+    }
+}
@@ -0,0 +1,26 @@
+package com.erapulus.server.common.database;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.transaction.NoTransactionException;
+import org.springframework.transaction.reactive.TransactionSynchronization;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import reactor.core.publisher.Mono;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class AfterTransaction {
+
+    public static Mono<Void> run(Runnable action) {
+        return TransactionSynchronizationManager.forCurrentTransaction()
+                                                .filter(TransactionSynchronizationManager::isSynchronizationActive)
+                                                .doOnNext(manager -> manager.registerSynchronization(new TransactionSynchronization() {
+                                                    @Override
+                                                    public Mono<Void> afterCompletion(int status) {
+                                                        return Mono.fromRunnable(action);
+                                                    }
+                                                }))
+                                                .switchIfEmpty(Mono.fromRunnable(action))
+                                                .onErrorResume(NoTransactionException.class, e -> Mono.fromRunnable(action))
+                                                .then();
+    }
+}
@@ -0,0 +1,40 @@
+package com.erapulus.server.common.database;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("blob_deletion")
+public class BlobDeletionEntity implements Entity {
+    @Id
+    @NotNull
+    @Column("id")
+    private Integer id;
+
+    @NotNull
+    @Column("path")
+    private String path;
+
+    @NotNull
+    @Column("attempts")
+    private Integer attempts;
+
+    @NotNull
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    @NotNull
+    @Column("next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+}
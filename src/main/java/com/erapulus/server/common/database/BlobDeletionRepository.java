@@ -0,0 +1,34 @@
+package com.erapulus.server.common.database;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface BlobDeletionRepository extends R2dbcRepository<BlobDeletionEntity, Integer> {
+
+    @Query("""
+            SELECT * FROM blob_deletion
+            WHERE next_attempt_at <= :now
+            AND attempts < :maxAttempts
+            ORDER BY id OFFSET 0 ROWS
+            FETCH NEXT :size ROWS ONLY
+            """)
+    Flux<BlobDeletionEntity> findDue(@Param("now") LocalDateTime now,
+                                     @Param("maxAttempts") int maxAttempts,
+                                     @Param("size") int size);
+
+    @Query("SELECT COUNT(*) FROM blob_deletion WHERE attempts >= :maxAttempts")
+    Mono<Long> countAbandoned(@Param("maxAttempts") int maxAttempts);
+
+    @Modifying
+    @Query("DELETE FROM blob_deletion WHERE id IN (:ids)")
+    Mono<Integer> deleteAllByIds(@Param("ids") Collection<Integer> ids);
+}
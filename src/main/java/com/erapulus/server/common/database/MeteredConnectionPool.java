@@ -0,0 +1,103 @@
+package com.erapulus.server.common.database;
+
+import com.erapulus.server.common.configuration.ErapulusProperties;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.pool.PoolMetrics;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import org.springframework.beans.factory.DisposableBean;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.ToIntFunction;
+
+public class MeteredConnectionPool implements ConnectionFactory, DisposableBean {
+
+    private static final String POOL_NAME = "erapulus";
+
+    private final ConnectionPool connectionPool;
+    private final AtomicLong acquired = new AtomicLong();
+    private final AtomicLong totalAcquireNanos = new AtomicLong();
+    private final AtomicLong maxAcquireNanos = new AtomicLong();
+
+    public MeteredConnectionPool(ConnectionFactory connectionFactory, ErapulusProperties.DatabasePoolProperties properties) {
+        ConnectionPoolConfiguration.Builder configuration = ConnectionPoolConfiguration.builder(connectionFactory)
+                                                                                       .name(POOL_NAME)
+                                                                                       .initialSize(properties.initialSize())
+                                                                                       .maxSize(properties.maxSize())
+                                                                                       .maxIdleTime(properties.maxIdleTime())
+                                                                                       .maxLifeTime(properties.maxLifeTime())
+                                                                                       .maxAcquireTime(properties.maxAcquireTime())
+                                                                                       .registerJmx(properties.registerJmx());
+        if (properties.validationQuery() != null && !properties.validationQuery().isBlank()) {
+            configuration.validationQuery(properties.validationQuery());
+        }
+        this.connectionPool = new ConnectionPool(configuration.build());
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return connectionPool.create()
+                                 .doOnNext(connection -> record(System.nanoTime() - start));
+        });
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return connectionPool.getMetadata();
+    }
+
+    public Mono<Integer> warmup() {
+        return connectionPool.warmup();
+    }
+
+    public int acquiredSize() {
+        return poolMetric(PoolMetrics::acquiredSize);
+    }
+
+    public int idleSize() {
+        return poolMetric(PoolMetrics::idleSize);
+    }
+
+    public int allocatedSize() {
+        return poolMetric(PoolMetrics::allocatedSize);
+    }
+
+    public int pendingAcquireSize() {
+        return poolMetric(PoolMetrics::pendingAcquireSize);
+    }
+
+    public long acquiredCount() {
+        return acquired.get();
+    }
+
+    public long averageAcquireNanos() {
+        long count = acquired.get();
+        return count == 0 ? 0 : totalAcquireNanos.get() / count;
+    }
+
+    public long maxAcquireNanos() {
+        return maxAcquireNanos.get();
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+
+    private int poolMetric(ToIntFunction<PoolMetrics> metric) {
+        return connectionPool.getMetrics()
+                             .map(metric::applyAsInt)
+                             .orElse(0);
+    }
+
+    private void record(long acquireNanos) {
+        acquired.incrementAndGet();
+        totalAcquireNanos.addAndGet(acquireNanos);
+        maxAcquireNanos.accumulateAndGet(acquireNanos, Math::max);
+    }
+}
@@ -0,0 +1,59 @@
+package com.erapulus.server.common.database;
+
+import lombok.AllArgsConstructor;
+import org.springframework.data.r2dbc.core.R2dbcEntityTemplate;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@AllArgsConstructor
+public class PagedQueryExecutor {
+
+    public static final String TOTAL_COUNT_COLUMN = "total_count";
+    public static final String OFFSET_PARAM = "offset";
+    public static final String SIZE_PARAM = "size";
+
+    private final R2dbcEntityTemplate template;
+
+    public <T> Mono<PagedResult<T>> fetch(Class<T> type, String pageQuery, String countQuery, Map<String, Parameter> filters, long offset, int size) {
+        return bind(pageQuery, filters)
+                .bind(OFFSET_PARAM, offset)
+                .bind(SIZE_PARAM, size)
+                .map((row, metadata) -> Tuples.of(template.getConverter().read(type, row, metadata), toInt(row.get(TOTAL_COUNT_COLUMN))))
+                .all()
+                .collectList()
+                .flatMap(rows -> {
+                    if (!rows.isEmpty()) {
+                        List<T> content = rows.stream().map(Tuple2::getT1).toList();
+                        return Mono.just(new PagedResult<T>(content, rows.get(0).getT2()));
+                    }
+                    if (offset == 0) {
+                        return Mono.just(new PagedResult<T>(Collections.emptyList(), 0));
+                    }
+                    return bind(countQuery, filters)
+                            .map(row -> toInt(row.get(0)))
+                            .one()
+                            .map(totalCount -> new PagedResult<T>(Collections.emptyList(), totalCount));
+                });
+    }
+
+    private DatabaseClient.GenericExecuteSpec bind(String query, Map<String, Parameter> filters) {
+        DatabaseClient.GenericExecuteSpec spec = template.getDatabaseClient().sql(query);
+        for (Map.Entry<String, Parameter> filter : filters.entrySet()) {
+            spec = spec.bind(filter.getKey(), filter.getValue());
+        }
+        return spec;
+    }
+
+    private static int toInt(Object value) {
+        return value instanceof Number number ? number.intValue() : 0;
+    }
+}
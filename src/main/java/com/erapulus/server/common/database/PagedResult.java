@@ -0,0 +1,38 @@
+package com.erapulus.server.common.database;
+
+import com.erapulus.server.common.web.PaginationRequest;
+import lombok.Value;
+import org.springframework.data.domain.PageRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+@Value
+public class PagedResult<T> {
+    List<T> content;
+    Integer totalCount;
+
+    public static <T> Mono<PagedResult<T>> of(Flux<T> rows, PageRequest pageRequest, Supplier<Mono<Integer>> exactCount) {
+        Mono<List<T>> content = rows.collectList();
+        return switch (PaginationRequest.countMode(pageRequest)) {
+            case EXACT -> content.zipWith(exactCount.get(), PagedResult::new);
+            case ESTIMATE -> content.map(list -> new PagedResult<>(list, estimateCount(list, pageRequest)));
+            case NONE -> content.map(list -> new PagedResult<>(list, null));
+        };
+    }
+
+    public <R> PagedResult<R> map(Function<T, R> mapper) {
+        return new PagedResult<>(content.stream().map(mapper).toList(), totalCount);
+    }
+
+    private static Integer estimateCount(List<?> content, PageRequest pageRequest) {
+        if (PaginationRequest.after(pageRequest) != null) {
+            return null;
+        }
+        int more = content.size() == pageRequest.getPageSize() ? 1 : 0;
+        return (int) pageRequest.getOffset() + content.size() + more;
+    }
+}
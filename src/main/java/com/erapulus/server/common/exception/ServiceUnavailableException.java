@@ -0,0 +1,4 @@
+package com.erapulus.server.common.exception;
+
+public class ServiceUnavailableException extends RuntimeException {
+}
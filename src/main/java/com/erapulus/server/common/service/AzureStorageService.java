@@ -2,46 +2,98 @@ package com.erapulus.server.common.service;
 
 import com.azure.storage.blob.BlobAsyncClient;
 import com.azure.storage.blob.BlobContainerAsyncClient;
+import com.azure.storage.blob.models.BlobDownloadAsyncResponse;
+import com.azure.storage.blob.models.BlobRange;
+import com.azure.storage.blob.models.BlobRequestConditions;
+import com.azure.storage.blob.models.BlobStorageException;
 import com.azure.storage.blob.models.ParallelTransferOptions;
 import com.erapulus.server.common.configuration.AzureStorageProperties;
 import com.erapulus.server.document.database.DocumentEntity;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ReactiveHttpOutputMessage;
 import org.springframework.http.codec.multipart.FilePart;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.nio.ByteBuffer;
+import java.util.NoSuchElementException;
 
 @Service
-public class AzureStorageService {
+@ConditionalOnProperty(name = "storage.type", havingValue = "azure", matchIfMissing = true)
+public class AzureStorageService implements FileStorageService {
 
     private static final String URL_COMMON_PART = "https://%s.blob.core.windows.net/%s/";
     private final BlobContainerAsyncClient blobContainerAsyncClient;
     private final String storageContainerUrl;
+    private final ParallelTransferOptions parallelTransferOptions;
 
     public AzureStorageService(BlobContainerAsyncClient blobContainerAsyncClient,
                                AzureStorageProperties storageProperties) {
         this.blobContainerAsyncClient = blobContainerAsyncClient;
         storageContainerUrl = URL_COMMON_PART.formatted(storageProperties.getAccountName(), storageProperties.getContainerName());
+        long blockSize = storageProperties.getUploadBlockSize().toBytes();
+        parallelTransferOptions = new ParallelTransferOptions().setBlockSizeLong(blockSize)
+                                                               .setMaxSingleUploadSizeLong(blockSize)
+                                                               .setMaxConcurrency(storageProperties.getUploadMaxConcurrency());
     }
 
+    @Override
+    public String baseUrl() {
+        return storageContainerUrl;
+    }
+
+    @Override
     public Mono<String> uploadFile(FilePart resource, String path) {
+        return uploadFile(resource.content(), path);
+    }
+
+    @Override
+    public Mono<String> uploadFile(Flux<DataBuffer> content, String path) {
         BlobAsyncClient blobAsyncClient = blobContainerAsyncClient.getBlobAsyncClient(path);
-        ParallelTransferOptions parallelTransferOptions = new ParallelTransferOptions();
-        Flux<ByteBuffer> data = DataBufferUtils.join(resource.content())
-                                               .map(this::toByteBuffer)
-                                               .flatMapMany(Flux::just);
+        Flux<ByteBuffer> data = content.doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                                       .map(this::toByteBuffer);
         return blobAsyncClient.upload(data, parallelTransferOptions, true)
                               .thenReturn(storageContainerUrl + path);
     }
 
+    @Override
+    public Mono<FileMetadata> getFileMetadata(String url) {
+        return getBlobAsyncClient(url).getProperties()
+                                      .map(properties -> new FileMetadata(properties.getETag(), properties.getBlobSize(), properties.getContentType()))
+                                      .onErrorMap(this::isNotFound, e -> new NoSuchElementException("file"));
+    }
+
+    @Override
+    public Mono<Void> writeFile(String url, long offset, long count, String eTag, ReactiveHttpOutputMessage message) {
+        BlobRequestConditions requestConditions = new BlobRequestConditions().setIfMatch(eTag);
+        Flux<DataBuffer> data = getBlobAsyncClient(url).downloadWithResponse(new BlobRange(offset, count), null, requestConditions, false)
+                                                       .flatMapMany(BlobDownloadAsyncResponse::getValue)
+                                                       .map(message.bufferFactory()::wrap);
+        return message.writeWith(data);
+    }
+
     public Mono<Boolean> deleteFile(DocumentEntity document) {
-        String path = document.path().replace(storageContainerUrl, "");
-        BlobAsyncClient blobAsyncClient = blobContainerAsyncClient.getBlobAsyncClient(path);
-        return blobAsyncClient.delete()
-                              .thenReturn(true);
+        return deleteFile(document.path());
+    }
+
+    @Override
+    public Mono<Boolean> deleteFile(String url) {
+        return getBlobAsyncClient(url).delete()
+                                      .thenReturn(true)
+                                      .onErrorResume(this::isNotFound, e -> Mono.just(true));
+    }
+
+    private BlobAsyncClient getBlobAsyncClient(String url) {
+        String path = url.replace(storageContainerUrl, "");
+        return blobContainerAsyncClient.getBlobAsyncClient(path);
+    }
+
+    private boolean isNotFound(Throwable e) {
+        return e instanceof BlobStorageException exception && exception.getStatusCode() == HttpStatus.NOT_FOUND.value();
     }
 
     private ByteBuffer toByteBuffer(DataBuffer dataBuffer) {
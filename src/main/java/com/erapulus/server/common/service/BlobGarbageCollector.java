@@ -0,0 +1,177 @@
+package com.erapulus.server.common.service;
+
+import com.erapulus.server.common.database.BlobDeletionEntity;
+import com.erapulus.server.common.database.BlobDeletionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+public class BlobGarbageCollector implements DisposableBean {
+
+    static final int MAX_ATTEMPTS = 8;
+    static final Duration BASE_BACKOFF = Duration.ofSeconds(30);
+    private static final Duration POLL_INTERVAL = Duration.ofSeconds(10);
+    private static final int BATCH_SIZE = 100;
+    private static final int CONCURRENCY = 8;
+
+    private final BlobDeletionRepository blobDeletionRepository;
+    private final FileStorageService fileStorageService;
+    private final Clock clock;
+    private final AtomicLong deleted = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong abandoned = new AtomicLong();
+    private Disposable subscription;
+
+    @Autowired
+    public BlobGarbageCollector(BlobDeletionRepository blobDeletionRepository,
+                                FileStorageService fileStorageService) {
+        this(blobDeletionRepository, fileStorageService, Clock.systemDefaultZone());
+    }
+
+    BlobGarbageCollector(BlobDeletionRepository blobDeletionRepository,
+                         FileStorageService fileStorageService,
+                         Clock clock) {
+        this.blobDeletionRepository = blobDeletionRepository;
+        this.fileStorageService = fileStorageService;
+        this.clock = clock;
+    }
+
+    public Mono<Void> schedule(String path) {
+        return schedule(List.of(path));
+    }
+
+    public Mono<Void> schedule(Collection<String> paths) {
+        if (paths.isEmpty()) {
+            return Mono.empty();
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<BlobDeletionEntity> deletions = paths.stream()
+                                                  .map(path -> BlobDeletionEntity.builder()
+                                                                                 .path(path)
+                                                                                 .attempts(0)
+                                                                                 .createdAt(now)
+                                                                                 .nextAttemptAt(now)
+                                                                                 .build())
+                                                  .toList();
+        return blobDeletionRepository.saveAll(deletions).then();
+    }
+
+    public Mono<Void> scheduleReplaced(String oldPath, String newPath) {
+        if (oldPath == null || oldPath.equals(newPath)) {
+            return Mono.empty();
+        }
+        return schedule(oldPath);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (subscription == null) {
+            blobDeletionRepository.countAbandoned(MAX_ATTEMPTS)
+                                  .filter(count -> count > 0)
+                                  .subscribe(count -> log.error("{} blob deletions abandoned after {} attempts", count, MAX_ATTEMPTS),
+                                          e -> log.warn("Cannot count abandoned blob deletions: {}", e.getMessage()));
+            subscription = Flux.interval(POLL_INTERVAL)
+                               .onBackpressureDrop()
+                               .concatMap(tick -> sweep(), 1)
+                               .subscribe();
+        }
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    Mono<Long> sweep() {
+        return sweepBatch()
+                .expand(count -> count == BATCH_SIZE ? sweepBatch() : Mono.empty())
+                .reduce(0L, Long::sum)
+                .onErrorResume(e -> {
+                    log.warn("Blob deletion sweep failed: {}", e.getMessage());
+                    return Mono.just(0L);
+                });
+    }
+
+    long deletedCount() {
+        return deleted.get();
+    }
+
+    long failedCount() {
+        return failed.get();
+    }
+
+    long abandonedCount() {
+        return abandoned.get();
+    }
+
+    private Mono<Integer> sweepBatch() {
+        return blobDeletionRepository.findDue(LocalDateTime.now(clock), MAX_ATTEMPTS, BATCH_SIZE)
+                                     .collectList()
+                                     .flatMap(this::deleteBlobs);
+    }
+
+    private Mono<Integer> deleteBlobs(List<BlobDeletionEntity> deletions) {
+        if (deletions.isEmpty()) {
+            return Mono.just(0);
+        }
+        return Flux.fromIterable(deletions)
+                   .flatMap(deletion -> fileStorageService.deleteFile(deletion.path())
+                                                          .map(result -> Map.entry(deletion, true))
+                                                          .onErrorResume(e -> {
+                                                              log.warn("Cannot delete blob {}: {}", deletion.path(), e.getMessage());
+                                                              return Mono.just(Map.entry(deletion, false));
+                                                           }), CONCURRENCY)
+                   .collectList()
+                   .flatMap(results -> complete(results).then(retryLater(results)))
+                   .thenReturn(deletions.size());
+    }
+
+    private Mono<Integer> complete(List<Map.Entry<BlobDeletionEntity, Boolean>> results) {
+        List<Integer> ids = results.stream()
+                                   .filter(Map.Entry::getValue)
+                                   .map(result -> result.getKey().id())
+                                   .toList();
+        if (ids.isEmpty()) {
+            return Mono.just(0);
+        }
+        return blobDeletionRepository.deleteAllByIds(ids)
+                                     .doOnSuccess(count -> deleted.addAndGet(ids.size()));
+    }
+
+    private Mono<Void> retryLater(List<Map.Entry<BlobDeletionEntity, Boolean>> results) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        return Flux.fromIterable(results)
+                   .filter(result -> !result.getValue())
+                   .map(Map.Entry::getKey)
+                   .doOnNext(deletion -> failed.incrementAndGet())
+                   .map(deletion -> {
+                       int attempts = deletion.attempts() + 1;
+                       if (attempts >= MAX_ATTEMPTS) {
+                           log.error("Abandoned deletion of blob {} after {} attempts", deletion.path(), attempts);
+                           abandoned.incrementAndGet();
+                       }
+                       return deletion.attempts(attempts)
+                                      .nextAttemptAt(now.plus(BASE_BACKOFF.multipliedBy(1L << (attempts - 1))));
+                   })
+                   .concatMap(blobDeletionRepository::save)
+                   .then();
+    }
+}
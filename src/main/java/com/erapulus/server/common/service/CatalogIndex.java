@@ -0,0 +1,231 @@
+package com.erapulus.server.common.service;
+
+import com.erapulus.server.faculty.database.FacultyRepository;
+import com.erapulus.server.module.database.ModuleRepository;
+import com.erapulus.server.program.database.ProgramRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.erapulus.server.common.service.ParentLinks.MISSING;
+
+@Slf4j
+@Component
+public class CatalogIndex implements DisposableBean {
+
+    private static final Duration RELOAD_INTERVAL = Duration.ofMinutes(5);
+    private static final String FACULTY_QUERY = "SELECT id, university AS parent FROM faculty";
+    private static final String PROGRAM_QUERY = "SELECT id, faculty AS parent FROM program";
+    private static final String MODULE_QUERY = "SELECT id, program AS parent FROM module";
+
+    private final DatabaseClient databaseClient;
+    private final FacultyRepository facultyRepository;
+    private final ProgramRepository programRepository;
+    private final ModuleRepository moduleRepository;
+    private volatile ParentLinks faculties = ParentLinks.EMPTY;
+    private volatile ParentLinks programs = ParentLinks.EMPTY;
+    private volatile ParentLinks modules = ParentLinks.EMPTY;
+    private final List<Runnable> removalsDuringReload = new ArrayList<>();
+    private long removals;
+    private int activeReloads;
+    private Disposable subscription;
+
+    public CatalogIndex(DatabaseClient databaseClient,
+                        FacultyRepository facultyRepository,
+                        ProgramRepository programRepository,
+                        ModuleRepository moduleRepository) {
+        this.databaseClient = databaseClient;
+        this.facultyRepository = facultyRepository;
+        this.programRepository = programRepository;
+        this.moduleRepository = moduleRepository;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (subscription == null) {
+            subscription = Flux.interval(Duration.ZERO, RELOAD_INTERVAL)
+                               .onBackpressureDrop()
+                               .concatMap(tick -> reload(), 1)
+                               .subscribe();
+        }
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    public Mono<Void> reload() {
+        return Mono.defer(() -> {
+            beginReload();
+            return Mono.zip(load(FACULTY_QUERY), load(PROGRAM_QUERY), load(MODULE_QUERY))
+                       .doOnNext(links -> replace(links.getT1(), links.getT2(), links.getT3()))
+                       .onErrorResume(e -> {
+                           log.warn("Catalog index reload failed: {}", e.getMessage());
+                           return Mono.empty();
+                       })
+                       .doFinally(signal -> endReload())
+                       .then();
+        });
+    }
+
+    public Mono<Boolean> facultyExists(int facultyId, int universityId) {
+        if (containsFaculty(facultyId, universityId)) {
+            return Mono.just(true);
+        }
+        long generation = removalGeneration();
+        return facultyRepository.findByIdAndUniversityId(facultyId, universityId)
+                                .hasElement()
+                                .doOnNext(exists -> {
+                                    if (exists) {
+                                        putUnlessRemovedSince(generation, () -> putFaculty(facultyId, universityId));
+                                    }
+                                });
+    }
+
+    public Mono<Boolean> programExists(int programId, int universityId, int facultyId) {
+        if (containsProgram(programId, universityId, facultyId)) {
+            return Mono.just(true);
+        }
+        long generation = removalGeneration();
+        return programRepository.existsByIdAndUniversityIdAndFacultyId(programId, universityId, facultyId)
+                                .doOnNext(exists -> {
+                                    if (exists) {
+                                        putUnlessRemovedSince(generation, () -> {
+                                            putFaculty(facultyId, universityId);
+                                            putProgram(programId, facultyId);
+                                        });
+                                    }
+                                });
+    }
+
+    public Mono<Boolean> moduleExists(int moduleId, int universityId, int facultyId, int programId) {
+        if (containsModule(moduleId, universityId, facultyId, programId)) {
+            return Mono.just(true);
+        }
+        long generation = removalGeneration();
+        return moduleRepository.existsByIdAndUniversityIdAndFacultyIdAndProgramId(moduleId, universityId, facultyId, programId)
+                               .doOnNext(exists -> {
+                                   if (exists) {
+                                       putUnlessRemovedSince(generation, () -> {
+                                           putFaculty(facultyId, universityId);
+                                           putProgram(programId, facultyId);
+                                           putModule(moduleId, programId);
+                                       });
+                                   }
+                               });
+    }
+
+    public synchronized void putFaculty(int facultyId, int universityId) {
+        faculties = faculties.with(facultyId, universityId);
+    }
+
+    public synchronized void putProgram(int programId, int facultyId) {
+        programs = programs.with(programId, facultyId);
+    }
+
+    public synchronized void putModule(int moduleId, int programId) {
+        modules = modules.with(moduleId, programId);
+    }
+
+    public synchronized void removeFaculty(int facultyId) {
+        remove(() -> faculties = faculties.without(facultyId));
+    }
+
+    public synchronized void removeProgram(int programId) {
+        remove(() -> programs = programs.without(programId));
+    }
+
+    public synchronized void removeModule(int moduleId) {
+        remove(() -> modules = modules.without(moduleId));
+    }
+
+    public synchronized void removeUniversity(int universityId) {
+        remove(() -> {
+            ParentLinks currentFaculties = faculties;
+            ParentLinks currentPrograms = programs;
+            modules = modules.removeIf((module, program) -> currentFaculties.parentOf(currentPrograms.parentOf(program)) == universityId);
+            programs = programs.removeIf((program, faculty) -> currentFaculties.parentOf(faculty) == universityId);
+            faculties = faculties.removeIf((faculty, university) -> university == universityId);
+        });
+    }
+
+    boolean containsFaculty(int facultyId, int universityId) {
+        return universityId != MISSING && faculties.parentOf(facultyId) == universityId;
+    }
+
+    boolean containsProgram(int programId, int universityId, int facultyId) {
+        return facultyId != MISSING && programs.parentOf(programId) == facultyId && containsFaculty(facultyId, universityId);
+    }
+
+    boolean containsModule(int moduleId, int universityId, int facultyId, int programId) {
+        return programId != MISSING && modules.parentOf(moduleId) == programId && containsProgram(programId, universityId, facultyId);
+    }
+
+    // removals made while a reload is reading are replayed on its result, so a snapshot
+    // taken before the delete committed cannot bring the removed ids back
+    private void remove(Runnable removal) {
+        removals++;
+        removal.run();
+        if (activeReloads > 0) {
+            removalsDuringReload.add(removal);
+        }
+    }
+
+    private synchronized void beginReload() {
+        activeReloads++;
+    }
+
+    private synchronized void replace(ParentLinks faculties, ParentLinks programs, ParentLinks modules) {
+        this.faculties = faculties;
+        this.programs = programs;
+        this.modules = modules;
+        removalsDuringReload.forEach(Runnable::run);
+    }
+
+    private synchronized void endReload() {
+        if (--activeReloads == 0) {
+            removalsDuringReload.clear();
+        }
+    }
+
+    private synchronized long removalGeneration() {
+        return removals;
+    }
+
+    private synchronized void putUnlessRemovedSince(long generation, Runnable put) {
+        if (removals == generation) {
+            put.run();
+        }
+    }
+
+    private Mono<ParentLinks> load(String query) {
+        return databaseClient.sql(query)
+                             .map(row -> new int[]{row.get("id", Integer.class), row.get("parent", Integer.class)})
+                             .all()
+                             .collectList()
+                             .map(CatalogIndex::toParentLinks);
+    }
+
+    private static ParentLinks toParentLinks(List<int[]> links) {
+        int[] children = new int[links.size()];
+        int[] parents = new int[links.size()];
+        for (int i = 0; i < links.size(); i++) {
+            children[i] = links.get(i)[0];
+            parents[i] = links.get(i)[1];
+        }
+        return ParentLinks.of(children, parents, links.size());
+    }
+}
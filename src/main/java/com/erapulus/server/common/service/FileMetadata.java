@@ -0,0 +1,10 @@
+package com.erapulus.server.common.service;
+
+import lombok.Value;
+
+@Value
+public class FileMetadata {
+    String eTag;
+    long size;
+    String contentType;
+}
@@ -0,0 +1,22 @@
+package com.erapulus.server.common.service;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.http.codec.multipart.FilePart;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface FileStorageService {
+
+    String baseUrl();
+
+    Mono<String> uploadFile(FilePart resource, String path);
+
+    Mono<String> uploadFile(Flux<DataBuffer> content, String path);
+
+    Mono<FileMetadata> getFileMetadata(String url);
+
+    Mono<Void> writeFile(String url, long offset, long count, String eTag, ReactiveHttpOutputMessage message);
+
+    Mono<Boolean> deleteFile(String url);
+}
@@ -0,0 +1,153 @@
+package com.erapulus.server.common.service;
+
+import com.erapulus.server.common.configuration.ImageProperties;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.codec.multipart.FilePart;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.erapulus.server.common.service.ImageThumbnails.FORMAT;
+import static com.erapulus.server.common.service.ImageThumbnails.SIZES;
+import static com.erapulus.server.common.service.ImageThumbnails.thumbnailPath;
+
+@Service
+public class ImageService {
+
+    private static final String INVALID_IMAGE = "image";
+
+    private final FileStorageService fileStorageService;
+    private final BlobGarbageCollector blobGarbageCollector;
+    private final ImageThumbnails imageThumbnails;
+    private final int maxSize;
+    private final long maxPixels;
+
+    public ImageService(FileStorageService fileStorageService,
+                        BlobGarbageCollector blobGarbageCollector,
+                        ImageThumbnails imageThumbnails,
+                        ImageProperties imageProperties) {
+        this.fileStorageService = fileStorageService;
+        this.blobGarbageCollector = blobGarbageCollector;
+        this.imageThumbnails = imageThumbnails;
+        this.maxSize = (int) imageProperties.getMaxSize().toBytes();
+        this.maxPixels = imageProperties.getMaxPixels();
+    }
+
+    public Mono<String> uploadImage(FilePart image, String path) {
+        return DataBufferUtils.join(image.content(), maxSize)
+                              .onErrorMap(DataBufferLimitException.class, e -> new DecodingException(INVALID_IMAGE, e))
+                              .map(this::toByteArray)
+                              .flatMap(original -> Mono.fromCallable(() -> createThumbnails(original))
+                                                       .subscribeOn(Schedulers.boundedElastic())
+                                                       .flatMap(thumbnails -> Flux.fromIterable(thumbnails.entrySet())
+                                                                                  .flatMap(thumbnail -> upload(thumbnail.getValue(), thumbnailPath(path, thumbnail.getKey())))
+                                                                                  .then(upload(original, path))));
+    }
+
+    public Mono<Void> scheduleReplaced(String oldUrl, String newUrl) {
+        if (oldUrl == null || oldUrl.equals(newUrl)) {
+            return Mono.empty();
+        }
+        List<String> storedUrls = imageThumbnails.storedUrls(oldUrl);
+        if (storedUrls.isEmpty()) {
+            return Mono.empty();
+        }
+        return blobGarbageCollector.schedule(storedUrls);
+    }
+
+    private Mono<String> upload(byte[] content, String path) {
+        return fileStorageService.uploadFile(Flux.just(DefaultDataBufferFactory.sharedInstance.wrap(content)), path);
+    }
+
+    private Map<Integer, byte[]> createThumbnails(byte[] original) throws IOException {
+        BufferedImage image = decode(original);
+        Map<Integer, byte[]> thumbnails = new LinkedHashMap<>();
+        for (int size : SIZES) {
+            thumbnails.put(size, encode(scale(image, size)));
+        }
+        return thumbnails;
+    }
+
+    private BufferedImage decode(byte[] content) {
+        try (ImageInputStream input = new MemoryCacheImageInputStream(new ByteArrayInputStream(content))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new DecodingException(INVALID_IMAGE);
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > maxPixels) {
+                    throw new DecodingException(INVALID_IMAGE);
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new DecodingException(INVALID_IMAGE, e);
+        }
+    }
+
+    private static BufferedImage scale(BufferedImage image, int size) {
+        double ratio = Math.min(1.0, (double) size / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * ratio));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * ratio));
+        BufferedImage current = image;
+        do {
+            int stepWidth = Math.max(width, current.getWidth() / 2);
+            int stepHeight = Math.max(height, current.getHeight() / 2);
+            current = draw(current, stepWidth, stepHeight);
+        } while (current.getWidth() != width || current.getHeight() != height);
+        return current;
+    }
+
+    private static BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private static byte[] encode(BufferedImage image) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(image, FORMAT, output);
+        return output.toByteArray();
+    }
+
+    private byte[] toByteArray(DataBuffer dataBuffer) {
+        try {
+            byte[] bytes = new byte[dataBuffer.readableByteCount()];
+            dataBuffer.read(bytes);
+            return bytes;
+        } finally {
+            DataBufferUtils.release(dataBuffer);
+        }
+    }
+}
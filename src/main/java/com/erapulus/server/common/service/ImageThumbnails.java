@@ -0,0 +1,60 @@
+package com.erapulus.server.common.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Component
+public class ImageThumbnails {
+
+    public static final List<Integer> SIZES = List.of(64, 128, 512);
+    public static final String FORMAT = "png";
+    private static final String THUMBNAIL_PATH = "%sthumbnails/%d/%s.%s";
+
+    private final String baseUrl;
+
+    public ImageThumbnails(FileStorageService fileStorageService) {
+        this.baseUrl = fileStorageService.baseUrl();
+    }
+
+    public static String thumbnailPath(String path, int size) {
+        int nameStart = path.lastIndexOf('/') + 1;
+        return THUMBNAIL_PATH.formatted(path.substring(0, nameStart), size, path.substring(nameStart), FORMAT);
+    }
+
+    public Map<Integer, String> thumbnailUrls(String url) {
+        if (url == null) {
+            return Collections.emptyMap();
+        }
+        boolean hasThumbnails = hasThumbnails(url);
+        Map<Integer, String> thumbnailUrls = new LinkedHashMap<>();
+        for (int size : SIZES) {
+            thumbnailUrls.put(size, hasThumbnails ? thumbnailPath(url, size) : url);
+        }
+        return thumbnailUrls;
+    }
+
+    public List<String> storedUrls(String url) {
+        if (!isStored(url)) {
+            return Collections.emptyList();
+        }
+        List<String> urls = new ArrayList<>();
+        urls.add(url);
+        if (hasThumbnails(url)) {
+            SIZES.forEach(size -> urls.add(thumbnailPath(url, size)));
+        }
+        return urls;
+    }
+
+    private boolean isStored(String url) {
+        return url != null && url.startsWith(baseUrl);
+    }
+
+    private boolean hasThumbnails(String url) {
+        return isStored(url) && StoragePaths.isUnique(url.substring(baseUrl.length()));
+    }
+}
@@ -0,0 +1,132 @@
+package com.erapulus.server.common.service;
+
+import com.erapulus.server.common.configuration.LocalStorageProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.http.ZeroCopyHttpOutputMessage;
+import org.springframework.http.codec.multipart.FilePart;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+@Service
+@ConditionalOnProperty(name = "storage.type", havingValue = "local")
+public class LocalStorageService implements FileStorageService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String TEMPORARY_SUFFIX = ".part";
+
+    private final Path root;
+    private final String baseUrl;
+
+    public LocalStorageService(LocalStorageProperties storageProperties) {
+        this.root = storageProperties.getRoot().toAbsolutePath().normalize();
+        this.baseUrl = storageProperties.getBaseUrl();
+    }
+
+    @Override
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    @Override
+    public Mono<String> uploadFile(FilePart resource, String path) {
+        return uploadFile(Flux.defer(resource::content), path);
+    }
+
+    @Override
+    public Mono<String> uploadFile(Flux<DataBuffer> content, String path) {
+        return blocking(() -> createParentDirectories(resolve(path)))
+                .flatMap(file -> {
+                    Path temporary = file.resolveSibling("%s.%s%s".formatted(file.getFileName(), UUID.randomUUID(), TEMPORARY_SUFFIX));
+                    return DataBufferUtils.write(content, temporary, CREATE_NEW, WRITE)
+                                          .then(blocking(() -> Files.move(temporary, file, REPLACE_EXISTING, ATOMIC_MOVE)))
+                                          .onErrorResume(e -> blocking(() -> Files.deleteIfExists(temporary)).then(Mono.error(e)));
+                })
+                .thenReturn(baseUrl + path);
+    }
+
+    @Override
+    public Mono<FileMetadata> getFileMetadata(String url) {
+        return blocking(() -> readMetadata(resolveUrl(url)))
+                .onErrorMap(NoSuchFileException.class, e -> new NoSuchElementException("file"));
+    }
+
+    @Override
+    public Mono<Void> writeFile(String url, long offset, long count, String eTag, ReactiveHttpOutputMessage message) {
+        return getFileMetadata(url)
+                .flatMap(metadata -> {
+                    if (!metadata.eTag().equals(eTag)) {
+                        return Mono.error(new IllegalStateException("file.modified"));
+                    }
+                    Path file = resolveUrl(url);
+                    if (message instanceof ZeroCopyHttpOutputMessage zeroCopyMessage) {
+                        return zeroCopyMessage.writeWith(file, offset, count);
+                    }
+                    Flux<DataBuffer> data = DataBufferUtils.readAsynchronousFileChannel(() -> AsynchronousFileChannel.open(file, READ),
+                            offset, message.bufferFactory(), BUFFER_SIZE);
+                    return message.writeWith(DataBufferUtils.takeUntilByteCount(data, count));
+                });
+    }
+
+    @Override
+    public Mono<Boolean> deleteFile(String url) {
+        return blocking(() -> Files.deleteIfExists(resolveUrl(url)))
+                .thenReturn(true);
+    }
+
+    private Path resolve(String path) {
+        Path file = root.resolve(path).normalize();
+        if (!file.startsWith(root) || file.equals(root)) {
+            throw new IllegalArgumentException("invalid.path");
+        }
+        return file;
+    }
+
+    private Path resolveUrl(String url) {
+        if (!url.startsWith(baseUrl)) {
+            throw new IllegalArgumentException("invalid.path");
+        }
+        return resolve(url.substring(baseUrl.length()));
+    }
+
+    private Path createParentDirectories(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        return file;
+    }
+
+    private FileMetadata readMetadata(Path file) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        String eTag = "\"%x-%x\"".formatted(attributes.lastModifiedTime().toMillis(), attributes.size());
+        String contentType = MediaTypeFactory.getMediaType(file.getFileName().toString())
+                                             .map(MediaType::toString)
+                                             .orElse(null);
+        return new FileMetadata(eTag, attributes.size(), contentType);
+    }
+
+    private <T> Mono<T> blocking(Callable<T> callable) {
+        return Mono.fromCallable(callable)
+                   .subscribeOn(Schedulers.boundedElastic());
+    }
+}
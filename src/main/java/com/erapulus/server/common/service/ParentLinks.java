@@ -0,0 +1,96 @@
+package com.erapulus.server.common.service;
+
+final class ParentLinks {
+
+    static final int MISSING = 0;
+    static final ParentLinks EMPTY = new ParentLinks(new int[0], new int[0], 0);
+
+    private final int[] children;
+    private final int[] parents;
+    private final int size;
+
+    private ParentLinks(int[] children, int[] parents, int size) {
+        this.children = children;
+        this.parents = parents;
+        this.size = size;
+    }
+
+    static ParentLinks of(int[] children, int[] parents, int count) {
+        int capacity = Integer.highestOneBit(Math.max(count, 1) * 2 - 1) << 1;
+        int[] tableChildren = new int[capacity];
+        int[] tableParents = new int[capacity];
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            if (children[i] == MISSING) {
+                continue;
+            }
+            int slot = slot(tableChildren, children[i]);
+            if (tableChildren[slot] == MISSING) {
+                size++;
+            }
+            tableChildren[slot] = children[i];
+            tableParents[slot] = parents[i];
+        }
+        return new ParentLinks(tableChildren, tableParents, size);
+    }
+
+    int parentOf(int child) {
+        if (size == 0 || child == MISSING) {
+            return MISSING;
+        }
+        return parents[slot(children, child)];
+    }
+
+    int size() {
+        return size;
+    }
+
+    ParentLinks with(int child, int parent) {
+        if (parentOf(child) == parent) {
+            return this;
+        }
+        int[] newChildren = new int[size + 1];
+        int[] newParents = new int[size + 1];
+        int count = copyTo(newChildren, newParents, (linkChild, linkParent) -> false);
+        newChildren[count] = child;
+        newParents[count] = parent;
+        return of(newChildren, newParents, count + 1);
+    }
+
+    ParentLinks without(int child) {
+        return removeIf((linkChild, linkParent) -> linkChild == child);
+    }
+
+    ParentLinks removeIf(LinkPredicate predicate) {
+        int[] newChildren = new int[size];
+        int[] newParents = new int[size];
+        int count = copyTo(newChildren, newParents, predicate);
+        return count == size ? this : of(newChildren, newParents, count);
+    }
+
+    private int copyTo(int[] targetChildren, int[] targetParents, LinkPredicate skipped) {
+        int count = 0;
+        for (int i = 0; i < children.length; i++) {
+            if (children[i] != MISSING && !skipped.test(children[i], parents[i])) {
+                targetChildren[count] = children[i];
+                targetParents[count] = parents[i];
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int slot(int[] table, int child) {
+        int mask = table.length - 1;
+        int slot = (child * 0x9E3779B9 >>> 16 ^ child) & mask;
+        while (table[slot] != MISSING && table[slot] != child) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    @FunctionalInterface
+    interface LinkPredicate {
+        boolean test(int child, int parent);
+    }
+}
@@ -0,0 +1,36 @@
+package com.erapulus.server.common.service;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.util.StringUtils;
+
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class StoragePaths {
+
+    private static final String UNIQUE_PATH = "%s/%s/%s";
+    private static final String DEFAULT_FILE_NAME = "file";
+    private static final Pattern DISALLOWED_CHARACTERS = Pattern.compile("[^A-Za-z0-9._-]");
+    private static final Pattern LEADING_DOTS = Pattern.compile("^\\.+");
+    private static final Pattern UNIQUE_PATTERN = Pattern.compile(".+/[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}/[^/]+");
+
+    public static String unique(String directory, String filename) {
+        return UNIQUE_PATH.formatted(directory, UUID.randomUUID(), fileName(filename));
+    }
+
+    public static boolean isUnique(String path) {
+        return UNIQUE_PATTERN.matcher(path).matches();
+    }
+
+    public static String fileName(String filename) {
+        String name = filename == null ? null : StringUtils.getFilename(filename.replace('\\', '/'));
+        if (name == null) {
+            return DEFAULT_FILE_NAME;
+        }
+        name = DISALLOWED_CHARACTERS.matcher(name).replaceAll("_");
+        name = LEADING_DOTS.matcher(name).replaceFirst("");
+        return name.isEmpty() ? DEFAULT_FILE_NAME : name;
+    }
+}
@@ -26,5 +26,7 @@ public class CommonRequestVariable {
     public static final String EMAIL_QUERY_PARAM = "email";
     public static final String PAGE_QUERY_PARAM = "page";
     public static final String PAGE_SIZE_QUERY_PARAM = "pageSize";
+    public static final String AFTER_QUERY_PARAM = "after";
+    public static final String COUNT_QUERY_PARAM = "count";
     public static final String FILE_QUERY_PARAM = "file";
 }
@@ -0,0 +1,156 @@
+package com.erapulus.server.common.web;
+
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.PathContainer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static com.erapulus.server.building.web.BuildingRouter.BUILDING_DETAILS_URL;
+import static com.erapulus.server.document.web.DocumentModuleRouter.DOCUMENT_MODULE_DETAILS_URL;
+import static com.erapulus.server.document.web.DocumentProgramRouter.DOCUMENT_PROGRAM_DETAILS_URL;
+import static com.erapulus.server.document.web.DocumentUniversityRouter.DOCUMENT_UNIVERSITY_DETAILS_URL;
+import static com.erapulus.server.faculty.web.FacultyRouter.FACULTY_DETAILS_URL;
+import static com.erapulus.server.module.web.ModuleRouter.MODULE_DETAILS_URL;
+import static com.erapulus.server.post.web.PostRouter.POST_DETAILS_URL;
+import static com.erapulus.server.program.web.ProgramRouter.PROGRAM_DETAILS_URL;
+import static com.erapulus.server.university.web.UniversityRouter.UNIVERSITY_DETAILS_URL;
+
+@Slf4j
+public class ConditionalGetFilter implements WebFilter {
+
+    private static final String LAST_MODIFIED_COLUMN = "last_modified_date";
+
+    private final DatabaseClient databaseClient;
+    private final List<VersionQuery> versionQueries;
+
+    public ConditionalGetFilter(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+        this.versionQueries = List.of(
+                new VersionQuery(UNIVERSITY_DETAILS_URL, """
+                        SELECT last_modified_date FROM university
+                        WHERE id = :universityId"""),
+                new VersionQuery(BUILDING_DETAILS_URL, """
+                        SELECT last_modified_date FROM building
+                        WHERE id = :buildingId AND university = :universityId"""),
+                new VersionQuery(POST_DETAILS_URL, """
+                        SELECT last_modified_date FROM post
+                        WHERE id = :postId AND university = :universityId"""),
+                new VersionQuery(FACULTY_DETAILS_URL, """
+                        SELECT last_modified_date FROM faculty
+                        WHERE id = :facultyId AND university = :universityId"""),
+                new VersionQuery(PROGRAM_DETAILS_URL, """
+                        SELECT p.last_modified_date FROM program p
+                        JOIN faculty f ON f.id = p.faculty
+                        WHERE p.id = :programId AND f.id = :facultyId AND f.university = :universityId"""),
+                new VersionQuery(MODULE_DETAILS_URL, """
+                        SELECT m.last_modified_date FROM module m
+                        JOIN program p ON p.id = m.program
+                        JOIN faculty f ON f.id = p.faculty
+                        WHERE m.id = :moduleId AND p.id = :programId AND f.id = :facultyId AND f.university = :universityId"""),
+                new VersionQuery(DOCUMENT_UNIVERSITY_DETAILS_URL, """
+                        SELECT last_modified_date FROM document
+                        WHERE id = :documentId AND university = :universityId"""),
+                new VersionQuery(DOCUMENT_PROGRAM_DETAILS_URL, """
+                        SELECT d.last_modified_date FROM document d
+                        JOIN program p ON p.id = d.program
+                        JOIN faculty f ON f.id = p.faculty
+                        WHERE d.id = :documentId AND p.id = :programId AND f.id = :facultyId AND f.university = :universityId"""),
+                new VersionQuery(DOCUMENT_MODULE_DETAILS_URL, """
+                        SELECT d.last_modified_date FROM document d
+                        JOIN module m ON m.id = d.module
+                        JOIN program p ON p.id = m.program
+                        JOIN faculty f ON f.id = p.faculty
+                        WHERE d.id = :documentId AND m.id = :moduleId AND p.id = :programId AND f.id = :facultyId AND f.university = :universityId"""));
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        if (request.getMethod() != HttpMethod.GET || !isConditional(request.getHeaders())) {
+            return chain.filter(exchange);
+        }
+        PathContainer path = request.getPath().pathWithinApplication();
+        for (VersionQuery versionQuery : versionQueries) {
+            PathPattern.PathMatchInfo matchInfo = versionQuery.pattern().matchAndExtract(path);
+            if (matchInfo != null) {
+                return findLastModified(versionQuery, matchInfo.getUriVariables())
+                        .filter(lastModified -> isNotModified(request.getHeaders(), lastModified))
+                        .map(lastModified -> writeNotModified(exchange.getResponse(), lastModified))
+                        .defaultIfEmpty(false)
+                        .flatMap(notModified -> notModified ? exchange.getResponse().setComplete() : chain.filter(exchange));
+            }
+        }
+        return chain.filter(exchange);
+    }
+
+    private Mono<LocalDateTime> findLastModified(VersionQuery versionQuery, Map<String, String> variables) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(versionQuery.query());
+        try {
+            for (Map.Entry<String, String> variable : variables.entrySet()) {
+                spec = spec.bind(variable.getKey(), Integer.valueOf(variable.getValue()));
+            }
+        } catch (NumberFormatException e) {
+            return Mono.empty();
+        }
+        return spec.map(row -> Optional.ofNullable(row.get(LAST_MODIFIED_COLUMN, LocalDateTime.class)))
+                   .one()
+                   .flatMap(Mono::justOrEmpty)
+                   .onErrorResume(e -> {
+                       log.warn("Cannot check version of {}: {}", versionQuery.pattern(), e.getMessage());
+                       return Mono.empty();
+                   });
+    }
+
+    private static boolean isConditional(HttpHeaders headers) {
+        return headers.containsKey(HttpHeaders.IF_NONE_MATCH) || headers.containsKey(HttpHeaders.IF_MODIFIED_SINCE);
+    }
+
+    private static boolean isNotModified(HttpHeaders headers, LocalDateTime lastModified) {
+        List<String> ifNoneMatch = headers.getOrEmpty(HttpHeaders.IF_NONE_MATCH);
+        if (!ifNoneMatch.isEmpty()) {
+            return ETags.matchesAny(ifNoneMatch, ETags.fromLastModified(lastModified));
+        }
+        try {
+            long ifModifiedSince = headers.getIfModifiedSince();
+            return ifModifiedSince >= 0 && ETags.toInstant(lastModified).getEpochSecond() <= ifModifiedSince / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static boolean writeNotModified(ServerHttpResponse response, LocalDateTime lastModified) {
+        response.setStatusCode(HttpStatus.NOT_MODIFIED);
+        response.getHeaders().setETag(ETags.fromLastModified(lastModified));
+        response.getHeaders().setLastModified(ETags.toInstant(lastModified));
+        response.getHeaders().setCacheControl(CacheControl.noCache().cachePrivate());
+        return true;
+    }
+
+    @Value
+    private static class VersionQuery {
+        PathPattern pattern;
+        String query;
+
+        VersionQuery(String path, String query) {
+            this.pattern = PathPatternParser.defaultInstance.parse(path);
+            this.query = query;
+        }
+    }
+}
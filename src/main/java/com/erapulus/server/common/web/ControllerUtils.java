@@ -7,6 +7,7 @@ import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Mono;
 
+import java.util.Optional;
 import java.util.function.Function;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
@@ -29,16 +30,40 @@ public class ControllerUtils {
     }
 
     public static Mono<ServerResponse> withPageParams(ServerRequest request, Function<PageRequest, Mono<ServerResponse>> function) {
-        return Mono.just(request.queryParam(CommonRequestVariable.PAGE_QUERY_PARAM))
-                   .map(optional -> optional.map(Integer::parseInt)
-                                            .orElse(DEFAULT_PAGE))
-                   .map(page -> {
-                       int size = request.queryParam(CommonRequestVariable.PAGE_SIZE_QUERY_PARAM)
-                                         .map(Integer::parseInt)
-                                         .orElse(DEFAULT_PAGE_SIZE);
-                       return PageRequest.of(page, size);
-                   })
+        return withPageParams(request, PageCursor::decode, function);
+    }
+
+    public static Mono<ServerResponse> withSortedPageParams(ServerRequest request, Function<PageRequest, Mono<ServerResponse>> function) {
+        return withPageParams(request, PageCursor::decodeWithSortKey, function);
+    }
+
+    private static Mono<ServerResponse> withPageParams(ServerRequest request, Function<String, PageCursor> cursorDecoder,
+                                                       Function<PageRequest, Mono<ServerResponse>> function) {
+        PageRequest pageRequest;
+        try {
+            pageRequest = parsePageRequest(request, cursorDecoder);
+        } catch (IllegalArgumentException e) {
+            return ServerResponseFactory.createHttpBadRequestCantParseErrorResponse();
+        }
+        return Mono.just(pageRequest)
                    .flatMap(function)
                    .onErrorResume(NumberFormatException.class, e -> ServerResponseFactory.createHttpBadRequestCantParseErrorResponse());
     }
+
+    private static PageRequest parsePageRequest(ServerRequest request, Function<String, PageCursor> cursorDecoder) {
+        int size = request.queryParam(CommonRequestVariable.PAGE_SIZE_QUERY_PARAM)
+                          .map(Integer::parseInt)
+                          .orElse(DEFAULT_PAGE_SIZE);
+        CountMode countMode = request.queryParam(CommonRequestVariable.COUNT_QUERY_PARAM)
+                                     .map(CountMode::parse)
+                                     .orElse(CountMode.EXACT);
+        Optional<String> after = request.queryParam(CommonRequestVariable.AFTER_QUERY_PARAM);
+        if (after.isPresent()) {
+            return PaginationRequest.of(size, cursorDecoder.apply(after.get()), countMode);
+        }
+        int page = request.queryParam(CommonRequestVariable.PAGE_QUERY_PARAM)
+                          .map(Integer::parseInt)
+                          .orElse(DEFAULT_PAGE);
+        return PaginationRequest.of(page, size, countMode);
+    }
 }
@@ -0,0 +1,13 @@
+package com.erapulus.server.common.web;
+
+import java.util.Locale;
+
+public enum CountMode {
+    EXACT,
+    ESTIMATE,
+    NONE;
+
+    public static CountMode parse(String value) {
+        return valueOf(value.toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,58 @@
+package com.erapulus.server.common.web;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.HexFormat;
+import java.util.List;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ETags {
+
+    private static final String ANY_ETAG = "*";
+    private static final String WEAK_ETAG_PREFIX = "W/";
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+    private static final int DIGEST_LENGTH = 16;
+
+    public static String fromContent(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance(DIGEST_ALGORITHM).digest(content);
+            return quote(HexFormat.of().formatHex(digest, 0, DIGEST_LENGTH));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static String fromLastModified(LocalDateTime lastModified) {
+        return quote("%x.%x".formatted(lastModified.toEpochSecond(ZoneOffset.UTC), lastModified.getNano()));
+    }
+
+    public static Instant toInstant(LocalDateTime lastModified) {
+        return lastModified.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    public static String quote(String eTag) {
+        return eTag.startsWith("\"") ? eTag : "\"" + eTag + "\"";
+    }
+
+    public static boolean matchesAny(List<String> headerValues, String eTag) {
+        for (String headerValue : headerValues) {
+            for (String candidate : headerValue.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith(WEAK_ETAG_PREFIX)) {
+                    tag = tag.substring(WEAK_ETAG_PREFIX.length());
+                }
+                if (tag.equals(ANY_ETAG) || tag.equals(eTag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
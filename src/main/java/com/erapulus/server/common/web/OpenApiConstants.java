@@ -9,12 +9,16 @@ public class OpenApiConstants {
     public static final String OK = "OK";
     public static final String CREATED = "CREATED";
     public static final String NO_CONTENT = "NO CONTENT";
+    public static final String PARTIAL_CONTENT = "PARTIAL CONTENT";
+    public static final String NOT_MODIFIED = "NOT MODIFIED";
     public static final String UNAUTHORIZED = "UNAUTHORIZED";
     public static final String BAD_REQUEST = "BAD REQUEST";
     public static final String FORBIDDEN = "FORBIDDEN";
     public static final String NOT_FOUND = "NOT FOUND";
     public static final String CONFLICT = "CONFLICT";
     public static final String INTERNAL_SERVER_ERROR = "INTERNAL SERVER ERROR";
+    public static final String RANGE_NOT_SATISFIABLE = "RANGE NOT SATISFIABLE";
+    public static final String SERVICE_UNAVAILABLE = "SERVICE UNAVAILABLE";
 
     // Endpoints
 
@@ -65,10 +69,13 @@ public class OpenApiConstants {
     // Document
     public static final String DOCUMENT_UNIVERSITY_BASE_URL_OPENAPI = "/api/university/{universityId}/document";
     public static final String DOCUMENT_UNIVERSITY_DETAILS_URL_OPENAPI = "/api/university/{universityId}/document/{documentId}";
+    public static final String DOCUMENT_UNIVERSITY_CONTENT_URL_OPENAPI = "/api/university/{universityId}/document/{documentId}/content";
     public static final String DOCUMENT_PROGRAM_BASE_URL_OPENAPI = "/api/university/{universityId}/faculty/{facultyId}/program/{programId}/document";
     public static final String DOCUMENT_PROGRAM_DETAILS_URL_OPENAPI = "/api/university/{universityId}/faculty/{facultyId}/program/{programId}/document/{documentId}";
+    public static final String DOCUMENT_PROGRAM_CONTENT_URL_OPENAPI = "/api/university/{universityId}/faculty/{facultyId}/program/{programId}/document/{documentId}/content";
     public static final String DOCUMENT_MODULE_BASE_URL_OPENAPI = "/api/university/{universityId}/faculty/{facultyId}/program/{programId}/module/{moduleId}/document";
     public static final String DOCUMENT_MODULE_DETAILS_URL_OPENAPI = "/api/university/{universityId}/faculty/{facultyId}/program/{programId}/module/{moduleId}/document/{documentId}";
+    public static final String DOCUMENT_MODULE_CONTENT_URL_OPENAPI = "/api/university/{universityId}/faculty/{facultyId}/program/{programId}/module/{moduleId}/document/{documentId}/content";
 
     // Friend
     public static final String FRIEND_BASE_URL_OPENAPI = "/api/student/{studentId}/friend";
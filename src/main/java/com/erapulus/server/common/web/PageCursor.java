@@ -0,0 +1,45 @@
+package com.erapulus.server.common.web;
+
+import lombok.Value;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+@Value
+public class PageCursor {
+
+    private static final char SEPARATOR = ':';
+
+    int id;
+    String sortKey;
+
+    public static PageCursor of(int id) {
+        return new PageCursor(id, null);
+    }
+
+    public static PageCursor of(int id, String sortKey) {
+        return new PageCursor(id, sortKey);
+    }
+
+    public static PageCursor decode(String cursor) {
+        String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        int separator = value.indexOf(SEPARATOR);
+        if (separator < 0) {
+            return new PageCursor(Integer.parseInt(value), null);
+        }
+        return new PageCursor(Integer.parseInt(value.substring(0, separator)), value.substring(separator + 1));
+    }
+
+    public static PageCursor decodeWithSortKey(String cursor) {
+        PageCursor pageCursor = decode(cursor);
+        if (pageCursor.sortKey() == null) {
+            throw new IllegalArgumentException("cursor");
+        }
+        return pageCursor;
+    }
+
+    public String encode() {
+        String value = sortKey == null ? String.valueOf(id) : id + String.valueOf(SEPARATOR) + sortKey;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
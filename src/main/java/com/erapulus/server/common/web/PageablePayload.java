@@ -1,9 +1,11 @@
 package com.erapulus.server.common.web;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.springframework.data.domain.PageRequest;
 
 import java.util.List;
+import java.util.function.Function;
 
 public class PageablePayload<T> {
 
@@ -14,11 +16,16 @@ public class PageablePayload<T> {
     private Integer currentPage;
 
     @JsonProperty("totalCount")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private Integer totalCount;
 
     @JsonProperty("pageSize")
     private Integer pageSize;
 
+    @JsonProperty("next")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private String next;
+
     public PageablePayload(List<T> content, PageRequest pageRequest, Integer totalCount) {
         this.content = content;
         this.currentPage = pageRequest.getPageNumber();
@@ -26,6 +33,13 @@ public class PageablePayload<T> {
         this.totalCount = totalCount;
     }
 
+    public PageablePayload(List<T> content, PageRequest pageRequest, Integer totalCount, Function<T, PageCursor> cursorExtractor) {
+        this(content, pageRequest, totalCount);
+        if (!content.isEmpty() && content.size() == pageRequest.getPageSize()) {
+            this.next = cursorExtractor.apply(content.get(content.size() - 1)).encode();
+        }
+    }
+
     @JsonProperty("offset")
     private Integer offset() {
         return currentPage * pageSize;
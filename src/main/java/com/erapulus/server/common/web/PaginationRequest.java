@@ -0,0 +1,36 @@
+package com.erapulus.server.common.web;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+@Getter
+@EqualsAndHashCode(callSuper = true)
+public class PaginationRequest extends PageRequest {
+
+    private final PageCursor after;
+    private final CountMode countMode;
+
+    private PaginationRequest(int page, int size, PageCursor after, CountMode countMode) {
+        super(page, size, Sort.unsorted());
+        this.after = after;
+        this.countMode = countMode;
+    }
+
+    public static PaginationRequest of(int page, int size, CountMode countMode) {
+        return new PaginationRequest(page, size, null, countMode);
+    }
+
+    public static PaginationRequest of(int size, PageCursor after, CountMode countMode) {
+        return new PaginationRequest(0, size, after, countMode);
+    }
+
+    public static PageCursor after(PageRequest pageRequest) {
+        return pageRequest instanceof PaginationRequest paginationRequest ? paginationRequest.after() : null;
+    }
+
+    public static CountMode countMode(PageRequest pageRequest) {
+        return pageRequest instanceof PaginationRequest paginationRequest ? paginationRequest.countMode() : CountMode.EXACT;
+    }
+}
@@ -2,9 +2,12 @@ package com.erapulus.server.common.web;
 
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.server.ServerRequest;
 import org.springframework.web.reactive.function.server.ServerResponse;
 import reactor.core.publisher.Mono;
 
@@ -16,12 +19,32 @@ import java.util.stream.Collectors;
 public class ServerResponseFactory {
 
     public static Mono<ServerResponse> createHttpSuccessResponse(Object payload) {
+        ServerResponse.BodyBuilder response = ServerResponse.status(HttpStatus.OK)
+                                                            .contentType(MediaType.APPLICATION_JSON);
+        if (payload instanceof VersionedResponse versionedPayload && versionedPayload.lastModifiedDate() != null) {
+            response.eTag(ETags.fromLastModified(versionedPayload.lastModifiedDate()))
+                    .lastModified(ETags.toInstant(versionedPayload.lastModifiedDate()))
+                    .cacheControl(CacheControl.noCache().cachePrivate());
+        }
+        return response.body(BodyInserters.fromValue(ResponseTemplate.builder()
+                                                                     .status(HttpStatus.OK.value())
+                                                                     .payload(payload)
+                                                                     .build()));
+    }
+
+    public static Mono<ServerResponse> createHttpSuccessResponse(ServerRequest request, String eTag, byte[] serializedResponse) {
+        if (ETags.matchesAny(request.headers().header(HttpHeaders.IF_NONE_MATCH), eTag)) {
+            return ServerResponse.status(HttpStatus.NOT_MODIFIED)
+                                 .eTag(eTag)
+                                 .cacheControl(CacheControl.noCache().cachePrivate())
+                                 .build();
+        }
         return ServerResponse.status(HttpStatus.OK)
+                             .eTag(eTag)
+                             .cacheControl(CacheControl.noCache().cachePrivate())
                              .contentType(MediaType.APPLICATION_JSON)
-                             .body(BodyInserters.fromValue(ResponseTemplate.builder()
-                                                                           .status(HttpStatus.OK.value())
-                                                                           .payload(payload)
-                                                                           .build()));
+                             .contentLength(serializedResponse.length)
+                             .body(BodyInserters.fromValue(serializedResponse));
     }
 
     public static Mono<ServerResponse> createHttpCreatedResponse(Object payload) {
@@ -42,23 +65,11 @@ public class ServerResponseFactory {
     }
 
     public static Mono<ServerResponse> createHttpForbiddenErrorResponse() {
-        String message = "forbidden";
-        return ServerResponse.status(HttpStatus.FORBIDDEN)
-                             .contentType(MediaType.APPLICATION_JSON)
-                             .body(BodyInserters.fromValue(ResponseTemplate.builder()
-                                                                           .status(HttpStatus.FORBIDDEN.value())
-                                                                           .message(message)
-                                                                           .build()));
+        return StaticErrorResponse.FORBIDDEN.toServerResponse();
     }
 
     public static Mono<ServerResponse> createHttpBadRequestCantParseErrorResponse() {
-        String message = "bad.request;cannot.parse.parameter";
-        return ServerResponse.status(HttpStatus.BAD_REQUEST)
-                             .contentType(MediaType.APPLICATION_JSON)
-                             .body(BodyInserters.fromValue(ResponseTemplate.builder()
-                                                                           .status(HttpStatus.BAD_REQUEST.value())
-                                                                           .message(message)
-                                                                           .build()));
+        return StaticErrorResponse.BAD_REQUEST_CANNOT_PARSE.toServerResponse();
     }
 
     public static Mono<ServerResponse> createHttpBadRequestConstraintViolationErrorResponse(ConstraintViolationException exception) {
@@ -72,44 +83,15 @@ public class ServerResponseFactory {
     }
 
     public static Mono<ServerResponse> createHttpBadRequestNoBodyFoundErrorResponse() {
-        return ServerResponse.status(HttpStatus.BAD_REQUEST)
-                             .contentType(MediaType.APPLICATION_JSON)
-                             .body(BodyInserters.fromValue(ResponseTemplate.builder()
-                                                                           .status(HttpStatus.BAD_REQUEST.value())
-                                                                           .message("bad.request;not.found.body")
-                                                                           .build()));
+        return StaticErrorResponse.BAD_REQUEST_NOT_FOUND_BODY.toServerResponse();
     }
 
     public static Mono<ServerResponse> createHttpBadRequestInvalidCredentialsErrorResponse() {
-        return ServerResponse.status(HttpStatus.BAD_REQUEST)
-                             .contentType(MediaType.APPLICATION_JSON)
-                             .body(BodyInserters.fromValue(ResponseTemplate.builder()
-                                                                           .status(HttpStatus.BAD_REQUEST.value())
-                                                                           .message("bad.request;invalid.credentials")
-                                                                           .build()));
+        return StaticErrorResponse.BAD_REQUEST_INVALID_CREDENTIALS.toServerResponse();
     }
 
     public static Mono<ServerResponse> createHttpBadRequestInvalidUserErrorResponse() {
-        return ServerResponse.status(HttpStatus.BAD_REQUEST)
-                             .contentType(MediaType.APPLICATION_JSON)
-                             .body(BodyInserters.fromValue(ResponseTemplate.builder()
-                                                                           .status(HttpStatus.BAD_REQUEST.value())
-                                                                           .message("bad.request;cant.invite.yourself")
-                                                                           .build()));
-    }
-
-    public static ResponseTemplate<Object> createHttpUnauthorizedResponseBody() {
-        return ResponseTemplate.builder()
-                               .status(HttpStatus.UNAUTHORIZED.value())
-                               .message("bad.credentials")
-                               .build();
-    }
-
-    public static ResponseTemplate<Object> createHttpForbiddenResponseBody() {
-        return ResponseTemplate.builder()
-                               .status(HttpStatus.FORBIDDEN.value())
-                               .message("forbidden")
-                               .build();
+        return StaticErrorResponse.BAD_REQUEST_INVALID_USER.toServerResponse();
     }
 
     public static Mono<ServerResponse> createHttpNotFoundResponse(NoSuchElementException e) {
@@ -131,12 +113,11 @@ public class ServerResponseFactory {
     }
 
     public static Mono<ServerResponse> createHttpInternalServerErrorResponse() {
-        return ServerResponse.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                             .contentType(MediaType.APPLICATION_JSON)
-                             .body(BodyInserters.fromValue(ResponseTemplate.builder()
-                                                                           .status(HttpStatus.INTERNAL_SERVER_ERROR.value())
-                                                                           .message("internal.server.error")
-                                                                           .build()));
+        return StaticErrorResponse.INTERNAL_SERVER_ERROR.toServerResponse();
+    }
+
+    public static Mono<ServerResponse> createHttpServiceUnavailableErrorResponse() {
+        return StaticErrorResponse.SERVICE_UNAVAILABLE.toServerResponse();
     }
 
     private static String getConstraintViolationReason(ConstraintViolationException exception) {
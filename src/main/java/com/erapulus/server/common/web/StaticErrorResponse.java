@@ -0,0 +1,56 @@
+package com.erapulus.server.common.web;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public enum StaticErrorResponse {
+
+    BAD_REQUEST_CANNOT_PARSE(HttpStatus.BAD_REQUEST, "bad.request;cannot.parse.parameter"),
+    BAD_REQUEST_NOT_FOUND_BODY(HttpStatus.BAD_REQUEST, "bad.request;not.found.body"),
+    BAD_REQUEST_INVALID_CREDENTIALS(HttpStatus.BAD_REQUEST, "bad.request;invalid.credentials"),
+    BAD_REQUEST_INVALID_USER(HttpStatus.BAD_REQUEST, "bad.request;cant.invite.yourself"),
+    UNAUTHORIZED(HttpStatus.UNAUTHORIZED, "bad.credentials"),
+    FORBIDDEN(HttpStatus.FORBIDDEN, "forbidden"),
+    INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "internal.server.error"),
+    SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "service.unavailable");
+
+    private static final String BODY_FORMAT = "{\"status\":%d,\"payload\":null,\"message\":\"%s\"}";
+
+    @Getter
+    private final HttpStatus status;
+    @Getter
+    private final String message;
+    private final ByteBuffer body;
+
+    StaticErrorResponse(HttpStatus status, String message) {
+        this.status = status;
+        this.message = message;
+        this.body = ByteBuffer.wrap(BODY_FORMAT.formatted(status.value(), message).getBytes(StandardCharsets.UTF_8))
+                              .asReadOnlyBuffer();
+    }
+
+    public int contentLength() {
+        return body.remaining();
+    }
+
+    public Mono<ServerResponse> toServerResponse() {
+        return ServerResponse.status(status)
+                             .contentType(MediaType.APPLICATION_JSON)
+                             .contentLength(contentLength())
+                             .body((message, context) -> message.writeWith(Mono.fromSupplier(() -> message.bufferFactory().wrap(body.duplicate()))));
+    }
+
+    public Mono<Void> write(ServerHttpResponse response) {
+        response.setStatusCode(status);
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setContentLength(contentLength());
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(body.duplicate())));
+    }
+}
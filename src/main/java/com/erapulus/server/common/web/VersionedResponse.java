@@ -0,0 +1,7 @@
+package com.erapulus.server.common.web;
+
+import java.time.LocalDateTime;
+
+public interface VersionedResponse {
+    LocalDateTime lastModifiedDate();
+}
@@ -1,5 +1,6 @@
 package com.erapulus.server.device.database;
 
+import org.springframework.data.r2dbc.repository.Modifying;
 import org.springframework.data.r2dbc.repository.Query;
 import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.data.repository.query.Param;
@@ -7,6 +8,8 @@ import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+
 @Repository
 public interface DeviceRepository extends R2dbcRepository<DeviceEntity, Integer> {
     @Query("SELECT * FROM device WHERE application_user = :student")
@@ -18,4 +21,8 @@ public interface DeviceRepository extends R2dbcRepository<DeviceEntity, Integer>
 
     @Query("DELETE FROM device WHERE application_user = :student")
     Mono<Void> deleteAllByStudentId(@Param("student") int studentId);
+
+    @Modifying
+    @Query("DELETE FROM device WHERE device_id IN (:deviceIds)")
+    Mono<Integer> deleteAllByDeviceIds(@Param("deviceIds") Collection<String> deviceIds);
 }
@@ -7,10 +7,12 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.LastModifiedBy;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
 
 import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
 
 @Data
 @Builder
@@ -46,4 +48,8 @@ public class DocumentEntity implements Entity {
     @LastModifiedBy
     @Column("last_modified_by")
     private Integer lastModifiedBy;
+
+    @LastModifiedDate
+    @Column("last_modified_date")
+    private LocalDateTime lastModifiedDate;
 }
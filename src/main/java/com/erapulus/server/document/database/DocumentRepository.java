@@ -5,6 +5,7 @@ import org.springframework.data.r2dbc.repository.R2dbcRepository;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 @Repository
 public interface DocumentRepository extends R2dbcRepository<DocumentEntity, Integer> {
@@ -18,4 +19,32 @@ public interface DocumentRepository extends R2dbcRepository<DocumentEntity, Inte
     Flux<DocumentEntity> findAllByFilters(@Param("university") Integer universityId,
                                           @Param("program") Integer programId,
                                           @Param("module") Integer moduleId);
+
+    @Query("""
+            SELECT * FROM document
+            WHERE id = :id
+            AND (:university IS NULL OR university = :university)
+            AND (:program IS NULL OR program = :program)
+            AND (:module IS NULL OR module = :module)
+            """)
+    Mono<DocumentEntity> findByIdAndFilters(@Param("id") int documentId,
+                                            @Param("university") Integer universityId,
+                                            @Param("program") Integer programId,
+                                            @Param("module") Integer moduleId);
+
+    @Query("""
+            SELECT * FROM document
+            WHERE university = :university
+            OR program IN (SELECT p.id FROM program p JOIN faculty f ON p.faculty = f.id WHERE f.university = :university)
+            OR module IN (SELECT m.id FROM module m JOIN program p ON m.program = p.id JOIN faculty f ON p.faculty = f.id WHERE f.university = :university)
+            """)
+    Flux<DocumentEntity> findAllByUniversityIdWithChildren(@Param("university") int universityId);
+
+    @Query("""
+            DELETE FROM document
+            WHERE university = :university
+            OR program IN (SELECT p.id FROM program p JOIN faculty f ON p.faculty = f.id WHERE f.university = :university)
+            OR module IN (SELECT m.id FROM module m JOIN program p ON m.program = p.id JOIN faculty f ON p.faculty = f.id WHERE f.university = :university)
+            """)
+    Mono<Void> deleteAllByUniversityIdWithChildren(@Param("university") int universityId);
 }
@@ -1,14 +1,17 @@
 package com.erapulus.server.document.dto;
 
+import com.erapulus.server.common.web.VersionedResponse;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Data;
 
 import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
 
 @Data
 @Builder
-public class DocumentResponseDto {
+public class DocumentResponseDto implements VersionedResponse {
 
     @NotNull
     @JsonProperty("id")
@@ -36,4 +39,7 @@ public class DocumentResponseDto {
 
     @JsonProperty("moduleId")
     private Integer moduleId;
+
+    @JsonIgnore
+    private LocalDateTime lastModifiedDate;
 }
@@ -18,6 +18,7 @@ public class DocumentEntityToResponseDtoMapper implements EntityToResponseDtoMap
                                   .universityId(documentEntity.universityId())
                                   .programId(documentEntity.programId())
                                   .moduleId(documentEntity.moduleId())
+                                  .lastModifiedDate(documentEntity.lastModifiedDate())
                                   .build();
     }
 }
@@ -0,0 +1,25 @@
+package com.erapulus.server.document.service;
+
+import com.erapulus.server.common.service.FileMetadata;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Value;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import reactor.core.publisher.Mono;
+
+@Value
+public class DocumentContent {
+    String name;
+    FileMetadata metadata;
+    @Getter(AccessLevel.NONE)
+    ContentWriter writer;
+
+    public Mono<Void> writeTo(ReactiveHttpOutputMessage message, long offset, long count) {
+        return writer.write(message, offset, count);
+    }
+
+    @FunctionalInterface
+    public interface ContentWriter {
+        Mono<Void> write(ReactiveHttpOutputMessage message, long offset, long count);
+    }
+}
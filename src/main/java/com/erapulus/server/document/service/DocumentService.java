@@ -2,14 +2,15 @@ package com.erapulus.server.document.service;
 
 import com.erapulus.server.common.mapper.EntityToResponseDtoMapper;
 import com.erapulus.server.common.mapper.RequestDtoToEntityMapper;
-import com.erapulus.server.common.service.AzureStorageService;
+import com.erapulus.server.common.service.BlobGarbageCollector;
+import com.erapulus.server.common.service.CatalogIndex;
 import com.erapulus.server.common.service.CrudGenericService;
+import com.erapulus.server.common.service.FileStorageService;
+import com.erapulus.server.common.service.StoragePaths;
 import com.erapulus.server.document.database.DocumentEntity;
 import com.erapulus.server.document.database.DocumentRepository;
 import com.erapulus.server.document.dto.DocumentRequestDto;
 import com.erapulus.server.document.dto.DocumentResponseDto;
-import com.erapulus.server.module.database.ModuleRepository;
-import com.erapulus.server.program.database.ProgramRepository;
 import org.springframework.http.codec.multipart.FilePart;
 import org.springframework.http.codec.multipart.Part;
 import org.springframework.stereotype.Service;
@@ -30,21 +31,21 @@ import static com.erapulus.server.common.web.CommonRequestVariable.FILE_QUERY_PA
 public class DocumentService extends CrudGenericService<DocumentEntity, DocumentRequestDto, DocumentResponseDto> {
 
     private final DocumentRepository documentRepository;
-    private final ProgramRepository programRepository;
-    private final ModuleRepository moduleRepository;
-    private final AzureStorageService azureStorageService;
+    private final CatalogIndex catalogIndex;
+    private final FileStorageService fileStorageService;
+    private final BlobGarbageCollector blobGarbageCollector;
 
     public DocumentService(DocumentRepository documentRepository,
                            RequestDtoToEntityMapper<DocumentRequestDto, DocumentEntity> requestDtoToEntityMapper,
                            EntityToResponseDtoMapper<DocumentEntity, DocumentResponseDto> entityToResponseDtoMapper,
-                           ProgramRepository programRepository,
-                           ModuleRepository moduleRepository,
-                           AzureStorageService azureStorageService) {
+                           CatalogIndex catalogIndex,
+                           FileStorageService fileStorageService,
+                           BlobGarbageCollector blobGarbageCollector) {
         super(documentRepository, requestDtoToEntityMapper, entityToResponseDtoMapper, "document");
         this.documentRepository = documentRepository;
-        this.programRepository = programRepository;
-        this.moduleRepository = moduleRepository;
-        this.azureStorageService = azureStorageService;
+        this.catalogIndex = catalogIndex;
+        this.fileStorageService = fileStorageService;
+        this.blobGarbageCollector = blobGarbageCollector;
     }
 
     public Mono<List<DocumentResponseDto>> listDocuments(Integer universityId, Integer facultyId, Integer programId, Integer moduleId) {
@@ -74,6 +75,15 @@ public class DocumentService extends CrudGenericService<DocumentEntity, Document
                 .map(response -> addParamFromPath(response, universityId, facultyId, programId, moduleId));
     }
 
+    public Mono<DocumentContent> getDocumentContent(Integer documentId, Integer universityId, Integer facultyId, Integer programId, Integer moduleId) {
+        return validateRequest(universityId, facultyId, programId, moduleId)
+                .flatMap(requestDto -> documentRepository.findByIdAndFilters(documentId, requestDto.universityId(), requestDto.programId(), requestDto.moduleId()))
+                .switchIfEmpty(Mono.error(new NoSuchElementException("document")))
+                .flatMap(document -> fileStorageService.getFileMetadata(document.path())
+                                                       .map(metadata -> new DocumentContent(document.name(), metadata,
+                                                               (message, offset, count) -> fileStorageService.writeFile(document.path(), offset, count, metadata.eTag(), message))));
+    }
+
     public Mono<DocumentResponseDto> updateDocument(DocumentRequestDto documentDto, Integer documentId, Integer universityId, Integer facultyId, Integer programId, Integer moduleId) {
         UnaryOperator<DocumentEntity> addParamFromBody = document -> document.id(documentId).name(documentDto.name()).description(documentDto.description());
         Supplier<Mono<DocumentEntity>> supplier = () -> documentRepository.findById(documentId);
@@ -83,34 +93,44 @@ public class DocumentService extends CrudGenericService<DocumentEntity, Document
                 .map(response -> addParamFromPath(response, universityId, facultyId, programId, moduleId));
     }
 
+    @Transactional
     public Mono<Boolean> deleteDocument(Integer documentId, Integer universityId, Integer facultyId, Integer programId, Integer moduleId) {
         Supplier<Mono<DocumentEntity>> supplier = () -> documentRepository.findById(documentId);
         return validateRequest(universityId, facultyId, programId, moduleId)
                 .then(documentRepository.findById(documentId))
                 .switchIfEmpty(Mono.error(new NoSuchElementException("document")))
                 .flatMap(document -> deleteEntity(supplier)
-                        .then(azureStorageService.deleteFile(document)));
+                        .then(blobGarbageCollector.schedule(document.path()))
+                        .thenReturn(true));
     }
 
-    public Flux<Boolean> deleteAllDocumentsByUniversityId(int universityId) {
-        return documentRepository.findAllByFilters(universityId, null, null)
-                                 .flatMap(document -> deleteEntity(() -> documentRepository.findById(document.id()))
-                                         .then(azureStorageService.deleteFile(document)));
-
+    public Mono<Void> deleteAllDocumentsByUniversityId(int universityId) {
+        return documentRepository.findAllByUniversityIdWithChildren(universityId)
+                                 .collectList()
+                                 .flatMap(documents -> documentRepository.deleteAllByUniversityIdWithChildren(universityId)
+                                                                         .then(blobGarbageCollector.schedule(paths(documents))));
     }
 
     public Flux<Boolean> deleteAllDocumentsByProgramId(int programId) {
         return documentRepository.findAllByFilters(null, programId, null)
                                  .flatMap(document -> deleteEntity(() -> documentRepository.findById(document.id()))
-                                         .then(azureStorageService.deleteFile(document)));
+                                         .then(blobGarbageCollector.schedule(document.path()))
+                                         .thenReturn(true));
 
     }
 
     public Flux<Boolean> deleteAllDocumentsByModuleId(int moduleId) {
         return documentRepository.findAllByFilters(null, null, moduleId)
                                  .flatMap(document -> deleteEntity(() -> documentRepository.findById(document.id()))
-                                         .then(azureStorageService.deleteFile(document)));
+                                         .then(blobGarbageCollector.schedule(document.path()))
+                                         .thenReturn(true));
+
+    }
 
+    private List<String> paths(List<DocumentEntity> documents) {
+        return documents.stream()
+                        .map(DocumentEntity::path)
+                        .toList();
     }
 
     private Mono<DocumentRequestDto> extractFileName(DocumentRequestDto documentRequestDto, Map<String, Part> body) {
@@ -128,13 +148,13 @@ public class DocumentService extends CrudGenericService<DocumentEntity, Document
 
     private Mono<DocumentRequestDto> validateRequest(Integer universityId, Integer facultyId, Integer programId, Integer moduleId) {
         if (moduleId != null) {
-            return moduleRepository.existsByIdAndUniversityIdAndFacultyIdAndProgramId(moduleId, universityId, facultyId, programId)
-                                   .flatMap(exists -> exists ? Mono.just(DocumentRequestDto.builder().moduleId(moduleId).build())
-                                           : Mono.error(new NoSuchElementException("module")));
+            return catalogIndex.moduleExists(moduleId, universityId, facultyId, programId)
+                               .flatMap(exists -> exists ? Mono.just(DocumentRequestDto.builder().moduleId(moduleId).build())
+                                       : Mono.error(new NoSuchElementException("module")));
         } else if (programId != null) {
-            return programRepository.existsByIdAndUniversityIdAndFacultyId(programId, universityId, facultyId)
-                                    .flatMap(exists -> exists ? Mono.just(DocumentRequestDto.builder().programId(programId).build())
-                                            : Mono.error(new NoSuchElementException("program")));
+            return catalogIndex.programExists(programId, universityId, facultyId)
+                               .flatMap(exists -> exists ? Mono.just(DocumentRequestDto.builder().programId(programId).build())
+                                       : Mono.error(new NoSuchElementException("program")));
         } else {
             return Mono.just(DocumentRequestDto.builder().universityId(universityId).build());
         }
@@ -142,9 +162,9 @@ public class DocumentService extends CrudGenericService<DocumentEntity, Document
 
     private Mono<DocumentEntity> saveFileToAzure(Map<String, Part> body, Integer universityId, DocumentEntity documentEntity) {
         FilePart file = (FilePart) body.get(FILE_QUERY_PARAM);
-        String filePath = "university/%d/document/%d/%s".formatted(universityId, documentEntity.id(), file.filename());
-        return azureStorageService.uploadFile(file, filePath)
-                                  .map(documentEntity::path);
+        String filePath = "university/%d/document/%d/%s".formatted(universityId, documentEntity.id(), StoragePaths.fileName(file.filename()));
+        return fileStorageService.uploadFile(file, filePath)
+                                 .map(documentEntity::path);
     }
 
     private DocumentResponseDto addParamFromPath(DocumentResponseDto response, Integer universityId, Integer facultyId, Integer programId, Integer moduleId) {
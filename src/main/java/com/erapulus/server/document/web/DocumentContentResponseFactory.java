@@ -0,0 +1,100 @@
+package com.erapulus.server.document.web;
+
+import com.erapulus.server.common.service.FileMetadata;
+import com.erapulus.server.common.web.ETags;
+import com.erapulus.server.document.service.DocumentContent;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ReactiveHttpOutputMessage;
+import org.springframework.web.reactive.function.BodyInserter;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+class DocumentContentResponseFactory {
+
+    private static final String BYTES = "bytes";
+
+    static Mono<ServerResponse> createContentResponse(ServerRequest request, DocumentContent content) {
+        FileMetadata metadata = content.metadata();
+        String eTag = ETags.quote(metadata.eTag());
+        if (ETags.matchesAny(request.headers().header(HttpHeaders.IF_NONE_MATCH), eTag)) {
+            return ServerResponse.status(HttpStatus.NOT_MODIFIED)
+                                 .eTag(eTag)
+                                 .build();
+        }
+        long size = metadata.size();
+        HttpRange range = getRange(request, eTag, size);
+        if (range == null) {
+            return createBodyResponse(HttpStatus.OK, content, eTag, size).body(toBody(content, 0, size));
+        }
+        long start;
+        long end;
+        try {
+            start = range.getRangeStart(size);
+            end = range.getRangeEnd(size);
+        } catch (IllegalArgumentException e) {
+            return ServerResponse.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                                 .eTag(eTag)
+                                 .header(HttpHeaders.CONTENT_RANGE, "%s */%d".formatted(BYTES, size))
+                                 .build();
+        }
+        long count = end - start + 1;
+        return createBodyResponse(HttpStatus.PARTIAL_CONTENT, content, eTag, count)
+                .header(HttpHeaders.CONTENT_RANGE, "%s %d-%d/%d".formatted(BYTES, start, end, size))
+                .body(toBody(content, start, count));
+    }
+
+    private static ServerResponse.BodyBuilder createBodyResponse(HttpStatus status, DocumentContent content, String eTag, long count) {
+        return ServerResponse.status(status)
+                             .eTag(eTag)
+                             .contentType(getMediaType(content.metadata().contentType()))
+                             .contentLength(count)
+                             .header(HttpHeaders.ACCEPT_RANGES, BYTES)
+                             .headers(headers -> headers.setContentDisposition(ContentDisposition.inline()
+                                                                                                 .filename(content.name(), StandardCharsets.UTF_8)
+                                                                                                 .build()));
+    }
+
+    private static BodyInserter<Void, ReactiveHttpOutputMessage> toBody(DocumentContent content, long start, long count) {
+        return (message, context) -> count > 0 ? content.writeTo(message, start, count) : Mono.empty();
+    }
+
+    private static HttpRange getRange(ServerRequest request, String eTag, long size) {
+        List<HttpRange> ranges;
+        try {
+            ranges = request.headers().range();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        if (ranges.size() != 1 || size == 0) {
+            return null;
+        }
+        String ifRange = request.headers().asHttpHeaders().getFirst(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.trim().equals(eTag)) {
+            return null;
+        }
+        return ranges.get(0);
+    }
+
+    private static MediaType getMediaType(String contentType) {
+        if (contentType == null) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+        try {
+            return MediaType.parseMediaType(contentType);
+        } catch (InvalidMediaTypeException e) {
+            return MediaType.APPLICATION_OCTET_STREAM;
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.web.reactive.function.server.ServerResponse;
 
 import static com.erapulus.server.common.web.CommonRequestVariable.*;
 import static com.erapulus.server.common.web.OpenApiConstants.DOCUMENT_MODULE_BASE_URL_OPENAPI;
+import static com.erapulus.server.common.web.OpenApiConstants.DOCUMENT_MODULE_CONTENT_URL_OPENAPI;
 import static com.erapulus.server.common.web.OpenApiConstants.DOCUMENT_MODULE_DETAILS_URL_OPENAPI;
 import static java.lang.String.format;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
@@ -29,13 +30,15 @@ public class DocumentModuleRouter {
 
     public static final String DOCUMENT_MODULE_BASE_URL = format("/api/university/{%s}/faculty/{%s}/program/{%s}/module/{%s}/document", UNIVERSITY_PATH_PARAM, FACULTY_PATH_PARAM, PROGRAM_PATH_PARAM, MODULE_PATH_PARAM);
     public static final String DOCUMENT_MODULE_DETAILS_URL = format("/api/university/{%s}/faculty/{%s}/program/{%s}/module/{%s}/document/{%s}", UNIVERSITY_PATH_PARAM, FACULTY_PATH_PARAM, PROGRAM_PATH_PARAM, MODULE_PATH_PARAM, DOCUMENT_PATH_PARAM);
+    public static final String DOCUMENT_MODULE_CONTENT_URL = format("/api/university/{%s}/faculty/{%s}/program/{%s}/module/{%s}/document/{%s}/content", UNIVERSITY_PATH_PARAM, FACULTY_PATH_PARAM, PROGRAM_PATH_PARAM, MODULE_PATH_PARAM, DOCUMENT_PATH_PARAM);
 
     @RouterOperations({
             @RouterOperation(path = DOCUMENT_MODULE_BASE_URL_OPENAPI, method = GET, beanClass = DocumentModuleController.class, beanMethod = "listDocumentsForModule"),
             @RouterOperation(path = DOCUMENT_MODULE_BASE_URL_OPENAPI, method = POST, beanClass = DocumentModuleController.class, beanMethod = "uploadDocumentForModule"),
             @RouterOperation(path = DOCUMENT_MODULE_DETAILS_URL_OPENAPI, method = GET, beanClass = DocumentModuleController.class, beanMethod = "getDocumentForModuleById"),
             @RouterOperation(path = DOCUMENT_MODULE_DETAILS_URL_OPENAPI, method = PUT, beanClass = DocumentModuleController.class, beanMethod = "updateDocumentForModule"),
-            @RouterOperation(path = DOCUMENT_MODULE_DETAILS_URL_OPENAPI, method = DELETE, beanClass = DocumentModuleController.class, beanMethod = "deleteDocumentForModule")
+            @RouterOperation(path = DOCUMENT_MODULE_DETAILS_URL_OPENAPI, method = DELETE, beanClass = DocumentModuleController.class, beanMethod = "deleteDocumentForModule"),
+            @RouterOperation(path = DOCUMENT_MODULE_CONTENT_URL_OPENAPI, method = GET, beanClass = DocumentModuleController.class, beanMethod = "getDocumentContentForModule")
     })
     @Bean
     RouterFunction<ServerResponse> documentModuleRoutes(DocumentModuleController documentModuleController) {
@@ -43,6 +46,7 @@ public class DocumentModuleRouter {
                 .andRoute(POST(DOCUMENT_MODULE_BASE_URL).and(contentType(MULTIPART_FORM_DATA)), documentModuleController::uploadDocumentForModule)
                 .andRoute(GET(DOCUMENT_MODULE_DETAILS_URL).and(accept(APPLICATION_JSON)), documentModuleController::getDocumentForModuleById)
                 .andRoute(PUT(DOCUMENT_MODULE_DETAILS_URL).and(contentType(APPLICATION_JSON)), documentModuleController::updateDocumentForModule)
-                .andRoute(DELETE(DOCUMENT_MODULE_DETAILS_URL).and(accept(APPLICATION_JSON)), documentModuleController::deleteDocumentForModule);
+                .andRoute(DELETE(DOCUMENT_MODULE_DETAILS_URL).and(accept(APPLICATION_JSON)), documentModuleController::deleteDocumentForModule)
+                .andRoute(GET(DOCUMENT_MODULE_CONTENT_URL), documentModuleController::getDocumentContentForModule);
     }
 }
@@ -207,4 +207,40 @@ public class DocumentProgramController {
                                                                      .doOnError(e -> log.error(e.getMessage(), e))
                                                                      .onErrorResume(e -> ServerResponseFactory.createHttpInternalServerErrorResponse())))));
     }
+
+    @NonNull
+    @Operation(
+            operationId = "get-document-content-for-program",
+            tags = "Document",
+            summary = "Get document content for program",
+            description = "Get document content for program",
+            parameters = {
+                    @Parameter(in = PATH, name = UNIVERSITY_PATH_PARAM, schema = @Schema(type = "integer"), required = true),
+                    @Parameter(in = PATH, name = FACULTY_PATH_PARAM, schema = @Schema(type = "integer"), required = true),
+                    @Parameter(in = PATH, name = PROGRAM_PATH_PARAM, schema = @Schema(type = "integer"), required = true),
+                    @Parameter(in = PATH, name = DOCUMENT_PATH_PARAM, schema = @Schema(type = "integer"), required = true)
+            },
+            responses = {
+                    @ApiResponse(responseCode = "200", description = OK, content = @Content(schema = @Schema(type = "string", format = "binary"))),
+                    @ApiResponse(responseCode = "206", description = PARTIAL_CONTENT, content = @Content(schema = @Schema(type = "string", format = "binary"))),
+                    @ApiResponse(responseCode = "304", description = NOT_MODIFIED),
+                    @ApiResponse(responseCode = "400", description = BAD_REQUEST),
+                    @ApiResponse(responseCode = "401", description = UNAUTHORIZED),
+                    @ApiResponse(responseCode = "403", description = FORBIDDEN),
+                    @ApiResponse(responseCode = "404", description = NOT_FOUND),
+                    @ApiResponse(responseCode = "416", description = RANGE_NOT_SATISFIABLE),
+                    @ApiResponse(responseCode = "500", description = INTERNAL_SERVER_ERROR)
+            }
+    )
+    public Mono<ServerResponse> getDocumentContentForProgram(ServerRequest request) {
+        return withPathParam(request, UNIVERSITY_PATH_PARAM,
+                universityId -> withPathParam(request, FACULTY_PATH_PARAM,
+                        facultyId -> withPathParam(request, PROGRAM_PATH_PARAM,
+                                programId -> withPathParam(request, DOCUMENT_PATH_PARAM,
+                                        documentId -> documentService.getDocumentContent(documentId, universityId, facultyId, programId, null)
+                                                                     .flatMap(content -> DocumentContentResponseFactory.createContentResponse(request, content))
+                                                                     .onErrorResume(NoSuchElementException.class, ServerResponseFactory::createHttpNotFoundResponse)
+                                                                     .doOnError(e -> log.error(e.getMessage(), e))
+                                                                     .onErrorResume(e -> ServerResponseFactory.createHttpInternalServerErrorResponse())))));
+    }
 }
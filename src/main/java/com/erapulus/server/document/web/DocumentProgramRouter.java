@@ -10,6 +10,7 @@ import org.springframework.web.reactive.function.server.ServerResponse;
 
 import static com.erapulus.server.common.web.CommonRequestVariable.*;
 import static com.erapulus.server.common.web.OpenApiConstants.DOCUMENT_PROGRAM_BASE_URL_OPENAPI;
+import static com.erapulus.server.common.web.OpenApiConstants.DOCUMENT_PROGRAM_CONTENT_URL_OPENAPI;
 import static com.erapulus.server.common.web.OpenApiConstants.DOCUMENT_PROGRAM_DETAILS_URL_OPENAPI;
 import static java.lang.String.format;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
@@ -28,6 +29,7 @@ import static org.springframework.web.reactive.function.server.RouterFunctions.r
 public class DocumentProgramRouter {
     public static final String DOCUMENT_PROGRAM_BASE_URL = format("/api/university/{%s}/faculty/{%s}/program/{%s}/document", UNIVERSITY_PATH_PARAM, FACULTY_PATH_PARAM, PROGRAM_PATH_PARAM);
     public static final String DOCUMENT_PROGRAM_DETAILS_URL = format("/api/university/{%s}/faculty/{%s}/program/{%s}/document/{%s}", UNIVERSITY_PATH_PARAM, FACULTY_PATH_PARAM, PROGRAM_PATH_PARAM, DOCUMENT_PATH_PARAM);
+    public static final String DOCUMENT_PROGRAM_CONTENT_URL = format("/api/university/{%s}/faculty/{%s}/program/{%s}/document/{%s}/content", UNIVERSITY_PATH_PARAM, FACULTY_PATH_PARAM, PROGRAM_PATH_PARAM, DOCUMENT_PATH_PARAM);
 
     @RouterOperations({
             @RouterOperation(path = DOCUMENT_PROGRAM_BASE_URL_OPENAPI, method = GET, beanClass = DocumentProgramController.class, beanMethod = "listDocumentsForProgram"),
@@ -35,6 +37,7 @@ public class DocumentProgramRouter {
             @RouterOperation(path = DOCUMENT_PROGRAM_DETAILS_URL_OPENAPI, method = GET, beanClass = DocumentProgramController.class, beanMethod = "getDocumentForProgramById"),
             @RouterOperation(path = DOCUMENT_PROGRAM_DETAILS_URL_OPENAPI, method = PUT, beanClass = DocumentProgramController.class, beanMethod = "updateDocumentForProgram"),
             @RouterOperation(path = DOCUMENT_PROGRAM_DETAILS_URL_OPENAPI, method = DELETE, beanClass = DocumentProgramController.class, beanMethod = "deleteDocumentForProgram"),
+            @RouterOperation(path = DOCUMENT_PROGRAM_CONTENT_URL_OPENAPI, method = GET, beanClass = DocumentProgramController.class, beanMethod = "getDocumentContentForProgram"),
     })
     @Bean
     RouterFunction<ServerResponse> documentProgramRoutes(DocumentProgramController documentProgramController) {
@@ -42,6 +45,7 @@ public class DocumentProgramRouter {
                 .andRoute(POST(DOCUMENT_PROGRAM_BASE_URL).and(contentType(MULTIPART_FORM_DATA)), documentProgramController::uploadDocumentForProgram)
                 .andRoute(GET(DOCUMENT_PROGRAM_DETAILS_URL).and(accept(APPLICATION_JSON)), documentProgramController::getDocumentForProgramById)
                 .andRoute(PUT(DOCUMENT_PROGRAM_DETAILS_URL).and(contentType(APPLICATION_JSON)), documentProgramController::updateDocumentForProgram)
-                .andRoute(RequestPredicates.DELETE(DOCUMENT_PROGRAM_DETAILS_URL).and(accept(APPLICATION_JSON)), documentProgramController::deleteDocumentForProgram);
+                .andRoute(RequestPredicates.DELETE(DOCUMENT_PROGRAM_DETAILS_URL).and(accept(APPLICATION_JSON)), documentProgramController::deleteDocumentForProgram)
+                .andRoute(GET(DOCUMENT_PROGRAM_CONTENT_URL), documentProgramController::getDocumentContentForProgram);
     }
 }
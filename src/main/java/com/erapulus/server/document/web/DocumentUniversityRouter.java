@@ -11,6 +11,7 @@ import org.springframework.web.reactive.function.server.ServerResponse;
 import static com.erapulus.server.common.web.CommonRequestVariable.DOCUMENT_PATH_PARAM;
 import static com.erapulus.server.common.web.CommonRequestVariable.UNIVERSITY_PATH_PARAM;
 import static com.erapulus.server.common.web.OpenApiConstants.DOCUMENT_UNIVERSITY_BASE_URL_OPENAPI;
+import static com.erapulus.server.common.web.OpenApiConstants.DOCUMENT_UNIVERSITY_CONTENT_URL_OPENAPI;
 import static com.erapulus.server.common.web.OpenApiConstants.DOCUMENT_UNIVERSITY_DETAILS_URL_OPENAPI;
 import static java.lang.String.format;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
@@ -30,6 +31,7 @@ public class DocumentUniversityRouter {
 
     public static final String DOCUMENT_UNIVERSITY_BASE_URL = format("/api/university/{%s}/document", UNIVERSITY_PATH_PARAM);
     public static final String DOCUMENT_UNIVERSITY_DETAILS_URL = format("/api/university/{%s}/document/{%s}", UNIVERSITY_PATH_PARAM, DOCUMENT_PATH_PARAM);
+    public static final String DOCUMENT_UNIVERSITY_CONTENT_URL = format("/api/university/{%s}/document/{%s}/content", UNIVERSITY_PATH_PARAM, DOCUMENT_PATH_PARAM);
 
     @RouterOperations({
             @RouterOperation(path = DOCUMENT_UNIVERSITY_BASE_URL_OPENAPI, method = GET, beanClass = DocumentUniversityController.class, beanMethod = "listDocumentsForUniversity"),
@@ -37,6 +39,7 @@ public class DocumentUniversityRouter {
             @RouterOperation(path = DOCUMENT_UNIVERSITY_DETAILS_URL_OPENAPI, method = GET, beanClass = DocumentUniversityController.class, beanMethod = "getDocumentForUniversityById"),
             @RouterOperation(path = DOCUMENT_UNIVERSITY_DETAILS_URL_OPENAPI, method = PUT, beanClass = DocumentUniversityController.class, beanMethod = "updateDocumentForUniversity"),
             @RouterOperation(path = DOCUMENT_UNIVERSITY_DETAILS_URL_OPENAPI, method = DELETE, beanClass = DocumentUniversityController.class, beanMethod = "deleteDocumentForUniversity"),
+            @RouterOperation(path = DOCUMENT_UNIVERSITY_CONTENT_URL_OPENAPI, method = GET, beanClass = DocumentUniversityController.class, beanMethod = "getDocumentContentForUniversity"),
     })
     @Bean
     RouterFunction<ServerResponse> documentUniversityRoutes(DocumentUniversityController documentUniversityController) {
@@ -44,6 +47,7 @@ public class DocumentUniversityRouter {
                 .andRoute(POST(DOCUMENT_UNIVERSITY_BASE_URL).and(contentType(MULTIPART_FORM_DATA)), documentUniversityController::uploadDocumentForUniversity)
                 .andRoute(GET(DOCUMENT_UNIVERSITY_DETAILS_URL).and(accept(APPLICATION_JSON)), documentUniversityController::getDocumentForUniversityById)
                 .andRoute(PUT(DOCUMENT_UNIVERSITY_DETAILS_URL).and(contentType(APPLICATION_JSON)), documentUniversityController::updateDocumentForUniversity)
-                .andRoute(RequestPredicates.DELETE(DOCUMENT_UNIVERSITY_DETAILS_URL).and(accept(APPLICATION_JSON)), documentUniversityController::deleteDocumentForUniversity);
+                .andRoute(RequestPredicates.DELETE(DOCUMENT_UNIVERSITY_DETAILS_URL).and(accept(APPLICATION_JSON)), documentUniversityController::deleteDocumentForUniversity)
+                .andRoute(GET(DOCUMENT_UNIVERSITY_CONTENT_URL), documentUniversityController::getDocumentContentForUniversity);
     }
 }
@@ -1,6 +1,7 @@
 package com.erapulus.server.employee.service;
 
 import com.erapulus.server.applicationuser.database.ApplicationUserEntity;
+import com.erapulus.server.common.database.AfterTransaction;
 import com.erapulus.server.common.database.UserType;
 import com.erapulus.server.common.mapper.EntityToResponseDtoMapper;
 import com.erapulus.server.common.mapper.RequestDtoToEntityMapper;
@@ -9,6 +10,8 @@ import com.erapulus.server.employee.database.EmployeeEntity;
 import com.erapulus.server.employee.database.EmployeeRepository;
 import com.erapulus.server.employee.dto.EmployeeRequestDto;
 import com.erapulus.server.employee.dto.EmployeeResponseDto;
+import com.erapulus.server.security.PrincipalCache;
+import com.erapulus.server.security.UserEpochRegistry;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,12 +32,18 @@ import static com.erapulus.server.security.SecurityContextUtils.withSecurityCont
 public class EmployeeService extends CrudGenericService<EmployeeEntity, EmployeeRequestDto, EmployeeResponseDto> {
 
     private final EmployeeRepository employeeRepository;
+    private final PrincipalCache principalCache;
+    private final UserEpochRegistry userEpochRegistry;
 
     public EmployeeService(EmployeeRepository employeeRepository,
                            RequestDtoToEntityMapper<EmployeeRequestDto, EmployeeEntity> requestDtoToEntityMapper,
-                           EntityToResponseDtoMapper<EmployeeEntity, EmployeeResponseDto> entityToResponseDtoMapper) {
+                           EntityToResponseDtoMapper<EmployeeEntity, EmployeeResponseDto> entityToResponseDtoMapper,
+                           PrincipalCache principalCache,
+                           UserEpochRegistry userEpochRegistry) {
         super(employeeRepository, requestDtoToEntityMapper, entityToResponseDtoMapper, "employee");
         this.employeeRepository = employeeRepository;
+        this.principalCache = principalCache;
+        this.userEpochRegistry = userEpochRegistry;
     }
 
     public Mono<List<EmployeeResponseDto>> listEmployees(Integer universityId) {
@@ -57,11 +66,16 @@ public class EmployeeService extends CrudGenericService<EmployeeEntity, Employee
                                                                                               .password(oldEmployee.password())
                                                                                               .universityId(oldEmployee.universityId());
         return updateEntity(requestDto, addParamFromPath, supplier, mergeEntity)
+                .flatMap(employee -> AfterTransaction.run(() -> principalCache.invalidate(employeeId)).thenReturn(employee))
                 .flatMap(this::validateBodyContent);
     }
 
     public Mono<Void> deleteAllEmployeesByUniversityId(int universityId) {
-        return employeeRepository.deleteAllByUniversityId(universityId);
+        return employeeRepository.findAllIdsByUniversityId(universityId)
+                                 .collectList()
+                                 .flatMap(employeeIds -> employeeRepository.deleteAllByUniversityId(universityId)
+                                                                           .then(Mono.fromRunnable(() -> employeeIds.forEach(userEpochRegistry::revoke)))
+                                                                           .then(AfterTransaction.run(() -> employeeIds.forEach(principalCache::invalidate))));
     }
 
     private Mono<EmployeeResponseDto> validateBodyContent(EmployeeResponseDto employeeResponseDto) {
@@ -0,0 +1,15 @@
+package com.erapulus.server.faculty.database;
+
+import com.erapulus.server.common.database.PagedResult;
+import reactor.core.publisher.Mono;
+
+public interface FacultyPageRepository {
+
+    String FILTERS = """
+            WHERE university = :university
+            AND (:name IS NULL OR LOWER(name) LIKE LOWER(CONCAT(:name, '%')))
+            """;
+    String COUNT_QUERY = "SELECT COUNT(*) FROM faculty " + FILTERS;
+
+    Mono<PagedResult<FacultyEntity>> findPageByUniversityIdAndName(int universityId, String name, long offset, int pageSize);
+}
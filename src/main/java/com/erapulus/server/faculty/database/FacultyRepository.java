@@ -8,13 +8,10 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Repository
-public interface FacultyRepository extends R2dbcRepository<FacultyEntity, Integer> {
+public interface FacultyRepository extends R2dbcRepository<FacultyEntity, Integer>, FacultyPageRepository {
 
-    @Query("""
-            SELECT * FROM faculty
-            WHERE university = :university
-            AND (:name IS NULL OR LOWER(name) LIKE LOWER(CONCAT(:name, '%')))
-            ORDER BY name OFFSET :offset ROWS
+    @Query("SELECT * FROM faculty " + FILTERS + """
+            ORDER BY name, id OFFSET :offset ROWS
             FETCH NEXT :size ROWS ONLY
             """)
     Flux<FacultyEntity> findByUniversityIdAndName(@Param("university") int universityId,
@@ -22,11 +19,18 @@ public interface FacultyRepository extends R2dbcRepository<FacultyEntity, Intege
                                                   @Param("offset") long offset,
                                                   @Param("size") int pageSize);
 
-    @Query("""
-            SELECT COUNT(*) FROM faculty
-            WHERE university = :university
-            AND (:name IS NULL OR LOWER(name) LIKE LOWER(CONCAT(:name, '%')))
+    @Query("SELECT * FROM faculty " + FILTERS + """
+            AND (name > :afterName OR (name = :afterName AND id > :afterId))
+            ORDER BY name, id OFFSET 0 ROWS
+            FETCH NEXT :size ROWS ONLY
             """)
+    Flux<FacultyEntity> findByUniversityIdAndNameAfter(@Param("university") int universityId,
+                                                       @Param("name") String name,
+                                                       @Param("afterName") String afterName,
+                                                       @Param("afterId") int afterId,
+                                                       @Param("size") int pageSize);
+
+    @Query(COUNT_QUERY)
     Mono<Integer> countByUniversityIdAndName(@Param("university") int universityId,
                                              @Param("name") String name);
 
@@ -36,4 +40,7 @@ public interface FacultyRepository extends R2dbcRepository<FacultyEntity, Intege
 
     @Query("SELECT id FROM faculty WHERE university = :university")
     Flux<Integer> findAllByUniversityId(@Param("university") int universityId);
+
+    @Query("DELETE FROM faculty WHERE university = :university")
+    Mono<Void> deleteAllByUniversityId(@Param("university") int universityId);
 }
@@ -1,14 +1,17 @@
 package com.erapulus.server.faculty.dto;
 
+import com.erapulus.server.common.web.VersionedResponse;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Data;
 
 import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
 
 @Data
 @Builder
-public class FacultyResponseDto {
+public class FacultyResponseDto implements VersionedResponse {
     @NotNull
     @JsonProperty("id")
     private Integer id;
@@ -28,4 +31,7 @@ public class FacultyResponseDto {
     @NotNull
     @JsonProperty("universityId")
     private Integer universityId;
+
+    @JsonIgnore
+    private LocalDateTime lastModifiedDate;
 }
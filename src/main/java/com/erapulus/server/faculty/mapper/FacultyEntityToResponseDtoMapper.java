@@ -15,6 +15,7 @@ public class FacultyEntityToResponseDtoMapper implements EntityToResponseDtoMapp
                                  .email(facultyEntity.email())
                                  .address(facultyEntity.address())
                                  .universityId(facultyEntity.universityId())
+                                 .lastModifiedDate(facultyEntity.lastModifiedDate())
                                  .build();
     }
 }
@@ -1,9 +1,15 @@
 package com.erapulus.server.faculty.service;
 
+import com.erapulus.server.common.database.AfterTransaction;
+import com.erapulus.server.common.database.PagedResult;
 import com.erapulus.server.common.mapper.EntityToResponseDtoMapper;
 import com.erapulus.server.common.mapper.RequestDtoToEntityMapper;
+import com.erapulus.server.common.service.CatalogIndex;
 import com.erapulus.server.common.service.CrudGenericService;
+import com.erapulus.server.common.web.CountMode;
+import com.erapulus.server.common.web.PageCursor;
 import com.erapulus.server.common.web.PageablePayload;
+import com.erapulus.server.common.web.PaginationRequest;
 import com.erapulus.server.faculty.database.FacultyEntity;
 import com.erapulus.server.faculty.database.FacultyRepository;
 import com.erapulus.server.faculty.dto.FacultyRequestDto;
@@ -13,7 +19,6 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.validation.annotation.Validated;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.function.Supplier;
@@ -27,29 +32,45 @@ public class FacultyService extends CrudGenericService<FacultyEntity, FacultyReq
 
     private final FacultyRepository facultyRepository;
     private final ProgramService programService;
+    private final CatalogIndex catalogIndex;
 
     public FacultyService(FacultyRepository facultyRepository,
                           RequestDtoToEntityMapper<FacultyRequestDto, FacultyEntity> requestDtoToEntityMapper,
                           EntityToResponseDtoMapper<FacultyEntity, FacultyResponseDto> entityToResponseDtoMapper,
-                          ProgramService programService) {
+                          ProgramService programService,
+                          CatalogIndex catalogIndex) {
         super(facultyRepository, requestDtoToEntityMapper, entityToResponseDtoMapper, "faculty");
         this.facultyRepository = facultyRepository;
         this.programService = programService;
+        this.catalogIndex = catalogIndex;
     }
 
     public Mono<PageablePayload<FacultyResponseDto>> listFaculties(int universityId, String name, PageRequest pageRequest) {
         String parsedName = parseString(name);
-        return facultyRepository.findByUniversityIdAndName(universityId, parsedName, pageRequest.getOffset(), pageRequest.getPageSize())
-                                .map(entityToResponseDtoMapper::from)
-                                .collectList()
-                                .zipWith(facultyRepository.countByUniversityIdAndName(universityId, parsedName))
-                                .map(dtoListAndTotalCount -> new PageablePayload<>(dtoListAndTotalCount.getT1(), pageRequest, dtoListAndTotalCount.getT2()));
+        return findFaculties(universityId, parsedName, pageRequest)
+                .map(page -> page.map(entityToResponseDtoMapper::from))
+                .map(page -> new PageablePayload<>(page.content(), pageRequest, page.totalCount(),
+                        faculty -> PageCursor.of(faculty.id(), faculty.name())));
+    }
+
+    private Mono<PagedResult<FacultyEntity>> findFaculties(int universityId, String name, PageRequest pageRequest) {
+        PageCursor after = PaginationRequest.after(pageRequest);
+        if (after != null) {
+            return PagedResult.of(facultyRepository.findByUniversityIdAndNameAfter(universityId, name, after.sortKey(), after.id(), pageRequest.getPageSize()),
+                    pageRequest, () -> facultyRepository.countByUniversityIdAndName(universityId, name));
+        }
+        if (PaginationRequest.countMode(pageRequest) == CountMode.EXACT) {
+            return facultyRepository.findPageByUniversityIdAndName(universityId, name, pageRequest.getOffset(), pageRequest.getPageSize());
+        }
+        return PagedResult.of(facultyRepository.findByUniversityIdAndName(universityId, name, pageRequest.getOffset(), pageRequest.getPageSize()),
+                pageRequest, () -> facultyRepository.countByUniversityIdAndName(universityId, name));
     }
 
 
     public Mono<FacultyResponseDto> createFaculty(FacultyRequestDto requestDto, int universityId) {
         UnaryOperator<FacultyEntity> addParamFromPath = faculty -> faculty.universityId(universityId);
-        return createEntity(requestDto, addParamFromPath);
+        return createEntity(requestDto, addParamFromPath)
+                .doOnNext(faculty -> catalogIndex.putFaculty(faculty.id(), universityId));
     }
 
     public Mono<FacultyResponseDto> getFacultyById(int facultyId, int universityId) {
@@ -60,7 +81,8 @@ public class FacultyService extends CrudGenericService<FacultyEntity, FacultyReq
     public Mono<FacultyResponseDto> updateFaculty(FacultyRequestDto requestDto, int facultyId, int universityId) {
         UnaryOperator<FacultyEntity> addParamFromPath = faculty -> faculty.id(facultyId).universityId(universityId);
         Supplier<Mono<FacultyEntity>> supplier = () -> facultyRepository.findByIdAndUniversityId(facultyId, universityId);
-        return updateEntity(requestDto, addParamFromPath, supplier);
+        return updateEntity(requestDto, addParamFromPath, supplier)
+                .doOnNext(faculty -> catalogIndex.putFaculty(facultyId, universityId));
     }
 
     @Transactional
@@ -68,14 +90,16 @@ public class FacultyService extends CrudGenericService<FacultyEntity, FacultyReq
         return deleteFacultyNoTransactional(facultyId, universityId);
     }
 
-    public Flux<Boolean> deleteAllFacultiesByUniversityId(int universityId) {
-        return facultyRepository.findAllByUniversityId(universityId)
-                                .flatMap(facultyId -> deleteFacultyNoTransactional(facultyId, universityId));
+    public Mono<Void> deleteAllFacultiesByUniversityId(int universityId) {
+        return programService.deleteAllProgramsByUniversityId(universityId)
+                             .then(facultyRepository.deleteAllByUniversityId(universityId))
+                             .then(AfterTransaction.run(() -> catalogIndex.removeUniversity(universityId)));
     }
 
     private Mono<Boolean> deleteFacultyNoTransactional(int facultyId, int universityId) {
         Supplier<Mono<FacultyEntity>> supplier = () -> facultyRepository.findByIdAndUniversityId(facultyId, universityId);
         return programService.deleteAllProgramsByFacultyIdAndUniversityId(facultyId, universityId)
-                             .then(deleteEntity(supplier));
+                             .then(deleteEntity(supplier))
+                             .flatMap(deleted -> AfterTransaction.run(() -> catalogIndex.removeFaculty(facultyId)).thenReturn(deleted));
     }
 }
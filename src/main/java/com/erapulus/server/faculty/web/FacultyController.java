@@ -46,7 +46,9 @@ public class FacultyController {
                     @Parameter(in = PATH, name = UNIVERSITY_PATH_PARAM, schema = @Schema(type = "integer"), required = true),
                     @Parameter(in = QUERY, name = NAME_QUERY_PARAM, schema = @Schema(type = "string")),
                     @Parameter(in = QUERY, name = PAGE_QUERY_PARAM, schema = @Schema(type = "integer")),
-                    @Parameter(in = QUERY, name = PAGE_SIZE_QUERY_PARAM, schema = @Schema(type = "integer"))
+                    @Parameter(in = QUERY, name = PAGE_SIZE_QUERY_PARAM, schema = @Schema(type = "integer")),
+                    @Parameter(in = QUERY, name = AFTER_QUERY_PARAM, schema = @Schema(type = "string")),
+                    @Parameter(in = QUERY, name = COUNT_QUERY_PARAM, schema = @Schema(type = "string", allowableValues = {"exact", "estimate", "none"}))
             },
             responses = {
                     @ApiResponse(responseCode = "200", description = OK, content = @Content(array = @ArraySchema(schema = @Schema(implementation = FacultyResponseDto.class)))),
@@ -60,7 +62,7 @@ public class FacultyController {
     public Mono<ServerResponse> listFaculties(ServerRequest request) {
         return withPathParam(request, UNIVERSITY_PATH_PARAM,
                 universityId -> withQueryParam(request, NAME_QUERY_PARAM,
-                        name -> withPageParams(request,
+                        name -> withSortedPageParams(request,
                                 pageRequest -> facultyService.listFaculties(universityId, name, pageRequest)
                                                              .flatMap(ServerResponseFactory::createHttpSuccessResponse)
                                                              .doOnError(e -> log.error(e.getMessage(), e))
@@ -0,0 +1,44 @@
+package com.erapulus.server.friendship.database;
+
+import com.erapulus.server.common.database.Entity;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table("friendship_notification_outbox")
+public class FriendshipNotificationOutboxEntity implements Entity {
+    @Id
+    @NotNull
+    @Column("id")
+    private Integer id;
+
+    @NotNull
+    @Column("application_user")
+    private Integer applicationUserId;
+
+    @NotNull
+    @Column("friend")
+    private Integer friendId;
+
+    @NotNull
+    @Column("created_at")
+    private LocalDateTime createdAt;
+
+    @NotNull
+    @Column("attempts")
+    private Integer attempts;
+
+    @Column("next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+}
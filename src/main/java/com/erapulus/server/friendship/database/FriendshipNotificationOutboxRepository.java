@@ -0,0 +1,39 @@
+package com.erapulus.server.friendship.database;
+
+import org.springframework.data.r2dbc.repository.Modifying;
+import org.springframework.data.r2dbc.repository.Query;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface FriendshipNotificationOutboxRepository extends R2dbcRepository<FriendshipNotificationOutboxEntity, Integer> {
+
+    @Query("""
+            SELECT * FROM friendship_notification_outbox
+            WHERE attempts < :maxAttempts
+            AND (next_attempt_at IS NULL OR next_attempt_at <= :now)
+            ORDER BY id OFFSET 0 ROWS
+            FETCH NEXT :size ROWS ONLY
+            """)
+    Flux<FriendshipNotificationOutboxEntity> findDue(@Param("now") LocalDateTime now,
+                                                     @Param("maxAttempts") int maxAttempts,
+                                                     @Param("size") int size);
+
+    @Modifying
+    @Query("DELETE FROM friendship_notification_outbox WHERE id IN (:ids)")
+    Mono<Integer> deleteAllByIds(@Param("ids") Collection<Integer> ids);
+
+    @Modifying
+    @Query("""
+            UPDATE friendship_notification_outbox
+            SET attempts = attempts + 1, next_attempt_at = :nextAttemptAt
+            WHERE id IN (:ids)
+            """)
+    Mono<Integer> markFailedByIds(@Param("ids") Collection<Integer> ids, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+}
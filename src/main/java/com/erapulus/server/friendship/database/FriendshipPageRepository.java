@@ -0,0 +1,20 @@
+package com.erapulus.server.friendship.database;
+
+import com.erapulus.server.common.database.PagedResult;
+import com.erapulus.server.student.database.StudentEntity;
+import reactor.core.publisher.Mono;
+
+public interface FriendshipPageRepository {
+
+    String FILTERS = """
+            FROM application_user AS a
+            JOIN friendship f ON a.id = f.friend
+            WHERE (:name IS NULL OR a.id IN (SELECT s.application_user FROM application_user_name_suffix s
+                                             WHERE s.suffix LIKE CONCAT(LOWER(:name), '%')))
+            AND f.application_user = :student
+            AND f.status = 'ACCEPTED'
+            """;
+    String COUNT_QUERY = "SELECT COUNT(*) " + FILTERS;
+
+    Mono<PagedResult<StudentEntity>> findPageOfFriendsByIdAndFilters(int studentId, String name, long offset, int pageSize);
+}
@@ -0,0 +1,29 @@
+package com.erapulus.server.friendship.database;
+
+import com.erapulus.server.common.database.PagedQueryExecutor;
+import com.erapulus.server.common.database.PagedResult;
+import com.erapulus.server.student.database.StudentEntity;
+import lombok.AllArgsConstructor;
+import org.springframework.r2dbc.core.Parameter;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+@AllArgsConstructor
+class FriendshipPageRepositoryImpl implements FriendshipPageRepository {
+
+    private static final String PAGE_QUERY = "SELECT a.id, first_name, last_name, picture_url, COUNT(*) OVER() AS total_count " + FILTERS + """
+            ORDER BY id OFFSET :offset ROWS
+            FETCH NEXT :size ROWS ONLY
+            """;
+
+    private final PagedQueryExecutor pagedQueryExecutor;
+
+    @Override
+    public Mono<PagedResult<StudentEntity>> findPageOfFriendsByIdAndFilters(int studentId, String name, long offset, int pageSize) {
+        Map<String, Parameter> filters = Map.of(
+                "student", Parameter.fromOrEmpty(studentId, Integer.class),
+                "name", Parameter.fromOrEmpty(name, String.class));
+        return pagedQueryExecutor.fetch(StudentEntity.class, PAGE_QUERY, COUNT_QUERY, filters, offset, pageSize);
+    }
+}
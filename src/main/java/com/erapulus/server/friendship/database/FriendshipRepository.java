@@ -10,17 +10,10 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Repository
-public interface FriendshipRepository extends R2dbcRepository<FriendshipEntity, Integer> {
+public interface FriendshipRepository extends R2dbcRepository<FriendshipEntity, Integer>, FriendshipPageRepository {
 
 
-    @Query("""
-            SELECT a.id, first_name, last_name, picture_url
-            FROM application_user AS a
-            JOIN friendship f ON a.id = f.friend
-            WHERE (:name IS NULL OR LOWER(CONCAT(first_name, last_name)) LIKE LOWER(CONCAT('%', :name, '%'))
-                                 OR LOWER(CONCAT(last_name, first_name)) LIKE LOWER(CONCAT('%', :name, '%')))
-            AND f.application_user = :student
-            AND f.status = 'ACCEPTED'
+    @Query("SELECT a.id, first_name, last_name, picture_url " + FILTERS + """
             ORDER BY id OFFSET :offset ROWS
             FETCH NEXT :size ROWS ONLY
             """)
@@ -29,15 +22,17 @@ public interface FriendshipRepository extends R2dbcRepository<FriendshipEntity,
                                                   @Param("offset") long offset,
                                                   @Param("size") int pageSize);
 
-    @Query("""
-            SELECT COUNT(*)
-            FROM application_user a
-            JOIN friendship f ON a.id = f.friend
-            WHERE (:name IS NULL OR LOWER(CONCAT(first_name, last_name)) LIKE LOWER(CONCAT('%', :name, '%'))
-                                 OR LOWER(CONCAT(last_name, first_name)) LIKE LOWER(CONCAT('%', :name, '%')))
-            AND f.application_user = :student
-            AND f.status = 'ACCEPTED'
+    @Query("SELECT a.id, first_name, last_name, picture_url " + FILTERS + """
+            AND a.id > :afterId
+            ORDER BY id OFFSET 0 ROWS
+            FETCH NEXT :size ROWS ONLY
             """)
+    Flux<StudentEntity> findFriendsByIdAndFiltersAfter(@Param("student") int studentId,
+                                                       @Param("name") String name,
+                                                       @Param("afterId") int afterId,
+                                                       @Param("size") int pageSize);
+
+    @Query(COUNT_QUERY)
     Mono<Integer> countFriendsByIdAndFilters(@Param("student") int studentId,
                                              @Param("name") String name);
 
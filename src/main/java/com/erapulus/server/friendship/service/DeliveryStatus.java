@@ -0,0 +1,8 @@
+package com.erapulus.server.friendship.service;
+
+enum DeliveryStatus {
+    DELIVERED,
+    UNREGISTERED,
+    TRANSIENT_FAILURE,
+    FAILED
+}
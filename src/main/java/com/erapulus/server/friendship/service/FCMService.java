@@ -1,7 +1,10 @@
 package com.erapulus.server.friendship.service;
 
-import com.erapulus.server.applicationuser.database.ApplicationUserEntity;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
 import com.google.auth.oauth2.GoogleCredentials;
+import com.google.common.util.concurrent.MoreExecutors;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
 import com.google.firebase.messaging.*;
@@ -12,10 +15,12 @@ import reactor.core.publisher.Mono;
 
 import java.io.IOException;
 import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
 
 @Slf4j
 @Service
-class FCMService {
+class FCMService implements PushNotificationClient {
 
     private final FirebaseMessaging firebaseMessaging;
     private final AndroidConfig androidConfig;
@@ -39,12 +44,55 @@ class FCMService {
         this.firebaseMessaging = firebaseMessaging;
     }
 
-    Mono<Void> sendPushNotification(String deviceId, ApplicationUserEntity user) {
-        Message message = getMessageWithData(deviceId, user);
-        return Mono.fromCallable(() -> firebaseMessaging.sendAsync(message))
-                   .doOnError(e -> log.error(e.getMessage(), e))
-                   .onErrorResume(e -> Mono.empty())
-                   .then();
+    @Override
+    public Mono<List<DeliveryStatus>> sendAll(List<PushNotification> notifications) {
+        if (firebaseMessaging == null) {
+            return Mono.error(new IllegalStateException("Firebase messaging not initialized"));
+        }
+        List<Message> messages = notifications.stream()
+                                              .map(this::getMessageWithData)
+                                              .toList();
+        return Mono.defer(() -> toMono(firebaseMessaging.sendAllAsync(messages)))
+                   .map(FCMService::toDeliveryStatuses);
+    }
+
+    static <T> Mono<T> toMono(ApiFuture<T> future) {
+        return Mono.create(sink -> {
+            ApiFutures.addCallback(future, new ApiFutureCallback<>() {
+                @Override
+                public void onFailure(Throwable t) {
+                    sink.error(t instanceof ExecutionException && t.getCause() != null ? t.getCause() : t);
+                }
+
+                @Override
+                public void onSuccess(T result) {
+                    sink.success(result);
+                }
+            }, MoreExecutors.directExecutor());
+            sink.onCancel(() -> future.cancel(false));
+        });
+    }
+
+    private static List<DeliveryStatus> toDeliveryStatuses(BatchResponse batchResponse) {
+        return batchResponse.getResponses()
+                            .stream()
+                            .map(FCMService::toDeliveryStatus)
+                            .toList();
+    }
+
+    private static DeliveryStatus toDeliveryStatus(SendResponse response) {
+        if (response.isSuccessful()) {
+            return DeliveryStatus.DELIVERED;
+        }
+        MessagingErrorCode errorCode = response.getException() != null ? response.getException().getMessagingErrorCode() : null;
+        if (errorCode == null) {
+            return DeliveryStatus.FAILED;
+        }
+        return switch (errorCode) {
+            case UNREGISTERED -> DeliveryStatus.UNREGISTERED;
+            case UNAVAILABLE, INTERNAL, QUOTA_EXCEEDED -> DeliveryStatus.TRANSIENT_FAILURE;
+            default -> DeliveryStatus.FAILED;
+        };
     }
 
     private AndroidConfig createAndroidConfig() {
@@ -69,15 +117,15 @@ class FCMService {
                          .build();
     }
 
-    private Message getMessageWithData(String deviceId, ApplicationUserEntity user) {
+    private Message getMessageWithData(PushNotification notification) {
         return Message.builder()
                       .setApnsConfig(apnsConfig)
                       .setAndroidConfig(androidConfig)
                       .setNotification(Notification.builder()
                                                    .setTitle(PushNotificationParameter.TOPIC.value())
-                                                   .setBody("%s %s wants to be your new friend".formatted(user.firstName(), user.lastName()))
+                                                   .setBody("%s %s wants to be your new friend".formatted(notification.senderFirstName(), notification.senderLastName()))
                                                    .build())
-                      .setToken(deviceId)
+                      .setToken(notification.deviceId())
                       .build();
     }
 }
@@ -0,0 +1,167 @@
+package com.erapulus.server.friendship.service;
+
+import com.erapulus.server.friendship.database.FriendshipNotificationOutboxEntity;
+import com.erapulus.server.friendship.database.FriendshipNotificationOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Component
+class FriendshipNotificationOutboxDispatcher implements DisposableBean {
+
+    private static final Duration POLL_INTERVAL = Duration.ofSeconds(1);
+    private static final int BATCH_SIZE = 100;
+    private static final int MAX_ATTEMPTS = 10;
+    private static final Duration RETRY_BACKOFF = Duration.ofMinutes(1);
+    private static final int MAX_BACKOFF_SHIFT = 6;
+
+    private final FriendshipNotificationOutboxRepository outboxRepository;
+    private final PushNotificationService pushNotificationService;
+    private final Clock clock;
+    private final AtomicLong dispatched = new AtomicLong();
+    private final AtomicLong dispatchedBatches = new AtomicLong();
+    private final AtomicLong failedBatches = new AtomicLong();
+    private final AtomicLong retried = new AtomicLong();
+    private final AtomicLong parked = new AtomicLong();
+    private final AtomicLong lagMillis = new AtomicLong();
+    private Disposable subscription;
+
+    @Autowired
+    FriendshipNotificationOutboxDispatcher(FriendshipNotificationOutboxRepository outboxRepository,
+                                           PushNotificationService pushNotificationService) {
+        this(outboxRepository, pushNotificationService, Clock.systemDefaultZone());
+    }
+
+    FriendshipNotificationOutboxDispatcher(FriendshipNotificationOutboxRepository outboxRepository,
+                                           PushNotificationService pushNotificationService,
+                                           Clock clock) {
+        this.outboxRepository = outboxRepository;
+        this.pushNotificationService = pushNotificationService;
+        this.clock = clock;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (subscription == null) {
+            subscription = Flux.interval(POLL_INTERVAL)
+                               .onBackpressureDrop()
+                               .concatMap(tick -> drain(), 1)
+                               .subscribe();
+        }
+    }
+
+    @Override
+    public synchronized void destroy() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    Mono<Long> drain() {
+        return dispatchBatch()
+                .expand(count -> count == BATCH_SIZE ? dispatchBatch() : Mono.empty())
+                .reduce(0L, Long::sum)
+                .onErrorResume(e -> {
+                    log.warn("Friendship notification outbox dispatch failed: {}", e.getMessage());
+                    failedBatches.incrementAndGet();
+                    return Mono.just(0L);
+                });
+    }
+
+    long dispatchedCount() {
+        return dispatched.get();
+    }
+
+    long dispatchedBatchCount() {
+        return dispatchedBatches.get();
+    }
+
+    long failedBatchCount() {
+        return failedBatches.get();
+    }
+
+    long retriedCount() {
+        return retried.get();
+    }
+
+    long parkedCount() {
+        return parked.get();
+    }
+
+    long outboxLagMillis() {
+        return lagMillis.get();
+    }
+
+    private Mono<Integer> dispatchBatch() {
+        return outboxRepository.findDue(LocalDateTime.now(clock), MAX_ATTEMPTS, BATCH_SIZE)
+                               .collectList()
+                               .flatMap(this::dispatch);
+    }
+
+    private Mono<Integer> dispatch(List<FriendshipNotificationOutboxEntity> friendRequests) {
+        if (friendRequests.isEmpty()) {
+            lagMillis.set(0);
+            return Mono.just(0);
+        }
+        LocalDateTime oldest = friendRequests.get(0).createdAt();
+        lagMillis.set(Math.max(0, Duration.between(oldest, LocalDateTime.now(clock)).toMillis()));
+        return pushNotificationService.sendPushNotifications(friendRequests)
+                                      .flatMap(retryIds -> settle(friendRequests, retryIds))
+                                      .doOnSuccess(settled -> dispatchedBatches.incrementAndGet())
+                                      .thenReturn(friendRequests.size());
+    }
+
+    private Mono<Void> settle(List<FriendshipNotificationOutboxEntity> friendRequests, Set<Integer> retryIds) {
+        List<Integer> settledIds = friendRequests.stream()
+                                                 .map(FriendshipNotificationOutboxEntity::id)
+                                                 .filter(id -> !retryIds.contains(id))
+                                                 .toList();
+        List<FriendshipNotificationOutboxEntity> retries = friendRequests.stream()
+                                                                         .filter(friendRequest -> retryIds.contains(friendRequest.id()))
+                                                                         .toList();
+        Mono<Integer> delete = settledIds.isEmpty()
+                ? Mono.just(0)
+                : outboxRepository.deleteAllByIds(settledIds)
+                                  .doOnSuccess(deleted -> dispatched.addAndGet(settledIds.size()));
+        return delete.then(reschedule(retries));
+    }
+
+    private Mono<Void> reschedule(List<FriendshipNotificationOutboxEntity> retries) {
+        Map<Integer, List<Integer>> idsByAttempts = retries.stream()
+                                                           .collect(Collectors.groupingBy(FriendshipNotificationOutboxEntity::attempts,
+                                                                   Collectors.mapping(FriendshipNotificationOutboxEntity::id, Collectors.toList())));
+        return Flux.fromIterable(idsByAttempts.entrySet())
+                   .concatMap(entry -> {
+                       int attempts = entry.getKey() + 1;
+                       List<Integer> ids = entry.getValue();
+                       if (attempts >= MAX_ATTEMPTS) {
+                           log.error("Friendship notifications {} parked after {} attempts", ids, attempts);
+                           parked.addAndGet(ids.size());
+                       } else {
+                           retried.addAndGet(ids.size());
+                       }
+                       return outboxRepository.markFailedByIds(ids, LocalDateTime.now(clock).plus(backoff(attempts)));
+                   })
+                   .then();
+    }
+
+    private static Duration backoff(int attempts) {
+        return RETRY_BACKOFF.multipliedBy(1L << Math.min(attempts - 1, MAX_BACKOFF_SHIFT));
+    }
+}
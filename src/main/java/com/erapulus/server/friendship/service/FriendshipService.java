@@ -1,13 +1,20 @@
 package com.erapulus.server.friendship.service;
 
+import com.erapulus.server.common.database.PagedResult;
+import com.erapulus.server.common.web.CountMode;
+import com.erapulus.server.common.web.PageCursor;
 import com.erapulus.server.common.web.PageablePayload;
+import com.erapulus.server.common.web.PaginationRequest;
 import com.erapulus.server.friendship.database.FriendshipEntity;
+import com.erapulus.server.friendship.database.FriendshipNotificationOutboxEntity;
+import com.erapulus.server.friendship.database.FriendshipNotificationOutboxRepository;
 import com.erapulus.server.friendship.database.FriendshipRepository;
 import com.erapulus.server.friendship.database.FriendshipStatus;
 import com.erapulus.server.friendship.dto.FriendshipDecisionDto;
 import com.erapulus.server.friendship.dto.FriendshipRequestDto;
 import com.erapulus.server.friendship.dto.FriendshipResponseDto;
 import com.erapulus.server.friendship.mapper.FriendshipEntityToResponseDtoMapper;
+import com.erapulus.server.student.database.StudentEntity;
 import com.erapulus.server.student.database.StudentRepository;
 import com.erapulus.server.student.dto.StudentListDto;
 import com.erapulus.server.student.mapper.StudentEntityToListDtoMapper;
@@ -19,6 +26,7 @@ import org.springframework.validation.annotation.Validated;
 import reactor.core.publisher.Mono;
 
 import javax.validation.Valid;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.NoSuchElementException;
 
@@ -33,24 +41,38 @@ public class FriendshipService {
     private static final String FRIEND = "friend";
     private final FriendshipRepository friendshipRepository;
     private final StudentRepository studentRepository;
-    private final PushNotificationService pushNotificationService;
+    private final FriendshipNotificationOutboxRepository friendshipNotificationOutboxRepository;
     private final FriendshipEntityToResponseDtoMapper friendshipEntityToResponseDtoMapper;
+    private final StudentEntityToListDtoMapper studentEntityToListDtoMapper;
 
     public Mono<PageablePayload<StudentListDto>> listFriends(int studentId, String name, PageRequest pageRequest) {
         String nameParsed = parseString(name);
-        return friendshipRepository.findFriendsByIdAndFilters(studentId, nameParsed, pageRequest.getOffset(), pageRequest.getPageSize())
-                                   .map(StudentEntityToListDtoMapper::from)
-                                   .collectList()
-                                   .zipWith(friendshipRepository.countFriendsByIdAndFilters(studentId, nameParsed))
-                                   .map(dtoListAndTotalCount -> new PageablePayload<>(dtoListAndTotalCount.getT1(), pageRequest, dtoListAndTotalCount.getT2()));
+        return findFriends(studentId, nameParsed, pageRequest)
+                .map(page -> page.map(studentEntityToListDtoMapper::from))
+                .map(page -> new PageablePayload<>(page.content(), pageRequest, page.totalCount(),
+                        friend -> PageCursor.of(friend.id())));
+    }
+
+    private Mono<PagedResult<StudentEntity>> findFriends(int studentId, String name, PageRequest pageRequest) {
+        PageCursor after = PaginationRequest.after(pageRequest);
+        if (after != null) {
+            return PagedResult.of(friendshipRepository.findFriendsByIdAndFiltersAfter(studentId, name, after.id(), pageRequest.getPageSize()),
+                    pageRequest, () -> friendshipRepository.countFriendsByIdAndFilters(studentId, name));
+        }
+        if (PaginationRequest.countMode(pageRequest) == CountMode.EXACT) {
+            return friendshipRepository.findPageOfFriendsByIdAndFilters(studentId, name, pageRequest.getOffset(), pageRequest.getPageSize());
+        }
+        return PagedResult.of(friendshipRepository.findFriendsByIdAndFilters(studentId, name, pageRequest.getOffset(), pageRequest.getPageSize()),
+                pageRequest, () -> friendshipRepository.countFriendsByIdAndFilters(studentId, name));
     }
 
     public Mono<List<StudentListDto>> listFriendRequests(int studentId) {
         return friendshipRepository.findFriendRequestsById(studentId)
-                                   .map(StudentEntityToListDtoMapper::from)
+                                   .map(studentEntityToListDtoMapper::from)
                                    .collectList();
     }
 
+    @Transactional
     public Mono<FriendshipResponseDto> addFriendRequest(@Valid FriendshipRequestDto friendId, int studentId) {
         if (friendId.userId() == studentId) {
             return Mono.error(new IllegalArgumentException());
@@ -61,9 +83,9 @@ public class FriendshipService {
                                 .flatMap(f -> Mono.error(new IllegalStateException(REQUEST)))
                                 .thenReturn(createFriendshipEntity(friendId.userId(), studentId, FriendshipStatus.REQUESTED))
                                 .flatMap(friendshipRepository::save)
-                                .map(friendshipEntityToResponseDtoMapper::from)
-                                .flatMap(response -> pushNotificationService.sendPushNotification(response)
-                                                                            .thenReturn(response));
+                                .flatMap(friendship -> friendshipNotificationOutboxRepository.save(createOutboxEntity(friendship))
+                                                                                             .thenReturn(friendship))
+                                .map(friendshipEntityToResponseDtoMapper::from);
     }
 
     public Mono<FriendshipResponseDto> handleFriendshipRequest(@Valid FriendshipDecisionDto decisionDto, int studentId, int friendId) {
@@ -100,4 +122,13 @@ public class FriendshipService {
                                .friendId(friendId)
                                .build();
     }
+
+    private FriendshipNotificationOutboxEntity createOutboxEntity(FriendshipEntity friendship) {
+        return FriendshipNotificationOutboxEntity.builder()
+                                                 .applicationUserId(friendship.applicationUserId())
+                                                 .friendId(friendship.friendId())
+                                                 .createdAt(LocalDateTime.now())
+                                                 .attempts(0)
+                                                 .build();
+    }
 }
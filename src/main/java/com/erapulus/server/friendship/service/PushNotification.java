@@ -0,0 +1,11 @@
+package com.erapulus.server.friendship.service;
+
+import lombok.Value;
+
+@Value
+class PushNotification {
+    Integer outboxId;
+    String deviceId;
+    String senderFirstName;
+    String senderLastName;
+}
@@ -0,0 +1,12 @@
+package com.erapulus.server.friendship.service;
+
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+interface PushNotificationClient {
+
+    int MAX_BATCH_SIZE = 500;
+
+    Mono<List<DeliveryStatus>> sendAll(List<PushNotification> notifications);
+}
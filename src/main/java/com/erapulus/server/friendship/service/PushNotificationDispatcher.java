@@ -0,0 +1,112 @@
+package com.erapulus.server.friendship.service;
+
+import com.erapulus.server.device.database.DeviceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+class PushNotificationDispatcher {
+
+    private static final Duration INITIAL_BACKOFF = Duration.ofMillis(500);
+    private static final int MAX_ATTEMPTS = 3;
+    private static final int MAX_CONCURRENT_BATCHES = 4;
+
+    private final PushNotificationClient pushNotificationClient;
+    private final DeviceRepository deviceRepository;
+    private final Duration initialBackoff;
+    private final int maxAttempts;
+    private final AtomicLong delivered = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong pruned = new AtomicLong();
+
+    @Autowired
+    PushNotificationDispatcher(PushNotificationClient pushNotificationClient, DeviceRepository deviceRepository) {
+        this(pushNotificationClient, deviceRepository, INITIAL_BACKOFF, MAX_ATTEMPTS);
+    }
+
+    PushNotificationDispatcher(PushNotificationClient pushNotificationClient,
+                               DeviceRepository deviceRepository,
+                               Duration initialBackoff,
+                               int maxAttempts) {
+        this.pushNotificationClient = pushNotificationClient;
+        this.deviceRepository = deviceRepository;
+        this.initialBackoff = initialBackoff;
+        this.maxAttempts = maxAttempts;
+    }
+
+    Mono<List<PushNotification>> send(List<PushNotification> notifications) {
+        return Flux.fromIterable(notifications)
+                   .buffer(PushNotificationClient.MAX_BATCH_SIZE)
+                   .flatMap(batch -> deliver(batch, 1), MAX_CONCURRENT_BATCHES)
+                   .flatMapIterable(Function.identity())
+                   .collectList();
+    }
+
+    long deliveredCount() {
+        return delivered.get();
+    }
+
+    long failedCount() {
+        return failed.get();
+    }
+
+    long prunedCount() {
+        return pruned.get();
+    }
+
+    private Mono<List<PushNotification>> deliver(List<PushNotification> batch, int attempt) {
+        return pushNotificationClient.sendAll(batch)
+                                     .onErrorResume(e -> {
+                                         log.warn("Push notification batch failed: {}", e.getMessage());
+                                         return Mono.just(Collections.nCopies(batch.size(), DeliveryStatus.TRANSIENT_FAILURE));
+                                     })
+                                     .flatMap(statuses -> handleStatuses(batch, statuses, attempt));
+    }
+
+    private Mono<List<PushNotification>> handleStatuses(List<PushNotification> batch, List<DeliveryStatus> statuses, int attempt) {
+        List<PushNotification> retries = new ArrayList<>();
+        List<PushNotification> undelivered = new ArrayList<>();
+        List<String> unregisteredDevices = new ArrayList<>();
+        for (int i = 0; i < batch.size(); i++) {
+            DeliveryStatus status = i < statuses.size() ? statuses.get(i) : DeliveryStatus.FAILED;
+            switch (status) {
+                case DELIVERED -> delivered.incrementAndGet();
+                case UNREGISTERED -> unregisteredDevices.add(batch.get(i).deviceId());
+                case TRANSIENT_FAILURE -> {
+                    if (attempt < maxAttempts) {
+                        retries.add(batch.get(i));
+                    } else {
+                        failed.incrementAndGet();
+                        undelivered.add(batch.get(i));
+                    }
+                }
+                default -> failed.incrementAndGet();
+            }
+        }
+        Mono<Void> prune = unregisteredDevices.isEmpty()
+                ? Mono.empty()
+                : deviceRepository.deleteAllByDeviceIds(unregisteredDevices)
+                                  .doOnNext(pruned::addAndGet)
+                                  .doOnError(e -> log.error(e.getMessage(), e))
+                                  .onErrorResume(e -> Mono.empty())
+                                  .then();
+        Mono<List<PushNotification>> retry = retries.isEmpty()
+                ? Mono.just(List.of())
+                : Mono.delay(initialBackoff.multipliedBy(1L << (attempt - 1)))
+                      .then(deliver(retries, attempt + 1));
+        return prune.then(retry)
+                    .map(retryUndelivered -> Stream.concat(undelivered.stream(), retryUndelivered.stream()).toList());
+    }
+}
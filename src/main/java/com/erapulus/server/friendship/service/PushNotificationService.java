@@ -2,23 +2,50 @@ package com.erapulus.server.friendship.service;
 
 import com.erapulus.server.applicationuser.database.ApplicationUserRepository;
 import com.erapulus.server.device.database.DeviceRepository;
-import com.erapulus.server.friendship.dto.FriendshipResponseDto;
+import com.erapulus.server.friendship.database.FriendshipNotificationOutboxEntity;
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
 @Service
 @AllArgsConstructor
 class PushNotificationService {
 
+    private static final int MAX_CONCURRENT_LOOKUPS = 8;
+
     private final DeviceRepository deviceRepository;
     private final ApplicationUserRepository applicationUserRepository;
-    private final FCMService fcmService;
+    private final PushNotificationDispatcher pushNotificationDispatcher;
+
+    Mono<Set<Integer>> sendPushNotifications(List<FriendshipNotificationOutboxEntity> friendRequests) {
+        Set<Integer> unresolved = ConcurrentHashMap.newKeySet();
+        return Flux.fromIterable(friendRequests)
+                   .flatMap(friendRequest -> createPushNotifications(friendRequest)
+                           .onErrorResume(e -> {
+                               log.warn("Cannot prepare push notifications for outbox row {}: {}", friendRequest.id(), e.getMessage());
+                               unresolved.add(friendRequest.id());
+                               return Flux.empty();
+                           }), MAX_CONCURRENT_LOOKUPS)
+                   .collectList()
+                   .flatMap(pushNotificationDispatcher::send)
+                   .map(undelivered -> {
+                       Set<Integer> retries = new HashSet<>(unresolved);
+                       undelivered.forEach(notification -> retries.add(notification.outboxId()));
+                       return retries;
+                   });
+    }
 
-    Mono<Void> sendPushNotification(FriendshipResponseDto friendshipResponseDto) {
-        return deviceRepository.findAllByStudentId(friendshipResponseDto.applicationUserId())
-                               .zipWith(applicationUserRepository.findById(friendshipResponseDto.friendId()).cache().repeat())
-                               .flatMap(deviceAndUser -> fcmService.sendPushNotification(deviceAndUser.getT1().deviceId(), deviceAndUser.getT2()))
-                               .then();
+    private Flux<PushNotification> createPushNotifications(FriendshipNotificationOutboxEntity friendRequest) {
+        return applicationUserRepository.findById(friendRequest.friendId())
+                                        .flatMapMany(user -> deviceRepository.findAllByStudentId(friendRequest.applicationUserId())
+                                                                             .map(device -> new PushNotification(friendRequest.id(), device.deviceId(), user.firstName(), user.lastName())));
     }
 }
@@ -48,7 +48,9 @@ public class FriendshipController {
                     @Parameter(in = PATH, name = STUDENT_PATH_PARAM, schema = @Schema(type = "integer"), required = true),
                     @Parameter(in = QUERY, name = NAME_QUERY_PARAM, schema = @Schema(type = "integer")),
                     @Parameter(in = QUERY, name = PAGE_QUERY_PARAM, schema = @Schema(type = "integer")),
-                    @Parameter(in = QUERY, name = PAGE_SIZE_QUERY_PARAM, schema = @Schema(type = "integer"))
+                    @Parameter(in = QUERY, name = PAGE_SIZE_QUERY_PARAM, schema = @Schema(type = "integer")),
+                    @Parameter(in = QUERY, name = AFTER_QUERY_PARAM, schema = @Schema(type = "string")),
+                    @Parameter(in = QUERY, name = COUNT_QUERY_PARAM, schema = @Schema(type = "string", allowableValues = {"exact", "estimate", "none"}))
             },
             responses = {
                     @ApiResponse(responseCode = "200", description = OK, content = @Content(array = @ArraySchema(schema = @Schema(implementation = StudentListDto.class)))),
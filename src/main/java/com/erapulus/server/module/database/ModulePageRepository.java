@@ -0,0 +1,15 @@
+package com.erapulus.server.module.database;
+
+import com.erapulus.server.common.database.PagedResult;
+import reactor.core.publisher.Mono;
+
+public interface ModulePageRepository {
+
+    String FILTERS = """
+            WHERE program = :program
+            AND (:name IS NULL OR LOWER(name) LIKE LOWER(CONCAT(:name, '%')))
+            """;
+    String COUNT_QUERY = "SELECT COUNT(*) FROM module " + FILTERS;
+
+    Mono<PagedResult<ModuleEntity>> findPageByProgramIdAndName(int programId, String name, long offset, int pageSize);
+}
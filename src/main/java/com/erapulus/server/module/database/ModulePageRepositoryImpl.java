@@ -0,0 +1,28 @@
+package com.erapulus.server.module.database;
+
+import com.erapulus.server.common.database.PagedQueryExecutor;
+import com.erapulus.server.common.database.PagedResult;
+import lombok.AllArgsConstructor;
+import org.springframework.r2dbc.core.Parameter;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+@AllArgsConstructor
+class ModulePageRepositoryImpl implements ModulePageRepository {
+
+    private static final String PAGE_QUERY = "SELECT *, COUNT(*) OVER() AS total_count FROM module " + FILTERS + """
+            ORDER BY name, id OFFSET :offset ROWS
+            FETCH NEXT :size ROWS ONLY
+            """;
+
+    private final PagedQueryExecutor pagedQueryExecutor;
+
+    @Override
+    public Mono<PagedResult<ModuleEntity>> findPageByProgramIdAndName(int programId, String name, long offset, int pageSize) {
+        Map<String, Parameter> filters = Map.of(
+                "program", Parameter.fromOrEmpty(programId, Integer.class),
+                "name", Parameter.fromOrEmpty(name, String.class));
+        return pagedQueryExecutor.fetch(ModuleEntity.class, PAGE_QUERY, COUNT_QUERY, filters, offset, pageSize);
+    }
+}
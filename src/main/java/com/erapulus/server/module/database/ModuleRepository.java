@@ -8,12 +8,9 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Repository
-public interface ModuleRepository extends R2dbcRepository<ModuleEntity, Integer> {
-    @Query("""
-            SELECT * FROM module
-            WHERE program = :program
-            AND (:name IS NULL OR LOWER(name) LIKE LOWER(CONCAT(:name, '%')))
-            ORDER BY name OFFSET :offset ROWS
+public interface ModuleRepository extends R2dbcRepository<ModuleEntity, Integer>, ModulePageRepository {
+    @Query("SELECT * FROM module " + FILTERS + """
+            ORDER BY name, id OFFSET :offset ROWS
             FETCH NEXT :size ROWS ONLY
             """)
     Flux<ModuleEntity> findByProgramIdAndName(@Param("program") int programId,
@@ -21,11 +18,18 @@ public interface ModuleRepository extends R2dbcRepository<ModuleEntity, Integer>
                                               @Param("offset") long offset,
                                               @Param("size") int pageSize);
 
-    @Query("""
-            SELECT COUNT(*) FROM module
-            WHERE program = :program
-            AND (:name IS NULL OR LOWER(name) LIKE LOWER(CONCAT(:name, '%')))
+    @Query("SELECT * FROM module " + FILTERS + """
+            AND (name > :afterName OR (name = :afterName AND id > :afterId))
+            ORDER BY name, id OFFSET 0 ROWS
+            FETCH NEXT :size ROWS ONLY
             """)
+    Flux<ModuleEntity> findByProgramIdAndNameAfter(@Param("program") int programId,
+                                                   @Param("name") String name,
+                                                   @Param("afterName") String afterName,
+                                                   @Param("afterId") int afterId,
+                                                   @Param("size") int pageSize);
+
+    @Query(COUNT_QUERY)
     Mono<Integer> countByProgramIdAndName(@Param("program") int programId,
                                           @Param("name") String name);
 
@@ -50,4 +54,10 @@ public interface ModuleRepository extends R2dbcRepository<ModuleEntity, Integer>
 
     @Query("SELECT id FROM module WHERE program = :program")
     Flux<Integer> findAllByProgramId(@Param("program") int programId);
+
+    @Query("""
+            DELETE FROM module
+            WHERE program IN (SELECT p.id FROM program p JOIN faculty f ON p.faculty = f.id WHERE f.university = :university)
+            """)
+    Mono<Void> deleteAllByUniversityId(@Param("university") int universityId);
 }
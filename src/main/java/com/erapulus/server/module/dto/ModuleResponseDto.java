@@ -1,14 +1,17 @@
 package com.erapulus.server.module.dto;
 
+import com.erapulus.server.common.web.VersionedResponse;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Data;
 
 import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
 
 @Data
 @Builder
-public class ModuleResponseDto {
+public class ModuleResponseDto implements VersionedResponse {
     @NotNull
     @JsonProperty("id")
     private Integer id;
@@ -27,4 +30,7 @@ public class ModuleResponseDto {
     @NotNull
     @JsonProperty("programId")
     private Integer programId;
+
+    @JsonIgnore
+    private LocalDateTime lastModifiedDate;
 }
@@ -15,6 +15,7 @@ public class ModuleEntityToResponseDtoMapper implements EntityToResponseDtoMappe
                                 .abbrev(moduleEntity.abbrev())
                                 .description(moduleEntity.description())
                                 .programId(moduleEntity.programId())
+                                .lastModifiedDate(moduleEntity.lastModifiedDate())
                                 .build();
     }
 }
@@ -1,15 +1,20 @@
 package com.erapulus.server.module.service;
 
+import com.erapulus.server.common.database.AfterTransaction;
+import com.erapulus.server.common.database.PagedResult;
 import com.erapulus.server.common.mapper.EntityToResponseDtoMapper;
 import com.erapulus.server.common.mapper.RequestDtoToEntityMapper;
+import com.erapulus.server.common.service.CatalogIndex;
 import com.erapulus.server.common.service.CrudGenericService;
+import com.erapulus.server.common.web.CountMode;
+import com.erapulus.server.common.web.PageCursor;
 import com.erapulus.server.common.web.PageablePayload;
+import com.erapulus.server.common.web.PaginationRequest;
 import com.erapulus.server.document.service.DocumentService;
 import com.erapulus.server.module.database.ModuleEntity;
 import com.erapulus.server.module.database.ModuleRepository;
 import com.erapulus.server.module.dto.ModuleRequestDto;
 import com.erapulus.server.module.dto.ModuleResponseDto;
-import com.erapulus.server.program.database.ProgramRepository;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,35 +34,48 @@ import static com.erapulus.server.common.service.QueryParamParser.parseString;
 public class ModuleService extends CrudGenericService<ModuleEntity, ModuleRequestDto, ModuleResponseDto> {
 
     private final ModuleRepository moduleRepository;
-    private final ProgramRepository programRepository;
+    private final CatalogIndex catalogIndex;
     private final DocumentService documentService;
 
     public ModuleService(ModuleRepository moduleRepository,
-                         ProgramRepository programRepository,
+                         CatalogIndex catalogIndex,
                          RequestDtoToEntityMapper<ModuleRequestDto, ModuleEntity> requestDtoToEntityMapper,
                          EntityToResponseDtoMapper<ModuleEntity, ModuleResponseDto> entityToResponseDtoMapper,
                          DocumentService documentService) {
         super(moduleRepository, requestDtoToEntityMapper, entityToResponseDtoMapper, "module");
         this.moduleRepository = moduleRepository;
-        this.programRepository = programRepository;
+        this.catalogIndex = catalogIndex;
         this.documentService = documentService;
     }
 
     public Mono<PageablePayload<ModuleResponseDto>> listModules(int universityId, int facultyId, int programId, String name, PageRequest pageRequest) {
         String parsedName = parseString(name);
         return checkIfProgramExists(universityId, facultyId, programId)
-                .then(moduleRepository.findByProgramIdAndName(programId, parsedName, pageRequest.getOffset(), pageRequest.getPageSize())
-                                      .map(entityToResponseDtoMapper::from)
-                                      .collectList()
-                                      .zipWith(moduleRepository.countByProgramIdAndName(programId, parsedName))
-                                      .map(dtoListAndTotalCount -> new PageablePayload<>(dtoListAndTotalCount.getT1(), pageRequest, dtoListAndTotalCount.getT2())));
+                .then(findModules(programId, parsedName, pageRequest))
+                .map(page -> page.map(entityToResponseDtoMapper::from))
+                .map(page -> new PageablePayload<>(page.content(), pageRequest, page.totalCount(),
+                        module -> PageCursor.of(module.id(), module.name())));
+    }
+
+    private Mono<PagedResult<ModuleEntity>> findModules(int programId, String name, PageRequest pageRequest) {
+        PageCursor after = PaginationRequest.after(pageRequest);
+        if (after != null) {
+            return PagedResult.of(moduleRepository.findByProgramIdAndNameAfter(programId, name, after.sortKey(), after.id(), pageRequest.getPageSize()),
+                    pageRequest, () -> moduleRepository.countByProgramIdAndName(programId, name));
+        }
+        if (PaginationRequest.countMode(pageRequest) == CountMode.EXACT) {
+            return moduleRepository.findPageByProgramIdAndName(programId, name, pageRequest.getOffset(), pageRequest.getPageSize());
+        }
+        return PagedResult.of(moduleRepository.findByProgramIdAndName(programId, name, pageRequest.getOffset(), pageRequest.getPageSize()),
+                pageRequest, () -> moduleRepository.countByProgramIdAndName(programId, name));
     }
 
 
     public Mono<ModuleResponseDto> createModule(@Valid ModuleRequestDto requestDto, int universityId, int facultyId, int programId) {
         UnaryOperator<ModuleEntity> addParamFromPath = module -> module.programId(programId);
         return checkIfProgramExists(universityId, facultyId, programId)
-                .then(createEntity(requestDto, addParamFromPath));
+                .then(createEntity(requestDto, addParamFromPath))
+                .doOnNext(module -> catalogIndex.putModule(module.id(), programId));
     }
 
     public Mono<ModuleResponseDto> getModuleById(int moduleId, int universityId, int facultyId, int programId) {
@@ -70,7 +88,8 @@ public class ModuleService extends CrudGenericService<ModuleEntity, ModuleReques
         UnaryOperator<ModuleEntity> addParamFromPath = module -> module.id(moduleId).programId(programId);
         Supplier<Mono<ModuleEntity>> supplier = () -> moduleRepository.findByIdAndProgramId(moduleId, programId);
         return checkIfProgramExists(universityId, facultyId, programId)
-                .then(updateEntity(requestDto, addParamFromPath, supplier));
+                .then(updateEntity(requestDto, addParamFromPath, supplier))
+                .doOnNext(module -> catalogIndex.putModule(moduleId, programId));
     }
 
     @Transactional
@@ -78,17 +97,23 @@ public class ModuleService extends CrudGenericService<ModuleEntity, ModuleReques
         Supplier<Mono<ModuleEntity>> supplier = () -> moduleRepository.findByIdAndProgramId(moduleId, programId);
         return checkIfProgramExists(universityId, facultyId, programId)
                 .thenMany(documentService.deleteAllDocumentsByModuleId(moduleId))
-                .then(deleteEntity(supplier));
+                .then(deleteEntity(supplier))
+                .flatMap(deleted -> AfterTransaction.run(() -> catalogIndex.removeModule(moduleId)).thenReturn(deleted));
     }
 
     public Flux<Boolean> deleteAllModuleByProgramId(int programId) {
         return moduleRepository.findAllByProgramId(programId)
                                .flatMap(moduleId -> documentService.deleteAllDocumentsByModuleId(moduleId)
-                                                                   .then(super.deleteEntity(() -> moduleRepository.findByIdAndProgramId(moduleId, programId))));
+                                                                   .then(super.deleteEntity(() -> moduleRepository.findByIdAndProgramId(moduleId, programId)))
+                                                                   .flatMap(deleted -> AfterTransaction.run(() -> catalogIndex.removeModule(moduleId)).thenReturn(deleted)));
+    }
+
+    public Mono<Void> deleteAllModulesByUniversityId(int universityId) {
+        return moduleRepository.deleteAllByUniversityId(universityId);
     }
 
     private Mono<Boolean> checkIfProgramExists(int universityId, int facultyId, int programId) {
-        return programRepository.existsByIdAndUniversityIdAndFacultyId(programId, universityId, facultyId)
-                                .flatMap(exists -> exists ? Mono.just(true) : Mono.error(new NoSuchElementException("program")));
+        return catalogIndex.programExists(programId, universityId, facultyId)
+                           .flatMap(exists -> exists ? Mono.just(true) : Mono.error(new NoSuchElementException("program")));
     }
 }
@@ -49,7 +49,9 @@ public class ModuleController {
                     @Parameter(in = PATH, name = PROGRAM_PATH_PARAM, schema = @Schema(type = "integer"), required = true),
                     @Parameter(in = QUERY, name = NAME_QUERY_PARAM, schema = @Schema(type = "string")),
                     @Parameter(in = QUERY, name = PAGE_QUERY_PARAM, schema = @Schema(type = "integer")),
-                    @Parameter(in = QUERY, name = PAGE_SIZE_QUERY_PARAM, schema = @Schema(type = "integer"))
+                    @Parameter(in = QUERY, name = PAGE_SIZE_QUERY_PARAM, schema = @Schema(type = "integer")),
+                    @Parameter(in = QUERY, name = AFTER_QUERY_PARAM, schema = @Schema(type = "string")),
+                    @Parameter(in = QUERY, name = COUNT_QUERY_PARAM, schema = @Schema(type = "string", allowableValues = {"exact", "estimate", "none"}))
             },
             responses = {
                     @ApiResponse(responseCode = "200", description = OK, content = @Content(array = @ArraySchema(schema = @Schema(implementation = FacultyResponseDto.class)))),
@@ -65,7 +67,7 @@ public class ModuleController {
                 universityId -> withPathParam(request, FACULTY_PATH_PARAM,
                         facultyId -> withPathParam(request, PROGRAM_PATH_PARAM,
                                 programId -> withQueryParam(request, NAME_QUERY_PARAM,
-                                        name -> withPageParams(request,
+                                        name -> withSortedPageParams(request,
                                                 pageRequest -> moduleService.listModules(universityId, facultyId, programId, name, pageRequest)
                                                                             .flatMap(ServerResponseFactory::createHttpSuccessResponse)
                                                                             .onErrorResume(NoSuchElementException.class, ServerResponseFactory::createHttpNotFoundResponse)
@@ -0,0 +1,18 @@
+package com.erapulus.server.post.database;
+
+import com.erapulus.server.common.database.PagedResult;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+
+public interface PostPageRepository {
+
+    String FILTERS = """
+            WHERE university = :university
+            AND (:title IS NULL OR LOWER(title) LIKE LOWER(CONCAT('%', :title, '%')))
+            AND date BETWEEN :fromDate AND :toDate
+            """;
+    String COUNT_QUERY = "SELECT COUNT(*) FROM post " + FILTERS;
+
+    Mono<PagedResult<PostEntity>> findPageByFilters(int universityId, String title, LocalDate fromDate, LocalDate toDate, long offset, int pageSize);
+}
@@ -0,0 +1,31 @@
+package com.erapulus.server.post.database;
+
+import com.erapulus.server.common.database.PagedQueryExecutor;
+import com.erapulus.server.common.database.PagedResult;
+import lombok.AllArgsConstructor;
+import org.springframework.r2dbc.core.Parameter;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@AllArgsConstructor
+class PostPageRepositoryImpl implements PostPageRepository {
+
+    private static final String PAGE_QUERY = "SELECT *, COUNT(*) OVER() AS total_count FROM post " + FILTERS + """
+            ORDER BY id DESC OFFSET :offset ROWS
+            FETCH NEXT :size ROWS ONLY
+            """;
+
+    private final PagedQueryExecutor pagedQueryExecutor;
+
+    @Override
+    public Mono<PagedResult<PostEntity>> findPageByFilters(int universityId, String title, LocalDate fromDate, LocalDate toDate, long offset, int pageSize) {
+        Map<String, Parameter> filters = Map.of(
+                "university", Parameter.fromOrEmpty(universityId, Integer.class),
+                "title", Parameter.fromOrEmpty(title, String.class),
+                "fromDate", Parameter.fromOrEmpty(fromDate, LocalDate.class),
+                "toDate", Parameter.fromOrEmpty(toDate, LocalDate.class));
+        return pagedQueryExecutor.fetch(PostEntity.class, PAGE_QUERY, COUNT_QUERY, filters, offset, pageSize);
+    }
+}
@@ -11,13 +11,9 @@ import java.time.LocalDate;
 
 
 @Repository
-public interface PostRepository extends R2dbcRepository<PostEntity, Integer> {
+public interface PostRepository extends R2dbcRepository<PostEntity, Integer>, PostPageRepository {
 
-    @Query("""
-            SELECT * FROM post
-            WHERE university = :university
-            AND (:title IS NULL OR LOWER(title) LIKE LOWER(CONCAT('%', :title, '%')))
-            AND date BETWEEN :fromDate AND :toDate
+    @Query("SELECT * FROM post " + FILTERS + """
             ORDER BY id DESC OFFSET :offset ROWS
             FETCH NEXT :size ROWS ONLY
             """)
@@ -28,12 +24,19 @@ public interface PostRepository extends R2dbcRepository<PostEntity, Integer> {
                                        @Param("offset") long offset,
                                        @Param("size") int pageSize);
 
-    @Query("""
-            SELECT COUNT(*) FROM post
-            WHERE university = :university
-            AND LOWER(title) LIKE LOWER(CONCAT('%', :title, '%'))
-            AND date BETWEEN :fromDate AND :toDate
+    @Query("SELECT * FROM post " + FILTERS + """
+            AND id < :afterId
+            ORDER BY id DESC OFFSET 0 ROWS
+            FETCH NEXT :size ROWS ONLY
             """)
+    Flux<PostEntity> findPostByFiltersAfter(@Param("university") int universityId,
+                                            @Param("title") String title,
+                                            @Param("fromDate") LocalDate fromDate,
+                                            @Param("toDate") LocalDate toDate,
+                                            @Param("afterId") int afterId,
+                                            @Param("size") int pageSize);
+
+    @Query(COUNT_QUERY)
     Mono<Integer> countPostByFilters(@Param("university") int universityId,
                                      @Param("title") String title,
                                      @Param("fromDate") LocalDate fromDate,
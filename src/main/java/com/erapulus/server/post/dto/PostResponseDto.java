@@ -1,15 +1,18 @@
 package com.erapulus.server.post.dto;
 
+import com.erapulus.server.common.web.VersionedResponse;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Data;
 
 import javax.validation.constraints.NotNull;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Data
 @Builder
-public class PostResponseDto {
+public class PostResponseDto implements VersionedResponse {
 
     @NotNull
     @JsonProperty("id")
@@ -30,4 +33,7 @@ public class PostResponseDto {
     @NotNull
     @JsonProperty("universityId")
     private Integer universityId;
+
+    @JsonIgnore
+    private LocalDateTime lastModifiedDate;
 }
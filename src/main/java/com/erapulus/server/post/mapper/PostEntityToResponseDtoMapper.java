@@ -14,6 +14,7 @@ public class PostEntityToResponseDtoMapper implements EntityToResponseDtoMapper<
                               .date(postEntity.date())
                               .content(postEntity.content())
                               .universityId(postEntity.universityId())
+                              .lastModifiedDate(postEntity.lastModifiedDate())
                               .build();
     }
 
@@ -1,9 +1,13 @@
 package com.erapulus.server.post.service;
 
+import com.erapulus.server.common.database.PagedResult;
 import com.erapulus.server.common.mapper.EntityToResponseDtoMapper;
 import com.erapulus.server.common.mapper.RequestDtoToEntityMapper;
 import com.erapulus.server.common.service.CrudGenericService;
+import com.erapulus.server.common.web.CountMode;
+import com.erapulus.server.common.web.PageCursor;
 import com.erapulus.server.common.web.PageablePayload;
+import com.erapulus.server.common.web.PaginationRequest;
 import com.erapulus.server.post.database.PostEntity;
 import com.erapulus.server.post.database.PostRepository;
 import com.erapulus.server.post.dto.PostRequestDto;
@@ -41,14 +45,26 @@ public class PostService extends CrudGenericService<PostEntity, PostRequestDto,
     public Mono<PageablePayload<PostResponseDto>> listPosts(Integer universityId, String title, String fromDate, String toDate, PageRequest pageRequest) {
         return convertDate(fromDate, MIN_DATE)
                 .zipWith(convertDate(toDate, MAX_DATE))
-                .flatMap(fromAndToDate -> postRepository.findPostByFilters(universityId, title, fromAndToDate.getT1(), fromAndToDate.getT2(), pageRequest.getOffset(), pageRequest.getPageSize())
-                                                        .map(entityToResponseDtoMapper::from)
-                                                        .collectList()
-                                                        .zipWith(postRepository.countPostByFilters(universityId, title, fromAndToDate.getT1(), fromAndToDate.getT2()))
-                                                        .map(dtoListAndTotalCount -> new PageablePayload<>(dtoListAndTotalCount.getT1(), pageRequest, dtoListAndTotalCount.getT2())));
+                .flatMap(fromAndToDate -> findPosts(universityId, title, fromAndToDate.getT1(), fromAndToDate.getT2(), pageRequest))
+                .map(page -> page.map(entityToResponseDtoMapper::from))
+                .map(page -> new PageablePayload<>(page.content(), pageRequest, page.totalCount(),
+                        post -> PageCursor.of(post.id())));
 
     }
 
+    private Mono<PagedResult<PostEntity>> findPosts(Integer universityId, String title, LocalDate fromDate, LocalDate toDate, PageRequest pageRequest) {
+        PageCursor after = PaginationRequest.after(pageRequest);
+        if (after != null) {
+            return PagedResult.of(postRepository.findPostByFiltersAfter(universityId, title, fromDate, toDate, after.id(), pageRequest.getPageSize()),
+                    pageRequest, () -> postRepository.countPostByFilters(universityId, title, fromDate, toDate));
+        }
+        if (PaginationRequest.countMode(pageRequest) == CountMode.EXACT) {
+            return postRepository.findPageByFilters(universityId, title, fromDate, toDate, pageRequest.getOffset(), pageRequest.getPageSize());
+        }
+        return PagedResult.of(postRepository.findPostByFilters(universityId, title, fromDate, toDate, pageRequest.getOffset(), pageRequest.getPageSize()),
+                pageRequest, () -> postRepository.countPostByFilters(universityId, title, fromDate, toDate));
+    }
+
     public Mono<PostResponseDto> createPost(@Valid PostRequestDto requestDto, int universityId) {
         UnaryOperator<PostEntity> addParamFromPath = postEntity -> postEntity.universityId(universityId).date(LocalDate.now());
         return createEntity(requestDto, addParamFromPath);
@@ -48,7 +48,9 @@ public class PostController {
                     @Parameter(in = QUERY, name = FROM_QUERY_PARAM, schema = @Schema(type = "date")),
                     @Parameter(in = QUERY, name = TO_QUERY_PARAM, schema = @Schema(type = "date")),
                     @Parameter(in = QUERY, name = PAGE_QUERY_PARAM, schema = @Schema(type = "integer")),
-                    @Parameter(in = QUERY, name = PAGE_SIZE_QUERY_PARAM, schema = @Schema(type = "integer"))
+                    @Parameter(in = QUERY, name = PAGE_SIZE_QUERY_PARAM, schema = @Schema(type = "integer")),
+                    @Parameter(in = QUERY, name = AFTER_QUERY_PARAM, schema = @Schema(type = "string")),
+                    @Parameter(in = QUERY, name = COUNT_QUERY_PARAM, schema = @Schema(type = "string", allowableValues = {"exact", "estimate", "none"}))
             },
             responses = {
                     @ApiResponse(responseCode = "200", description = OK, content = @Content(array = @ArraySchema(schema = @Schema(implementation = PostResponseDto.class)))),
@@ -0,0 +1,15 @@
+package com.erapulus.server.program.database;
+
+import com.erapulus.server.common.database.PagedResult;
+import reactor.core.publisher.Mono;
+
+public interface ProgramPageRepository {
+
+    String FILTERS = """
+            WHERE faculty = :faculty
+            AND (:name IS NULL OR LOWER(name) LIKE LOWER(CONCAT(:name, '%')))
+            """;
+    String COUNT_QUERY = "SELECT COUNT(*) FROM program " + FILTERS;
+
+    Mono<PagedResult<ProgramEntity>> findPageByFacultyIdAndName(int facultyId, String name, long offset, int pageSize);
+}
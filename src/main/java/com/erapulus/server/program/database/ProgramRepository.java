@@ -8,12 +8,9 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 @Repository
-public interface ProgramRepository extends R2dbcRepository<ProgramEntity, Integer> {
-    @Query("""
-            SELECT * FROM program
-            WHERE faculty = :faculty
-            AND (:name IS NULL OR LOWER(name) LIKE LOWER(CONCAT(:name, '%')))
-            ORDER BY name OFFSET :offset ROWS
+public interface ProgramRepository extends R2dbcRepository<ProgramEntity, Integer>, ProgramPageRepository {
+    @Query("SELECT * FROM program " + FILTERS + """
+            ORDER BY name, id OFFSET :offset ROWS
             FETCH NEXT :size ROWS ONLY
             """)
     Flux<ProgramEntity> findByFacultyIdAndName(@Param("faculty") int facultyId,
@@ -21,11 +18,18 @@ public interface ProgramRepository extends R2dbcRepository<ProgramEntity, Intege
                                                @Param("offset") long offset,
                                                @Param("size") int pageSize);
 
-    @Query("""
-            SELECT COUNT(*) FROM program
-            WHERE faculty = :faculty
-            AND (:name IS NULL OR LOWER(name) LIKE LOWER(CONCAT(:name, '%')))
+    @Query("SELECT * FROM program " + FILTERS + """
+            AND (name > :afterName OR (name = :afterName AND id > :afterId))
+            ORDER BY name, id OFFSET 0 ROWS
+            FETCH NEXT :size ROWS ONLY
             """)
+    Flux<ProgramEntity> findByFacultyIdAndNameAfter(@Param("faculty") int facultyId,
+                                                    @Param("name") String name,
+                                                    @Param("afterName") String afterName,
+                                                    @Param("afterId") int afterId,
+                                                    @Param("size") int pageSize);
+
+    @Query(COUNT_QUERY)
     Mono<Integer> countByFacultyIdAndName(@Param("faculty") int facultyId,
                                           @Param("name") String name);
 
@@ -54,4 +58,7 @@ public interface ProgramRepository extends R2dbcRepository<ProgramEntity, Intege
 
     @Query("SELECT id FROM program WHERE faculty = :faculty")
     Flux<Integer> findAllByFacultyId(@Param("faculty") int facultyId);
+
+    @Query("DELETE FROM program WHERE faculty IN (SELECT id FROM faculty WHERE university = :university)")
+    Mono<Void> deleteAllByUniversityId(@Param("university") int universityId);
 }
@@ -1,14 +1,17 @@
 package com.erapulus.server.program.dto;
 
+import com.erapulus.server.common.web.VersionedResponse;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Data;
 
 import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
 
 @Data
 @Builder
-public class ProgramResponseDto {
+public class ProgramResponseDto implements VersionedResponse {
     @NotNull
     @JsonProperty("id")
     private Integer id;
@@ -27,4 +30,7 @@ public class ProgramResponseDto {
     @NotNull
     @JsonProperty("facultyId")
     private Integer facultyId;
+
+    @JsonIgnore
+    private LocalDateTime lastModifiedDate;
 }
@@ -15,6 +15,7 @@ public class ProgramEntityToResponseDtoMapper implements EntityToResponseDtoMapp
                                  .abbrev(programEntity.abbrev())
                                  .description(programEntity.description())
                                  .facultyId(programEntity.facultyId())
+                                 .lastModifiedDate(programEntity.lastModifiedDate())
                                  .build();
     }
 }
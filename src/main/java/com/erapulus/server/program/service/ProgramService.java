@@ -1,12 +1,16 @@
 package com.erapulus.server.program.service;
 
+import com.erapulus.server.common.database.AfterTransaction;
+import com.erapulus.server.common.database.PagedResult;
 import com.erapulus.server.common.mapper.EntityToResponseDtoMapper;
 import com.erapulus.server.common.mapper.RequestDtoToEntityMapper;
+import com.erapulus.server.common.service.CatalogIndex;
 import com.erapulus.server.common.service.CrudGenericService;
+import com.erapulus.server.common.web.CountMode;
+import com.erapulus.server.common.web.PageCursor;
 import com.erapulus.server.common.web.PageablePayload;
+import com.erapulus.server.common.web.PaginationRequest;
 import com.erapulus.server.document.service.DocumentService;
-import com.erapulus.server.faculty.database.FacultyEntity;
-import com.erapulus.server.faculty.database.FacultyRepository;
 import com.erapulus.server.module.service.ModuleService;
 import com.erapulus.server.program.database.ProgramEntity;
 import com.erapulus.server.program.database.ProgramRepository;
@@ -30,19 +34,19 @@ import static com.erapulus.server.common.service.QueryParamParser.parseString;
 @Validated
 public class ProgramService extends CrudGenericService<ProgramEntity, ProgramRequestDto, ProgramResponseDto> {
     private final ProgramRepository programRepository;
-    private final FacultyRepository facultyRepository;
+    private final CatalogIndex catalogIndex;
     private final DocumentService documentService;
     private final ModuleService moduleService;
 
     public ProgramService(ProgramRepository programRepository,
-                          FacultyRepository facultyRepository,
+                          CatalogIndex catalogIndex,
                           RequestDtoToEntityMapper<ProgramRequestDto, ProgramEntity> requestDtoToEntityMapper,
                           EntityToResponseDtoMapper<ProgramEntity, ProgramResponseDto> entityToResponseDtoMapper,
                           DocumentService documentService,
                           ModuleService moduleService) {
         super(programRepository, requestDtoToEntityMapper, entityToResponseDtoMapper, "program");
         this.programRepository = programRepository;
-        this.facultyRepository = facultyRepository;
+        this.catalogIndex = catalogIndex;
         this.documentService = documentService;
         this.moduleService = moduleService;
     }
@@ -50,17 +54,31 @@ public class ProgramService extends CrudGenericService<ProgramEntity, ProgramReq
     public Mono<PageablePayload<ProgramResponseDto>> listPrograms(int universityId, int facultyId, String name, PageRequest pageRequest) {
         String parsedName = parseString(name);
         return checkIfFacultyExists(universityId, facultyId)
-                .then(programRepository.findByFacultyIdAndName(facultyId, parsedName, pageRequest.getOffset(), pageRequest.getPageSize())
-                                       .map(entityToResponseDtoMapper::from)
-                                       .collectList()
-                                       .zipWith(programRepository.countByFacultyIdAndName(facultyId, parsedName))
-                                       .map(dtoListAndTotalCount -> new PageablePayload<>(dtoListAndTotalCount.getT1(), pageRequest, dtoListAndTotalCount.getT2())));
+                .then(findPrograms(facultyId, parsedName, pageRequest))
+                .map(page -> page.map(entityToResponseDtoMapper::from))
+                .map(page -> new PageablePayload<>(page.content(), pageRequest, page.totalCount(),
+                        program -> PageCursor.of(program.id(), program.name())));
     }
 
+    private Mono<PagedResult<ProgramEntity>> findPrograms(int facultyId, String name, PageRequest pageRequest) {
+        PageCursor after = PaginationRequest.after(pageRequest);
+        if (after != null) {
+            return PagedResult.of(programRepository.findByFacultyIdAndNameAfter(facultyId, name, after.sortKey(), after.id(), pageRequest.getPageSize()),
+                    pageRequest, () -> programRepository.countByFacultyIdAndName(facultyId, name));
+        }
+        if (PaginationRequest.countMode(pageRequest) == CountMode.EXACT) {
+            return programRepository.findPageByFacultyIdAndName(facultyId, name, pageRequest.getOffset(), pageRequest.getPageSize());
+        }
+        return PagedResult.of(programRepository.findByFacultyIdAndName(facultyId, name, pageRequest.getOffset(), pageRequest.getPageSize()),
+                pageRequest, () -> programRepository.countByFacultyIdAndName(facultyId, name));
+    }
+
+
     public Mono<ProgramResponseDto> createProgram(@Valid ProgramRequestDto requestDto, int universityId, int facultyId) {
         UnaryOperator<ProgramEntity> addParamFromPath = moduleEntity -> moduleEntity.facultyId(facultyId);
         return checkIfFacultyExists(universityId, facultyId)
-                .then(createEntity(requestDto, addParamFromPath));
+                .then(createEntity(requestDto, addParamFromPath))
+                .doOnNext(program -> catalogIndex.putProgram(program.id(), facultyId));
     }
 
     public Mono<ProgramResponseDto> getProgramById(int programId, int universityId, int facultyId) {
@@ -71,7 +89,8 @@ public class ProgramService extends CrudGenericService<ProgramEntity, ProgramReq
     public Mono<ProgramResponseDto> updateProgram(@Valid ProgramRequestDto requestDto, int programId, int universityId, int facultyId) {
         UnaryOperator<ProgramEntity> addParamFromPath = program -> program.id(programId).facultyId(facultyId);
         Supplier<Mono<ProgramEntity>> supplier = () -> programRepository.findByIdAndUniversityIdAndFacultyId(programId, universityId, facultyId);
-        return updateEntity(requestDto, addParamFromPath, supplier);
+        return updateEntity(requestDto, addParamFromPath, supplier)
+                .doOnNext(program -> catalogIndex.putProgram(programId, facultyId));
     }
 
     @Transactional
@@ -84,15 +103,21 @@ public class ProgramService extends CrudGenericService<ProgramEntity, ProgramReq
                                 .flatMap(programId -> deleteProgramNoTransactional(programId, universityId, facultyId));
     }
 
+    public Mono<Void> deleteAllProgramsByUniversityId(int universityId) {
+        return moduleService.deleteAllModulesByUniversityId(universityId)
+                            .then(programRepository.deleteAllByUniversityId(universityId));
+    }
+
     private Mono<Boolean> deleteProgramNoTransactional(int programId, int universityId, int facultyId) {
         Supplier<Mono<ProgramEntity>> supplier = () -> programRepository.findByIdAndUniversityIdAndFacultyId(programId, universityId, facultyId);
         return moduleService.deleteAllModuleByProgramId(programId)
                             .thenMany(documentService.deleteAllDocumentsByProgramId(programId))
-                            .then(deleteEntity(supplier));
+                            .then(deleteEntity(supplier))
+                            .flatMap(deleted -> AfterTransaction.run(() -> catalogIndex.removeProgram(programId)).thenReturn(deleted));
     }
 
-    private Mono<FacultyEntity> checkIfFacultyExists(int universityId, int facultyId) {
-        return facultyRepository.findByIdAndUniversityId(facultyId, universityId)
-                                .switchIfEmpty(Mono.error(new NoSuchElementException("faculty")));
+    private Mono<Boolean> checkIfFacultyExists(int universityId, int facultyId) {
+        return catalogIndex.facultyExists(facultyId, universityId)
+                           .flatMap(exists -> exists ? Mono.just(true) : Mono.error(new NoSuchElementException("faculty")));
     }
 }
@@ -1,11 +1,6 @@
 package com.erapulus.server.security;
 
-import com.erapulus.server.common.web.ServerResponseFactory;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.AllArgsConstructor;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
+import com.erapulus.server.common.web.StaticErrorResponse;
 import org.springframework.http.server.reactive.ServerHttpResponse;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.server.ServerAuthenticationEntryPoint;
@@ -16,11 +11,8 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 @Component
-@AllArgsConstructor
 public class AuthenticationFailureHandler implements ServerAuthenticationFailureHandler, ServerAuthenticationEntryPoint {
 
-    private final ObjectMapper objectMapper;
-
     @Override
     public Mono<Void> onAuthenticationFailure(WebFilterExchange webFilterExchange, AuthenticationException e) {
         ServerHttpResponse response = webFilterExchange.getExchange().getResponse();
@@ -34,10 +26,6 @@ public class AuthenticationFailureHandler implements ServerAuthenticationFailure
     }
 
     private Mono<Void> createResponse(ServerHttpResponse response) {
-        response.setStatusCode(HttpStatus.UNAUTHORIZED);
-        response.getHeaders().add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
-        return Mono.fromCallable(() -> objectMapper.writeValueAsBytes(ServerResponseFactory.createHttpUnauthorizedResponseBody()))
-                   .map(body -> response.bufferFactory().wrap(body))
-                   .flatMap(dataBuffer -> response.writeWith(Mono.just(dataBuffer)));
+        return StaticErrorResponse.UNAUTHORIZED.write(response);
     }
 }
@@ -1,12 +1,6 @@
 package com.erapulus.server.security;
 
-import com.erapulus.server.common.web.ServerResponseFactory;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.AllArgsConstructor;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
-import org.springframework.http.server.reactive.ServerHttpResponse;
+import com.erapulus.server.common.web.StaticErrorResponse;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.web.server.authorization.ServerAccessDeniedHandler;
 import org.springframework.stereotype.Component;
@@ -14,18 +8,10 @@ import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 @Component
-@AllArgsConstructor
 public class AuthorizationFailureHandler implements ServerAccessDeniedHandler {
 
-    private final ObjectMapper objectMapper;
-
     @Override
     public Mono<Void> handle(ServerWebExchange serverWebExchange, AccessDeniedException e) {
-        ServerHttpResponse response = serverWebExchange.getResponse();
-        response.setStatusCode(HttpStatus.FORBIDDEN);
-        response.getHeaders().add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
-        return Mono.fromCallable(() -> objectMapper.writeValueAsBytes(ServerResponseFactory.createHttpForbiddenResponseBody()))
-                   .map(body -> response.bufferFactory().wrap(body))
-                   .flatMap(dataBuffer -> response.writeWith(Mono.just(dataBuffer)));
+        return StaticErrorResponse.FORBIDDEN.write(serverWebExchange.getResponse());
     }
 }
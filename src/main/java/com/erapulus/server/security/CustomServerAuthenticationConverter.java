@@ -1,29 +1,48 @@
 package com.erapulus.server.security;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.server.authentication.ServerAuthenticationConverter;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
-import java.util.Objects;
-import java.util.Optional;
-
 @Component
 public class CustomServerAuthenticationConverter implements ServerAuthenticationConverter {
 
+    static final int MAX_HEADER_LENGTH = 8192;
+    private static final String BEARER_PREFIX = "Bearer ";
+
     @Override
     public Mono<Authentication> convert(ServerWebExchange serverWebExchange) {
-        String bearerToken = serverWebExchange.getRequest().getHeaders().getFirst("Authorization");
-        return Mono.justOrEmpty(getJwtAuthenticationToken(bearerToken));
+        String bearerToken = serverWebExchange.getRequest().getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        String jwt = extractJwt(bearerToken);
+        if (jwt == null) {
+            return Mono.empty();
+        }
+        return Mono.just(new JwtAuthenticationToken(jwt));
     }
 
-    private Optional<JwtAuthenticationToken> getJwtAuthenticationToken(String bearerToken) {
-        JwtAuthenticationToken jwtAuthenticationToken = null;
-        if (Objects.nonNull(bearerToken) && bearerToken.startsWith("Bearer ")) {
-            String jwt = bearerToken.replace("Bearer ", "");
-            jwtAuthenticationToken = new JwtAuthenticationToken(jwt);
+    static String extractJwt(String bearerToken) {
+        if (bearerToken == null
+                || bearerToken.length() <= BEARER_PREFIX.length()
+                || bearerToken.length() > MAX_HEADER_LENGTH
+                || !bearerToken.startsWith(BEARER_PREFIX)) {
+            return null;
         }
-        return Optional.ofNullable(jwtAuthenticationToken);
+        for (int i = BEARER_PREFIX.length(); i < bearerToken.length(); i++) {
+            if (!isToken68Character(bearerToken.charAt(i))) {
+                return null;
+            }
+        }
+        return bearerToken.substring(BEARER_PREFIX.length());
+    }
+
+    private static boolean isToken68Character(char character) {
+        return (character >= 'a' && character <= 'z')
+                || (character >= 'A' && character <= 'Z')
+                || (character >= '0' && character <= '9')
+                || character == '-' || character == '.' || character == '_'
+                || character == '~' || character == '+' || character == '/' || character == '=';
     }
 }
@@ -4,30 +4,111 @@ import com.erapulus.server.common.exception.InvalidTokenException;
 import com.erapulus.server.student.database.StudentEntity;
 import com.erapulus.server.applicationuser.dto.FacebookRegisterDto;
 import com.erapulus.server.applicationuser.dto.StudentLoginDto;
+import io.netty.channel.ChannelOption;
+import lombok.Value;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class FacebookTokenValidator {
 
+    private static final Duration DEFAULT_CONNECT_TIMEOUT = Duration.ofSeconds(2);
+    private static final Duration DEFAULT_READ_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration CACHE_TTL = Duration.ofSeconds(60);
+    private static final int MAX_CACHE_SIZE = 1_000;
+    private static final int MAX_CONNECTIONS = 50;
+
     private final WebClient webClient;
+    private final Clock clock;
+    private final Map<String, Mono<FacebookRegisterDto>> inFlightRequests = new ConcurrentHashMap<>();
+    private final Map<String, CachedProfile> profiles = new ConcurrentHashMap<>();
+    private final AtomicLong cacheHits = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+    private final AtomicLong graphCalls = new AtomicLong();
+    private final AtomicLong graphCallNanos = new AtomicLong();
 
     public FacebookTokenValidator(String facebookGraphApiBase) {
-        this.webClient = WebClient.builder().baseUrl(facebookGraphApiBase).build();
+        this(facebookGraphApiBase, DEFAULT_CONNECT_TIMEOUT, DEFAULT_READ_TIMEOUT);
+    }
+
+    public FacebookTokenValidator(String facebookGraphApiBase, Duration connectTimeout, Duration readTimeout) {
+        this(facebookGraphApiBase, connectTimeout, readTimeout, Clock.systemUTC());
+    }
+
+    FacebookTokenValidator(String facebookGraphApiBase, Duration connectTimeout, Duration readTimeout, Clock clock) {
+        ConnectionProvider connectionProvider = ConnectionProvider.builder("facebook-graph")
+                                                                  .maxConnections(MAX_CONNECTIONS)
+                                                                  .maxIdleTime(Duration.ofSeconds(30))
+                                                                  .build();
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                                          .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                                          .responseTimeout(readTimeout);
+        this.webClient = WebClient.builder()
+                                  .baseUrl(facebookGraphApiBase)
+                                  .clientConnector(new ReactorClientHttpConnector(httpClient))
+                                  .build();
+        this.clock = clock;
     }
 
     public Mono<StudentEntity> validate(StudentLoginDto studentLoginDTO) {
-        return getUserDataFromFacebook(studentLoginDTO)
-                .onErrorMap(WebClientResponseException.BadRequest.class, e -> new InvalidTokenException())
-                .map(payload -> StudentEntity.builder()
-                                             .email(payload.email())
-                                             .firstName(payload.firstName())
-                                             .lastName(payload.lastName())
-                                             .pictureUrl(payload.picture())
-                                             .build());
+        return Mono.defer(() -> getUserData(studentLoginDTO))
+                   .onErrorMap(WebClientResponseException.BadRequest.class, e -> new InvalidTokenException())
+                   .map(payload -> StudentEntity.builder()
+                                                .email(payload.email())
+                                                .firstName(payload.firstName())
+                                                .lastName(payload.lastName())
+                                                .pictureUrl(payload.picture())
+                                                .build());
+    }
+
+    public long cacheHitCount() {
+        return cacheHits.get();
+    }
+
+    public long cacheMissCount() {
+        return cacheMisses.get();
+    }
+
+    public long graphCallCount() {
+        return graphCalls.get();
+    }
+
+    public long averageGraphCallNanos() {
+        long count = graphCalls.get();
+        return count == 0 ? 0 : graphCallNanos.get() / count;
+    }
+
+    private Mono<FacebookRegisterDto> getUserData(StudentLoginDto studentLoginDTO) {
+        String tokenHash = hash(studentLoginDTO.token());
+        CachedProfile cached = profiles.get(tokenHash);
+        if (cached != null && cached.expiresAt() > clock.millis()) {
+            cacheHits.incrementAndGet();
+            return Mono.just(cached.profile());
+        }
+        cacheMisses.incrementAndGet();
+        return inFlightRequests.computeIfAbsent(tokenHash, key -> getUserDataFromFacebook(studentLoginDTO)
+                .doOnSuccess(profile -> {
+                    inFlightRequests.remove(key);
+                    if (profile != null) {
+                        cacheProfile(key, profile);
+                    }
+                })
+                .doOnError(e -> inFlightRequests.remove(key))
+                .cache());
     }
 
     private Mono<FacebookRegisterDto> getUserDataFromFacebook(StudentLoginDto studentLoginDTO) {
@@ -37,9 +118,40 @@ public class FacebookTokenValidator {
         variables.put("fields", fields);
         variables.put("redirect", "false");
         variables.put("access_token", studentLoginDTO.token());
-        return this.webClient.get()
-                             .uri(path, variables)
-                             .retrieve()
-                             .bodyToMono(FacebookRegisterDto.class);
+        return Mono.fromSupplier(System::nanoTime)
+                   .flatMap(start -> this.webClient.get()
+                                                   .uri(path, variables)
+                                                   .retrieve()
+                                                   .bodyToMono(FacebookRegisterDto.class)
+                                                   .doFinally(signal -> {
+                                                       graphCalls.incrementAndGet();
+                                                       graphCallNanos.addAndGet(System.nanoTime() - start);
+                                                   }));
+    }
+
+    private void cacheProfile(String tokenHash, FacebookRegisterDto profile) {
+        long now = clock.millis();
+        if (profiles.size() >= MAX_CACHE_SIZE) {
+            profiles.values().removeIf(cached -> cached.expiresAt() <= now);
+            if (profiles.size() >= MAX_CACHE_SIZE) {
+                profiles.clear();
+            }
+        }
+        profiles.put(tokenHash, new CachedProfile(profile, now + CACHE_TTL.toMillis()));
+    }
+
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Value
+    private static class CachedProfile {
+        FacebookRegisterDto profile;
+        long expiresAt;
     }
 }
@@ -0,0 +1,222 @@
+package com.erapulus.server.security;
+
+import com.erapulus.server.common.exception.InvalidTokenException;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Slf4j
+public class GoogleJwksTokenVerifier {
+
+    static final String CERTS_PATH = "/oauth2/v3/certs";
+    private static final Set<String> ISSUERS = Set.of("accounts.google.com", "https://accounts.google.com");
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+    private static final Duration DEFAULT_MAX_AGE = Duration.ofMinutes(5);
+    private static final Duration MIN_REFETCH_INTERVAL = Duration.ofSeconds(30);
+    private static final double REFRESH_AHEAD_RATIO = 0.8;
+
+    private final WebClient webClient;
+    private final String audience;
+    private final Clock clock;
+    private final AtomicReference<KeySet> keySet = new AtomicReference<>(KeySet.empty());
+    private Mono<KeySet> inFlightFetch;
+
+    public GoogleJwksTokenVerifier(String googleApiBase, String audience) {
+        this(googleApiBase, audience, Clock.systemUTC());
+    }
+
+    GoogleJwksTokenVerifier(String googleApiBase, String audience, Clock clock) {
+        this.webClient = WebClient.builder().baseUrl(googleApiBase).build();
+        this.audience = audience;
+        this.clock = clock;
+    }
+
+    public Mono<Claims> verify(String token) {
+        return Mono.defer(this::keys)
+                   .map(keys -> parse(token, keys))
+                   .onErrorResume(UnknownKeyException.class, e -> refetchKeys().map(keys -> parse(token, keys)))
+                   .onErrorMap(e -> e instanceof JwtException || e instanceof IllegalArgumentException || e instanceof UnknownKeyException,
+                           e -> new InvalidTokenException());
+    }
+
+    private Mono<KeySet> keys() {
+        KeySet current = keySet.get();
+        long now = clock.millis();
+        if (now >= current.expiresAt()) {
+            return fetchKeys();
+        }
+        if (now >= current.refreshAt()) {
+            fetchKeys().subscribe(keys -> log.debug("Google public keys refreshed"),
+                    e -> log.warn("Google public keys refresh failed", e));
+        }
+        return Mono.just(current);
+    }
+
+    private Mono<KeySet> refetchKeys() {
+        if (clock.millis() - keySet.get().fetchedAt() < MIN_REFETCH_INTERVAL.toMillis()) {
+            return Mono.error(new UnknownKeyException());
+        }
+        return fetchKeys();
+    }
+
+    private synchronized Mono<KeySet> fetchKeys() {
+        if (inFlightFetch == null) {
+            Mono<KeySet> fetch = webClient.get()
+                                          .uri(CERTS_PATH)
+                                          .retrieve()
+                                          .toEntity(Jwks.class)
+                                          .map(this::toKeySet)
+                                          .doOnNext(keys -> {
+                                              keySet.set(keys);
+                                              clearInFlightFetch();
+                                          })
+                                          .doOnError(e -> clearInFlightFetch())
+                                          .cache();
+            inFlightFetch = fetch;
+        }
+        return inFlightFetch;
+    }
+
+    private synchronized void clearInFlightFetch() {
+        inFlightFetch = null;
+    }
+
+    private Claims parse(String token, KeySet keys) {
+        Claims claims = keys.parser().parseClaimsJws(token).getBody();
+        if (!ISSUERS.contains(claims.getIssuer())) {
+            throw new UnsupportedJwtException("issuer");
+        }
+        return claims;
+    }
+
+    private KeySet toKeySet(ResponseEntity<Jwks> response) {
+        Map<String, PublicKey> publicKeys = new HashMap<>();
+        List<Jwk> jwks = response.getBody() != null ? response.getBody().keys() : Collections.emptyList();
+        for (Jwk jwk : jwks) {
+            if ("RSA".equals(jwk.kty())) {
+                publicKeys.put(jwk.kid(), toPublicKey(jwk));
+            }
+        }
+        long maxAge = maxAge(response.getHeaders().getCacheControl()).toMillis();
+        long now = clock.millis();
+        JwtParser parser = Jwts.parserBuilder()
+                               .requireAudience(audience)
+                               .setSigningKeyResolver(new KeyIdResolver(publicKeys))
+                               .build();
+        return new KeySet(parser, now, now + (long) (maxAge * REFRESH_AHEAD_RATIO), now + maxAge);
+    }
+
+    private static Duration maxAge(String cacheControl) {
+        if (cacheControl == null) {
+            return DEFAULT_MAX_AGE;
+        }
+        Matcher matcher = MAX_AGE.matcher(cacheControl);
+        return matcher.find() ? Duration.ofSeconds(Long.parseLong(matcher.group(1))) : DEFAULT_MAX_AGE;
+    }
+
+    private static PublicKey toPublicKey(Jwk jwk) {
+        Base64.Decoder decoder = Base64.getUrlDecoder();
+        BigInteger modulus = new BigInteger(1, decoder.decode(jwk.n()));
+        BigInteger exponent = new BigInteger(1, decoder.decode(jwk.e()));
+        try {
+            return KeyFactory.getInstance("RSA").generatePublic(new RSAPublicKeySpec(modulus, exponent));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Value
+    private static class KeySet {
+        JwtParser parser;
+        long fetchedAt;
+        long refreshAt;
+        long expiresAt;
+
+        static KeySet empty() {
+            return new KeySet(null, 0, 0, 0);
+        }
+    }
+
+    private static class KeyIdResolver extends SigningKeyResolverAdapter {
+
+        private final Map<String, PublicKey> publicKeys;
+
+        KeyIdResolver(Map<String, PublicKey> publicKeys) {
+            this.publicKeys = publicKeys;
+        }
+
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            if (!SignatureAlgorithm.RS256.getValue().equals(header.getAlgorithm())) {
+                throw new UnsupportedJwtException("algorithm");
+            }
+            PublicKey publicKey = publicKeys.get(header.getKeyId());
+            if (publicKey == null) {
+                throw new UnknownKeyException();
+            }
+            return publicKey;
+        }
+    }
+
+    private static class UnknownKeyException extends RuntimeException {
+    }
+
+    @Data
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class Jwks {
+
+        @JsonProperty("keys")
+        private List<Jwk> keys;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    static class Jwk {
+
+        @JsonProperty("kid")
+        private String kid;
+
+        @JsonProperty("kty")
+        private String kty;
+
+        @JsonProperty("n")
+        private String n;
+
+        @JsonProperty("e")
+        private String e;
+    }
+}
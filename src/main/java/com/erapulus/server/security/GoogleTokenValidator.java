@@ -1,10 +1,7 @@
 package com.erapulus.server.security;
 
-import com.erapulus.server.common.exception.InvalidTokenException;
 import com.erapulus.server.student.database.StudentEntity;
 import com.erapulus.server.applicationuser.dto.StudentLoginDto;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
@@ -13,20 +10,15 @@ import reactor.core.publisher.Mono;
 @AllArgsConstructor
 public class GoogleTokenValidator {
 
-    private final GoogleIdTokenVerifier googleIdTokenVerifier;
+    private final GoogleJwksTokenVerifier googleJwksTokenVerifier;
 
     public Mono<StudentEntity> validate(StudentLoginDto studentLoginDTO) {
-        return Mono.fromCallable(() -> googleIdTokenVerifier.verify(studentLoginDTO.token()))
-                   .switchIfEmpty(Mono.error(new InvalidTokenException()))
-                   .onErrorMap(IllegalArgumentException.class, e -> new InvalidTokenException())
-                   .map(idToken -> {
-                       GoogleIdToken.Payload payload = idToken.getPayload();
-                       return StudentEntity.builder()
-                                           .email(payload.getEmail())
-                                           .firstName((String) payload.get("given_name"))
-                                           .lastName((String) payload.get("family_name"))
-                                           .pictureUrl((String) payload.get("picture"))
-                                           .build();
-                   });
+        return googleJwksTokenVerifier.verify(studentLoginDTO.token())
+                                      .map(payload -> StudentEntity.builder()
+                                                                   .email(payload.get("email", String.class))
+                                                                   .firstName(payload.get("given_name", String.class))
+                                                                   .lastName(payload.get("family_name", String.class))
+                                                                   .pictureUrl(payload.get("picture", String.class))
+                                                                   .build());
     }
 }
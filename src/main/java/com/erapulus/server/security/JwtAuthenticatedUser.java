@@ -1,20 +1,32 @@
 package com.erapulus.server.security;
 
 import com.erapulus.server.applicationuser.database.ApplicationUserEntity;
+import com.erapulus.server.common.database.UserType;
 import org.springframework.security.authentication.AbstractAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
 
 
 public class JwtAuthenticatedUser extends AbstractAuthenticationToken {
 
+    private static final int NO_ID = -1;
+    private static final int MAX_ID_DIGITS = 9;
+
     private final ApplicationUserEntity applicationUserEntity;
+    private final EnumSet<UserType> userTypes;
+    private final int universityId;
+    private final int studentId;
 
     public JwtAuthenticatedUser(ApplicationUserEntity applicationUserEntity, List<SimpleGrantedAuthority> authority) {
         super(authority);
         this.applicationUserEntity = applicationUserEntity;
+        this.userTypes = applicationUserEntity.type() != null ? EnumSet.of(applicationUserEntity.type()) : EnumSet.noneOf(UserType.class);
+        this.universityId = applicationUserEntity.universityId() != null ? applicationUserEntity.universityId() : NO_ID;
+        this.studentId = applicationUserEntity.type() == UserType.STUDENT && applicationUserEntity.id() != null ? applicationUserEntity.id() : NO_ID;
         setAuthenticated(true);
     }
 
@@ -31,4 +43,44 @@ public class JwtAuthenticatedUser extends AbstractAuthenticationToken {
     public Authentication asAuthentication() {
         return this;
     }
+
+    boolean hasAnyType(Set<UserType> allowedTypes) {
+        for (UserType userType : userTypes) {
+            if (allowedTypes.contains(userType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    boolean canAccessUniversity(Object requestedUniversityId) {
+        if (requestedUniversityId == null) {
+            return userTypes.contains(UserType.ADMINISTRATOR);
+        }
+        int id = parseId(requestedUniversityId);
+        return id != NO_ID && id == universityId;
+    }
+
+    boolean canAccessStudent(Object requestedStudentId) {
+        int id = parseId(requestedStudentId);
+        return id != NO_ID && id == studentId;
+    }
+
+    private static int parseId(Object value) {
+        if (value instanceof Integer integer) {
+            return integer >= 0 ? integer : NO_ID;
+        }
+        if (!(value instanceof CharSequence chars) || chars.isEmpty() || chars.length() > MAX_ID_DIGITS) {
+            return NO_ID;
+        }
+        int id = 0;
+        for (int i = 0; i < chars.length(); i++) {
+            char digit = chars.charAt(i);
+            if (digit < '0' || digit > '9') {
+                return NO_ID;
+            }
+            id = id * 10 + (digit - '0');
+        }
+        return id;
+    }
 }
@@ -1,14 +1,11 @@
 package com.erapulus.server.security;
 
 
-import com.erapulus.server.common.configuration.ErapulusProperties;
 import com.erapulus.server.applicationuser.database.ApplicationUserEntity;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
+import com.erapulus.server.common.configuration.ErapulusProperties;
 import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -17,20 +14,24 @@ import java.util.Map;
 @AllArgsConstructor
 public class JwtGenerator {
 
-    private static final String ROLE = "ROLE";
+    static final String ROLE = "ROLE";
+    static final String USER_ID = "ID";
+    static final String UNIVERSITY_ID = "UNIVERSITY";
+    static final String EPOCH = "EPOCH";
     private static final int DAY = 24 * 60 * 60 * 1000;
+    private final JwtTokenCodec jwtTokenCodec;
     private final ErapulusProperties erapulusProperties;
+    private final UserEpochRegistry userEpochRegistry;
 
     public String generate(ApplicationUserEntity subject) {
-        Map<String, String> claims = new HashMap<>();
+        Map<String, Object> claims = new HashMap<>();
         claims.put(ROLE, subject.type().toString());
-        return Jwts.builder()
-                   .setClaims(claims)
-                   .setIssuer(erapulusProperties.jwt().issuer())
-                   .setSubject(subject.email())
-                   .setIssuedAt(new Date(System.currentTimeMillis()))
-                   .setExpiration(new Date(System.currentTimeMillis() + DAY))
-                   .signWith(Keys.hmacShaKeyFor(erapulusProperties.jwt().secret().getBytes(StandardCharsets.UTF_8)))
-                   .compact();
+        if (erapulusProperties.jwt().selfContained()) {
+            claims.put(USER_ID, subject.id());
+            claims.put(UNIVERSITY_ID, subject.universityId());
+            claims.put(EPOCH, userEpochRegistry.currentEpoch());
+        }
+        long currentTime = System.currentTimeMillis();
+        return jwtTokenCodec.encode(claims, subject.email(), new Date(currentTime), new Date(currentTime + DAY));
     }
 }
@@ -5,9 +5,6 @@ import com.erapulus.server.applicationuser.database.ApplicationUserRepository;
 import com.erapulus.server.common.configuration.ErapulusProperties;
 import com.erapulus.server.common.database.UserType;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.JwtParser;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import lombok.AllArgsConstructor;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.ReactiveAuthenticationManager;
@@ -16,7 +13,6 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 import reactor.core.publisher.Mono;
 
-import java.nio.charset.StandardCharsets;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
@@ -26,7 +22,10 @@ import java.util.Objects;
 public class JwtReactiveAuthenticationManager implements ReactiveAuthenticationManager {
 
     private final ApplicationUserRepository applicationUserRepository;
+    private final JwtTokenCodec jwtTokenCodec;
+    private final PrincipalCache principalCache;
     private final ErapulusProperties erapulusProperties;
+    private final UserEpochRegistry userEpochRegistry;
 
     @Override
     public Mono<Authentication> authenticate(Authentication authentication) {
@@ -35,27 +34,44 @@ public class JwtReactiveAuthenticationManager implements ReactiveAuthenticationM
         }
         JwtAuthenticationToken jwtAuthenticationToken = (JwtAuthenticationToken) authentication;
         String jwt = jwtAuthenticationToken.getJwt();
-        JwtParser parser = Jwts.parserBuilder()
-                               .setSigningKey(Keys.hmacShaKeyFor(erapulusProperties.jwt().secret().getBytes(StandardCharsets.UTF_8)))
-                               .build();
-
         return Mono.just(jwt)
-                   .map(token -> parser.parseClaimsJws(token).getBody())
+                   .map(jwtTokenCodec::decode)
                    .flatMap(this::validateToken)
-                   .flatMap(applicationUserRepository::findByEmail)
-                   .map(user -> new JwtAuthenticatedUser(user, grantRoles(user)))
+                   .flatMap(this::resolveUser)
                    .onErrorResume(e -> Mono.error(new BadCredentialsException("bad.token")))
                    .map(JwtAuthenticatedUser::asAuthentication);
     }
 
-    private Mono<String> validateToken(Claims claims) {
+    private Mono<JwtAuthenticatedUser> resolveUser(Claims claims) {
+        if (erapulusProperties.jwt().selfContained() && claims.containsKey(JwtGenerator.USER_ID)) {
+            return userFromClaims(claims);
+        }
+        return principalCache.get(claims.getSubject(), applicationUserRepository::findByEmail, this::grantRoles);
+    }
+
+    private Mono<JwtAuthenticatedUser> userFromClaims(Claims claims) {
+        Integer userId = claims.get(JwtGenerator.USER_ID, Integer.class);
+        Long epoch = claims.get(JwtGenerator.EPOCH, Long.class);
+        if (epoch == null || userEpochRegistry.isRevoked(userId, epoch)) {
+            return Mono.error(new BadCredentialsException("bad.token"));
+        }
+        ApplicationUserEntity user = ApplicationUserEntity.builder()
+                                                          .id(userId)
+                                                          .universityId(claims.get(JwtGenerator.UNIVERSITY_ID, Integer.class))
+                                                          .type(UserType.valueOf(claims.get(JwtGenerator.ROLE, String.class)))
+                                                          .email(claims.getSubject())
+                                                          .build();
+        return Mono.just(new JwtAuthenticatedUser(user, grantRoles(user)));
+    }
+
+    private Mono<Claims> validateToken(Claims claims) {
         long currentTime = System.currentTimeMillis();
         if (currentTime < claims.getIssuedAt().getTime()
                 || currentTime > claims.getExpiration().getTime()
-                || !Objects.equals(claims.getIssuer(), erapulusProperties.jwt().issuer())) {
+                || !Objects.equals(claims.getIssuer(), jwtTokenCodec.issuer())) {
             return Mono.error(new BadCredentialsException("bad.token"));
         }
-        return Mono.just(claims.getSubject());
+        return Mono.just(claims);
     }
 
     private boolean isSupported(Authentication authentication) {
@@ -4,63 +4,48 @@ import com.erapulus.server.common.database.UserType;
 import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.authorization.ReactiveAuthorizationManager;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.web.server.authorization.AuthorizationContext;
 import reactor.core.publisher.Mono;
 
-import java.util.Collection;
+import java.util.EnumSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
 
 import static com.erapulus.server.common.web.CommonRequestVariable.*;
 
 
 public class JwtReactiveAuthorizationManager implements ReactiveAuthorizationManager<AuthorizationContext> {
 
-    private final List<String> allowedRoles;
+    private static final AuthorizationDecision GRANTED = new AuthorizationDecision(true);
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+
+    private final EnumSet<UserType> allowedRoles;
     private final String validatePath;
 
     public JwtReactiveAuthorizationManager(List<UserType> allowedRoles, String validatePath) {
-        this.allowedRoles = allowedRoles.stream()
-                                        .map(UserType::toString)
-                                        .toList();
+        this.allowedRoles = EnumSet.copyOf(allowedRoles);
         this.validatePath = validatePath;
     }
 
     @Override
     public Mono<AuthorizationDecision> check(Mono<Authentication> authentication, AuthorizationContext context) {
-        Map<String, Object> pathVariables = context.getVariables();
-        Map<String, String> queryParams = context.getExchange().getRequest().getQueryParams().toSingleValueMap();
-        return authentication
-                .map(jwtAuthentication -> verifyRole(jwtAuthentication.getAuthorities(), pathVariables, queryParams))
-                .map(AuthorizationDecision::new);
+        return authentication.map(jwtAuthentication -> verifyRole(jwtAuthentication, context) ? GRANTED : DENIED);
     }
 
-    private boolean verifyRole(Collection<? extends GrantedAuthority> roles,
-                               Map<String, Object> pathVariables,
-                               Map<String, String> queryParams) {
-        boolean isUserTypeProper = roles.stream()
-                                        .map(GrantedAuthority::getAuthority)
-                                        .anyMatch(allowedRoles::contains);
-        if (isUserTypeProper) {
-            String additionalRole = null;
-            if (Objects.equals(validatePath, STUDENT_PATH_PARAM)) {
-                additionalRole = "STUDENT_" + pathVariables.get(STUDENT_PATH_PARAM);
-            } else if (Objects.equals(validatePath, UNIVERSITY_PATH_PARAM)) {
-                additionalRole = "UNIVERSITY_" + pathVariables.get(UNIVERSITY_PATH_PARAM);
-            } else if (Objects.equals(validatePath, UNIVERSITY_QUERY_PARAM)) {
-                additionalRole = "UNIVERSITY_" + queryParams.get(UNIVERSITY_QUERY_PARAM);
-            }
-
-            if (additionalRole != null) {
-                String finalAdditionalRole = additionalRole;
-                return roles.stream()
-                            .map(GrantedAuthority::getAuthority)
-                            .anyMatch(role -> Objects.equals(role, finalAdditionalRole));
-            }
+    private boolean verifyRole(Authentication authentication, AuthorizationContext context) {
+        if (!(authentication instanceof JwtAuthenticatedUser user) || !user.hasAnyType(allowedRoles)) {
+            return false;
+        }
+        if (validatePath == null) {
             return true;
         }
-        return false;
+        return switch (validatePath) {
+            case STUDENT_PATH_PARAM -> user.canAccessStudent(context.getVariables().get(STUDENT_PATH_PARAM));
+            case UNIVERSITY_PATH_PARAM -> user.canAccessUniversity(context.getVariables().get(UNIVERSITY_PATH_PARAM));
+            case UNIVERSITY_QUERY_PARAM -> user.canAccessUniversity(context.getExchange()
+                                                                           .getRequest()
+                                                                           .getQueryParams()
+                                                                           .getFirst(UNIVERSITY_QUERY_PARAM));
+            default -> true;
+        };
     }
 }
@@ -0,0 +1,88 @@
+package com.erapulus.server.security;
+
+import com.erapulus.server.common.configuration.ErapulusProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+public class JwtTokenCodec {
+
+    static final String DEFAULT_KEY_ID = "default";
+
+    private final String issuer;
+    private final Map<String, SecretKey> keys = new ConcurrentHashMap<>();
+    private final JwtParser parser;
+    private volatile String activeKeyId;
+
+    public JwtTokenCodec(ErapulusProperties erapulusProperties) {
+        this.issuer = erapulusProperties.jwt().issuer();
+        this.keys.put(DEFAULT_KEY_ID, createKey(erapulusProperties.jwt().secret()));
+        this.activeKeyId = DEFAULT_KEY_ID;
+        this.parser = Jwts.parserBuilder()
+                          .setSigningKeyResolver(new KeyIdResolver())
+                          .build();
+    }
+
+    public String encode(Map<String, Object> claims, String subject, Date issuedAt, Date expiration) {
+        String keyId = activeKeyId;
+        return Jwts.builder()
+                   .setHeaderParam(JwsHeader.KEY_ID, keyId)
+                   .setClaims(claims)
+                   .setIssuer(issuer)
+                   .setSubject(subject)
+                   .setIssuedAt(issuedAt)
+                   .setExpiration(expiration)
+                   .signWith(keys.get(keyId))
+                   .compact();
+    }
+
+    public Claims decode(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
+    public String issuer() {
+        return issuer;
+    }
+
+    public void rotateKey(String keyId, String secret) {
+        keys.put(keyId, createKey(secret));
+        activeKeyId = keyId;
+    }
+
+    public void retireKey(String keyId) {
+        if (keyId.equals(activeKeyId)) {
+            throw new IllegalArgumentException("active.key");
+        }
+        keys.remove(keyId);
+    }
+
+    private static SecretKey createKey(String secret) {
+        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private class KeyIdResolver extends SigningKeyResolverAdapter {
+
+        @Override
+        public Key resolveSigningKey(JwsHeader header, Claims claims) {
+            String keyId = header.getKeyId() != null ? header.getKeyId() : DEFAULT_KEY_ID;
+            SecretKey key = keys.get(keyId);
+            if (key == null) {
+                throw new SignatureException("unknown.key");
+            }
+            return key;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.erapulus.server.security;
+
+import com.erapulus.server.common.configuration.ErapulusProperties;
+import com.erapulus.server.common.exception.ServiceUnavailableException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Service
+public class PasswordHashingService implements DisposableBean {
+
+    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    private final Scheduler scheduler;
+    private final int maxPending;
+    private final AtomicInteger pending = new AtomicInteger();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong totalHashNanos = new AtomicLong();
+
+    public PasswordHashingService(BCryptPasswordEncoder bCryptPasswordEncoder, ErapulusProperties erapulusProperties) {
+        ErapulusProperties.PasswordHashingProperties properties = erapulusProperties.passwordHashing();
+        this.bCryptPasswordEncoder = bCryptPasswordEncoder;
+        this.scheduler = Schedulers.newBoundedElastic(properties.threads(), properties.queueLimit(), "password-hashing");
+        this.maxPending = properties.threads() + properties.queueLimit();
+    }
+
+    public Mono<String> encode(CharSequence rawPassword) {
+        return submit(() -> bCryptPasswordEncoder.encode(rawPassword));
+    }
+
+    public Mono<Boolean> matches(CharSequence rawPassword, String encodedPassword) {
+        return submit(() -> bCryptPasswordEncoder.matches(rawPassword, encodedPassword));
+    }
+
+    public int queueDepth() {
+        return pending.get();
+    }
+
+    public long completedCount() {
+        return completed.get();
+    }
+
+    public long rejectedCount() {
+        return rejected.get();
+    }
+
+    public long averageHashNanos() {
+        long count = completed.get();
+        return count == 0 ? 0 : totalHashNanos.get() / count;
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.dispose();
+    }
+
+    private <T> Mono<T> submit(Callable<T> task) {
+        return Mono.defer(() -> {
+            if (pending.incrementAndGet() > maxPending) {
+                pending.decrementAndGet();
+                rejected.incrementAndGet();
+                return Mono.error(new ServiceUnavailableException());
+            }
+            return Mono.fromCallable(() -> measure(task))
+                       .subscribeOn(scheduler)
+                       .doFinally(signal -> pending.decrementAndGet());
+        });
+    }
+
+    private <T> T measure(Callable<T> task) throws Exception {
+        long start = System.nanoTime();
+        T result = task.call();
+        totalHashNanos.addAndGet(System.nanoTime() - start);
+        completed.incrementAndGet();
+        return result;
+    }
+}
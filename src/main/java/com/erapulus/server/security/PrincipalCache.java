@@ -0,0 +1,146 @@
+package com.erapulus.server.security;
+
+import com.erapulus.server.applicationuser.database.ApplicationUserEntity;
+import lombok.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+@Component
+public class PrincipalCache {
+
+    static final Duration DEFAULT_TTL = Duration.ofMinutes(5);
+    static final int DEFAULT_MAX_SIZE = 10_000;
+
+    private final Map<String, CachedPrincipal> cache;
+    private final Map<Integer, Set<String>> subjectsByUserId = new HashMap<>();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+    private final Clock clock;
+    private final long ttlMillis;
+
+    public PrincipalCache() {
+        this(Clock.systemUTC(), DEFAULT_TTL, DEFAULT_MAX_SIZE);
+    }
+
+    PrincipalCache(Clock clock, Duration ttl, int maxSize) {
+        this.clock = clock;
+        this.ttlMillis = ttl.toMillis();
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedPrincipal> eldest) {
+                if (size() <= maxSize) {
+                    return false;
+                }
+                unindex(eldest.getKey(), eldest.getValue());
+                evictions.incrementAndGet();
+                return true;
+            }
+        };
+    }
+
+    public Mono<JwtAuthenticatedUser> get(String subject, Function<String, Mono<ApplicationUserEntity>> loader,
+                                          Function<ApplicationUserEntity, List<SimpleGrantedAuthority>> authorities) {
+        return Mono.defer(() -> lookup(subject, loader, authorities));
+    }
+
+    public synchronized void invalidate(Integer userId) {
+        invalidations.incrementAndGet();
+        Set<String> subjects = subjectsByUserId.remove(userId);
+        if (subjects != null) {
+            subjects.forEach(cache::remove);
+        }
+    }
+
+    public synchronized void invalidateAll() {
+        invalidations.incrementAndGet();
+        cache.clear();
+        subjectsByUserId.clear();
+    }
+
+    public long hitCount() {
+        return hits.get();
+    }
+
+    public long missCount() {
+        return misses.get();
+    }
+
+    public long evictionCount() {
+        return evictions.get();
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    private Mono<JwtAuthenticatedUser> lookup(String subject, Function<String, Mono<ApplicationUserEntity>> loader,
+                                              Function<ApplicationUserEntity, List<SimpleGrantedAuthority>> authorities) {
+        CachedPrincipal cached = getIfValid(subject);
+        if (cached != null) {
+            hits.incrementAndGet();
+            return Mono.just(new JwtAuthenticatedUser(cached.user(), cached.authorities()));
+        }
+        misses.incrementAndGet();
+        long generation = invalidations.get();
+        return loader.apply(subject)
+                     .map(user -> put(subject, user, List.copyOf(authorities.apply(user)), generation))
+                     .map(principal -> new JwtAuthenticatedUser(principal.user(), principal.authorities()));
+    }
+
+    private synchronized CachedPrincipal getIfValid(String subject) {
+        CachedPrincipal cached = cache.get(subject);
+        if (cached == null) {
+            return null;
+        }
+        if (cached.expiresAt() > clock.millis()) {
+            return cached;
+        }
+        cache.remove(subject);
+        unindex(subject, cached);
+        evictions.incrementAndGet();
+        return null;
+    }
+
+    private synchronized CachedPrincipal put(String subject, ApplicationUserEntity user,
+                                             List<SimpleGrantedAuthority> authorities, long generation) {
+        CachedPrincipal principal = new CachedPrincipal(user, authorities, clock.millis() + ttlMillis);
+        // a load that raced with an invalidation may have read the state from before the change
+        if (invalidations.get() != generation) {
+            return principal;
+        }
+        CachedPrincipal previous = cache.put(subject, principal);
+        if (previous != null) {
+            unindex(subject, previous);
+        }
+        subjectsByUserId.computeIfAbsent(user.id(), id -> new HashSet<>()).add(subject);
+        return principal;
+    }
+
+    private void unindex(String subject, CachedPrincipal principal) {
+        Set<String> subjects = subjectsByUserId.get(principal.user().id());
+        if (subjects != null && subjects.remove(subject) && subjects.isEmpty()) {
+            subjectsByUserId.remove(principal.user().id());
+        }
+    }
+
+    @Value
+    private static class CachedPrincipal {
+        ApplicationUserEntity user;
+        List<SimpleGrantedAuthority> authorities;
+        long expiresAt;
+    }
+}
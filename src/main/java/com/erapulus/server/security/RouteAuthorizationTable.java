@@ -0,0 +1,163 @@
+package com.erapulus.server.security;
+
+import lombok.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.ReactiveAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.authorization.AuthorizationContext;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class RouteAuthorizationTable implements ReactiveAuthorizationManager<AuthorizationContext> {
+
+    private static final AuthorizationDecision DENIED = new AuthorizationDecision(false);
+    private static final char SEPARATOR = '/';
+
+    private final Map<HttpMethod, Node> roots = new EnumMap<>(HttpMethod.class);
+    private final List<RouteDefinition> definitions = new ArrayList<>();
+
+    public RouteAuthorizationTable add(HttpMethod method, ReactiveAuthorizationManager<AuthorizationContext> rule, String... patterns) {
+        for (String pattern : patterns) {
+            Node node = roots.computeIfAbsent(method, key -> new Node());
+            for (String segment : split(pattern)) {
+                node = node.child(segment);
+            }
+            if (node.rule == null) {
+                node.rule = rule;
+            }
+            definitions.add(new RouteDefinition(method, pattern, rule));
+        }
+        return this;
+    }
+
+    @Override
+    public Mono<AuthorizationDecision> check(Mono<Authentication> authentication, AuthorizationContext context) {
+        ServerHttpRequest request = context.getExchange().getRequest();
+        Route route = resolve(request.getMethod(), request.getPath().pathWithinApplication().value());
+        if (route == null) {
+            return Mono.just(DENIED);
+        }
+        return route.rule().check(authentication, new AuthorizationContext(context.getExchange(), route.variables()));
+    }
+
+    public Route resolve(HttpMethod method, String path) {
+        Node root = method != null ? roots.get(method) : null;
+        if (root == null) {
+            return null;
+        }
+        List<String> segments = split(path);
+        String[] captured = new String[segments.size()];
+        Node node = root.match(segments, 0, captured);
+        if (node == null) {
+            return null;
+        }
+        return new Route(node.rule, variables(node, captured));
+    }
+
+    List<RouteDefinition> definitions() {
+        return Collections.unmodifiableList(definitions);
+    }
+
+    private static Map<String, Object> variables(Node matched, String[] captured) {
+        Map<String, Object> variables = null;
+        Node node = matched;
+        for (int depth = captured.length - 1; depth >= 0; depth--) {
+            node = node.parent;
+            if (captured[depth] != null) {
+                if (variables == null) {
+                    variables = new HashMap<>();
+                }
+                variables.put(node.variableName, captured[depth]);
+            }
+        }
+        return variables != null ? variables : Collections.emptyMap();
+    }
+
+    private static List<String> split(String path) {
+        List<String> segments = new ArrayList<>(8);
+        int start = path.startsWith("/") ? 1 : 0;
+        int length = path.endsWith("/") && path.length() > start ? path.length() - 1 : path.length();
+        while (start <= length && length > 0) {
+            int end = path.indexOf(SEPARATOR, start);
+            if (end < 0 || end > length) {
+                end = length;
+            }
+            segments.add(path.substring(start, end));
+            start = end + 1;
+        }
+        return segments;
+    }
+
+    private static class Node {
+
+        private final Map<String, Node> literals = new HashMap<>();
+        private Node parent;
+        private Node variable;
+        private String variableName;
+        private ReactiveAuthorizationManager<AuthorizationContext> rule;
+
+        Node child(String segment) {
+            if (segment.startsWith("{") && segment.endsWith("}")) {
+                String name = segment.substring(1, segment.length() - 1);
+                if (variable == null) {
+                    variable = new Node();
+                    variable.parent = this;
+                    variableName = name;
+                } else if (!variableName.equals(name)) {
+                    throw new IllegalStateException("Conflicting path variables: " + variableName + ", " + name);
+                }
+                return variable;
+            }
+            return literals.computeIfAbsent(segment, key -> {
+                Node literal = new Node();
+                literal.parent = this;
+                return literal;
+            });
+        }
+
+        Node match(List<String> segments, int depth, String[] captured) {
+            if (depth == segments.size()) {
+                return rule != null ? this : null;
+            }
+            String segment = segments.get(depth);
+            Node literal = literals.get(segment);
+            if (literal != null) {
+                captured[depth] = null;
+                Node matched = literal.match(segments, depth + 1, captured);
+                if (matched != null) {
+                    return matched;
+                }
+            }
+            if (variable != null && !segment.isEmpty()) {
+                captured[depth] = segment;
+                Node matched = variable.match(segments, depth + 1, captured);
+                if (matched != null) {
+                    return matched;
+                }
+                captured[depth] = null;
+            }
+            return null;
+        }
+    }
+
+    @Value
+    public static class Route {
+        ReactiveAuthorizationManager<AuthorizationContext> rule;
+        Map<String, Object> variables;
+    }
+
+    @Value
+    static class RouteDefinition {
+        HttpMethod method;
+        String pattern;
+        ReactiveAuthorizationManager<AuthorizationContext> rule;
+    }
+}
@@ -0,0 +1,53 @@
+package com.erapulus.server.security;
+
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class UserEpochRegistry {
+
+    static final Duration RETENTION = Duration.ofDays(1);
+
+    private final Map<Integer, Long> minimumEpochs = new ConcurrentHashMap<>();
+    private final AtomicLong lastEpoch = new AtomicLong();
+    private final Clock clock;
+
+    public UserEpochRegistry() {
+        this(Clock.systemUTC());
+    }
+
+    UserEpochRegistry(Clock clock) {
+        this.clock = clock;
+    }
+
+    public long currentEpoch() {
+        return nextEpoch();
+    }
+
+    public void revoke(Integer userId) {
+        long revocationEpoch = nextEpoch();
+        long now = clock.millis();
+        minimumEpochs.values().removeIf(epoch -> epoch + RETENTION.toMillis() < now);
+        minimumEpochs.put(userId, revocationEpoch);
+    }
+
+    // strictly increasing, so a token minted in the same millisecond as a revocation is still ordered before it
+    private long nextEpoch() {
+        long now = clock.millis();
+        return lastEpoch.updateAndGet(last -> Math.max(last + 1, now));
+    }
+
+    public boolean isRevoked(Integer userId, long epoch) {
+        Long minimumEpoch = minimumEpochs.get(userId);
+        return minimumEpoch != null && epoch < minimumEpoch;
+    }
+
+    public int size() {
+        return minimumEpochs.size();
+    }
+}
@@ -13,8 +13,8 @@ public interface StudentRepository extends R2dbcRepository<StudentEntity, Intege
     @Query("""
             SELECT id, first_name, last_name, picture_url
             FROM application_user
-            WHERE (:name IS NULL OR LOWER(CONCAT(first_name, last_name)) LIKE LOWER(CONCAT('%', :name, '%'))
-                                 OR LOWER(CONCAT(last_name, first_name)) LIKE LOWER(CONCAT('%', :name, '%')))
+            WHERE (:name IS NULL OR id IN (SELECT s.application_user FROM application_user_name_suffix s
+                                           WHERE s.suffix LIKE CONCAT(LOWER(:name), '%')))
             AND type = 'STUDENT'
             AND university = :university
             AND id != :studentId
@@ -5,6 +5,7 @@ import lombok.Builder;
 import lombok.Data;
 
 import javax.validation.constraints.NotNull;
+import java.util.Map;
 
 @Data
 @Builder
@@ -24,4 +25,7 @@ public class StudentListDto {
 
     @JsonProperty("pictureUrl")
     private String pictureUrl;
+
+    @JsonProperty("pictureThumbnailUrls")
+    private Map<Integer, String> pictureThumbnailUrls;
 }
@@ -1,19 +1,25 @@
 package com.erapulus.server.student.mapper;
 
+import com.erapulus.server.common.mapper.EntityToResponseDtoMapper;
+import com.erapulus.server.common.service.ImageThumbnails;
 import com.erapulus.server.student.database.StudentEntity;
 import com.erapulus.server.student.dto.StudentListDto;
-import lombok.AccessLevel;
-import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import org.springframework.stereotype.Component;
 
-@NoArgsConstructor(access = AccessLevel.PRIVATE)
-public class StudentEntityToListDtoMapper {
+@Component
+@AllArgsConstructor
+public class StudentEntityToListDtoMapper implements EntityToResponseDtoMapper<StudentEntity, StudentListDto> {
 
-    public static StudentListDto from(StudentEntity studentEntity) {
+    private final ImageThumbnails imageThumbnails;
+
+    public StudentListDto from(StudentEntity studentEntity) {
         return StudentListDto.builder()
                              .id(studentEntity.id())
                              .firstName(studentEntity.firstName())
                              .lastName(studentEntity.lastName())
                              .pictureUrl(studentEntity.pictureUrl())
+                             .pictureThumbnailUrls(imageThumbnails.thumbnailUrls(studentEntity.pictureUrl()))
                              .build();
     }
 }
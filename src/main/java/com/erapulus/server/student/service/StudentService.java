@@ -1,10 +1,14 @@
 package com.erapulus.server.student.service;
 
+import com.erapulus.server.common.database.AfterTransaction;
 import com.erapulus.server.common.database.UserType;
 import com.erapulus.server.common.mapper.EntityToResponseDtoMapper;
 import com.erapulus.server.common.mapper.RequestDtoToEntityMapper;
-import com.erapulus.server.common.service.AzureStorageService;
 import com.erapulus.server.common.service.CrudGenericService;
+import com.erapulus.server.common.service.ImageService;
+import com.erapulus.server.common.service.StoragePaths;
+import com.erapulus.server.security.PrincipalCache;
+import com.erapulus.server.security.UserEpochRegistry;
 import com.erapulus.server.student.database.StudentEntity;
 import com.erapulus.server.student.database.StudentRepository;
 import com.erapulus.server.student.dto.StudentListDto;
@@ -38,20 +42,29 @@ public class StudentService extends CrudGenericService<StudentEntity, StudentReq
 
     private final StudentRepository studentRepository;
     private final UniversityRepository universityRepository;
-    private final AzureStorageService azureStorageService;
+    private final ImageService imageService;
     private final UniversityEntityToResponseDtoMapper universityEntityToResponseDtoMapper;
+    private final StudentEntityToListDtoMapper studentEntityToListDtoMapper;
+    private final PrincipalCache principalCache;
+    private final UserEpochRegistry userEpochRegistry;
 
     public StudentService(StudentRepository studentRepository,
                           RequestDtoToEntityMapper<StudentRequestDto, StudentEntity> requestDtoToEntityMapper,
                           EntityToResponseDtoMapper<StudentEntity, StudentResponseDto> entityToResponseDtoMapper,
                           UniversityRepository universityRepository,
-                          AzureStorageService azureStorageService,
-                          UniversityEntityToResponseDtoMapper universityEntityToResponseDtoMapper) {
+                          ImageService imageService,
+                          UniversityEntityToResponseDtoMapper universityEntityToResponseDtoMapper,
+                          StudentEntityToListDtoMapper studentEntityToListDtoMapper,
+                          PrincipalCache principalCache,
+                          UserEpochRegistry userEpochRegistry) {
         super(studentRepository, requestDtoToEntityMapper, entityToResponseDtoMapper, "student");
         this.studentRepository = studentRepository;
         this.universityRepository = universityRepository;
-        this.azureStorageService = azureStorageService;
+        this.imageService = imageService;
         this.universityEntityToResponseDtoMapper = universityEntityToResponseDtoMapper;
+        this.studentEntityToListDtoMapper = studentEntityToListDtoMapper;
+        this.principalCache = principalCache;
+        this.userEpochRegistry = userEpochRegistry;
     }
 
     public Mono<List<StudentListDto>> listStudents(String name) {
@@ -60,7 +73,7 @@ public class StudentService extends CrudGenericService<StudentEntity, StudentReq
             return Mono.just(Collections.emptyList());
         }
         return withSecurityContext(user -> studentRepository.findAllByNameAndUniversityId(user.id(), parsedName, user.universityId())
-                                                            .map(StudentEntityToListDtoMapper::from)
+                                                            .map(studentEntityToListDtoMapper::from)
                                                             .collectList());
     }
 
@@ -75,7 +88,8 @@ public class StudentService extends CrudGenericService<StudentEntity, StudentReq
         BinaryOperator<StudentEntity> mergeEntity = (oldStudent, newStudent) -> newStudent.pictureUrl(oldStudent.pictureUrl())
                                                                                           .universityId(oldStudent.universityId())
                                                                                           .email(oldStudent.email());
-        return updateEntity(requestDto, addParamFromPath, supplier, mergeEntity);
+        return updateEntity(requestDto, addParamFromPath, supplier, mergeEntity)
+                .flatMap(student -> AfterTransaction.run(() -> principalCache.invalidate(studentId)).thenReturn(student));
     }
 
     public Mono<UniversityResponseDto> updateStudentUniversity(@Valid StudentUniversityUpdateDto universityDto, int studentId) {
@@ -86,17 +100,24 @@ public class StudentService extends CrudGenericService<StudentEntity, StudentReq
                                 .switchIfEmpty(Mono.error(new NoSuchElementException("university")))
                                 .flatMap(universityAndStudent -> studentRepository.save(universityAndStudent.getT2())
                                                                                   .thenReturn(universityAndStudent.getT1()))
+                                .doOnNext(university -> userEpochRegistry.revoke(studentId))
+                                .flatMap(university -> AfterTransaction.run(() -> principalCache.invalidate(studentId)).thenReturn(university))
                                 .map(universityEntityToResponseDtoMapper::from);
 
     }
 
     @Transactional
     public Mono<StudentResponseDto> updateStudentPhoto(int studentId, FilePart photo) {
-        String filePath = "user/%d/photo/%s".formatted(studentId, photo.filename());
+        String filePath = StoragePaths.unique("user/%d/photo".formatted(studentId), photo.filename());
         return studentRepository.findByIdAndType(studentId)
                                 .switchIfEmpty(Mono.error(new NoSuchElementException(entityName)))
-                                .flatMap(student -> azureStorageService.uploadFile(photo, filePath)
-                                                                       .flatMap(path -> studentRepository.save(student.pictureUrl(path))))
+                                .flatMap(student -> {
+                                    String oldPictureUrl = student.pictureUrl();
+                                    return imageService.uploadImage(photo, filePath)
+                                                       .flatMap(path -> studentRepository.save(student.pictureUrl(path)))
+                                                       .flatMap(saved -> imageService.scheduleReplaced(oldPictureUrl, saved.pictureUrl())
+                                                                                     .thenReturn(saved));
+                                })
                                 .map(entityToResponseDtoMapper::from);
     }
 }
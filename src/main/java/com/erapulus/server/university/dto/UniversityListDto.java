@@ -4,6 +4,8 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Data;
 
+import java.util.Map;
+
 @Data
 @Builder
 public class UniversityListDto {
@@ -15,4 +17,7 @@ public class UniversityListDto {
 
     @JsonProperty("logoUrl")
     private String logoUrl;
+
+    @JsonProperty("logoThumbnailUrls")
+    private Map<Integer, String> logoThumbnailUrls;
 }
@@ -1,14 +1,17 @@
 package com.erapulus.server.university.dto;
 
+import com.erapulus.server.common.web.VersionedResponse;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Builder;
 import lombok.Data;
 
 import javax.validation.constraints.NotNull;
+import java.time.LocalDateTime;
 
 @Data
 @Builder
-public class UniversityResponseDto {
+public class UniversityResponseDto implements VersionedResponse {
     @NotNull
     @JsonProperty("id")
     private Integer id;
@@ -44,4 +47,7 @@ public class UniversityResponseDto {
 
     @JsonProperty("logoUrl")
     private String logoUrl;
+
+    @JsonIgnore
+    private LocalDateTime lastModifiedDate;
 }
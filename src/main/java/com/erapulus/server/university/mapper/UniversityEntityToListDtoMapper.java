@@ -1,18 +1,24 @@
 package com.erapulus.server.university.mapper;
 
 import com.erapulus.server.common.mapper.EntityToResponseDtoMapper;
+import com.erapulus.server.common.service.ImageThumbnails;
 import com.erapulus.server.university.database.UniversityEntity;
 import com.erapulus.server.university.dto.UniversityListDto;
+import lombok.AllArgsConstructor;
 import org.springframework.stereotype.Component;
 
 @Component
+@AllArgsConstructor
 public class UniversityEntityToListDtoMapper implements EntityToResponseDtoMapper<UniversityEntity, UniversityListDto> {
 
+    private final ImageThumbnails imageThumbnails;
+
     public UniversityListDto from(UniversityEntity universityEntity) {
         return UniversityListDto.builder()
                                 .id(universityEntity.id())
                                 .name(universityEntity.name())
                                 .logoUrl(universityEntity.logoUrl())
+                                .logoThumbnailUrls(imageThumbnails.thumbnailUrls(universityEntity.logoUrl()))
                                 .build();
     }
 }
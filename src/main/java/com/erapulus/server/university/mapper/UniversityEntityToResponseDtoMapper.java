@@ -19,6 +19,7 @@ public class UniversityEntityToResponseDtoMapper implements EntityToResponseDtoM
                                     .description(universityEntity.description())
                                     .websiteUrl(universityEntity.websiteUrl())
                                     .logoUrl(universityEntity.logoUrl())
+                                    .lastModifiedDate(universityEntity.lastModifiedDate())
                                     .build();
     }
 }
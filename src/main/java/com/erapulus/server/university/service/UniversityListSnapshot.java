@@ -0,0 +1,14 @@
+package com.erapulus.server.university.service;
+
+import com.erapulus.server.university.dto.UniversityListDto;
+import lombok.Value;
+
+import java.util.List;
+
+@Value
+public class UniversityListSnapshot {
+    long version;
+    List<UniversityListDto> universities;
+    String eTag;
+    byte[] body;
+}
@@ -1,10 +1,14 @@
 package com.erapulus.server.university.service;
 
 import com.erapulus.server.building.service.BuildingService;
+import com.erapulus.server.common.database.AfterTransaction;
 import com.erapulus.server.common.mapper.EntityToResponseDtoMapper;
 import com.erapulus.server.common.mapper.RequestDtoToEntityMapper;
-import com.erapulus.server.common.service.AzureStorageService;
 import com.erapulus.server.common.service.CrudGenericService;
+import com.erapulus.server.common.service.ImageService;
+import com.erapulus.server.common.service.StoragePaths;
+import com.erapulus.server.common.web.ETags;
+import com.erapulus.server.common.web.ResponseTemplate;
 import com.erapulus.server.document.service.DocumentService;
 import com.erapulus.server.employee.service.EmployeeService;
 import com.erapulus.server.faculty.service.FacultyService;
@@ -15,6 +19,8 @@ import com.erapulus.server.university.dto.UniversityListDto;
 import com.erapulus.server.university.dto.UniversityRequestDto;
 import com.erapulus.server.university.dto.UniversityResponseDto;
 import com.erapulus.server.university.mapper.UniversityEntityToListDtoMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.codec.multipart.FilePart;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,6 +30,7 @@ import reactor.core.publisher.Mono;
 import javax.validation.Valid;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BinaryOperator;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
@@ -34,43 +41,61 @@ public class UniversityService extends CrudGenericService<UniversityEntity, Univ
 
     private final UniversityRepository universityRepository;
     private final UniversityEntityToListDtoMapper universityEntityToListDtoMapper;
-    private final AzureStorageService azureStorageService;
+    private final ImageService imageService;
     private final FacultyService facultyService;
     private final DocumentService documentService;
     private final PostService postService;
     private final EmployeeService employeeService;
     private final BuildingService buildingService;
-
+    private final ObjectMapper objectMapper;
+    private final AtomicLong universityListVersion = new AtomicLong();
+    private volatile UniversityListSnapshot universityListSnapshot;
 
     public UniversityService(UniversityRepository universityRepository,
                              RequestDtoToEntityMapper<UniversityRequestDto, UniversityEntity> requestDtoToEntityMapper,
                              EntityToResponseDtoMapper<UniversityEntity, UniversityResponseDto> entityToResponseDtoMapper,
                              UniversityEntityToListDtoMapper universityEntityToListDtoMapper,
-                             AzureStorageService azureStorageService,
+                             ImageService imageService,
                              FacultyService facultyService, DocumentService documentService,
                              PostService postService,
                              EmployeeService employeeService,
-                             BuildingService buildingService) {
+                             BuildingService buildingService,
+                             ObjectMapper objectMapper) {
         super(universityRepository, requestDtoToEntityMapper, entityToResponseDtoMapper, "university");
         this.universityRepository = universityRepository;
         this.universityEntityToListDtoMapper = universityEntityToListDtoMapper;
-        this.azureStorageService = azureStorageService;
+        this.imageService = imageService;
         this.facultyService = facultyService;
         this.documentService = documentService;
         this.postService = postService;
         this.employeeService = employeeService;
         this.buildingService = buildingService;
+        this.objectMapper = objectMapper;
     }
 
     public Mono<List<UniversityListDto>> listUniversities() {
-        return universityRepository.findAllUniversities()
-                                   .map(universityEntityToListDtoMapper::from)
-                                   .collectList();
+        return getUniversityListSnapshot().map(UniversityListSnapshot::universities);
+    }
+
+    public Mono<UniversityListSnapshot> getUniversityListSnapshot() {
+        return Mono.defer(() -> {
+            long version = universityListVersion.get();
+            UniversityListSnapshot snapshot = universityListSnapshot;
+            if (snapshot != null && snapshot.version() == version) {
+                return Mono.just(snapshot);
+            }
+            return universityRepository.findAllUniversities()
+                                       .map(universityEntityToListDtoMapper::from)
+                                       .collectList()
+                                       .flatMap(universities -> createSnapshot(version, universities))
+                                       .doOnNext(created -> universityListSnapshot = created);
+        });
     }
 
     public Mono<UniversityResponseDto> createUniversity(@Valid UniversityRequestDto requestDto) {
         UnaryOperator<UniversityEntity> addParamFromPath = university -> university;
-        return createEntity(requestDto, addParamFromPath);
+        return createEntity(requestDto, addParamFromPath)
+                .doOnNext(university -> invalidateUniversityList());
     }
 
     public Mono<UniversityResponseDto> getUniversityById(int universityId) {
@@ -82,26 +107,52 @@ public class UniversityService extends CrudGenericService<UniversityEntity, Univ
         UnaryOperator<UniversityEntity> addParamFromPath = university -> university.id(universityId);
         Supplier<Mono<UniversityEntity>> supplier = () -> universityRepository.findById(universityId);
         BinaryOperator<UniversityEntity> mergeEntity = (oldUniversity, newUniversity) -> newUniversity.logoUrl(oldUniversity.logoUrl());
-        return updateEntity(requestDto, addParamFromPath, supplier, mergeEntity);
+        return updateEntity(requestDto, addParamFromPath, supplier, mergeEntity)
+                .doOnNext(university -> invalidateUniversityList());
     }
 
     @Transactional
     public Mono<Boolean> deleteUniversity(int universityId) {
         Supplier<Mono<UniversityEntity>> supplier = () -> universityRepository.findById(universityId);
-        return facultyService.deleteAllFacultiesByUniversityId(universityId)
-                             .thenMany(documentService.deleteAllDocumentsByUniversityId(universityId))
-                             .thenMany(buildingService.deleteAllBuildingsByUniversityId(universityId))
-                             .thenMany(postService.deleteAllPostsByUniversityId(universityId))
-                             .thenMany(employeeService.deleteAllEmployeesByUniversityId(universityId))
-                             .then(deleteEntity(supplier));
+        return documentService.deleteAllDocumentsByUniversityId(universityId)
+                              .then(facultyService.deleteAllFacultiesByUniversityId(universityId))
+                              .then(buildingService.deleteAllBuildingsByUniversityId(universityId))
+                              .then(postService.deleteAllPostsByUniversityId(universityId))
+                              .then(employeeService.deleteAllEmployeesByUniversityId(universityId))
+                              .then(deleteEntity(supplier))
+                              .flatMap(deleted -> invalidateUniversityListAfterTransaction().thenReturn(deleted));
     }
 
+    @Transactional
     public Mono<UniversityResponseDto> updateUniversityLogo(Integer universityId, FilePart photo) {
-        String filePath = "university/%d/logo/%s".formatted(universityId, photo.filename());
+        String filePath = StoragePaths.unique("university/%d/logo".formatted(universityId), photo.filename());
         return universityRepository.findById(universityId)
                                    .switchIfEmpty(Mono.error(new NoSuchElementException(entityName)))
-                                   .flatMap(student -> azureStorageService.uploadFile(photo, filePath)
-                                                                          .flatMap(path -> universityRepository.save(student.logoUrl(path))))
+                                   .flatMap(university -> {
+                                       String oldLogoUrl = university.logoUrl();
+                                       return imageService.uploadImage(photo, filePath)
+                                                          .flatMap(path -> universityRepository.save(university.logoUrl(path)))
+                                                          .flatMap(saved -> imageService.scheduleReplaced(oldLogoUrl, saved.logoUrl())
+                                                                                        .thenReturn(saved));
+                                   })
+                                   .flatMap(university -> invalidateUniversityListAfterTransaction().thenReturn(university))
                                    .map(entityToResponseDtoMapper::from);
     }
+
+    private Mono<UniversityListSnapshot> createSnapshot(long version, List<UniversityListDto> universities) {
+        ResponseTemplate<List<UniversityListDto>> response = ResponseTemplate.<List<UniversityListDto>>builder()
+                                                                             .status(HttpStatus.OK.value())
+                                                                             .payload(universities)
+                                                                             .build();
+        return Mono.fromCallable(() -> objectMapper.writeValueAsBytes(response))
+                   .map(body -> new UniversityListSnapshot(version, universities, ETags.fromContent(body), body));
+    }
+
+    private void invalidateUniversityList() {
+        universityListVersion.incrementAndGet();
+    }
+
+    private Mono<Void> invalidateUniversityListAfterTransaction() {
+        return AfterTransaction.run(this::invalidateUniversityList);
+    }
 }
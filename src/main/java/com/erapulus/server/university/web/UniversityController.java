@@ -52,14 +52,15 @@ public class UniversityController {
             summary = "List universities",
             responses = {
                     @ApiResponse(responseCode = "200", description = OK, content = @Content(array = @ArraySchema(schema = @Schema(implementation = UniversityListDto.class)))),
+                    @ApiResponse(responseCode = "304", description = NOT_MODIFIED),
                     @ApiResponse(responseCode = "401", description = UNAUTHORIZED),
                     @ApiResponse(responseCode = "403", description = FORBIDDEN),
                     @ApiResponse(responseCode = "500", description = INTERNAL_SERVER_ERROR)
             }
     )
     public Mono<ServerResponse> listUniversities(ServerRequest request) {
-        return universityService.listUniversities()
-                                .flatMap(ServerResponseFactory::createHttpSuccessResponse)
+        return universityService.getUniversityListSnapshot()
+                                .flatMap(snapshot -> ServerResponseFactory.createHttpSuccessResponse(request, snapshot.eTag(), snapshot.body()))
                                 .doOnError(e -> log.error(e.getMessage(), e))
                                 .onErrorResume(e -> ServerResponseFactory.createHttpInternalServerErrorResponse());
     }
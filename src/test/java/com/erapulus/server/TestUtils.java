@@ -1,5 +1,7 @@
 package com.erapulus.server;
 
+import com.erapulus.server.common.service.FileStorageService;
+import com.erapulus.server.common.service.ImageThumbnails;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.AccessLevel;
@@ -17,6 +19,8 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.fail;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class TestUtils {
@@ -51,6 +55,12 @@ public class TestUtils {
                 .toList();
     }
 
+    public static ImageThumbnails createImageThumbnails(String baseUrl) {
+        FileStorageService fileStorageService = mock(FileStorageService.class);
+        when(fileStorageService.baseUrl()).thenReturn(baseUrl);
+        return new ImageThumbnails(fileStorageService);
+    }
+
     public static Validator createValidator() {
         return Validation.buildDefaultValidatorFactory().getValidator();
     }
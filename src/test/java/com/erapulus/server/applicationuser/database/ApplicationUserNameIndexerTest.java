@@ -0,0 +1,57 @@
+package com.erapulus.server.applicationuser.database;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class ApplicationUserNameIndexerTest {
+
+    @Test
+    void suffixes_shouldReturnLowercaseSuffixesOfBothNameOrders() {
+        // when
+        Set<String> result = ApplicationUserNameIndexer.suffixes("Jo", "Al");
+
+        // then
+        assertEquals(Set.of("joal", "oal", "al", "l", "aljo", "ljo", "jo", "o"), result);
+    }
+
+    @Test
+    void suffixes_shouldSkipDuplicatesAndMissingNames() {
+        // when
+        Set<String> result = ApplicationUserNameIndexer.suffixes("Aa", null);
+
+        // then
+        assertEquals(Set.of("aa", "a"), result);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void onAfterSave_shouldNotRewriteSuffixesWhenNameUnchanged() {
+        // given
+        DatabaseClient databaseClient = mock(DatabaseClient.class, RETURNS_DEEP_STUBS);
+        ApplicationUserEntity user = ApplicationUserEntity.builder().id(1).firstName("Jo").lastName("Al").build();
+        when(databaseClient.sql(anyString()).bind(anyString(), any()).map(any(Function.class)).all())
+                .thenReturn(Flux.fromIterable(ApplicationUserNameIndexer.suffixes("Jo", "Al")));
+        clearInvocations(databaseClient);
+
+        // when
+        Mono<ApplicationUserEntity> result = Mono.from(new ApplicationUserNameIndexer(databaseClient).onAfterSave(user, null, null));
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNext(user)
+                    .verifyComplete();
+        verify(databaseClient, times(1)).sql(anyString());
+    }
+}
@@ -14,6 +14,7 @@ import reactor.test.StepVerifier;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -29,6 +30,9 @@ class ApplicationUserRepositoryTest {
     private static final String EMAIL_3 = "example3@gmail.com";
     private static final String UNIVERSITY_1 = "university1";
     private static final String UNIVERSITY_2 = "university2";
+    private static final int SEEDED_USERS = 200;
+    private static final List<String> SEEDED_FIRST_NAMES = List.of("Anne", "John", "Maria", "Piotr", "Zoe");
+    private static final List<String> SEEDED_LAST_NAMES = List.of("Smith", "Johnson", "Nowak", "Kowalski");
 
     @Autowired
     private ApplicationUserRepository applicationUserRepository;
@@ -134,6 +138,53 @@ class ApplicationUserRepositoryTest {
                     .verifyComplete();
     }
 
+    @Test
+    void findByFilters_shouldMatchNameAfterUserRenamed() {
+        // given
+        var user = createUser(FIRST_NAME_2, LAST_NAME_1, UserType.STUDENT, EMAIL_1, null);
+        applicationUserRepository.save(user.firstName(FIRST_NAME_1)).block();
+
+        // when
+        Flux<ApplicationUserEntity> oldName = applicationUserRepository.findAllByFilters(null, null, "anne", null, 0, 3);
+        Flux<ApplicationUserEntity> newName = applicationUserRepository.findAllByFilters(null, null, "smithjo", null, 0, 3);
+
+        // then
+        StepVerifier.create(oldName)
+                    .expectSubscription()
+                    .verifyComplete();
+        StepVerifier.create(newName.map(ApplicationUserEntity::id))
+                    .expectSubscription()
+                    .expectNext(user.id())
+                    .verifyComplete();
+    }
+
+    @Test
+    void findByFilters_shouldReturnSameUsersAsSubstringSearch() {
+        // given
+        List<ApplicationUserEntity> users = new ArrayList<>();
+        for (int i = 0; i < SEEDED_USERS; i++) {
+            String firstName = SEEDED_FIRST_NAMES.get(i % SEEDED_FIRST_NAMES.size());
+            String lastName = SEEDED_LAST_NAMES.get(i / SEEDED_FIRST_NAMES.size() % SEEDED_LAST_NAMES.size()) + i;
+            users.add(createUser(firstName, lastName, UserType.STUDENT, "user" + i + "@gmail.com", null));
+        }
+
+        for (String name : List.of("ann", "SMITH", "ith1", "nnesm", "1anne", "x")) {
+            // when
+            Flux<Integer> result = applicationUserRepository.findAllByFilters(null, null, name, null, 0, SEEDED_USERS)
+                                                            .map(ApplicationUserEntity::id);
+
+            // then
+            List<Integer> expected = users.stream()
+                                          .filter(user -> containsName(user, name))
+                                          .map(ApplicationUserEntity::id)
+                                          .toList();
+            StepVerifier.create(result.collectList())
+                        .expectSubscription()
+                        .assertNext(ids -> assertEquals(expected, ids, name))
+                        .verifyComplete();
+        }
+    }
+
     @Test
     void findByFilters_shouldReturnUserWhenEmailGiven() {
         // given
@@ -291,6 +342,12 @@ class ApplicationUserRepositoryTest {
         return applicationUserRepository.save(applicationUser).block();
     }
 
+    private static boolean containsName(ApplicationUserEntity user, String name) {
+        String part = name.toLowerCase(Locale.ROOT);
+        return (user.firstName() + user.lastName()).toLowerCase(Locale.ROOT).contains(part)
+               || (user.lastName() + user.firstName()).toLowerCase(Locale.ROOT).contains(part);
+    }
+
     private UniversityEntity createUniversity(String name) {
         UniversityEntity university = UniversityEntity.builder()
                                                       .name(name)
@@ -5,9 +5,12 @@ import com.erapulus.server.applicationuser.database.ApplicationUserRepository;
 import com.erapulus.server.applicationuser.dto.ApplicationUserDto;
 import com.erapulus.server.applicationuser.mapper.ApplicationUserEntityToDtoMapper;
 import com.erapulus.server.common.database.UserType;
+import com.erapulus.server.common.database.PagedResult;
 import com.erapulus.server.common.web.PageablePayload;
 import com.erapulus.server.device.service.DeviceService;
 import com.erapulus.server.friendship.service.FriendshipService;
+import com.erapulus.server.security.PrincipalCache;
+import com.erapulus.server.security.UserEpochRegistry;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,6 +26,7 @@ import java.util.List;
 import java.util.NoSuchElementException;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,11 +43,17 @@ class ApplicationUserServiceTest {
     @Mock
     FriendshipService friendshipService;
 
+    @Mock
+    PrincipalCache principalCache;
+
+    @Mock
+    UserEpochRegistry userEpochRegistry;
+
     ApplicationUserService applicationUserService;
 
     @BeforeEach
     void setUp() {
-        applicationUserService = new ApplicationUserService(applicationUserRepository, deviceService, friendshipService, new ApplicationUserEntityToDtoMapper());
+        applicationUserService = new ApplicationUserService(applicationUserRepository, deviceService, friendshipService, new ApplicationUserEntityToDtoMapper(), principalCache, userEpochRegistry);
     }
 
     @Test
@@ -56,10 +66,8 @@ class ApplicationUserServiceTest {
         String name = "John";
         String email = "";
         PageRequest pageRequest = PageRequest.of(1, 10);
-        when(applicationUserRepository.findAllByFilters(1, UserType.STUDENT, name, null, pageRequest.getOffset(), pageRequest.getPageSize()))
-                .thenReturn(Flux.just(studentEntity));
-        when(applicationUserRepository.countByFilters(1, UserType.STUDENT, name, null))
-                .thenReturn(Mono.just(ApplicationUserServiceTest.ID));
+        when(applicationUserRepository.findPageByFilters(1, UserType.STUDENT, name, null, pageRequest.getOffset(), pageRequest.getPageSize()))
+                .thenReturn(Mono.just(new PagedResult<>(List.of(studentEntity), ApplicationUserServiceTest.ID)));
         PageablePayload<ApplicationUserDto> expected = new PageablePayload<>(List.of(studentDto), pageRequest, ApplicationUserServiceTest.ID);
 
         // when
@@ -110,6 +118,8 @@ class ApplicationUserServiceTest {
                     .expectSubscription()
                     .assertNext(Assertions::assertTrue)
                     .verifyComplete();
+        verify(principalCache).invalidate(ID);
+        verify(userEpochRegistry).revoke(ID);
     }
 
     @Test
@@ -9,6 +9,7 @@ import com.erapulus.server.applicationuser.dto.EmployeeLoginDto;
 import com.erapulus.server.security.FacebookTokenValidator;
 import com.erapulus.server.security.GoogleTokenValidator;
 import com.erapulus.server.security.JwtGenerator;
+import com.erapulus.server.security.PasswordHashingService;
 import com.erapulus.server.student.database.StudentEntity;
 import com.erapulus.server.student.database.StudentRepository;
 import com.erapulus.server.applicationuser.dto.StudentLoginDto;
@@ -18,7 +19,6 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.authentication.BadCredentialsException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -44,7 +44,7 @@ class LoginServiceTest {
     StudentRepository studentRepository;
 
     @Mock
-    BCryptPasswordEncoder bCryptPasswordEncoder;
+    PasswordHashingService passwordHashingService;
 
     @Mock
     JwtGenerator jwtGenerator;
@@ -59,7 +59,7 @@ class LoginServiceTest {
 
     @BeforeEach
     void setUp() {
-        loginService = new LoginService(employeeRepository, studentRepository, bCryptPasswordEncoder, jwtGenerator, googleTokenValidator, facebookTokenValidator);
+        loginService = new LoginService(employeeRepository, studentRepository, passwordHashingService, jwtGenerator, googleTokenValidator, facebookTokenValidator);
     }
 
     @Test
@@ -68,7 +68,7 @@ class LoginServiceTest {
         var employeeLoginDto = new EmployeeLoginDto(EMAIL, PASSWORD);
         var employee = createEmployee();
         when(employeeRepository.findByEmailAndType(EMAIL)).thenReturn(Mono.just(employee));
-        when(bCryptPasswordEncoder.matches(PASSWORD, PASSWORD)).thenReturn(true);
+        when(passwordHashingService.matches(PASSWORD, PASSWORD)).thenReturn(Mono.just(true));
         when(jwtGenerator.generate(employee)).thenReturn(TOKEN);
 
         // given
@@ -108,7 +108,7 @@ class LoginServiceTest {
         var employeeLoginDto = new EmployeeLoginDto(EMAIL, wrongPassword);
         var employee = createEmployee();
         when(employeeRepository.findByEmailAndType(EMAIL)).thenReturn(Mono.just(employee));
-        when(bCryptPasswordEncoder.matches(wrongPassword, PASSWORD)).thenReturn(false);
+        when(passwordHashingService.matches(wrongPassword, PASSWORD)).thenReturn(Mono.just(false));
 
         // given
         Mono<LoginResponseDto> result = loginService.validateEmployeeCredentials(employeeLoginDto);
@@ -6,13 +6,13 @@ import com.erapulus.server.employee.database.EmployeeRepository;
 import com.erapulus.server.employee.dto.EmployeeCreateRequestDto;
 import com.erapulus.server.employee.dto.EmployeeResponseDto;
 import com.erapulus.server.employee.mapper.EmployeeEntityToResponseDtoMapper;
+import com.erapulus.server.security.PasswordHashingService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataIntegrityViolationException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -34,7 +34,7 @@ class RegisterServiceTest {
     private static final int UNIVERSITY = 2;
 
     @Mock
-    BCryptPasswordEncoder bCryptPasswordEncoder;
+    PasswordHashingService passwordHashingService;
 
     @Mock
     EmployeeRepository employeeRepository;
@@ -43,7 +43,7 @@ class RegisterServiceTest {
 
     @BeforeEach
     void setUp() {
-        registerService = new RegisterService(bCryptPasswordEncoder, employeeRepository, new EmployeeEntityToResponseDtoMapper());
+        registerService = new RegisterService(passwordHashingService, employeeRepository, new EmployeeEntityToResponseDtoMapper());
     }
 
     @Test
@@ -55,7 +55,7 @@ class RegisterServiceTest {
                                                                                     .firstName(FIRST_NAME)
                                                                                     .lastName(LAST_NAME)
                                                                                     .build();
-        when(bCryptPasswordEncoder.encode(PASSWORD)).thenReturn(ENCRYPTED_PASSWORD);
+        when(passwordHashingService.encode(PASSWORD)).thenReturn(Mono.just(ENCRYPTED_PASSWORD));
         when(employeeRepository.save(any(EmployeeEntity.class)))
                 .then(invocationOnMock -> Mono.just(invocationOnMock.getArgument(0, EmployeeEntity.class).id(ID)));
 
@@ -86,7 +86,7 @@ class RegisterServiceTest {
                                                                                     .lastName(LAST_NAME)
                                                                                     .universityId(UNIVERSITY)
                                                                                     .build();
-        when(bCryptPasswordEncoder.encode(PASSWORD)).thenReturn(ENCRYPTED_PASSWORD);
+        when(passwordHashingService.encode(PASSWORD)).thenReturn(Mono.just(ENCRYPTED_PASSWORD));
         when(employeeRepository.save(any(EmployeeEntity.class))).thenThrow(new DataIntegrityViolationException("Duplicated"));
 
         // when
@@ -109,7 +109,7 @@ class RegisterServiceTest {
                                                                                     .lastName(LAST_NAME)
                                                                                     .universityId(UNIVERSITY)
                                                                                     .build();
-        when(bCryptPasswordEncoder.encode(PASSWORD)).thenReturn(ENCRYPTED_PASSWORD);
+        when(passwordHashingService.encode(PASSWORD)).thenReturn(Mono.just(ENCRYPTED_PASSWORD));
         when(employeeRepository.save(any(EmployeeEntity.class)))
                 .then(invocationOnMock -> Mono.just(invocationOnMock.getArgument(0, EmployeeEntity.class).id(ID)));
 
@@ -140,7 +140,7 @@ class RegisterServiceTest {
                                                                                     .lastName(LAST_NAME)
                                                                                     .universityId(UNIVERSITY)
                                                                                     .build();
-        when(bCryptPasswordEncoder.encode(PASSWORD)).thenReturn(ENCRYPTED_PASSWORD);
+        when(passwordHashingService.encode(PASSWORD)).thenReturn(Mono.just(ENCRYPTED_PASSWORD));
         when(employeeRepository.save(any(EmployeeEntity.class))).thenThrow(new DataIntegrityViolationException("Duplicated"));
 
         // when
@@ -162,7 +162,7 @@ class RegisterServiceTest {
                                                                                     .lastName(LAST_NAME)
                                                                                     .universityId(UNIVERSITY)
                                                                                     .build();
-        when(bCryptPasswordEncoder.encode(PASSWORD)).thenReturn(ENCRYPTED_PASSWORD);
+        when(passwordHashingService.encode(PASSWORD)).thenReturn(Mono.just(ENCRYPTED_PASSWORD));
         when(employeeRepository.save(any(EmployeeEntity.class)))
                 .then(invocationOnMock -> Mono.just(invocationOnMock.getArgument(0, EmployeeEntity.class).id(ID)));
 
@@ -193,7 +193,7 @@ class RegisterServiceTest {
                                                                                     .lastName(LAST_NAME)
                                                                                     .universityId(UNIVERSITY)
                                                                                     .build();
-        when(bCryptPasswordEncoder.encode(PASSWORD)).thenReturn(ENCRYPTED_PASSWORD);
+        when(passwordHashingService.encode(PASSWORD)).thenReturn(Mono.just(ENCRYPTED_PASSWORD));
         when(employeeRepository.save(any(EmployeeEntity.class))).thenThrow(new DataIntegrityViolationException("Duplicated"));
 
         // when
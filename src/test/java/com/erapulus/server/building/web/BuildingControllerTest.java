@@ -4,6 +4,7 @@ import com.erapulus.server.TestUtils;
 import com.erapulus.server.building.dto.BuildingRequestDto;
 import com.erapulus.server.building.dto.BuildingResponseDto;
 import com.erapulus.server.building.service.BuildingService;
+import com.erapulus.server.common.web.ETags;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,6 +13,8 @@ import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.reactive.server.WebTestClient;
@@ -20,6 +23,7 @@ import reactor.core.publisher.Mono;
 
 import javax.validation.ConstraintViolationException;
 import javax.validation.Validation;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.NoSuchElementException;
 
@@ -234,6 +238,26 @@ class BuildingControllerTest {
                      .expectBody().consumeWith(body -> TestUtils.assertJsonEquals(expectedResponse, TestUtils.getBodyAsString(body)));
     }
 
+    @Test
+    void getBuildingById_shouldReturnVersionHeadersWhenBuildingVersioned() {
+        // given
+        var lastModifiedDate = LocalDateTime.of(2026, 10, 18, 14, 0, 0, 123_456_000);
+        var buildingResponseDto = createBuildingResponseDto(BUILDING_ID_1).lastModifiedDate(lastModifiedDate);
+        when(buildingService.getBuildingById(BUILDING_ID_1, UNIVERSITY_ID)).thenReturn(Mono.just(buildingResponseDto));
+
+        // when-then
+        webTestClient.get()
+                     .uri(uriBuilder -> uriBuilder
+                             .path("/api/university/{universityId}/building/{buildingId}")
+                             .build(UNIVERSITY_ID, BUILDING_ID_1))
+                     .accept(MediaType.APPLICATION_JSON)
+                     .exchange()
+                     .expectStatus().isEqualTo(HttpStatus.OK)
+                     .expectHeader().valueEquals(HttpHeaders.ETAG, ETags.fromLastModified(lastModifiedDate))
+                     .expectHeader().lastModified(ETags.toInstant(lastModifiedDate).toEpochMilli() / 1000 * 1000)
+                     .expectHeader().cacheControl(CacheControl.noCache().cachePrivate());
+    }
+
     @Test
     void getBuildingById_shouldReturnNotFoundWhenNoSuchElementExceptionThrown() {
         // given
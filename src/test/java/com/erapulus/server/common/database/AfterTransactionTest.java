@@ -0,0 +1,77 @@
+package com.erapulus.server.common.database;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.AbstractReactiveTransactionManager;
+import org.springframework.transaction.reactive.GenericReactiveTransaction;
+import org.springframework.transaction.reactive.TransactionSynchronizationManager;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AfterTransactionTest {
+
+    @Test
+    void run_shouldRunActionImmediatelyWithoutTransaction() {
+        // given
+        AtomicInteger runs = new AtomicInteger();
+
+        // when
+        Mono<Void> result = AfterTransaction.run(runs::incrementAndGet);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .verifyComplete();
+        assertEquals(1, runs.get());
+    }
+
+    @Test
+    void run_shouldRunActionOnlyAfterTransactionCompleted() {
+        // given
+        AtomicInteger runs = new AtomicInteger();
+        TransactionalOperator operator = TransactionalOperator.create(new NoOpTransactionManager());
+
+        // when
+        Mono<Integer> result = AfterTransaction.run(runs::incrementAndGet)
+                                               .then(Mono.fromCallable(runs::get))
+                                               .as(operator::transactional);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNext(0)
+                    .verifyComplete();
+        assertEquals(1, runs.get());
+    }
+
+    private static class NoOpTransactionManager extends AbstractReactiveTransactionManager {
+
+        @Override
+        protected Object doGetTransaction(TransactionSynchronizationManager synchronizationManager) {
+            return new Object();
+        }
+
+        @Override
+        protected Mono<Void> doBegin(TransactionSynchronizationManager synchronizationManager, Object transaction,
+                                     TransactionDefinition definition) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doCommit(TransactionSynchronizationManager synchronizationManager,
+                                      GenericReactiveTransaction status) {
+            return Mono.empty();
+        }
+
+        @Override
+        protected Mono<Void> doRollback(TransactionSynchronizationManager synchronizationManager,
+                                        GenericReactiveTransaction status) {
+            return Mono.empty();
+        }
+    }
+}
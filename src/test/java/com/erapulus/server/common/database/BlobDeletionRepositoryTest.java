@@ -0,0 +1,71 @@
+package com.erapulus.server.common.database;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+
+@SpringBootTest
+class BlobDeletionRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 10, 18, 10, 0);
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Autowired
+    private BlobDeletionRepository blobDeletionRepository;
+
+    @AfterEach
+    void clean() {
+        blobDeletionRepository.deleteAll().block();
+    }
+
+    @Test
+    void findDue_shouldReturnOnlyDueDeletionsBelowMaxAttempts() {
+        // given
+        var deletion1 = createDeletion("path1", 0, NOW.minusMinutes(1));
+        createDeletion("path2", 0, NOW.plusMinutes(1));
+        createDeletion("path3", MAX_ATTEMPTS, NOW.minusMinutes(1));
+        var deletion4 = createDeletion("path4", MAX_ATTEMPTS - 1, NOW);
+
+        // when
+        Flux<BlobDeletionEntity> result = blobDeletionRepository.findDue(NOW, MAX_ATTEMPTS, 10);
+
+        // then
+        StepVerifier.create(result.map(BlobDeletionEntity::id))
+                    .expectSubscription()
+                    .expectNext(deletion1.id(), deletion4.id())
+                    .verifyComplete();
+    }
+
+    @Test
+    void countAbandoned_shouldCountDeletionsAtMaxAttempts() {
+        // given
+        createDeletion("path1", 0, NOW);
+        createDeletion("path2", MAX_ATTEMPTS, NOW);
+        createDeletion("path3", MAX_ATTEMPTS + 1, NOW);
+
+        // when
+        Mono<Long> result = blobDeletionRepository.countAbandoned(MAX_ATTEMPTS);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNext(2L)
+                    .verifyComplete();
+    }
+
+    private BlobDeletionEntity createDeletion(String path, int attempts, LocalDateTime nextAttemptAt) {
+        BlobDeletionEntity deletion = BlobDeletionEntity.builder()
+                                                        .path(path)
+                                                        .attempts(attempts)
+                                                        .createdAt(NOW)
+                                                        .nextAttemptAt(nextAttemptAt)
+                                                        .build();
+        return blobDeletionRepository.save(deletion).block();
+    }
+}
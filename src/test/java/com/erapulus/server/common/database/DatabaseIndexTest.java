@@ -0,0 +1,71 @@
+package com.erapulus.server.common.database;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class DatabaseIndexTest {
+
+    private static final String TABLE_SCAN = "TABLESCAN";
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', quoteCharacter = '"', value = {
+            "SELECT * FROM application_user WHERE university = 1 AND type = 'STUDENT' ORDER BY id | ix_application_user_university_type",
+            "SELECT * FROM application_user WHERE email = 'example@gmail.com'                     | uq_application_user_email",
+            "SELECT * FROM post WHERE university = 1 AND date >= '2021-01-01' AND date <= '2021-12-31' | ix_post_university_date",
+            "SELECT * FROM friendship WHERE application_user = 1 AND status = 'ACCEPTED'          | ix_friendship_application_user_status",
+            "SELECT * FROM friendship WHERE friend = 1 AND status = 'REQUESTED'                   | ix_friendship_friend_status"
+    })
+    void explain_shouldUseIndexForListQuery(String query, String index) {
+        // when
+        Mono<String> result = explain(query);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .assertNext(plan -> assertTrue(plan.contains(index.toUpperCase(Locale.ROOT)), plan))
+                    .verifyComplete();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "SELECT * FROM faculty WHERE university = 1 ORDER BY name, id",
+            "SELECT * FROM program WHERE faculty = 1 ORDER BY name, id",
+            "SELECT * FROM module WHERE program = 1 ORDER BY name, id",
+            "SELECT * FROM document WHERE university = 1",
+            "SELECT * FROM document WHERE program = 1",
+            "SELECT * FROM document WHERE module = 1",
+            "SELECT * FROM device WHERE application_user = 1"
+    })
+    void explain_shouldNotScanTableForParentFilter(String query) {
+        // when
+        Mono<String> result = explain(query);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .assertNext(plan -> assertFalse(plan.contains(TABLE_SCAN), plan))
+                    .verifyComplete();
+    }
+
+    private Mono<String> explain(String query) {
+        return databaseClient.sql("EXPLAIN " + query)
+                             .map(row -> row.get(0, String.class))
+                             .one()
+                             .map(plan -> plan.toUpperCase(Locale.ROOT));
+    }
+}
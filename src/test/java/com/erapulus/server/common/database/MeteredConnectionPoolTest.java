@@ -0,0 +1,171 @@
+package com.erapulus.server.common.database;
+
+import com.erapulus.server.common.configuration.ErapulusProperties;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MeteredConnectionPoolTest {
+
+    private static final Duration HANDSHAKE = Duration.ofMillis(100);
+    private static final Duration QUERY = Duration.ofMillis(10);
+    private static final Duration LOAD_DURATION = Duration.ofSeconds(2);
+    private static final Duration SHORT_LIFE_TIME = Duration.ofMillis(300);
+    private static final Duration LONG_LIFE_TIME = Duration.ofMinutes(30);
+    private static final int WORKERS = 8;
+
+    private final List<MeteredConnectionPool> pools = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        pools.forEach(MeteredConnectionPool::destroy);
+    }
+
+    @Test
+    void warmup_shouldOpenInitialConnections() {
+        // given
+        HandshakingConnectionFactory connectionFactory = new HandshakingConnectionFactory();
+        MeteredConnectionPool connectionPool = createPool(connectionFactory, 3, 5, LONG_LIFE_TIME);
+
+        // when
+        Mono<Integer> result = connectionPool.warmup();
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNext(3)
+                    .verifyComplete();
+        assertEquals(3, connectionFactory.created());
+        assertEquals(3, connectionPool.allocatedSize());
+        assertEquals(3, connectionPool.idleSize());
+        assertEquals(0, connectionPool.acquiredSize());
+    }
+
+    @Test
+    void create_shouldRecordAcquireMetrics() {
+        // given
+        MeteredConnectionPool connectionPool = createPool(new HandshakingConnectionFactory(), 0, 5, LONG_LIFE_TIME);
+
+        // when
+        Mono<List<Connection>> result = Flux.merge(connectionPool.create(), connectionPool.create())
+                                            .collectList();
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .assertNext(connections -> {
+                        assertEquals(2, connectionPool.acquiredSize());
+                        assertEquals(2, connectionPool.acquiredCount());
+                        assertTrue(connectionPool.maxAcquireNanos() >= HANDSHAKE.toNanos());
+                        assertTrue(connectionPool.averageAcquireNanos() > 0);
+                    })
+                    .verifyComplete();
+    }
+
+    @Test
+    void create_shouldQueueAcquireWhenPoolExhausted() {
+        // given
+        MeteredConnectionPool connectionPool = createPool(new HandshakingConnectionFactory(), 1, 1, LONG_LIFE_TIME);
+        Connection connection = connectionPool.create().block();
+
+        // when
+        Mono<Connection> result = connectionPool.create();
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .then(() -> {
+                        assertEquals(1, connectionPool.pendingAcquireSize());
+                        Mono.from(connection.close()).block();
+                    })
+                    .expectNextCount(1)
+                    .verifyComplete();
+        assertEquals(0, connectionPool.pendingAcquireSize());
+        assertEquals(1, connectionPool.acquiredSize());
+    }
+
+    @Test
+    void create_shouldReuseLongLivedConnectionsUnderLoad() {
+        // given
+        HandshakingConnectionFactory shortLivedFactory = new HandshakingConnectionFactory();
+        HandshakingConnectionFactory longLivedFactory = new HandshakingConnectionFactory();
+        MeteredConnectionPool shortLivedPool = createPool(shortLivedFactory, WORKERS, WORKERS, SHORT_LIFE_TIME);
+        MeteredConnectionPool longLivedPool = createPool(longLivedFactory, WORKERS, WORKERS, LONG_LIFE_TIME);
+        shortLivedPool.warmup().block();
+        longLivedPool.warmup().block();
+
+        // when
+        runLoad(shortLivedPool);
+        runLoad(longLivedPool);
+
+        // then
+        assertTrue(shortLivedFactory.created() > WORKERS, "short-lived handshakes: " + shortLivedFactory.created());
+        assertEquals(WORKERS, longLivedFactory.created());
+    }
+
+    private MeteredConnectionPool createPool(ConnectionFactory connectionFactory, int initialSize, int maxSize, Duration maxLifeTime) {
+        var properties = new ErapulusProperties.DatabasePoolProperties(initialSize, maxSize, LONG_LIFE_TIME, maxLifeTime,
+                Duration.ofSeconds(5), null, false, false);
+        MeteredConnectionPool connectionPool = new MeteredConnectionPool(connectionFactory, properties);
+        pools.add(connectionPool);
+        return connectionPool;
+    }
+
+    private static void runLoad(MeteredConnectionPool connectionPool) {
+        long deadline = System.nanoTime() + LOAD_DURATION.toNanos();
+        Flux.range(0, WORKERS)
+            .flatMap(worker -> Mono.usingWhen(connectionPool.create(),
+                                           connection -> Mono.delay(QUERY),
+                                           Connection::close)
+                                   .repeat(() -> System.nanoTime() < deadline))
+            .blockLast();
+    }
+
+    private static class HandshakingConnectionFactory implements ConnectionFactory {
+
+        private final AtomicInteger created = new AtomicInteger();
+
+        @Override
+        public Publisher<? extends Connection> create() {
+            return Mono.delay(HANDSHAKE)
+                       .map(tick -> {
+                           created.incrementAndGet();
+                           return createConnection();
+                       });
+        }
+
+        @Override
+        public ConnectionFactoryMetadata getMetadata() {
+            return () -> "handshaking";
+        }
+
+        int created() {
+            return created.get();
+        }
+
+        private static Connection createConnection() {
+            Connection connection = mock(Connection.class);
+            when(connection.validate(any())).thenReturn(Mono.just(true));
+            when(connection.close()).thenReturn(Mono.empty());
+            when(connection.isAutoCommit()).thenReturn(true);
+            return connection;
+        }
+    }
+}
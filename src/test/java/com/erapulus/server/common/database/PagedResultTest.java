@@ -0,0 +1,82 @@
+package com.erapulus.server.common.database;
+
+import com.erapulus.server.common.web.CountMode;
+import com.erapulus.server.common.web.PageCursor;
+import com.erapulus.server.common.web.PaginationRequest;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PagedResultTest {
+
+    private static final int TOTAL_COUNT = 42;
+
+    @Test
+    void of_shouldUseExactCountWhenRequested() {
+        // given
+        var pageRequest = PaginationRequest.of(1, 2, CountMode.EXACT);
+
+        // when
+        Mono<PagedResult<Integer>> result = PagedResult.of(Flux.just(1, 2), pageRequest, () -> Mono.just(TOTAL_COUNT));
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNext(new PagedResult<>(List.of(1, 2), TOTAL_COUNT))
+                    .verifyComplete();
+    }
+
+    @Test
+    void of_shouldEstimateCountFromOffsetWithoutCountQuery() {
+        // given
+        var fullPage = PaginationRequest.of(1, 2, CountMode.ESTIMATE);
+        var lastPage = PaginationRequest.of(2, 2, CountMode.ESTIMATE);
+        AtomicBoolean counted = new AtomicBoolean();
+        Supplier<Mono<Integer>> exactCount = () -> {
+            counted.set(true);
+            return Mono.just(TOTAL_COUNT);
+        };
+
+        // when
+        Mono<PagedResult<Integer>> full = PagedResult.of(Flux.just(1, 2), fullPage, exactCount);
+        Mono<PagedResult<Integer>> last = PagedResult.of(Flux.just(5), lastPage, exactCount);
+
+        // then
+        StepVerifier.create(full)
+                    .expectSubscription()
+                    .assertNext(page -> assertEquals(5, page.totalCount()))
+                    .verifyComplete();
+        StepVerifier.create(last)
+                    .expectSubscription()
+                    .assertNext(page -> assertEquals(5, page.totalCount()))
+                    .verifyComplete();
+        assertFalse(counted.get());
+    }
+
+    @Test
+    void of_shouldSkipCountWhenNoneRequested() {
+        // given
+        var pageRequest = PaginationRequest.of(2, PageCursor.of(7), CountMode.NONE);
+
+        // when
+        Mono<PagedResult<Integer>> result = PagedResult.of(Flux.just(8, 9), pageRequest, () -> Mono.error(IllegalStateException::new));
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .assertNext(page -> {
+                        assertEquals(List.of(8, 9), page.content());
+                        assertNull(page.totalCount());
+                    })
+                    .verifyComplete();
+    }
+}
@@ -2,28 +2,51 @@ package com.erapulus.server.common.service;
 
 import com.azure.storage.blob.BlobAsyncClient;
 import com.azure.storage.blob.BlobContainerAsyncClient;
+import com.azure.storage.blob.models.BlobDownloadAsyncResponse;
+import com.azure.storage.blob.models.BlobProperties;
+import com.azure.storage.blob.models.BlobRange;
+import com.azure.storage.blob.models.BlobRequestConditions;
+import com.azure.storage.blob.models.BlobStorageException;
 import com.azure.storage.blob.models.BlockBlobItem;
+import com.azure.storage.blob.models.ParallelTransferOptions;
 import com.erapulus.server.common.configuration.AzureStorageProperties;
 import com.erapulus.server.document.database.DocumentEntity;
+import io.netty.buffer.UnpooledByteBufAllocator;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.DataBuffer;
 import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
 import org.springframework.http.codec.multipart.FilePart;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import org.springframework.util.unit.DataSize;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicLong;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class AzureStorageServiceTest {
 
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int LARGE_FILE_CHUNKS = 1_600;
+
     @Mock
     private BlobContainerAsyncClient blobContainerAsyncClient;
 
@@ -65,6 +88,120 @@ class AzureStorageServiceTest {
         verify(blobAsyncClient).upload(any(), any(), eq(true));
     }
 
+    @Test
+    void uploadFile_shouldStreamChunksWithConfiguredTransferOptionsAndReleaseBuffers() {
+        // given
+        String path = "app/large";
+        NettyDataBufferFactory bufferFactory = new NettyDataBufferFactory(UnpooledByteBufAllocator.DEFAULT);
+        List<NettyDataBuffer> chunks = new ArrayList<>();
+        Flux<DataBuffer> content = Flux.range(0, LARGE_FILE_CHUNKS)
+                                       .map(i -> {
+                                           NettyDataBuffer chunk = bufferFactory.allocateBuffer(CHUNK_SIZE);
+                                           chunk.write(new byte[CHUNK_SIZE]);
+                                           chunks.add(chunk);
+                                           return chunk;
+                                       });
+        AtomicLong uploadedBytes = new AtomicLong();
+        AtomicLong maxUnreleasedChunks = new AtomicLong();
+        when(blobContainerAsyncClient.getBlobAsyncClient(path)).thenReturn(blobAsyncClient);
+        when(filePart.content()).thenReturn(content);
+        when(blobAsyncClient.upload(any(), any(), eq(true))).then(invocation -> {
+            Flux<ByteBuffer> data = invocation.getArgument(0);
+            return data.doOnNext(buffer -> {
+                           uploadedBytes.addAndGet(buffer.remaining());
+                           long unreleased = chunks.stream().filter(chunk -> chunk.getNativeBuffer().refCnt() > 0).count();
+                           maxUnreleasedChunks.accumulateAndGet(unreleased, Math::max);
+                       })
+                       .then(Mono.just(new BlockBlobItem(null, null, null, false, null)));
+        });
+
+        // when
+        Mono<String> result = azureStorageService.uploadFile(filePart, path);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNextCount(1)
+                    .verifyComplete();
+        assertEquals((long) LARGE_FILE_CHUNKS * CHUNK_SIZE, uploadedBytes.get());
+        assertEquals(0, maxUnreleasedChunks.get());
+        ArgumentCaptor<ParallelTransferOptions> options = ArgumentCaptor.forClass(ParallelTransferOptions.class);
+        verify(blobAsyncClient).upload(any(), options.capture(), eq(true));
+        assertEquals(DataSize.ofMegabytes(4).toBytes(), options.getValue().getBlockSizeLong());
+        assertEquals(4, options.getValue().getMaxConcurrency());
+    }
+
+    @Test
+    void getFileMetadata_shouldReturnBlobProperties() {
+        // given
+        String pathFromDb = "https://example.blob.core.windows.net/example/app/path";
+        String pathInContainer = "app/path";
+        BlobProperties properties = mock(BlobProperties.class);
+        when(properties.getETag()).thenReturn("\"0x8D9\"");
+        when(properties.getBlobSize()).thenReturn(1024L);
+        when(properties.getContentType()).thenReturn("application/pdf");
+        when(blobContainerAsyncClient.getBlobAsyncClient(pathInContainer)).thenReturn(blobAsyncClient);
+        when(blobAsyncClient.getProperties()).thenReturn(Mono.just(properties));
+
+        // when
+        Mono<FileMetadata> result = azureStorageService.getFileMetadata(pathFromDb);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNext(new FileMetadata("\"0x8D9\"", 1024L, "application/pdf"))
+                    .verifyComplete();
+    }
+
+    @Test
+    void getFileMetadata_shouldReturnNoSuchElementExceptionWhenBlobMissing() {
+        // given
+        String pathFromDb = "https://example.blob.core.windows.net/example/app/path";
+        String pathInContainer = "app/path";
+        BlobStorageException notFound = mock(BlobStorageException.class);
+        when(notFound.getStatusCode()).thenReturn(404);
+        when(blobContainerAsyncClient.getBlobAsyncClient(pathInContainer)).thenReturn(blobAsyncClient);
+        when(blobAsyncClient.getProperties()).thenReturn(Mono.error(notFound));
+
+        // when
+        Mono<FileMetadata> result = azureStorageService.getFileMetadata(pathFromDb);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectError(NoSuchElementException.class)
+                    .verify();
+    }
+
+    @Test
+    void writeFile_shouldStreamRangePinnedToETag() {
+        // given
+        String pathFromDb = "https://example.blob.core.windows.net/example/app/path";
+        String pathInContainer = "app/path";
+        MockServerHttpResponse message = new MockServerHttpResponse();
+        BlobDownloadAsyncResponse response = mock(BlobDownloadAsyncResponse.class);
+        when(response.getValue()).thenReturn(Flux.just(ByteBuffer.wrap("abc".getBytes())));
+        when(blobContainerAsyncClient.getBlobAsyncClient(pathInContainer)).thenReturn(blobAsyncClient);
+        when(blobAsyncClient.downloadWithResponse(any(), isNull(), any(), eq(false))).thenReturn(Mono.just(response));
+
+        // when
+        Mono<Void> result = azureStorageService.writeFile(pathFromDb, 10, 3, "\"0x8D9\"", message);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .verifyComplete();
+        StepVerifier.create(message.getBodyAsString())
+                    .expectNext("abc")
+                    .verifyComplete();
+        ArgumentCaptor<BlobRange> range = ArgumentCaptor.forClass(BlobRange.class);
+        ArgumentCaptor<BlobRequestConditions> conditions = ArgumentCaptor.forClass(BlobRequestConditions.class);
+        verify(blobAsyncClient).downloadWithResponse(range.capture(), isNull(), conditions.capture(), eq(false));
+        assertEquals(10, range.getValue().getOffset());
+        assertEquals(3, range.getValue().getCount());
+        assertEquals("\"0x8D9\"", conditions.getValue().getIfMatch());
+    }
+
     @Test
     void deleteFile() {
         // given
@@ -86,4 +223,43 @@ class AzureStorageServiceTest {
         verify(blobAsyncClient).delete();
     }
 
+    @Test
+    void deleteFile_shouldTreatMissingBlobAsDeleted() {
+        // given
+        String pathFromDb = "https://example.blob.core.windows.net/example/app/path";
+        String pathInContainer = "app/path";
+        BlobStorageException notFound = mock(BlobStorageException.class);
+        when(notFound.getStatusCode()).thenReturn(404);
+        when(blobContainerAsyncClient.getBlobAsyncClient(pathInContainer)).thenReturn(blobAsyncClient);
+        when(blobAsyncClient.delete()).thenReturn(Mono.error(notFound));
+
+        // when
+        Mono<Boolean> result = azureStorageService.deleteFile(pathFromDb);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .assertNext(Assertions::assertTrue)
+                    .verifyComplete();
+    }
+
+    @Test
+    void deleteFile_shouldReturnErrorWhenStorageFails() {
+        // given
+        String pathFromDb = "https://example.blob.core.windows.net/example/app/path";
+        String pathInContainer = "app/path";
+        BlobStorageException serverError = mock(BlobStorageException.class);
+        when(serverError.getStatusCode()).thenReturn(503);
+        when(blobContainerAsyncClient.getBlobAsyncClient(pathInContainer)).thenReturn(blobAsyncClient);
+        when(blobAsyncClient.delete()).thenReturn(Mono.error(serverError));
+
+        // when
+        Mono<Boolean> result = azureStorageService.deleteFile(pathFromDb);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectError(BlobStorageException.class)
+                    .verify();
+    }
 }
@@ -0,0 +1,203 @@
+package com.erapulus.server.common.service;
+
+import com.erapulus.server.common.database.BlobDeletionEntity;
+import com.erapulus.server.common.database.BlobDeletionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BlobGarbageCollectorTest {
+
+    private static final String PATH_1 = "https://example.blob.core.windows.net/example/path1";
+    private static final String PATH_2 = "https://example.blob.core.windows.net/example/path2";
+    private static final String PATH_3 = "https://example.blob.core.windows.net/example/path3";
+    private static final Instant NOW = Instant.parse("2026-10-18T10:00:00Z");
+    private static final LocalDateTime LOCAL_NOW = LocalDateTime.ofInstant(NOW, ZoneOffset.UTC);
+
+    @Mock
+    private BlobDeletionRepository blobDeletionRepository;
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    private BlobGarbageCollector blobGarbageCollector;
+
+    @BeforeEach
+    void setUp() {
+        blobGarbageCollector = new BlobGarbageCollector(blobDeletionRepository, fileStorageService, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void schedule_shouldSaveDeletionDueImmediately() {
+        // given
+        when(blobDeletionRepository.saveAll(anyList())).thenReturn(Flux.empty());
+
+        // when
+        Mono<Void> result = blobGarbageCollector.schedule(List.of(PATH_1, PATH_2));
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .verifyComplete();
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<BlobDeletionEntity>> captor = ArgumentCaptor.forClass(List.class);
+        verify(blobDeletionRepository).saveAll(captor.capture());
+        assertEquals(List.of(PATH_1, PATH_2), captor.getValue().stream().map(BlobDeletionEntity::path).toList());
+        captor.getValue().forEach(deletion -> {
+            assertEquals(0, deletion.attempts());
+            assertEquals(LOCAL_NOW, deletion.nextAttemptAt());
+        });
+    }
+
+    @Test
+    void scheduleReplaced_shouldSkipMissingOrUnchangedPath() {
+        // when
+        Mono<Void> missing = blobGarbageCollector.scheduleReplaced(null, PATH_1);
+        Mono<Void> unchanged = blobGarbageCollector.scheduleReplaced(PATH_1, PATH_1);
+
+        // then
+        StepVerifier.create(missing.then(unchanged))
+                    .expectSubscription()
+                    .verifyComplete();
+        verifyNoInteractions(blobDeletionRepository);
+    }
+
+    @Test
+    void sweep_shouldDeleteBlobsAndRemoveCompletedRows() {
+        // given
+        InMemoryStorage storage = new InMemoryStorage(PATH_1, PATH_2);
+        when(blobDeletionRepository.findDue(LOCAL_NOW, BlobGarbageCollector.MAX_ATTEMPTS, 100))
+                .thenReturn(Flux.just(createDeletion(1, PATH_1, 0), createDeletion(2, PATH_2, 0)));
+        when(fileStorageService.deleteFile(any(String.class))).then(invocation -> storage.delete(invocation.getArgument(0)));
+        when(blobDeletionRepository.deleteAllByIds(List.of(1, 2))).thenReturn(Mono.just(2));
+
+        // when
+        Mono<Long> result = blobGarbageCollector.sweep();
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNext(2L)
+                    .verifyComplete();
+        assertEquals(Map.of(), storage.blobs);
+        assertEquals(2, blobGarbageCollector.deletedCount());
+        verify(blobDeletionRepository, never()).save(any());
+    }
+
+    @Test
+    void sweep_shouldRescheduleFailedDeletionWithBackoff() {
+        // given
+        InMemoryStorage storage = new InMemoryStorage(PATH_1, PATH_3);
+        storage.failing.put(PATH_3, true);
+        var failedDeletion = createDeletion(3, PATH_3, 2);
+        when(blobDeletionRepository.findDue(LOCAL_NOW, BlobGarbageCollector.MAX_ATTEMPTS, 100))
+                .thenReturn(Flux.just(createDeletion(1, PATH_1, 0), failedDeletion));
+        when(fileStorageService.deleteFile(any(String.class))).then(invocation -> storage.delete(invocation.getArgument(0)));
+        when(blobDeletionRepository.deleteAllByIds(List.of(1))).thenReturn(Mono.just(1));
+        when(blobDeletionRepository.save(failedDeletion)).thenReturn(Mono.just(failedDeletion));
+
+        // when
+        Mono<Long> result = blobGarbageCollector.sweep();
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNext(2L)
+                    .verifyComplete();
+        assertEquals(3, failedDeletion.attempts());
+        assertEquals(LOCAL_NOW.plus(BlobGarbageCollector.BASE_BACKOFF.multipliedBy(4)), failedDeletion.nextAttemptAt());
+        assertEquals(Map.of(PATH_3, true), storage.blobs);
+        assertEquals(1, blobGarbageCollector.deletedCount());
+        assertEquals(1, blobGarbageCollector.failedCount());
+        assertEquals(0, blobGarbageCollector.abandonedCount());
+    }
+
+    @Test
+    void sweep_shouldAbandonDeletionAfterMaxAttempts() {
+        // given
+        InMemoryStorage storage = new InMemoryStorage(PATH_1);
+        storage.failing.put(PATH_1, true);
+        var failedDeletion = createDeletion(1, PATH_1, BlobGarbageCollector.MAX_ATTEMPTS - 1);
+        when(blobDeletionRepository.findDue(LOCAL_NOW, BlobGarbageCollector.MAX_ATTEMPTS, 100)).thenReturn(Flux.just(failedDeletion));
+        when(fileStorageService.deleteFile(any(String.class))).then(invocation -> storage.delete(invocation.getArgument(0)));
+        when(blobDeletionRepository.save(failedDeletion)).thenReturn(Mono.just(failedDeletion));
+
+        // when
+        Mono<Long> result = blobGarbageCollector.sweep();
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNext(1L)
+                    .verifyComplete();
+        assertEquals(BlobGarbageCollector.MAX_ATTEMPTS, failedDeletion.attempts());
+        assertEquals(1, blobGarbageCollector.abandonedCount());
+    }
+
+    @Test
+    void sweep_shouldDoNothingWhenQueueEmpty() {
+        // given
+        when(blobDeletionRepository.findDue(any(), anyInt(), anyInt())).thenReturn(Flux.empty());
+
+        // when
+        Mono<Long> result = blobGarbageCollector.sweep();
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNext(0L)
+                    .verifyComplete();
+        verifyNoInteractions(fileStorageService);
+    }
+
+    private BlobDeletionEntity createDeletion(int id, String path, int attempts) {
+        return BlobDeletionEntity.builder()
+                                 .id(id)
+                                 .path(path)
+                                 .attempts(attempts)
+                                 .createdAt(LOCAL_NOW)
+                                 .nextAttemptAt(LOCAL_NOW)
+                                 .build();
+    }
+
+    private static class InMemoryStorage {
+
+        private final Map<String, Boolean> blobs = new ConcurrentHashMap<>();
+        private final Map<String, Boolean> failing = new ConcurrentHashMap<>();
+
+        InMemoryStorage(String... paths) {
+            for (String path : paths) {
+                blobs.put(path, true);
+            }
+        }
+
+        Mono<Boolean> delete(String path) {
+            if (failing.containsKey(path)) {
+                return Mono.error(new IllegalStateException("Storage unavailable"));
+            }
+            blobs.remove(path);
+            return Mono.just(true);
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.erapulus.server.common.service;
+
+import com.erapulus.server.document.database.DocumentRepository;
+import com.erapulus.server.faculty.database.FacultyEntity;
+import com.erapulus.server.faculty.database.FacultyRepository;
+import com.erapulus.server.module.database.ModuleEntity;
+import com.erapulus.server.module.database.ModuleRepository;
+import com.erapulus.server.program.database.ProgramEntity;
+import com.erapulus.server.program.database.ProgramRepository;
+import com.erapulus.server.university.database.UniversityEntity;
+import com.erapulus.server.university.database.UniversityRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class CatalogIndexTest {
+
+    private static final String UNIVERSITY_1 = "university1";
+    private static final String UNIVERSITY_2 = "university2";
+
+    @Autowired
+    private CatalogIndex catalogIndex;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private ModuleRepository moduleRepository;
+
+    @Autowired
+    private ProgramRepository programRepository;
+
+    @Autowired
+    private FacultyRepository facultyRepository;
+
+    @Autowired
+    private UniversityRepository universityRepository;
+
+    @AfterEach
+    void clean() {
+        documentRepository.deleteAll().block();
+        moduleRepository.deleteAll().block();
+        programRepository.deleteAll().block();
+        facultyRepository.deleteAll().block();
+        universityRepository.deleteAll().block();
+        catalogIndex.reload().block();
+    }
+
+    @Test
+    void reload_shouldIndexWholeHierarchy() {
+        // given
+        var university = createUniversity(UNIVERSITY_1);
+        var otherUniversity = createUniversity(UNIVERSITY_2);
+        var faculty = createFaculty(university);
+        var program = createProgram(faculty);
+        var module = createModule(program);
+
+        // when
+        Mono<Void> result = catalogIndex.reload();
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .verifyComplete();
+        assertTrue(catalogIndex.containsFaculty(faculty.id(), university.id()));
+        assertTrue(catalogIndex.containsProgram(program.id(), university.id(), faculty.id()));
+        assertTrue(catalogIndex.containsModule(module.id(), university.id(), faculty.id(), program.id()));
+        assertFalse(catalogIndex.containsFaculty(faculty.id(), otherUniversity.id()));
+        assertFalse(catalogIndex.containsModule(module.id(), otherUniversity.id(), faculty.id(), program.id()));
+    }
+
+    @Test
+    void moduleExists_shouldReadThroughAndIndexChainWhenMissing() {
+        // given
+        var university = createUniversity(UNIVERSITY_1);
+        var faculty = createFaculty(university);
+        var program = createProgram(faculty);
+        var module = createModule(program);
+        catalogIndex.removeUniversity(university.id());
+
+        // when
+        Mono<Boolean> result = catalogIndex.moduleExists(module.id(), university.id(), faculty.id(), program.id());
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNext(true)
+                    .verifyComplete();
+        assertTrue(catalogIndex.containsModule(module.id(), university.id(), faculty.id(), program.id()));
+    }
+
+    @Test
+    void programExists_shouldReturnFalseForWrongParentAndNotIndexIt() {
+        // given
+        var university = createUniversity(UNIVERSITY_1);
+        var otherUniversity = createUniversity(UNIVERSITY_2);
+        var faculty = createFaculty(university);
+        var program = createProgram(faculty);
+
+        // when
+        Mono<Boolean> result = catalogIndex.programExists(program.id(), otherUniversity.id(), faculty.id());
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNext(false)
+                    .verifyComplete();
+        assertFalse(catalogIndex.containsProgram(program.id(), otherUniversity.id(), faculty.id()));
+    }
+
+    @Test
+    void removeUniversity_shouldRemoveWholeSubtree() {
+        // given
+        var university = createUniversity(UNIVERSITY_1);
+        var otherUniversity = createUniversity(UNIVERSITY_2);
+        var faculty = createFaculty(university);
+        var program = createProgram(faculty);
+        var module = createModule(program);
+        var otherFaculty = createFaculty(otherUniversity);
+        var otherProgram = createProgram(otherFaculty);
+        catalogIndex.reload().block();
+
+        // when
+        catalogIndex.removeUniversity(university.id());
+
+        // then
+        assertFalse(catalogIndex.containsFaculty(faculty.id(), university.id()));
+        assertFalse(catalogIndex.containsProgram(program.id(), university.id(), faculty.id()));
+        assertFalse(catalogIndex.containsModule(module.id(), university.id(), faculty.id(), program.id()));
+        assertTrue(catalogIndex.containsProgram(otherProgram.id(), otherUniversity.id(), otherFaculty.id()));
+    }
+
+    @Test
+    void removeProgram_shouldHideItsModules() {
+        // given
+        var university = createUniversity(UNIVERSITY_1);
+        var faculty = createFaculty(university);
+        var program = createProgram(faculty);
+        var module = createModule(program);
+        catalogIndex.reload().block();
+
+        // when
+        catalogIndex.removeProgram(program.id());
+
+        // then
+        assertTrue(catalogIndex.containsFaculty(faculty.id(), university.id()));
+        assertFalse(catalogIndex.containsModule(module.id(), university.id(), faculty.id(), program.id()));
+    }
+
+    @Test
+    void moduleExists_shouldNotIndexModuleRemovedWhileCheckWasRunning() {
+        // given
+        var university = createUniversity(UNIVERSITY_1);
+        var faculty = createFaculty(university);
+        var program = createProgram(faculty);
+        var module = createModule(program);
+        catalogIndex.removeUniversity(university.id());
+        Mono<Boolean> result = catalogIndex.moduleExists(module.id(), university.id(), faculty.id(), program.id());
+
+        // when
+        catalogIndex.removeModule(module.id());
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNext(true)
+                    .verifyComplete();
+        assertFalse(catalogIndex.containsModule(module.id(), university.id(), faculty.id(), program.id()));
+    }
+
+    private UniversityEntity createUniversity(String name) {
+        UniversityEntity universityEntity = UniversityEntity.builder()
+                                                            .name(name)
+                                                            .address("Some address")
+                                                            .zipcode("00000")
+                                                            .city("city")
+                                                            .country("country")
+                                                            .websiteUrl("url")
+                                                            .build();
+        return universityRepository.save(universityEntity).block();
+    }
+
+    private FacultyEntity createFaculty(UniversityEntity universityEntity) {
+        FacultyEntity facultyEntity = FacultyEntity.builder()
+                                                   .universityId(universityEntity.id())
+                                                   .name("faculty")
+                                                   .address("address")
+                                                   .email("example@gmail.com")
+                                                   .build();
+        return facultyRepository.save(facultyEntity).block();
+    }
+
+    private ProgramEntity createProgram(FacultyEntity facultyEntity) {
+        ProgramEntity programEntity = ProgramEntity.builder()
+                                                   .name("program")
+                                                   .abbrev("abbrev")
+                                                   .facultyId(facultyEntity.id())
+                                                   .build();
+        return programRepository.save(programEntity).block();
+    }
+
+    private ModuleEntity createModule(ProgramEntity programEntity) {
+        ModuleEntity moduleEntity = ModuleEntity.builder()
+                                                .name("module")
+                                                .abbrev("abbrev")
+                                                .programId(programEntity.id())
+                                                .build();
+        return moduleRepository.save(moduleEntity).block();
+    }
+}
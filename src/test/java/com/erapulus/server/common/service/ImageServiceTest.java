@@ -0,0 +1,245 @@
+package com.erapulus.server.common.service;
+
+import com.erapulus.server.TestUtils;
+import com.erapulus.server.common.configuration.ImageProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.codec.multipart.FilePart;
+import org.springframework.util.unit.DataSize;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ImageServiceTest {
+
+    private static final String BASE_URL = "https://example.com/";
+    private static final String PATH = "user/1/photo/example.jpg";
+    private static final String UNIQUE_DIRECTORY = "user/1/photo/0b6c1f6e-8a4d-4c1e-9a57-2f3d4e5a6b7c/";
+
+    @Mock
+    private FileStorageService fileStorageService;
+
+    @Mock
+    private BlobGarbageCollector blobGarbageCollector;
+
+    @Mock
+    private FilePart filePart;
+
+    private ImageThumbnails imageThumbnails;
+    private ImageProperties imageProperties;
+    private ImageService imageService;
+    private Map<String, byte[]> uploadedFiles;
+
+    @BeforeEach
+    void setUp() {
+        imageThumbnails = TestUtils.createImageThumbnails(BASE_URL);
+        imageProperties = new ImageProperties();
+        imageService = new ImageService(fileStorageService, blobGarbageCollector, imageThumbnails, imageProperties);
+        uploadedFiles = new ConcurrentHashMap<>();
+    }
+
+    @Test
+    void uploadImage_shouldUploadOriginalAndThumbnails() throws IOException {
+        // given
+        byte[] original = createImage(1024, 512);
+        when(filePart.content()).thenReturn(Flux.just(wrap(original)));
+        mockUpload();
+
+        // when
+        Mono<String> result = imageService.uploadImage(filePart, PATH);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNext(BASE_URL + PATH)
+                    .verifyComplete();
+        assertEquals(4, uploadedFiles.size());
+        assertArrayEquals(original, uploadedFiles.get(PATH));
+        assertDimensions(64, 32, uploadedFiles.get("user/1/photo/thumbnails/64/example.jpg.png"));
+        assertDimensions(128, 64, uploadedFiles.get("user/1/photo/thumbnails/128/example.jpg.png"));
+        assertDimensions(512, 256, uploadedFiles.get("user/1/photo/thumbnails/512/example.jpg.png"));
+    }
+
+    @Test
+    void uploadImage_shouldNotUpscaleSmallImage() throws IOException {
+        // given
+        when(filePart.content()).thenReturn(Flux.just(wrap(createImage(100, 200))));
+        mockUpload();
+
+        // when
+        Mono<String> result = imageService.uploadImage(filePart, PATH);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNext(BASE_URL + PATH)
+                    .verifyComplete();
+        assertDimensions(32, 64, uploadedFiles.get("user/1/photo/thumbnails/64/example.jpg.png"));
+        assertDimensions(64, 128, uploadedFiles.get("user/1/photo/thumbnails/128/example.jpg.png"));
+        assertDimensions(100, 200, uploadedFiles.get("user/1/photo/thumbnails/512/example.jpg.png"));
+    }
+
+    @Test
+    void uploadImage_shouldReturnDecodingExceptionWhenContentIsNotImage() {
+        // given
+        when(filePart.content()).thenReturn(Flux.just(wrap("not an image".getBytes())));
+
+        // when
+        Mono<String> result = imageService.uploadImage(filePart, PATH);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectError(DecodingException.class)
+                    .verify();
+        verifyNoInteractions(fileStorageService);
+    }
+
+    @Test
+    void uploadImage_shouldReturnDecodingExceptionWhenFileTooLarge() throws IOException {
+        // given
+        imageProperties.setMaxSize(DataSize.ofBytes(16));
+        imageService = new ImageService(fileStorageService, blobGarbageCollector, imageThumbnails, imageProperties);
+        when(filePart.content()).thenReturn(Flux.just(wrap(createImage(64, 64))));
+
+        // when
+        Mono<String> result = imageService.uploadImage(filePart, PATH);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectError(DecodingException.class)
+                    .verify();
+        verifyNoInteractions(fileStorageService);
+    }
+
+    @Test
+    void uploadImage_shouldReturnDecodingExceptionWhenImageHasTooManyPixels() throws IOException {
+        // given
+        imageProperties.setMaxPixels(100);
+        imageService = new ImageService(fileStorageService, blobGarbageCollector, imageThumbnails, imageProperties);
+        when(filePart.content()).thenReturn(Flux.just(wrap(createImage(20, 20))));
+
+        // when
+        Mono<String> result = imageService.uploadImage(filePart, PATH);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectError(DecodingException.class)
+                    .verify();
+        verifyNoInteractions(fileStorageService);
+    }
+
+    @Test
+    void scheduleReplaced_shouldScheduleOldImageWithThumbnails() {
+        // given
+        String oldUrl = BASE_URL + UNIQUE_DIRECTORY + "old.jpg";
+        when(blobGarbageCollector.schedule(List.of(oldUrl,
+                BASE_URL + UNIQUE_DIRECTORY + "thumbnails/64/old.jpg.png",
+                BASE_URL + UNIQUE_DIRECTORY + "thumbnails/128/old.jpg.png",
+                BASE_URL + UNIQUE_DIRECTORY + "thumbnails/512/old.jpg.png"))).thenReturn(Mono.empty());
+
+        // when
+        Mono<Void> result = imageService.scheduleReplaced(oldUrl, BASE_URL + PATH);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .verifyComplete();
+    }
+
+    @Test
+    void scheduleReplaced_shouldScheduleOnlyOldImageUploadedWithoutThumbnails() {
+        // given
+        String oldUrl = BASE_URL + "user/1/photo/old.jpg";
+        when(blobGarbageCollector.schedule(List.of(oldUrl))).thenReturn(Mono.empty());
+
+        // when
+        Mono<Void> result = imageService.scheduleReplaced(oldUrl, BASE_URL + PATH);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .verifyComplete();
+    }
+
+    @Test
+    void scheduleReplaced_shouldSkipExternalImage() {
+        // when
+        Mono<Void> result = imageService.scheduleReplaced("https://lh3.googleusercontent.com/a/photo", BASE_URL + PATH);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .verifyComplete();
+        verifyNoInteractions(blobGarbageCollector);
+    }
+
+    @Test
+    void scheduleReplaced_shouldSkipMissingOrOverwrittenImage() {
+        // when
+        Mono<Void> missing = imageService.scheduleReplaced(null, BASE_URL + PATH);
+        Mono<Void> overwritten = imageService.scheduleReplaced(BASE_URL + PATH, BASE_URL + PATH);
+
+        // then
+        StepVerifier.create(missing.then(overwritten))
+                    .expectSubscription()
+                    .verifyComplete();
+        verifyNoInteractions(blobGarbageCollector);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void mockUpload() {
+        when(fileStorageService.uploadFile(any(Flux.class), anyString())).then(invocation -> {
+            Flux<DataBuffer> content = invocation.getArgument(0);
+            String path = invocation.getArgument(1);
+            return DataBufferUtils.join(content)
+                                  .map(buffer -> {
+                                      byte[] bytes = new byte[buffer.readableByteCount()];
+                                      buffer.read(bytes);
+                                      uploadedFiles.put(path, bytes);
+                                      return BASE_URL + path;
+                                  });
+        });
+    }
+
+    private static DataBuffer wrap(byte[] bytes) {
+        return DefaultDataBufferFactory.sharedInstance.wrap(bytes);
+    }
+
+    private static byte[] createImage(int width, int height) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB), "png", output);
+        return output.toByteArray();
+    }
+
+    private static void assertDimensions(int width, int height, byte[] image) throws IOException {
+        BufferedImage thumbnail = ImageIO.read(new ByteArrayInputStream(image));
+        assertEquals(width, thumbnail.getWidth());
+        assertEquals(height, thumbnail.getHeight());
+    }
+}
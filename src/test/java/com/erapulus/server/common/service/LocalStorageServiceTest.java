@@ -0,0 +1,193 @@
+package com.erapulus.server.common.service;
+
+import com.erapulus.server.common.configuration.LocalStorageProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.ZeroCopyHttpOutputMessage;
+import org.springframework.http.codec.multipart.FilePart;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LocalStorageServiceTest {
+
+    private static final String BASE_URL = "/files/";
+    private static final String PATH = "university/1/document/2/example.txt";
+    private static final String CONTENT = "0123456789";
+
+    @TempDir
+    Path root;
+
+    @Mock
+    private FilePart filePart;
+
+    private LocalStorageService localStorageService;
+
+    @BeforeEach
+    void setUp() {
+        LocalStorageProperties storageProperties = new LocalStorageProperties();
+        storageProperties.setRoot(root);
+        storageProperties.setBaseUrl(BASE_URL);
+        localStorageService = new LocalStorageService(storageProperties);
+    }
+
+    @Test
+    void uploadFile_shouldWriteFileAndReturnUrl() throws IOException {
+        // given
+        DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+        when(filePart.content()).thenReturn(Flux.just(bufferFactory.wrap("01234".getBytes()), bufferFactory.wrap("56789".getBytes())));
+
+        // when
+        Mono<String> result = localStorageService.uploadFile(filePart, PATH);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNext(BASE_URL + PATH)
+                    .verifyComplete();
+        Path file = root.resolve(PATH);
+        assertEquals(CONTENT, Files.readString(file));
+        try (var files = Files.list(file.getParent())) {
+            assertEquals(1, files.count());
+        }
+    }
+
+    @Test
+    void uploadFile_shouldRejectPathOutsideRoot() {
+        // when
+        Mono<String> result = localStorageService.uploadFile(filePart, "user/1/photo/../../../../outside.txt");
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectError(IllegalArgumentException.class)
+                    .verify();
+        verifyNoInteractions(filePart);
+    }
+
+    @Test
+    void getFileMetadata_shouldReturnSizeAndContentType() throws IOException {
+        // given
+        createFile();
+
+        // when
+        Mono<FileMetadata> result = localStorageService.getFileMetadata(BASE_URL + PATH);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .assertNext(metadata -> {
+                        assertEquals(CONTENT.length(), metadata.size());
+                        assertEquals("text/plain", metadata.contentType());
+                        assertNotNull(metadata.eTag());
+                    })
+                    .verifyComplete();
+    }
+
+    @Test
+    void getFileMetadata_shouldReturnNoSuchElementExceptionWhenFileMissing() {
+        // when
+        Mono<FileMetadata> result = localStorageService.getFileMetadata(BASE_URL + PATH);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectError(NoSuchElementException.class)
+                    .verify();
+    }
+
+    @Test
+    void writeFile_shouldUseZeroCopyTransferWhenSupported() throws IOException {
+        // given
+        Path file = createFile();
+        String eTag = localStorageService.getFileMetadata(BASE_URL + PATH).block().eTag();
+        ZeroCopyHttpOutputMessage message = mock(ZeroCopyHttpOutputMessage.class);
+        when(message.writeWith(file, 2, 3)).thenReturn(Mono.empty());
+
+        // when
+        Mono<Void> result = localStorageService.writeFile(BASE_URL + PATH, 2, 3, eTag, message);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .verifyComplete();
+        verify(message).writeWith(file, 2, 3);
+    }
+
+    @Test
+    void writeFile_shouldStreamRangeWhenZeroCopyNotSupported() throws IOException {
+        // given
+        createFile();
+        String eTag = localStorageService.getFileMetadata(BASE_URL + PATH).block().eTag();
+        MockServerHttpResponse message = new MockServerHttpResponse();
+
+        // when
+        Mono<Void> result = localStorageService.writeFile(BASE_URL + PATH, 2, 3, eTag, message);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .verifyComplete();
+        StepVerifier.create(message.getBodyAsString())
+                    .expectNext("234")
+                    .verifyComplete();
+    }
+
+    @Test
+    void writeFile_shouldReturnErrorWhenFileChangedSinceMetadataRead() throws IOException {
+        // given
+        createFile();
+        MockServerHttpResponse message = new MockServerHttpResponse();
+
+        // when
+        Mono<Void> result = localStorageService.writeFile(BASE_URL + PATH, 0, CONTENT.length(), "\"outdated\"", message);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectError(IllegalStateException.class)
+                    .verify();
+    }
+
+    @Test
+    void deleteFile_shouldDeleteFileAndTreatMissingFileAsDeleted() throws IOException {
+        // given
+        Path file = createFile();
+
+        // when
+        Mono<Boolean> result = localStorageService.deleteFile(BASE_URL + PATH);
+        Mono<Boolean> repeatedResult = localStorageService.deleteFile(BASE_URL + PATH);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNext(true)
+                    .verifyComplete();
+        StepVerifier.create(repeatedResult)
+                    .expectSubscription()
+                    .expectNext(true)
+                    .verifyComplete();
+        assertFalse(Files.exists(file));
+    }
+
+    private Path createFile() throws IOException {
+        Path file = root.resolve(PATH);
+        Files.createDirectories(file.getParent());
+        return Files.writeString(file, CONTENT);
+    }
+}
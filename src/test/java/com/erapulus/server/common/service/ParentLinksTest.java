@@ -0,0 +1,71 @@
+package com.erapulus.server.common.service;
+
+import org.junit.jupiter.api.Test;
+
+import static com.erapulus.server.common.service.ParentLinks.MISSING;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ParentLinksTest {
+
+    @Test
+    void of_shouldIndexAllLinksAndSkipMissingChildren() {
+        // given
+        int count = 1000;
+        int[] children = new int[count + 1];
+        int[] parents = new int[count + 1];
+        for (int i = 0; i < count; i++) {
+            children[i] = i + 1;
+            parents[i] = (i + 1) * 10;
+        }
+
+        // when
+        ParentLinks links = ParentLinks.of(children, parents, count + 1);
+
+        // then
+        assertEquals(count, links.size());
+        for (int i = 1; i <= count; i++) {
+            assertEquals(i * 10, links.parentOf(i));
+        }
+        assertEquals(MISSING, links.parentOf(count + 1));
+        assertEquals(MISSING, links.parentOf(MISSING));
+    }
+
+    @Test
+    void with_shouldAddOrReplaceLinkWithoutChangingOriginal() {
+        // given
+        ParentLinks links = ParentLinks.EMPTY.with(1, 10);
+
+        // when
+        ParentLinks added = links.with(2, 20);
+        ParentLinks replaced = added.with(1, 11);
+
+        // then
+        assertEquals(1, links.size());
+        assertEquals(MISSING, links.parentOf(2));
+        assertEquals(2, added.size());
+        assertEquals(10, added.parentOf(1));
+        assertEquals(2, replaced.size());
+        assertEquals(11, replaced.parentOf(1));
+        assertSame(replaced, replaced.with(1, 11));
+    }
+
+    @Test
+    void removeIf_shouldRemoveMatchingLinks() {
+        // given
+        ParentLinks links = ParentLinks.of(new int[]{1, 2, 3, 4}, new int[]{10, 20, 10, 20}, 4);
+
+        // when
+        ParentLinks withoutParent = links.removeIf((child, parent) -> parent == 10);
+        ParentLinks withoutChild = links.without(4);
+
+        // then
+        assertEquals(2, withoutParent.size());
+        assertEquals(MISSING, withoutParent.parentOf(1));
+        assertEquals(20, withoutParent.parentOf(2));
+        assertEquals(MISSING, withoutParent.parentOf(3));
+        assertEquals(3, withoutChild.size());
+        assertEquals(MISSING, withoutChild.parentOf(4));
+        assertSame(links, links.without(5));
+    }
+}
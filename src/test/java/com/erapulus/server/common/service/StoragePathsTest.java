@@ -0,0 +1,50 @@
+package com.erapulus.server.common.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StoragePathsTest {
+
+    @Test
+    void unique_shouldPlaceFileInNewDirectoryOnEveryCall() {
+        // when
+        String first = StoragePaths.unique("user/1/photo", "a.jpg");
+        String second = StoragePaths.unique("user/1/photo", "a.jpg");
+
+        // then
+        assertTrue(first.matches("user/1/photo/[0-9a-f-]{36}/a\\.jpg"), first);
+        assertTrue(second.matches("user/1/photo/[0-9a-f-]{36}/a\\.jpg"), second);
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    void unique_shouldKeepFileInsideDirectory() {
+        // when
+        String path = StoragePaths.unique("user/1/photo", "../../7/photo/x.png");
+
+        // then
+        assertTrue(path.matches("user/1/photo/[0-9a-f-]{36}/x\\.png"), path);
+    }
+
+    @Test
+    void fileName_shouldStripDirectoriesAndDisallowedCharacters() {
+        assertEquals("x.png", StoragePaths.fileName("../../7/photo/x.png"));
+        assertEquals("x.png", StoragePaths.fileName("..\\..\\x.png"));
+        assertEquals("my_photo_1_.jpg", StoragePaths.fileName("my photo(1).jpg"));
+        assertEquals("hidden", StoragePaths.fileName(".hidden"));
+        assertEquals("file", StoragePaths.fileName(".."));
+        assertEquals("file", StoragePaths.fileName("dir/"));
+        assertEquals("file", StoragePaths.fileName(null));
+    }
+
+    @Test
+    void isUnique_shouldRecognizePathsCreatedByUnique() {
+        assertTrue(StoragePaths.isUnique(StoragePaths.unique("user/1/photo", "a.jpg")));
+        assertFalse(StoragePaths.isUnique("user/1/photo/a.jpg"));
+        assertFalse(StoragePaths.isUnique("user/1/photo/thumbnails/64/a.jpg.png"));
+    }
+}
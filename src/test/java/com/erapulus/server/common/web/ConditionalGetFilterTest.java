@@ -0,0 +1,180 @@
+package com.erapulus.server.common.web;
+
+import com.erapulus.server.building.database.BuildingEntity;
+import com.erapulus.server.building.database.BuildingRepository;
+import com.erapulus.server.university.database.UniversityEntity;
+import com.erapulus.server.university.database.UniversityRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.web.reactive.server.EntityExchangeResult;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.ServerResponse;
+
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@SpringBootTest
+class ConditionalGetFilterTest {
+
+    private static final String BUILDING_URL = "/api/university/{universityId}/building/{buildingId}";
+    private static final int ITERATIONS = 100;
+
+    @Autowired
+    private ConditionalGetFilter conditionalGetFilter;
+
+    @Autowired
+    @Qualifier("buildingRoutes")
+    private RouterFunction<ServerResponse> buildingRoutes;
+
+    @Autowired
+    private BuildingRepository buildingRepository;
+
+    @Autowired
+    private UniversityRepository universityRepository;
+
+    private WebTestClient webTestClient;
+    private UniversityEntity university;
+    private BuildingEntity building;
+
+    @BeforeEach
+    void setUp() {
+        webTestClient = WebTestClient.bindToRouterFunction(buildingRoutes)
+                                     .webFilter(conditionalGetFilter)
+                                     .build();
+        university = createUniversity("university1");
+        building = createBuilding(university);
+    }
+
+    @AfterEach
+    void clean() {
+        buildingRepository.deleteAll().block();
+        universityRepository.deleteAll().block();
+    }
+
+    @Test
+    void filter_shouldReturnNotModifiedWhenETagMatches() {
+        // given
+        String eTag = getBuilding(building.id(), headers -> {}).getResponseHeaders().getETag();
+
+        // when
+        EntityExchangeResult<byte[]> result = getBuilding(building.id(), headers -> headers.setIfNoneMatch(eTag));
+
+        // then
+        assertEquals(HttpStatus.NOT_MODIFIED, result.getStatus());
+        assertEquals(eTag, result.getResponseHeaders().getETag());
+        assertNull(result.getResponseBodyContent());
+    }
+
+    @Test
+    void filter_shouldReturnNewVersionWhenBuildingChanged() {
+        // given
+        String eTag = getBuilding(building.id(), headers -> {}).getResponseHeaders().getETag();
+        buildingRepository.save(building.name("changed")).block();
+
+        // when
+        EntityExchangeResult<byte[]> result = getBuilding(building.id(), headers -> headers.setIfNoneMatch(eTag));
+
+        // then
+        assertEquals(HttpStatus.OK, result.getStatus());
+        assertNotEquals(eTag, result.getResponseHeaders().getETag());
+        assertTrue(new String(result.getResponseBodyContent()).contains("changed"));
+    }
+
+    @Test
+    void filter_shouldCompareIfModifiedSinceWhenNoETagSent() {
+        // given
+        long lastModified = ETags.toInstant(building.lastModifiedDate()).toEpochMilli();
+
+        // when
+        EntityExchangeResult<byte[]> notModified = getBuilding(building.id(), headers -> headers.setIfModifiedSince(lastModified));
+        EntityExchangeResult<byte[]> modified = getBuilding(building.id(), headers -> headers.setIfModifiedSince(lastModified - 1000));
+
+        // then
+        assertEquals(HttpStatus.NOT_MODIFIED, notModified.getStatus());
+        assertEquals(HttpStatus.OK, modified.getStatus());
+    }
+
+    @Test
+    void filter_shouldPassThroughWhenBuildingBelongsToOtherUniversity() {
+        // given
+        UniversityEntity otherUniversity = createUniversity("university2");
+        String eTag = ETags.fromLastModified(building.lastModifiedDate());
+
+        // when
+        EntityExchangeResult<byte[]> result = webTestClient.get()
+                                                           .uri(BUILDING_URL, otherUniversity.id(), building.id())
+                                                           .headers(headers -> headers.setIfNoneMatch(eTag))
+                                                           .exchange()
+                                                           .expectBody()
+                                                           .returnResult();
+
+        // then
+        assertEquals(HttpStatus.NOT_FOUND, result.getStatus());
+    }
+
+    @Test
+    void filter_shouldTransferNoBodyForUnchangedBuilding() {
+        // given
+        String eTag = getBuilding(building.id(), headers -> {}).getResponseHeaders().getETag();
+
+        // when
+        long fullBytes = 0;
+        long notModifiedBytes = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            fullBytes += bodyLength(getBuilding(building.id(), headers -> {}));
+            notModifiedBytes += bodyLength(getBuilding(building.id(), headers -> headers.setIfNoneMatch(eTag)));
+        }
+
+        // then
+        assertTrue(fullBytes > 0);
+        assertEquals(0, notModifiedBytes);
+    }
+
+    private EntityExchangeResult<byte[]> getBuilding(int buildingId, Consumer<HttpHeaders> headers) {
+        return webTestClient.get()
+                            .uri(BUILDING_URL, university.id(), buildingId)
+                            .headers(headers)
+                            .exchange()
+                            .expectBody()
+                            .returnResult();
+    }
+
+    private long bodyLength(EntityExchangeResult<byte[]> result) {
+        byte[] body = result.getResponseBodyContent();
+        return body == null ? 0 : body.length;
+    }
+
+    private UniversityEntity createUniversity(String name) {
+        UniversityEntity universityEntity = UniversityEntity.builder()
+                                                            .name(name)
+                                                            .address("Some address")
+                                                            .zipcode("00000")
+                                                            .city("city")
+                                                            .country("country")
+                                                            .websiteUrl("url")
+                                                            .build();
+        return universityRepository.save(universityEntity).block();
+    }
+
+    private BuildingEntity createBuilding(UniversityEntity universityEntity) {
+        BuildingEntity buildingEntity = BuildingEntity.builder()
+                                                      .name("building")
+                                                      .abbrev("abbrev")
+                                                      .latitude(1.0)
+                                                      .longitude(1.0)
+                                                      .universityId(universityEntity.id())
+                                                      .build();
+        return buildingRepository.save(buildingEntity).block();
+    }
+}
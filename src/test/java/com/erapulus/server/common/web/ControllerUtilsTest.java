@@ -12,6 +12,7 @@ import java.net.URI;
 import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
 
 class ControllerUtilsTest {
 
@@ -19,6 +20,8 @@ class ControllerUtilsTest {
     private final static String QUERY_PARAM = "queryParam";
     private final static String PAGE = "page";
     private final static String PAGE_SIZE = "pageSize";
+    private final static String AFTER = "after";
+    private final static String COUNT = "count";
     private final static Integer PATH_PARAM_VALUE = 1;
     private final static String PARAM_WRONG_VALUE = "1a";
     private final static String QUERY_PARAM_VALUE = "2";
@@ -197,4 +200,159 @@ class ControllerUtilsTest {
                     .assertNext(response -> assertEquals(HttpStatus.BAD_REQUEST, response.statusCode()))
                     .verifyComplete();
     }
-}
\ No newline at end of file
+
+    @Test
+    void withPageParams_shouldExtractCursorWhenAfterParamGiven() {
+        // given
+        var cursor = PageCursor.of(PATH_PARAM_VALUE, "name:with:separators");
+        var serverRequest = MockServerRequest.builder()
+                                             .uri(URI.create("/api/entity?after=%s&pageSize=12".formatted(cursor.encode())))
+                                             .queryParam(AFTER, cursor.encode())
+                                             .queryParam(PAGE, PAGE_VALUE.toString())
+                                             .queryParam(PAGE_SIZE, PAGE_SIZE_VALUE.toString())
+                                             .build();
+        Function<PageRequest, Mono<ServerResponse>> functionWithAssert = (value) -> {
+            PaginationRequest paginationRequest = assertInstanceOf(PaginationRequest.class, value);
+            assertEquals(cursor, paginationRequest.after());
+            assertEquals(CountMode.EXACT, paginationRequest.countMode());
+            assertEquals(PAGE_VALUE_DEFAULT, value.getPageNumber());
+            assertEquals(PAGE_SIZE_VALUE, value.getPageSize());
+            return ServerResponse.ok().build();
+        };
+
+        // when
+        Mono<ServerResponse> result = ControllerUtils.withPageParams(serverRequest, functionWithAssert);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .assertNext(response -> assertEquals(HttpStatus.OK, response.statusCode()))
+                    .verifyComplete();
+    }
+
+    @Test
+    void withPageParams_shouldReturnBadRequestWhenCantParseCursor() {
+        // given
+        var serverRequest = MockServerRequest.builder()
+                                             .uri(URI.create("/api/entity"))
+                                             .queryParam(AFTER, "%%%")
+                                             .build();
+        Function<PageRequest, Mono<ServerResponse>> functionWithAssert = (value) -> ServerResponse.ok().build();
+
+        // when
+        Mono<ServerResponse> result = ControllerUtils.withPageParams(serverRequest, functionWithAssert);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .assertNext(response -> assertEquals(HttpStatus.BAD_REQUEST, response.statusCode()))
+                    .verifyComplete();
+    }
+
+    @Test
+    void withPageParams_shouldExtractCountMode() {
+        // given
+        var serverRequest = MockServerRequest.builder()
+                                             .uri(URI.create("/api/entity?count=none"))
+                                             .queryParam(COUNT, "none")
+                                             .build();
+        Function<PageRequest, Mono<ServerResponse>> functionWithAssert = (value) -> {
+            assertEquals(CountMode.NONE, PaginationRequest.countMode(value));
+            assertEquals(PAGE_VALUE_DEFAULT, value.getPageNumber());
+            return ServerResponse.ok().build();
+        };
+
+        // when
+        Mono<ServerResponse> result = ControllerUtils.withPageParams(serverRequest, functionWithAssert);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .assertNext(response -> assertEquals(HttpStatus.OK, response.statusCode()))
+                    .verifyComplete();
+    }
+
+    @Test
+    void withPageParams_shouldReturnBadRequestWhenUnknownCountMode() {
+        // given
+        var serverRequest = MockServerRequest.builder()
+                                             .uri(URI.create("/api/entity?count=some"))
+                                             .queryParam(COUNT, "some")
+                                             .build();
+        Function<PageRequest, Mono<ServerResponse>> functionWithAssert = (value) -> ServerResponse.ok().build();
+
+        // when
+        Mono<ServerResponse> result = ControllerUtils.withPageParams(serverRequest, functionWithAssert);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .assertNext(response -> assertEquals(HttpStatus.BAD_REQUEST, response.statusCode()))
+                    .verifyComplete();
+    }
+
+    @Test
+    void withSortedPageParams_shouldExtractCursorWithSortKey() {
+        // given
+        var cursor = PageCursor.of(PATH_PARAM_VALUE, "name");
+        var serverRequest = MockServerRequest.builder()
+                                             .uri(URI.create("/api/entity?after=%s".formatted(cursor.encode())))
+                                             .queryParam(AFTER, cursor.encode())
+                                             .build();
+        Function<PageRequest, Mono<ServerResponse>> functionWithAssert = (value) -> {
+            assertEquals(cursor, assertInstanceOf(PaginationRequest.class, value).after());
+            return ServerResponse.ok().build();
+        };
+
+        // when
+        Mono<ServerResponse> result = ControllerUtils.withSortedPageParams(serverRequest, functionWithAssert);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .assertNext(response -> assertEquals(HttpStatus.OK, response.statusCode()))
+                    .verifyComplete();
+    }
+
+    @Test
+    void withSortedPageParams_shouldReturnBadRequestWhenCursorHasNoSortKey() {
+        // given
+        var cursor = PageCursor.of(PATH_PARAM_VALUE);
+        var serverRequest = MockServerRequest.builder()
+                                             .uri(URI.create("/api/entity?after=%s".formatted(cursor.encode())))
+                                             .queryParam(AFTER, cursor.encode())
+                                             .build();
+        Function<PageRequest, Mono<ServerResponse>> functionWithAssert = (value) -> ServerResponse.ok().build();
+
+        // when
+        Mono<ServerResponse> result = ControllerUtils.withSortedPageParams(serverRequest, functionWithAssert);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .assertNext(response -> assertEquals(HttpStatus.BAD_REQUEST, response.statusCode()))
+                    .verifyComplete();
+    }
+
+    @Test
+    void withSortedPageParams_shouldUseOffsetPagingWhenNoCursorGiven() {
+        // given
+        var serverRequest = MockServerRequest.builder()
+                                             .uri(URI.create("/api/entity?page=3"))
+                                             .queryParam(PAGE, PAGE_VALUE.toString())
+                                             .build();
+        Function<PageRequest, Mono<ServerResponse>> functionWithAssert = (value) -> {
+            assertEquals(PAGE_VALUE, value.getPageNumber());
+            return ServerResponse.ok().build();
+        };
+
+        // when
+        Mono<ServerResponse> result = ControllerUtils.withSortedPageParams(serverRequest, functionWithAssert);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .assertNext(response -> assertEquals(HttpStatus.OK, response.statusCode()))
+                    .verifyComplete();
+    }
+}
@@ -0,0 +1,58 @@
+package com.erapulus.server.common.web;
+
+import com.erapulus.server.TestUtils;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class StaticErrorResponseTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void write_shouldProduceSameBodyAsJacksonForEveryResponse() throws Exception {
+        for (StaticErrorResponse errorResponse : StaticErrorResponse.values()) {
+            // given
+            MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+            String expected = objectMapper.writeValueAsString(ResponseTemplate.builder()
+                                                                              .status(errorResponse.status().value())
+                                                                              .message(errorResponse.message())
+                                                                              .build());
+
+            // when
+            Mono<Void> result = errorResponse.write(exchange.getResponse());
+
+            // then
+            StepVerifier.create(result)
+                        .verifyComplete();
+            HttpHeaders headers = exchange.getResponse().getHeaders();
+            assertEquals(errorResponse.status(), exchange.getResponse().getStatusCode());
+            assertEquals(MediaType.APPLICATION_JSON, headers.getContentType());
+            assertEquals(errorResponse.contentLength(), headers.getContentLength());
+            TestUtils.assertJsonEquals(expected, exchange.getResponse().getBodyAsString().block());
+        }
+    }
+
+    @Test
+    void write_shouldBeReusableAcrossResponses() {
+        // given
+        MockServerWebExchange first = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+        MockServerWebExchange second = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+
+        // when
+        StaticErrorResponse.FORBIDDEN.write(first.getResponse()).block();
+        StaticErrorResponse.FORBIDDEN.write(second.getResponse()).block();
+
+        // then
+        assertEquals(first.getResponse().getBodyAsString().block(), second.getResponse().getBodyAsString().block());
+        assertEquals(HttpStatus.FORBIDDEN, second.getResponse().getStatusCode());
+    }
+}
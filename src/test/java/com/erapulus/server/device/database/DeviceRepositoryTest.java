@@ -127,6 +127,33 @@ class DeviceRepositoryTest {
                     .verifyComplete();
     }
 
+    @Test
+    void deleteAllByDeviceIds_shouldDeleteDevicesWithGivenDeviceIds() {
+        // given
+        var student1 = createStudent(STUDENT_1);
+        var student2 = createStudent(STUDENT_2);
+        var device1 = createDevice(DEVICE_ID_1, student1);
+        var device2 = createDevice(DEVICE_ID_2, student1);
+        var device3 = createDevice(DEVICE_ID_3, student2);
+        var device4 = createDevice(DEVICE_ID_4, student2);
+
+        // when
+        Mono<Integer> result = deviceRepository.deleteAllByDeviceIds(List.of(DEVICE_ID_1, DEVICE_ID_3));
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNext(2)
+                    .verifyComplete();
+
+        StepVerifier.create(deviceRepository.findAll())
+                    .recordWith(ArrayList::new)
+                    .thenConsumeWhile(x -> true)
+                    .expectRecordedMatches(devices -> devices.stream().map(DeviceEntity::id).toList().size() == 2)
+                    .expectRecordedMatches(devices -> devices.stream().map(DeviceEntity::id).toList().containsAll(List.of(device2.id(), device4.id())))
+                    .verifyComplete();
+    }
+
     private DeviceEntity createDevice(String deviceId, StudentEntity student) {
         DeviceEntity deviceEntity = DeviceEntity.builder()
                                                 .name("name")
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.util.ArrayList;
@@ -27,6 +28,9 @@ class DocumentRepositoryTest {
     private final static String PROGRAM_2 = "program2";
     private final static String MODULE_1 = "module1";
     private final static String MODULE_2 = "module2";
+    private final static int SEEDED_FACULTIES = 5;
+    private final static int SEEDED_PROGRAMS = 4;
+    private final static int SEEDED_MODULES = 3;
 
     @Autowired
     private DocumentRepository documentRepository;
@@ -123,6 +127,109 @@ class DocumentRepositoryTest {
                     .verifyComplete();
     }
 
+    @Test
+    void findByIdAndFilters_shouldReturnDocumentOnlyForItsParent() {
+        // given
+        var university1 = createUniversity(UNIVERSITY_1);
+        var university2 = createUniversity(UNIVERSITY_2);
+        var program = createProgram(PROGRAM_1, createFaculty(university1));
+        var universityDocument = createDocument(university1.id(), null, null);
+        var programDocument = createDocument(null, program.id(), null);
+
+        // when
+        Mono<DocumentEntity> foundForUniversity = documentRepository.findByIdAndFilters(universityDocument.id(), university1.id(), null, null);
+        Mono<DocumentEntity> foundForOtherUniversity = documentRepository.findByIdAndFilters(universityDocument.id(), university2.id(), null, null);
+        Mono<DocumentEntity> foundForProgram = documentRepository.findByIdAndFilters(programDocument.id(), null, program.id(), null);
+        Mono<DocumentEntity> programDocumentForUniversity = documentRepository.findByIdAndFilters(programDocument.id(), university1.id(), null, null);
+
+        // then
+        StepVerifier.create(foundForUniversity.map(DocumentEntity::id))
+                    .expectSubscription()
+                    .expectNext(universityDocument.id())
+                    .verifyComplete();
+        StepVerifier.create(foundForOtherUniversity)
+                    .expectSubscription()
+                    .verifyComplete();
+        StepVerifier.create(foundForProgram.map(DocumentEntity::id))
+                    .expectSubscription()
+                    .expectNext(programDocument.id())
+                    .verifyComplete();
+        StepVerifier.create(programDocumentForUniversity)
+                    .expectSubscription()
+                    .verifyComplete();
+    }
+
+    @Test
+    void findAllByUniversityIdWithChildren_shouldReturnDocumentsFromWholeUniversityTree() {
+        // given
+        var university1 = createUniversity(UNIVERSITY_1);
+        var university2 = createUniversity(UNIVERSITY_2);
+        var program1 = createProgram(PROGRAM_1, createFaculty(university1));
+        var program2 = createProgram(PROGRAM_2, createFaculty(university2));
+        var module1 = createModule(MODULE_1, program1);
+        var document1 = createDocument(university1.id(), null, null);
+        var document2 = createDocument(null, program1.id(), null);
+        var document3 = createDocument(null, null, module1.id());
+        createDocument(university2.id(), null, null);
+        createDocument(null, program2.id(), null);
+
+        // when
+        Flux<DocumentEntity> result = documentRepository.findAllByUniversityIdWithChildren(university1.id());
+
+        // then
+        StepVerifier.create(result.map(DocumentEntity::id).collectList())
+                    .expectSubscription()
+                    .expectNextMatches(documents -> documents.size() == 3
+                                                    && documents.containsAll(List.of(document1.id(), document2.id(), document3.id())))
+                    .verifyComplete();
+    }
+
+    @Test
+    void deleteAllByUniversityId_shouldDeleteOnlyGivenUniversityTree() {
+        // given
+        var university1 = createUniversity(UNIVERSITY_1);
+        var university2 = createUniversity(UNIVERSITY_2);
+        createDocument(university1.id(), null, null);
+        for (int f = 0; f < SEEDED_FACULTIES; f++) {
+            var faculty = createFaculty("faculty" + f, university1);
+            for (int p = 0; p < SEEDED_PROGRAMS; p++) {
+                var program = createProgram(PROGRAM_1 + p, faculty);
+                createDocument(null, program.id(), null);
+                for (int m = 0; m < SEEDED_MODULES; m++) {
+                    createDocument(null, null, createModule(MODULE_1 + m, program).id());
+                }
+            }
+        }
+        var otherProgram = createProgram(PROGRAM_2, createFaculty(university2));
+        var otherDocument = createDocument(null, null, createModule(MODULE_2, otherProgram).id());
+
+        // when
+        Mono<Void> result = documentRepository.deleteAllByUniversityIdWithChildren(university1.id())
+                                              .then(moduleRepository.deleteAllByUniversityId(university1.id()))
+                                              .then(programRepository.deleteAllByUniversityId(university1.id()))
+                                              .then(facultyRepository.deleteAllByUniversityId(university1.id()));
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .verifyComplete();
+        StepVerifier.create(facultyRepository.findAllByUniversityId(university1.id()))
+                    .expectSubscription()
+                    .verifyComplete();
+        StepVerifier.create(documentRepository.findAll().map(DocumentEntity::id))
+                    .expectSubscription()
+                    .expectNext(otherDocument.id())
+                    .verifyComplete();
+        StepVerifier.create(moduleRepository.count())
+                    .expectSubscription()
+                    .expectNext(1L)
+                    .verifyComplete();
+        StepVerifier.create(programRepository.findAllByFacultyId(otherProgram.facultyId()))
+                    .expectSubscription()
+                    .expectNext(otherProgram.id())
+                    .verifyComplete();
+    }
+
     private DocumentEntity createDocument(Integer universityId, Integer programId, Integer moduleId) {
         DocumentEntity documentEntity = DocumentEntity.builder()
                                                       .name("file")
@@ -147,9 +254,13 @@ class DocumentRepositoryTest {
     }
 
     private FacultyEntity createFaculty(UniversityEntity universityEntity) {
+        return createFaculty("faculty", universityEntity);
+    }
+
+    private FacultyEntity createFaculty(String name, UniversityEntity universityEntity) {
         FacultyEntity facultyEntity = FacultyEntity.builder()
                                                    .universityId(universityEntity.id())
-                                                   .name("faculty")
+                                                   .name(name)
                                                    .address("address")
                                                    .email("example@gmail.com")
                                                    .build();
@@ -1,14 +1,14 @@
 package com.erapulus.server.document.service;
 
-import com.erapulus.server.common.service.AzureStorageService;
+import com.erapulus.server.common.service.BlobGarbageCollector;
+import com.erapulus.server.common.service.CatalogIndex;
+import com.erapulus.server.common.service.FileStorageService;
 import com.erapulus.server.document.database.DocumentEntity;
 import com.erapulus.server.document.database.DocumentRepository;
 import com.erapulus.server.document.dto.DocumentRequestDto;
 import com.erapulus.server.document.dto.DocumentResponseDto;
 import com.erapulus.server.document.mapper.DocumentEntityToResponseDtoMapper;
 import com.erapulus.server.document.mapper.DocumentRequestDtoToEntityMapper;
-import com.erapulus.server.module.database.ModuleRepository;
-import com.erapulus.server.program.database.ProgramRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -47,13 +47,13 @@ class DocumentServiceModuleTest {
     DocumentRepository documentRepository;
 
     @Mock
-    ProgramRepository programRepository;
+    CatalogIndex catalogIndex;
 
     @Mock
-    ModuleRepository moduleRepository;
+    FileStorageService fileStorageService;
 
     @Mock
-    AzureStorageService azureStorageService;
+    BlobGarbageCollector blobGarbageCollector;
 
     DocumentService documentService;
 
@@ -62,9 +62,9 @@ class DocumentServiceModuleTest {
         documentService = new DocumentService(documentRepository,
                 new DocumentRequestDtoToEntityMapper(),
                 new DocumentEntityToResponseDtoMapper(),
-                programRepository,
-                moduleRepository,
-                azureStorageService);
+                catalogIndex,
+                fileStorageService,
+                blobGarbageCollector);
     }
 
     @Test
@@ -73,7 +73,7 @@ class DocumentServiceModuleTest {
         var document1 = createDocument(ID_1);
         var document2 = createDocument(ID_2);
         when(documentRepository.findAllByFilters(null, null, MODULE_ID)).thenReturn(Flux.just(document1, document2));
-        when(moduleRepository.existsByIdAndUniversityIdAndFacultyIdAndProgramId(MODULE_ID, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID)).thenReturn(Mono.just(true));
+        when(catalogIndex.moduleExists(MODULE_ID, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID)).thenReturn(Mono.just(true));
 
         // when
         Mono<List<DocumentResponseDto>> result = documentService.listDocuments(UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID, MODULE_ID);
@@ -88,7 +88,7 @@ class DocumentServiceModuleTest {
     @Test
     void listDocuments_shouldThrowExceptionWhenModuleNotFound() {
         // given
-        when(moduleRepository.existsByIdAndUniversityIdAndFacultyIdAndProgramId(MODULE_ID, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID)).thenReturn(Mono.just(false));
+        when(catalogIndex.moduleExists(MODULE_ID, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID)).thenReturn(Mono.just(false));
 
         // when
         Mono<List<DocumentResponseDto>> result = documentService.listDocuments(UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID, MODULE_ID);
@@ -111,8 +111,8 @@ class DocumentServiceModuleTest {
         when(filePart.filename()).thenReturn("example.png");
         when(documentRepository.save(any(DocumentEntity.class)))
                 .then(invocationOnMock -> Mono.just(invocationOnMock.getArgument(0, DocumentEntity.class).id(ID_1)));
-        when(azureStorageService.uploadFile(filePart, path)).thenReturn(Mono.just(fullPath));
-        when(moduleRepository.existsByIdAndUniversityIdAndFacultyIdAndProgramId(MODULE_ID, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID)).thenReturn(Mono.just(true));
+        when(fileStorageService.uploadFile(filePart, path)).thenReturn(Mono.just(fullPath));
+        when(catalogIndex.moduleExists(MODULE_ID, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID)).thenReturn(Mono.just(true));
 
         // when
         Mono<DocumentResponseDto> result = documentService.createDocument(UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID, MODULE_ID, body);
@@ -137,7 +137,7 @@ class DocumentServiceModuleTest {
         var filePart = mock(FilePart.class);
         Map<String, Part> body = new HashMap<>();
         body.put("file", filePart);
-        when(moduleRepository.existsByIdAndUniversityIdAndFacultyIdAndProgramId(MODULE_ID, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID)).thenReturn(Mono.just(false));
+        when(catalogIndex.moduleExists(MODULE_ID, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID)).thenReturn(Mono.just(false));
 
         // when
         Mono<DocumentResponseDto> result = documentService.createDocument(UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID, MODULE_ID, body);
@@ -153,7 +153,7 @@ class DocumentServiceModuleTest {
     void getDocumentById_shouldReturnDocumentForModuleWhenFound() {
         // given
         var document = createDocument(ID_1);
-        when(moduleRepository.existsByIdAndUniversityIdAndFacultyIdAndProgramId(MODULE_ID, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID)).thenReturn(Mono.just(true));
+        when(catalogIndex.moduleExists(MODULE_ID, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID)).thenReturn(Mono.just(true));
         when(documentRepository.findById(ID_1)).thenReturn(Mono.just(document));
 
         // when
@@ -175,7 +175,7 @@ class DocumentServiceModuleTest {
     @Test
     void getDocumentById_shouldThrowExceptionWhenModuleNotFound() {
         // given
-        when(moduleRepository.existsByIdAndUniversityIdAndFacultyIdAndProgramId(MODULE_ID, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID)).thenReturn(Mono.just(false));
+        when(catalogIndex.moduleExists(MODULE_ID, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID)).thenReturn(Mono.just(false));
         when(documentRepository.findById(ID_1)).thenReturn(Mono.error(IllegalStateException::new));
 
         // when
@@ -191,7 +191,7 @@ class DocumentServiceModuleTest {
     @Test
     void getDocumentById_shouldThrowExceptionWhenDocumentForModuleNotFound() {
         // given
-        when(moduleRepository.existsByIdAndUniversityIdAndFacultyIdAndProgramId(MODULE_ID, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID)).thenReturn(Mono.just(true));
+        when(catalogIndex.moduleExists(MODULE_ID, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID)).thenReturn(Mono.just(true));
         when(documentRepository.findById(ID_1)).thenReturn(Mono.empty());
 
         // when
@@ -210,7 +210,7 @@ class DocumentServiceModuleTest {
         var document = createDocument(ID_1);
         var documentRequestDto = new DocumentRequestDto();
         when(documentRepository.findById(ID_1)).thenReturn(Mono.just(document));
-        when(moduleRepository.existsByIdAndUniversityIdAndFacultyIdAndProgramId(MODULE_ID, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID)).thenReturn(Mono.just(true));
+        when(catalogIndex.moduleExists(MODULE_ID, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID)).thenReturn(Mono.just(true));
         when(documentRepository.save(any(DocumentEntity.class)))
                 .then(invocationOnMock -> Mono.just(invocationOnMock.getArgument(0, DocumentEntity.class).id(ID_1)));
 
@@ -234,7 +234,7 @@ class DocumentServiceModuleTest {
     void updateDocument_shouldThrowExceptionWhenModuleNotFound() {
         // given
         var documentRequestDto = new DocumentRequestDto();
-        when(moduleRepository.existsByIdAndUniversityIdAndFacultyIdAndProgramId(MODULE_ID, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID)).thenReturn(Mono.just(false));
+        when(catalogIndex.moduleExists(MODULE_ID, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID)).thenReturn(Mono.just(false));
 
         // when
         Mono<DocumentResponseDto> result = documentService.updateDocument(documentRequestDto, ID_1, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID, MODULE_ID);
@@ -250,7 +250,7 @@ class DocumentServiceModuleTest {
     void updateDocument_shouldThrowExceptionWhenDocumentForModuleNotFound() {
         // given
         var documentRequestDto = new DocumentRequestDto();
-        when(moduleRepository.existsByIdAndUniversityIdAndFacultyIdAndProgramId(MODULE_ID, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID)).thenReturn(Mono.just(true));
+        when(catalogIndex.moduleExists(MODULE_ID, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID)).thenReturn(Mono.just(true));
         when(documentRepository.findById(ID_1)).thenReturn(Mono.empty());
 
         // when
@@ -267,10 +267,10 @@ class DocumentServiceModuleTest {
     void deleteDocument_shouldDeleteDocumentForModuleWhenFound() {
         // given
         var document = createDocument(ID_1);
-        when(moduleRepository.existsByIdAndUniversityIdAndFacultyIdAndProgramId(MODULE_ID, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID)).thenReturn(Mono.just(true));
+        when(catalogIndex.moduleExists(MODULE_ID, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID)).thenReturn(Mono.just(true));
         when(documentRepository.findById(ID_1)).thenReturn(Mono.just(document));
         when(documentRepository.deleteById(ID_1)).thenReturn(Mono.empty());
-        when(azureStorageService.deleteFile(document)).thenReturn(Mono.just(true));
+        when(blobGarbageCollector.schedule(PATH)).thenReturn(Mono.empty());
 
         // when
         Mono<Boolean> result = documentService.deleteDocument(ID_1, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID, MODULE_ID);
@@ -286,7 +286,7 @@ class DocumentServiceModuleTest {
     void deleteDocument_shouldThrowExceptionWhenModuleNotFound() {
         // given
         var document = createDocument(ID_1);
-        when(moduleRepository.existsByIdAndUniversityIdAndFacultyIdAndProgramId(MODULE_ID, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID)).thenReturn(Mono.just(false));
+        when(catalogIndex.moduleExists(MODULE_ID, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID)).thenReturn(Mono.just(false));
         when(documentRepository.findById(ID_1)).thenReturn(Mono.just(document));
 
         // when
@@ -302,7 +302,7 @@ class DocumentServiceModuleTest {
     @Test
     void deleteDocument_shouldThrowExceptionWhenDocumentForModuleNotFound() {
         // given
-        when(moduleRepository.existsByIdAndUniversityIdAndFacultyIdAndProgramId(MODULE_ID, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID)).thenReturn(Mono.just(true));
+        when(catalogIndex.moduleExists(MODULE_ID, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID)).thenReturn(Mono.just(true));
         when(documentRepository.findById(ID_1)).thenReturn(Mono.empty());
 
         // when
@@ -325,8 +325,7 @@ class DocumentServiceModuleTest {
         when(documentRepository.findById(ID_2)).thenReturn(Mono.just(document2));
         when(documentRepository.deleteById(ID_1)).thenReturn(Mono.empty());
         when(documentRepository.deleteById(ID_2)).thenReturn(Mono.empty());
-        when(azureStorageService.deleteFile(document1)).thenReturn(Mono.just(true));
-        when(azureStorageService.deleteFile(document2)).thenReturn(Mono.just(true));
+        when(blobGarbageCollector.schedule(PATH)).thenReturn(Mono.empty());
 
         // given
         Flux<Boolean> result = documentService.deleteAllDocumentsByModuleId(MODULE_ID);
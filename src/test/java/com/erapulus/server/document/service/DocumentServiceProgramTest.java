@@ -1,14 +1,14 @@
 package com.erapulus.server.document.service;
 
-import com.erapulus.server.common.service.AzureStorageService;
+import com.erapulus.server.common.service.BlobGarbageCollector;
+import com.erapulus.server.common.service.CatalogIndex;
+import com.erapulus.server.common.service.FileStorageService;
 import com.erapulus.server.document.database.DocumentEntity;
 import com.erapulus.server.document.database.DocumentRepository;
 import com.erapulus.server.document.dto.DocumentRequestDto;
 import com.erapulus.server.document.dto.DocumentResponseDto;
 import com.erapulus.server.document.mapper.DocumentEntityToResponseDtoMapper;
 import com.erapulus.server.document.mapper.DocumentRequestDtoToEntityMapper;
-import com.erapulus.server.module.database.ModuleRepository;
-import com.erapulus.server.program.database.ProgramRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -46,13 +46,13 @@ class DocumentServiceProgramTest {
     DocumentRepository documentRepository;
 
     @Mock
-    ProgramRepository programRepository;
+    CatalogIndex catalogIndex;
 
     @Mock
-    ModuleRepository moduleRepository;
+    FileStorageService fileStorageService;
 
     @Mock
-    AzureStorageService azureStorageService;
+    BlobGarbageCollector blobGarbageCollector;
 
     DocumentService documentService;
 
@@ -61,9 +61,9 @@ class DocumentServiceProgramTest {
         documentService = new DocumentService(documentRepository,
                 new DocumentRequestDtoToEntityMapper(),
                 new DocumentEntityToResponseDtoMapper(),
-                programRepository,
-                moduleRepository,
-                azureStorageService);
+                catalogIndex,
+                fileStorageService,
+                blobGarbageCollector);
     }
 
     @Test
@@ -72,7 +72,7 @@ class DocumentServiceProgramTest {
         var document1 = createDocument(ID_1);
         var document2 = createDocument(ID_2);
         when(documentRepository.findAllByFilters(null, PROGRAM_ID, null)).thenReturn(Flux.just(document1, document2));
-        when(programRepository.existsByIdAndUniversityIdAndFacultyId(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
+        when(catalogIndex.programExists(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
 
         // when
         Mono<List<DocumentResponseDto>> result = documentService.listDocuments(UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID, null);
@@ -87,7 +87,7 @@ class DocumentServiceProgramTest {
     @Test
     void listDocuments_shouldThrowExceptionWhenProgramNotFound() {
         // given
-        when(programRepository.existsByIdAndUniversityIdAndFacultyId(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(false));
+        when(catalogIndex.programExists(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(false));
 
         // when
         Mono<List<DocumentResponseDto>> result = documentService.listDocuments(UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID, null);
@@ -110,8 +110,8 @@ class DocumentServiceProgramTest {
         when(filePart.filename()).thenReturn("example.png");
         when(documentRepository.save(any(DocumentEntity.class)))
                 .then(invocationOnMock -> Mono.just(invocationOnMock.getArgument(0, DocumentEntity.class).id(ID_1)));
-        when(azureStorageService.uploadFile(filePart, path)).thenReturn(Mono.just(fullPath));
-        when(programRepository.existsByIdAndUniversityIdAndFacultyId(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
+        when(fileStorageService.uploadFile(filePart, path)).thenReturn(Mono.just(fullPath));
+        when(catalogIndex.programExists(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
 
         // when
         Mono<DocumentResponseDto> result = documentService.createDocument(UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID, null, body);
@@ -136,7 +136,7 @@ class DocumentServiceProgramTest {
         var filePart = mock(FilePart.class);
         Map<String, Part> body = new HashMap<>();
         body.put("file", filePart);
-        when(programRepository.existsByIdAndUniversityIdAndFacultyId(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(false));
+        when(catalogIndex.programExists(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(false));
 
         // when
         Mono<DocumentResponseDto> result = documentService.createDocument(UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID, null, body);
@@ -153,7 +153,7 @@ class DocumentServiceProgramTest {
         // given
         var document = createDocument(ID_1);
         when(documentRepository.findById(ID_1)).thenReturn(Mono.just(document));
-        when(programRepository.existsByIdAndUniversityIdAndFacultyId(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
+        when(catalogIndex.programExists(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
 
         // when
         Mono<DocumentResponseDto> result = documentService.getDocumentById(ID_1, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID, null);
@@ -174,7 +174,7 @@ class DocumentServiceProgramTest {
     @Test
     void getDocumentById_shouldThrowExceptionWhenProgramNotFound() {
         // given
-        when(programRepository.existsByIdAndUniversityIdAndFacultyId(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(false));
+        when(catalogIndex.programExists(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(false));
         when(documentRepository.findById(ID_1)).thenReturn(Mono.error(IllegalStateException::new));
 
         // when
@@ -190,7 +190,7 @@ class DocumentServiceProgramTest {
     @Test
     void getDocumentById_shouldThrowExceptionWhenDocumentForProgramNotFound() {
         // given
-        when(programRepository.existsByIdAndUniversityIdAndFacultyId(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
+        when(catalogIndex.programExists(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
         when(documentRepository.findById(ID_1)).thenReturn(Mono.empty());
 
         // when
@@ -209,7 +209,7 @@ class DocumentServiceProgramTest {
         var document = createDocument(ID_1);
         var documentRequestDto = new DocumentRequestDto();
         when(documentRepository.findById(ID_1)).thenReturn(Mono.just(document));
-        when(programRepository.existsByIdAndUniversityIdAndFacultyId(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
+        when(catalogIndex.programExists(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
         when(documentRepository.save(any(DocumentEntity.class)))
                 .then(invocationOnMock -> Mono.just(invocationOnMock.getArgument(0, DocumentEntity.class).id(ID_1)));
 
@@ -233,7 +233,7 @@ class DocumentServiceProgramTest {
     void updateDocument_shouldThrowExceptionWhenProgramNotFound() {
         // given
         var documentRequestDto = new DocumentRequestDto();
-        when(programRepository.existsByIdAndUniversityIdAndFacultyId(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(false));
+        when(catalogIndex.programExists(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(false));
 
         // when
         Mono<DocumentResponseDto> result = documentService.updateDocument(documentRequestDto, ID_1, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID, null);
@@ -249,7 +249,7 @@ class DocumentServiceProgramTest {
     void updateDocument_shouldThrowExceptionWhenDocumentForProgramNotFound() {
         // given
         var documentRequestDto = new DocumentRequestDto();
-        when(programRepository.existsByIdAndUniversityIdAndFacultyId(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
+        when(catalogIndex.programExists(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
         when(documentRepository.findById(ID_1)).thenReturn(Mono.empty());
 
         // when
@@ -266,10 +266,10 @@ class DocumentServiceProgramTest {
     void deleteDocument_shouldDeleteDocumentForProgramWhenFound() {
         // given
         var document = createDocument(ID_1);
-        when(programRepository.existsByIdAndUniversityIdAndFacultyId(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
+        when(catalogIndex.programExists(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
         when(documentRepository.findById(ID_1)).thenReturn(Mono.just(document));
         when(documentRepository.deleteById(ID_1)).thenReturn(Mono.empty());
-        when(azureStorageService.deleteFile(document)).thenReturn(Mono.just(true));
+        when(blobGarbageCollector.schedule(PATH)).thenReturn(Mono.empty());
 
         // when
         Mono<Boolean> result = documentService.deleteDocument(ID_1, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID, null);
@@ -285,7 +285,7 @@ class DocumentServiceProgramTest {
     void deleteDocument_shouldThrowExceptionWhenProgramNotFound() {
         // given
         var document = createDocument(ID_1);
-        when(programRepository.existsByIdAndUniversityIdAndFacultyId(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(false));
+        when(catalogIndex.programExists(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(false));
         when(documentRepository.findById(ID_1)).thenReturn(Mono.just(document));
 
         // when
@@ -301,7 +301,7 @@ class DocumentServiceProgramTest {
     @Test
     void deleteDocument_shouldThrowExceptionWhenDocumentForProgramNotFound() {
         // given
-        when(programRepository.existsByIdAndUniversityIdAndFacultyId(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
+        when(catalogIndex.programExists(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
         when(documentRepository.findById(ID_1)).thenReturn(Mono.empty());
 
         // when
@@ -324,8 +324,7 @@ class DocumentServiceProgramTest {
         when(documentRepository.findById(ID_2)).thenReturn(Mono.just(document2));
         when(documentRepository.deleteById(ID_1)).thenReturn(Mono.empty());
         when(documentRepository.deleteById(ID_2)).thenReturn(Mono.empty());
-        when(azureStorageService.deleteFile(document1)).thenReturn(Mono.just(true));
-        when(azureStorageService.deleteFile(document2)).thenReturn(Mono.just(true));
+        when(blobGarbageCollector.schedule(PATH)).thenReturn(Mono.empty());
 
         // given
         Flux<Boolean> result = documentService.deleteAllDocumentsByProgramId(PROGRAM_ID);
@@ -1,22 +1,25 @@
 package com.erapulus.server.document.service;
 
-import com.erapulus.server.common.service.AzureStorageService;
+import com.erapulus.server.common.service.BlobGarbageCollector;
+import com.erapulus.server.common.service.CatalogIndex;
+import com.erapulus.server.common.service.FileMetadata;
+import com.erapulus.server.common.service.FileStorageService;
 import com.erapulus.server.document.database.DocumentEntity;
 import com.erapulus.server.document.database.DocumentRepository;
 import com.erapulus.server.document.dto.DocumentRequestDto;
 import com.erapulus.server.document.dto.DocumentResponseDto;
 import com.erapulus.server.document.mapper.DocumentEntityToResponseDtoMapper;
 import com.erapulus.server.document.mapper.DocumentRequestDtoToEntityMapper;
-import com.erapulus.server.module.database.ModuleRepository;
-import com.erapulus.server.program.database.ProgramRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.codec.multipart.FilePart;
 import org.springframework.http.codec.multipart.Part;
+import org.springframework.mock.http.server.reactive.MockServerHttpResponse;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -29,8 +32,8 @@ import java.util.NoSuchElementException;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mock;
-import static org.mockito.Mockito.when;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class DocumentServiceUniversityTest {
@@ -39,18 +42,19 @@ class DocumentServiceUniversityTest {
     private final static int ID_2 = 2;
     private static final int UNIVERSITY_ID = 3;
     private static final String PATH = "https://azure.com/exmaple.png";
+    private static final String ETAG = "\"0x8D9\"";
 
     @Mock
     DocumentRepository documentRepository;
 
     @Mock
-    ProgramRepository programRepository;
+    CatalogIndex catalogIndex;
 
     @Mock
-    ModuleRepository moduleRepository;
+    FileStorageService fileStorageService;
 
     @Mock
-    AzureStorageService azureStorageService;
+    BlobGarbageCollector blobGarbageCollector;
 
     DocumentService documentService;
 
@@ -59,9 +63,9 @@ class DocumentServiceUniversityTest {
         documentService = new DocumentService(documentRepository,
                 new DocumentRequestDtoToEntityMapper(),
                 new DocumentEntityToResponseDtoMapper(),
-                programRepository,
-                moduleRepository,
-                azureStorageService);
+                catalogIndex,
+                fileStorageService,
+                blobGarbageCollector);
     }
 
     @Test
@@ -92,7 +96,7 @@ class DocumentServiceUniversityTest {
         when(filePart.filename()).thenReturn("example.png");
         when(documentRepository.save(any(DocumentEntity.class)))
                 .then(invocationOnMock -> Mono.just(invocationOnMock.getArgument(0, DocumentEntity.class).id(ID_1)));
-        when(azureStorageService.uploadFile(filePart, path)).thenReturn(Mono.just(fullPath));
+        when(fileStorageService.uploadFile(filePart, path)).thenReturn(Mono.just(fullPath));
 
         // when
         Mono<DocumentResponseDto> result = documentService.createDocument(UNIVERSITY_ID, null, null, null, body);
@@ -165,6 +169,47 @@ class DocumentServiceUniversityTest {
                     .verify();
     }
 
+    @Test
+    void getDocumentContent_shouldReturnContentWritingFilePinnedToETag() {
+        // given
+        var document = createDocument(ID_1);
+        var metadata = new FileMetadata(ETAG, 3L, "image/png");
+        var message = new MockServerHttpResponse();
+        when(documentRepository.findByIdAndFilters(ID_1, UNIVERSITY_ID, null, null)).thenReturn(Mono.just(document));
+        when(fileStorageService.getFileMetadata(PATH)).thenReturn(Mono.just(metadata));
+        when(fileStorageService.writeFile(PATH, 1L, 2L, ETAG, message)).thenReturn(Mono.empty());
+
+        // when
+        Mono<DocumentContent> result = documentService.getDocumentContent(ID_1, UNIVERSITY_ID, null, null, null);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .assertNext(content -> {
+                        assertEquals("name", content.name());
+                        assertEquals(metadata, content.metadata());
+                        StepVerifier.create(content.writeTo(message, 1L, 2L))
+                                    .verifyComplete();
+                    })
+                    .verifyComplete();
+    }
+
+    @Test
+    void getDocumentContent_shouldThrowExceptionWhenDocumentNotInUniversity() {
+        // given
+        when(documentRepository.findByIdAndFilters(ID_1, UNIVERSITY_ID, null, null)).thenReturn(Mono.empty());
+
+        // when
+        Mono<DocumentContent> result = documentService.getDocumentContent(ID_1, UNIVERSITY_ID, null, null, null);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectError(NoSuchElementException.class)
+                    .verify();
+        verifyNoInteractions(fileStorageService);
+    }
+
     @Test
     void updateDocument_shouldUpdateDocumentForUniversityWhenFound() {
         // given
@@ -212,7 +257,7 @@ class DocumentServiceUniversityTest {
         var document = createDocument(ID_1);
         when(documentRepository.findById(ID_1)).thenReturn(Mono.just(document));
         when(documentRepository.deleteById(ID_1)).thenReturn(Mono.empty());
-        when(azureStorageService.deleteFile(document)).thenReturn(Mono.just(true));
+        when(blobGarbageCollector.schedule(PATH)).thenReturn(Mono.empty());
 
         // when
         Mono<Boolean> result = documentService.deleteDocument(ID_1, UNIVERSITY_ID, null, null, null);
@@ -240,26 +285,26 @@ class DocumentServiceUniversityTest {
     }
 
     @Test
-    void deleteAllDocumentsByUniversityId() {
-        // when
+    void deleteAllDocumentsByUniversityId_shouldDeleteRowsAndScheduleFiles() {
+        // given
         var document1 = createDocument(ID_1);
         var document2 = createDocument(ID_2);
-        when(documentRepository.findAllByFilters(UNIVERSITY_ID, null, null)).thenReturn(Flux.just(document1, document2));
-        when(documentRepository.findById(ID_1)).thenReturn(Mono.just(document1));
-        when(documentRepository.findById(ID_2)).thenReturn(Mono.just(document2));
-        when(documentRepository.deleteById(ID_1)).thenReturn(Mono.empty());
-        when(documentRepository.deleteById(ID_2)).thenReturn(Mono.empty());
-        when(azureStorageService.deleteFile(document1)).thenReturn(Mono.just(true));
-        when(azureStorageService.deleteFile(document2)).thenReturn(Mono.just(true));
+        when(documentRepository.findAllByUniversityIdWithChildren(UNIVERSITY_ID)).thenReturn(Flux.just(document1, document2));
+        when(documentRepository.deleteAllByUniversityIdWithChildren(UNIVERSITY_ID)).thenReturn(Mono.empty());
+        when(blobGarbageCollector.schedule(List.of(PATH, PATH))).thenReturn(Mono.empty());
 
-        // given
-        Flux<Boolean> result = documentService.deleteAllDocumentsByUniversityId(UNIVERSITY_ID);
+        // when
+        Mono<Void> result = documentService.deleteAllDocumentsByUniversityId(UNIVERSITY_ID);
 
         // then
         StepVerifier.create(result)
                     .expectSubscription()
-                    .expectNextCount(2)
                     .verifyComplete();
+        InOrder inOrder = inOrder(documentRepository, blobGarbageCollector);
+        inOrder.verify(documentRepository).deleteAllByUniversityIdWithChildren(UNIVERSITY_ID);
+        inOrder.verify(blobGarbageCollector).schedule(List.of(PATH, PATH));
+        verify(documentRepository, never()).deleteById(anyInt());
+        verifyNoInteractions(fileStorageService);
     }
 
     private DocumentEntity createDocument(int id) {
@@ -1,8 +1,10 @@
 package com.erapulus.server.document.web;
 
 import com.erapulus.server.TestUtils;
+import com.erapulus.server.common.service.FileMetadata;
 import com.erapulus.server.document.dto.DocumentRequestDto;
 import com.erapulus.server.document.dto.DocumentResponseDto;
+import com.erapulus.server.document.service.DocumentContent;
 import com.erapulus.server.document.service.DocumentService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,18 +14,22 @@ import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.web.reactive.function.BodyInserters;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import javax.validation.ConstraintViolationException;
 import javax.validation.Validation;
+import java.util.Arrays;
 import java.util.List;
 import java.util.NoSuchElementException;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.Mockito.when;
@@ -37,6 +43,8 @@ class DocumentProgramControllerTest {
     private final static int PROGRAM_ID = 3;
     private final static int FACULTY_ID = 4;
     private final static int UNIVERSITY_ID = 5;
+    private final static String ETAG = "\"0x8D9\"";
+    private final static byte[] CONTENT = "0123456789".getBytes();
 
     @Autowired
     ApplicationContext applicationContext;
@@ -457,6 +465,26 @@ class DocumentProgramControllerTest {
                      .expectBody().consumeWith(body -> TestUtils.assertJsonEquals(expectedResponse, TestUtils.getBodyAsString(body)));
     }
 
+    @Test
+    void getDocumentContentForProgram_shouldReturnPartialContentForRange() {
+        // given
+        var documentContent = new DocumentContent("name.txt", new FileMetadata(ETAG, CONTENT.length, MediaType.TEXT_PLAIN_VALUE),
+                (message, offset, count) -> message.writeWith(Flux.just(message.bufferFactory().wrap(Arrays.copyOfRange(CONTENT, (int) offset, (int) (offset + count))))));
+        when(documentService.getDocumentContent(DOCUMENT_ID_1, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID, null)).thenReturn(Mono.just(documentContent));
+
+        // when-then
+        webTestClient.get()
+                     .uri(uriBuilder -> uriBuilder
+                             .path("/api/university/{universityId}/faculty/{facultyId}/program/{programId}/document/{documentId}/content")
+                             .build(UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID, DOCUMENT_ID_1))
+                     .header(HttpHeaders.RANGE, "bytes=7-")
+                     .exchange()
+                     .expectStatus().isEqualTo(HttpStatus.PARTIAL_CONTENT)
+                     .expectHeader().valueEquals(HttpHeaders.ETAG, ETAG)
+                     .expectHeader().valueEquals(HttpHeaders.CONTENT_RANGE, "bytes 7-9/10")
+                     .expectBody().consumeWith(body -> assertEquals("789", TestUtils.getBodyAsString(body)));
+    }
+
     private DocumentResponseDto createDocumentResponseDto(int id) {
         return DocumentResponseDto.builder()
                                   .id(id)
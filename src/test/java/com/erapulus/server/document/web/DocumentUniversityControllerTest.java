@@ -1,8 +1,10 @@
 package com.erapulus.server.document.web;
 
 import com.erapulus.server.TestUtils;
+import com.erapulus.server.common.service.FileMetadata;
 import com.erapulus.server.document.dto.DocumentRequestDto;
 import com.erapulus.server.document.dto.DocumentResponseDto;
+import com.erapulus.server.document.service.DocumentContent;
 import com.erapulus.server.document.service.DocumentService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,18 +14,22 @@ import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.MultipartBodyBuilder;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.web.reactive.function.BodyInserters;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import javax.validation.ConstraintViolationException;
 import javax.validation.Validation;
+import java.util.Arrays;
 import java.util.List;
 import java.util.NoSuchElementException;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.when;
 
@@ -34,6 +40,8 @@ class DocumentUniversityControllerTest {
     private final static int DOCUMENT_ID_1 = 1;
     private final static int DOCUMENT_ID_2 = 2;
     private final static int UNIVERSITY_ID = 3;
+    private final static String ETAG = "\"0x8D9\"";
+    private final static byte[] CONTENT = "0123456789".getBytes();
 
     @Autowired
     ApplicationContext applicationContext;
@@ -452,6 +460,114 @@ class DocumentUniversityControllerTest {
                      .expectBody().consumeWith(body -> TestUtils.assertJsonEquals(expectedResponse, TestUtils.getBodyAsString(body)));
     }
 
+    @Test
+    void getDocumentContentForUniversity_shouldReturnWholeContent() {
+        // given
+        when(documentService.getDocumentContent(DOCUMENT_ID_1, UNIVERSITY_ID, null, null, null)).thenReturn(Mono.just(createDocumentContent()));
+
+        // when-then
+        webTestClient.get()
+                     .uri(uriBuilder -> uriBuilder
+                             .path("/api/university/{universityId}/document/{documentId}/content")
+                             .build(UNIVERSITY_ID, DOCUMENT_ID_1))
+                     .exchange()
+                     .expectStatus().isEqualTo(HttpStatus.OK)
+                     .expectHeader().valueEquals(HttpHeaders.ETAG, ETAG)
+                     .expectHeader().valueEquals(HttpHeaders.ACCEPT_RANGES, "bytes")
+                     .expectHeader().contentType(MediaType.TEXT_PLAIN)
+                     .expectHeader().contentLength(CONTENT.length)
+                     .expectBody().consumeWith(body -> assertEquals(new String(CONTENT), TestUtils.getBodyAsString(body)));
+    }
+
+    @Test
+    void getDocumentContentForUniversity_shouldReturnPartialContentForRange() {
+        // given
+        when(documentService.getDocumentContent(DOCUMENT_ID_1, UNIVERSITY_ID, null, null, null)).thenReturn(Mono.just(createDocumentContent()));
+
+        // when-then
+        webTestClient.get()
+                     .uri(uriBuilder -> uriBuilder
+                             .path("/api/university/{universityId}/document/{documentId}/content")
+                             .build(UNIVERSITY_ID, DOCUMENT_ID_1))
+                     .header(HttpHeaders.RANGE, "bytes=2-5")
+                     .exchange()
+                     .expectStatus().isEqualTo(HttpStatus.PARTIAL_CONTENT)
+                     .expectHeader().valueEquals(HttpHeaders.CONTENT_RANGE, "bytes 2-5/10")
+                     .expectHeader().contentLength(4)
+                     .expectBody().consumeWith(body -> assertEquals("2345", TestUtils.getBodyAsString(body)));
+    }
+
+    @Test
+    void getDocumentContentForUniversity_shouldReturnWholeContentWhenIfRangeDoesNotMatch() {
+        // given
+        when(documentService.getDocumentContent(DOCUMENT_ID_1, UNIVERSITY_ID, null, null, null)).thenReturn(Mono.just(createDocumentContent()));
+
+        // when-then
+        webTestClient.get()
+                     .uri(uriBuilder -> uriBuilder
+                             .path("/api/university/{universityId}/document/{documentId}/content")
+                             .build(UNIVERSITY_ID, DOCUMENT_ID_1))
+                     .header(HttpHeaders.RANGE, "bytes=-3")
+                     .header(HttpHeaders.IF_RANGE, "\"outdated\"")
+                     .exchange()
+                     .expectStatus().isEqualTo(HttpStatus.OK)
+                     .expectBody().consumeWith(body -> assertEquals(new String(CONTENT), TestUtils.getBodyAsString(body)));
+    }
+
+    @Test
+    void getDocumentContentForUniversity_shouldReturnNotModifiedWhenETagMatches() {
+        // given
+        when(documentService.getDocumentContent(DOCUMENT_ID_1, UNIVERSITY_ID, null, null, null)).thenReturn(Mono.just(createDocumentContent()));
+
+        // when-then
+        webTestClient.get()
+                     .uri(uriBuilder -> uriBuilder
+                             .path("/api/university/{universityId}/document/{documentId}/content")
+                             .build(UNIVERSITY_ID, DOCUMENT_ID_1))
+                     .header(HttpHeaders.IF_NONE_MATCH, "\"other\", " + ETAG)
+                     .exchange()
+                     .expectStatus().isEqualTo(HttpStatus.NOT_MODIFIED)
+                     .expectHeader().valueEquals(HttpHeaders.ETAG, ETAG)
+                     .expectBody().isEmpty();
+    }
+
+    @Test
+    void getDocumentContentForUniversity_shouldReturnRangeNotSatisfiableWhenRangeOutsideContent() {
+        // given
+        when(documentService.getDocumentContent(DOCUMENT_ID_1, UNIVERSITY_ID, null, null, null)).thenReturn(Mono.just(createDocumentContent()));
+
+        // when-then
+        webTestClient.get()
+                     .uri(uriBuilder -> uriBuilder
+                             .path("/api/university/{universityId}/document/{documentId}/content")
+                             .build(UNIVERSITY_ID, DOCUMENT_ID_1))
+                     .header(HttpHeaders.RANGE, "bytes=10-20")
+                     .exchange()
+                     .expectStatus().isEqualTo(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                     .expectHeader().valueEquals(HttpHeaders.CONTENT_RANGE, "bytes */10");
+    }
+
+    @Test
+    void getDocumentContentForUniversity_shouldReturnNotFoundWhenNoSuchElementExceptionThrown() {
+        // given
+        String expectedResponse = TestUtils.createErrorResponse(HttpStatus.NOT_FOUND.value(), "document.not.found");
+        when(documentService.getDocumentContent(DOCUMENT_ID_1, UNIVERSITY_ID, null, null, null)).thenReturn(Mono.error(new NoSuchElementException("document")));
+
+        // when-then
+        webTestClient.get()
+                     .uri(uriBuilder -> uriBuilder
+                             .path("/api/university/{universityId}/document/{documentId}/content")
+                             .build(UNIVERSITY_ID, DOCUMENT_ID_1))
+                     .exchange()
+                     .expectStatus().isEqualTo(HttpStatus.NOT_FOUND)
+                     .expectBody().consumeWith(body -> TestUtils.assertJsonEquals(expectedResponse, TestUtils.getBodyAsString(body)));
+    }
+
+    private DocumentContent createDocumentContent() {
+        return new DocumentContent("name.txt", new FileMetadata(ETAG, CONTENT.length, MediaType.TEXT_PLAIN_VALUE),
+                (message, offset, count) -> message.writeWith(Flux.just(message.bufferFactory().wrap(Arrays.copyOfRange(CONTENT, (int) offset, (int) (offset + count))))));
+    }
+
     private DocumentResponseDto createDocumentResponseDto(int id) {
         return DocumentResponseDto.builder()
                                   .id(id)
@@ -160,6 +160,29 @@ class EmployeeRepositoryTest {
                     .verifyComplete();
     }
 
+    @Test
+    void findAllIdsByUniversityId_shouldReturnEmployeeIdsFromGivenUniversity() {
+        // given
+        var university1 = createUniversity(UNIVERSITY_1);
+        var university2 = createUniversity(UNIVERSITY_2);
+        var employee1 = createEmployee(EMAIL_1, UserType.EMPLOYEE, university1.id());
+        var employee2 = createEmployee(EMAIL_2, UserType.EMPLOYEE, university2.id());
+        var employee3 = createEmployee(EMAIL_3, UserType.UNIVERSITY_ADMINISTRATOR, university1.id());
+        var employee4 = createEmployee(EMAIL_4, UserType.ADMINISTRATOR, null);
+        var student = createStudent(EMAIL_5, university1.id());
+
+        // when
+        Flux<Integer> result = employeeRepository.findAllIdsByUniversityId(university1.id());
+
+        // then
+        StepVerifier.create(result)
+                    .recordWith(ArrayList::new)
+                    .thenConsumeWhile(x -> true)
+                    .expectRecordedMatches(employeeIds -> employeeIds.size() == 2)
+                    .expectRecordedMatches(employeeIds -> employeeIds.containsAll(List.of(employee1.id(), employee3.id())))
+                    .verifyComplete();
+    }
+
     @Test
     void deleteAllByUniversityId_shouldDeleteEmployeeFromGivenUniversity() {
         // given
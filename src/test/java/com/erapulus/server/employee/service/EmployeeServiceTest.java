@@ -1,6 +1,8 @@
 package com.erapulus.server.employee.service;
 
 import com.erapulus.server.applicationuser.database.ApplicationUserEntity;
+import com.erapulus.server.applicationuser.database.ApplicationUserRepository;
+import com.erapulus.server.common.configuration.ErapulusProperties;
 import com.erapulus.server.common.database.UserType;
 import com.erapulus.server.employee.database.EmployeeEntity;
 import com.erapulus.server.employee.database.EmployeeRepository;
@@ -9,6 +11,12 @@ import com.erapulus.server.employee.dto.EmployeeResponseDto;
 import com.erapulus.server.employee.mapper.EmployeeEntityToResponseDtoMapper;
 import com.erapulus.server.employee.mapper.EmployeeRequestDtoToEntityMapper;
 import com.erapulus.server.security.JwtAuthenticatedUser;
+import com.erapulus.server.security.JwtAuthenticationToken;
+import com.erapulus.server.security.JwtGenerator;
+import com.erapulus.server.security.JwtReactiveAuthenticationManager;
+import com.erapulus.server.security.JwtTokenCodec;
+import com.erapulus.server.security.PrincipalCache;
+import com.erapulus.server.security.UserEpochRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,6 +24,8 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.ReactiveSecurityContextHolder;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextImpl;
@@ -29,7 +39,9 @@ import java.util.NoSuchElementException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,18 +50,29 @@ class EmployeeServiceTest {
     public static final int UNIVERSITY_ID_1 = 1;
     public static final int UNIVERSITY_ID_2 = 2;
     public static final String PASSWORD = "password";
+    private static final String EMAIL = "example@gmail.com";
+    private static final String ISSUER = "issuer";
+    private static final String SECRET = "my-incredibly-strong-and-secure-secret";
     private final static int ID_1 = 1;
     private final static int ID_2 = 2;
     @Mock
     EmployeeRepository employeeRepository;
 
+    @Mock
+    PrincipalCache principalCache;
+
+    UserEpochRegistry userEpochRegistry;
+
     EmployeeService employeeService;
 
     @BeforeEach
     void setUp() {
+        userEpochRegistry = new UserEpochRegistry();
         employeeService = new EmployeeService(employeeRepository,
                 new EmployeeRequestDtoToEntityMapper(),
-                new EmployeeEntityToResponseDtoMapper());
+                new EmployeeEntityToResponseDtoMapper(),
+                principalCache,
+                userEpochRegistry);
     }
 
     @Test
@@ -172,6 +195,7 @@ class EmployeeServiceTest {
                         })
                         .verifyComplete();
         }
+        verify(principalCache).invalidate(ID_1);
     }
 
     @Test
@@ -239,6 +263,7 @@ class EmployeeServiceTest {
     @Test
     void deleteAllEmployeesByUniversityId() {
         // when
+        when(employeeRepository.findAllIdsByUniversityId(UNIVERSITY_ID_1)).thenReturn(Flux.just(ID_1, ID_2));
         when(employeeRepository.deleteAllByUniversityId(UNIVERSITY_ID_1)).thenReturn(Mono.empty());
 
         // given
@@ -248,6 +273,33 @@ class EmployeeServiceTest {
         StepVerifier.create(result)
                     .expectSubscription()
                     .verifyComplete();
+        assertEquals(2, userEpochRegistry.size());
+        verify(principalCache).invalidate(ID_1);
+        verify(principalCache).invalidate(ID_2);
+    }
+
+    @Test
+    void deleteAllEmployeesByUniversityId_shouldRejectSelfContainedTokenOfDeletedEmployee() {
+        // given
+        var erapulusProperties = new ErapulusProperties(new ErapulusProperties.JwtProperties(ISSUER, SECRET, true), null, null, null, null);
+        var jwtTokenCodec = new JwtTokenCodec(erapulusProperties);
+        var jwtGenerator = new JwtGenerator(jwtTokenCodec, erapulusProperties, userEpochRegistry);
+        var jwtReactiveAuthenticationManager = new JwtReactiveAuthenticationManager(mock(ApplicationUserRepository.class), jwtTokenCodec,
+                new PrincipalCache(), erapulusProperties, userEpochRegistry);
+        var employee = createEmployee(ID_1).email(EMAIL);
+        Authentication authentication = new JwtAuthenticationToken(jwtGenerator.generate(employee));
+        when(employeeRepository.findAllIdsByUniversityId(UNIVERSITY_ID_1)).thenReturn(Flux.just(ID_1));
+        when(employeeRepository.deleteAllByUniversityId(UNIVERSITY_ID_1)).thenReturn(Mono.empty());
+
+        // when
+        employeeService.deleteAllEmployeesByUniversityId(UNIVERSITY_ID_1).block();
+        Mono<Authentication> result = jwtReactiveAuthenticationManager.authenticate(authentication);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectError(BadCredentialsException.class)
+                    .verify();
     }
 
     private EmployeeEntity createEmployee(int id) {
@@ -105,6 +105,72 @@ class FacultyRepositoryTest {
                     .verifyComplete();
     }
 
+    @Test
+    void findByUniversityIdAndNameAfter_shouldReturnFacultiesAfterCursor() {
+        // given
+        var university = createUniversity(UNIVERSITY_1);
+        var faculty1 = createFaculty(FACULTY_1, university);
+        var faculty2 = createFaculty(FACULTY_2, university);
+        var faculty21 = createFaculty(FACULTY_21, university);
+        var faculty3 = createFaculty(FACULTY_3, university);
+
+        // when
+        var result = facultyRepository.findByUniversityIdAndNameAfter(university.id(), null, faculty2.name(), faculty2.id(), 2);
+
+        // then
+        StepVerifier.create(result.map(FacultyEntity::id))
+                    .expectSubscription()
+                    .expectNext(faculty21.id(), faculty3.id())
+                    .verifyComplete();
+    }
+
+    @Test
+    void findPageByUniversityIdAndName_shouldReturnPageAndTotalCountInOneQuery() {
+        // given
+        var university1 = createUniversity(UNIVERSITY_1);
+        var university2 = createUniversity(UNIVERSITY_2);
+        var faculty1 = createFaculty(FACULTY_1, university1);
+        var faculty2 = createFaculty(FACULTY_2, university1);
+        var faculty3 = createFaculty(FACULTY_3, university1);
+        var faculty4 = createFaculty(FACULTY_1, university2);
+        var pageRequest = PageRequest.of(1, 2);
+
+        // when
+        var result = facultyRepository.findPageByUniversityIdAndName(university1.id(), null, pageRequest.getOffset(), pageRequest.getPageSize());
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .assertNext(page -> {
+                        assertEquals(List.of(faculty3.id()), page.content().stream().map(FacultyEntity::id).toList());
+                        assertEquals(FACULTY_3, page.content().get(0).name());
+                        assertEquals(3, page.totalCount());
+                    })
+                    .verifyComplete();
+    }
+
+    @Test
+    void findPageByUniversityIdAndName_shouldCountSeparatelyWhenPageBeyondLastRow() {
+        // given
+        var university = createUniversity(UNIVERSITY_1);
+        var faculty1 = createFaculty(FACULTY_1, university);
+        var faculty2 = createFaculty(FACULTY_21, university);
+        var faculty3 = createFaculty(FACULTY_3, university);
+        var pageRequest = PageRequest.of(5, 2);
+
+        // when
+        var result = facultyRepository.findPageByUniversityIdAndName(university.id(), "faculty2", pageRequest.getOffset(), pageRequest.getPageSize());
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .assertNext(page -> {
+                        assertEquals(0, page.content().size());
+                        assertEquals(1, page.totalCount());
+                    })
+                    .verifyComplete();
+    }
+
     @Test
     void countByUniversityIdAndName_shouldReturnFacultiesNumberForGivenUniversity() {
         // given
@@ -1,6 +1,8 @@
 package com.erapulus.server.faculty.service;
 
 
+import com.erapulus.server.common.database.PagedResult;
+import com.erapulus.server.common.service.CatalogIndex;
 import com.erapulus.server.common.web.PageablePayload;
 import com.erapulus.server.faculty.database.FacultyEntity;
 import com.erapulus.server.faculty.database.FacultyRepository;
@@ -27,7 +29,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class FacultyServiceTest {
@@ -42,6 +44,9 @@ class FacultyServiceTest {
     @Mock
     ProgramService programService;
 
+    @Mock
+    CatalogIndex catalogIndex;
+
     FacultyService facultyService;
 
     @BeforeEach
@@ -49,7 +54,8 @@ class FacultyServiceTest {
         facultyService = new FacultyService(facultyRepository,
                 new FacultyRequestDtoToEntityMapper(),
                 new FacultyEntityToResponseDtoMapper(),
-                programService);
+                programService,
+                catalogIndex);
     }
 
     @Test
@@ -62,10 +68,8 @@ class FacultyServiceTest {
         var totalCount = 12;
         String name = "";
         PageRequest pageRequest = PageRequest.of(1, 10);
-        when(facultyRepository.findByUniversityIdAndName(UNIVERSITY_ID, null, pageRequest.getOffset(), pageRequest.getPageSize()))
-                .thenReturn(Flux.just(faculty1, faculty2));
-        when(facultyRepository.countByUniversityIdAndName(UNIVERSITY_ID, null))
-                .thenReturn(Mono.just(totalCount));
+        when(facultyRepository.findPageByUniversityIdAndName(UNIVERSITY_ID, null, pageRequest.getOffset(), pageRequest.getPageSize()))
+                .thenReturn(Mono.just(new PagedResult<>(List.of(faculty1, faculty2), totalCount)));
         PageablePayload<FacultyResponseDto> expected = new PageablePayload<>(List.of(facultyDto1, facultyDto2), pageRequest, totalCount);
 
         // when
@@ -188,6 +192,7 @@ class FacultyServiceTest {
                     .expectSubscription()
                     .assertNext(Assertions::assertTrue)
                     .verifyComplete();
+        verify(catalogIndex).removeFaculty(ID_1);
     }
 
     @Test
@@ -208,24 +213,20 @@ class FacultyServiceTest {
 
     @Test
     void deleteAllFacultiesByUniversityId() {
-        // when
-        var faculty1 = createFaculty(ID_1);
-        var faculty2 = createFaculty(ID_2);
-        when(facultyRepository.findAllByUniversityId(UNIVERSITY_ID)).thenReturn(Flux.just(ID_1, ID_2));
-        when(facultyRepository.findByIdAndUniversityId(ID_1, UNIVERSITY_ID)).thenReturn(Mono.just(faculty1));
-        when(facultyRepository.findByIdAndUniversityId(ID_2, UNIVERSITY_ID)).thenReturn(Mono.just(faculty2));
-        when(programService.deleteAllProgramsByFacultyIdAndUniversityId(ID_1, UNIVERSITY_ID)).thenReturn(Flux.just());
-        when(programService.deleteAllProgramsByFacultyIdAndUniversityId(ID_2, UNIVERSITY_ID)).thenReturn(Flux.just(true, true));
-        when(facultyRepository.deleteById(anyInt())).thenReturn(Mono.empty());
-
         // given
-        Flux<Boolean> result = facultyService.deleteAllFacultiesByUniversityId(UNIVERSITY_ID);
+        when(programService.deleteAllProgramsByUniversityId(UNIVERSITY_ID)).thenReturn(Mono.empty());
+        when(facultyRepository.deleteAllByUniversityId(UNIVERSITY_ID)).thenReturn(Mono.empty());
+
+        // when
+        Mono<Void> result = facultyService.deleteAllFacultiesByUniversityId(UNIVERSITY_ID);
 
         // then
         StepVerifier.create(result)
                     .expectSubscription()
-                    .expectNextCount(2)
                     .verifyComplete();
+        verify(facultyRepository).deleteAllByUniversityId(UNIVERSITY_ID);
+        verify(catalogIndex).removeUniversity(UNIVERSITY_ID);
+        verify(facultyRepository, never()).deleteById(anyInt());
     }
 
     private FacultyEntity createFaculty(int id) {
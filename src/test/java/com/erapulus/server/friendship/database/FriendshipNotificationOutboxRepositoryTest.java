@@ -0,0 +1,99 @@
+package com.erapulus.server.friendship.database;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@SpringBootTest
+class FriendshipNotificationOutboxRepositoryTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Autowired
+    private FriendshipNotificationOutboxRepository outboxRepository;
+
+    @AfterEach
+    void clean() {
+        outboxRepository.deleteAll().block();
+    }
+
+    @Test
+    void findDue_shouldReturnOldestDueRowsLimitedBySize() {
+        // given
+        var now = LocalDateTime.now();
+        var friendRequest1 = createFriendRequest(1, 2);
+        var friendRequest2 = createFriendRequest(1, 3);
+        createFriendRequest(2, 3);
+
+        // when
+        Flux<FriendshipNotificationOutboxEntity> result = outboxRepository.findDue(now, MAX_ATTEMPTS, 2);
+
+        // then
+        StepVerifier.create(result.map(FriendshipNotificationOutboxEntity::id))
+                    .expectSubscription()
+                    .expectNext(friendRequest1.id(), friendRequest2.id())
+                    .verifyComplete();
+    }
+
+    @Test
+    void findDue_shouldSkipRescheduledAndParkedRows() {
+        // given
+        var now = LocalDateTime.now();
+        var friendRequest1 = createFriendRequest(1, 2);
+        var friendRequest2 = createFriendRequest(1, 3);
+        var friendRequest3 = createFriendRequest(2, 3);
+        outboxRepository.markFailedByIds(List.of(friendRequest1.id()), now.plusMinutes(1)).block();
+        outboxRepository.save(friendRequest2.attempts(MAX_ATTEMPTS)).block();
+
+        // when
+        Flux<FriendshipNotificationOutboxEntity> result = outboxRepository.findDue(now, MAX_ATTEMPTS, 10);
+
+        // then
+        StepVerifier.create(result.map(FriendshipNotificationOutboxEntity::id))
+                    .expectSubscription()
+                    .expectNext(friendRequest3.id())
+                    .verifyComplete();
+        StepVerifier.create(outboxRepository.findById(friendRequest1.id()).map(FriendshipNotificationOutboxEntity::attempts))
+                    .expectSubscription()
+                    .expectNext(1)
+                    .verifyComplete();
+    }
+
+    @Test
+    void deleteAllByIds_shouldDeleteOnlyGivenRows() {
+        // given
+        var friendRequest1 = createFriendRequest(1, 2);
+        var friendRequest2 = createFriendRequest(1, 3);
+        var friendRequest3 = createFriendRequest(2, 3);
+
+        // when
+        Mono<Integer> result = outboxRepository.deleteAllByIds(List.of(friendRequest1.id(), friendRequest3.id()));
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNext(2)
+                    .verifyComplete();
+        StepVerifier.create(outboxRepository.findAll().map(FriendshipNotificationOutboxEntity::id))
+                    .expectSubscription()
+                    .expectNext(friendRequest2.id())
+                    .verifyComplete();
+    }
+
+    private FriendshipNotificationOutboxEntity createFriendRequest(int applicationUserId, int friendId) {
+        FriendshipNotificationOutboxEntity friendRequest = FriendshipNotificationOutboxEntity.builder()
+                                                                                             .applicationUserId(applicationUserId)
+                                                                                             .friendId(friendId)
+                                                                                             .createdAt(LocalDateTime.now())
+                                                                                             .attempts(0)
+                                                                                             .build();
+        return outboxRepository.save(friendRequest).block();
+    }
+}
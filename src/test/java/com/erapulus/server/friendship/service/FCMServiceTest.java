@@ -1,9 +1,7 @@
 package com.erapulus.server.friendship.service;
 
-import com.erapulus.server.applicationuser.database.ApplicationUserEntity;
 import com.google.api.core.SettableApiFuture;
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -13,14 +11,19 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.Mockito.mockStatic;
-import static org.mockito.Mockito.when;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class FCMServiceTest {
 
-    private static final String DEVICE_ID = "deviceId";
+    private static final String DEVICE_ID_1 = "deviceId1";
+    private static final String DEVICE_ID_2 = "deviceId2";
+    private static final String DEVICE_ID_3 = "deviceId3";
 
     @Mock
     private FirebaseMessaging firebaseMessaging;
@@ -37,40 +40,83 @@ class FCMServiceTest {
     }
 
     @Test
-    void sendPushNotification_shouldReturnEmptyOnSuccess() {
+    void sendAll_shouldReturnDeliveryStatusForEachNotification() {
         // given
-        var user = createUser();
-        when(firebaseMessaging.sendAsync(any(Message.class))).thenReturn(SettableApiFuture.create());
+        var notifications = List.of(createNotification(DEVICE_ID_1), createNotification(DEVICE_ID_2), createNotification(DEVICE_ID_3));
+        var responses = List.of(successfulResponse(),
+                failedResponse(MessagingErrorCode.UNREGISTERED),
+                failedResponse(MessagingErrorCode.UNAVAILABLE));
+        BatchResponse batchResponse = mock(BatchResponse.class);
+        when(batchResponse.getResponses()).thenReturn(responses);
+        SettableApiFuture<BatchResponse> future = SettableApiFuture.create();
+        future.set(batchResponse);
+        when(firebaseMessaging.sendAllAsync(anyList())).thenReturn(future);
 
         // when
-        Mono<Void> result = fcmService.sendPushNotification(DEVICE_ID, user);
+        Mono<List<DeliveryStatus>> result = fcmService.sendAll(notifications);
 
         // then
         StepVerifier.create(result)
                     .expectSubscription()
+                    .assertNext(statuses -> assertEquals(List.of(DeliveryStatus.DELIVERED, DeliveryStatus.UNREGISTERED, DeliveryStatus.TRANSIENT_FAILURE), statuses))
                     .verifyComplete();
+        verify(firebaseMessaging).sendAllAsync(argThat(messages -> messages.size() == 3));
     }
 
     @Test
-    void sendPushNotification_shouldReturnEmptyOnError() {
+    void sendAll_shouldWaitForDeliveryBeforeCompleting() {
         // given
-        var user = createUser();
-        when(firebaseMessaging.sendAsync(any(Message.class))).thenThrow(new RuntimeException());
+        SettableApiFuture<BatchResponse> future = SettableApiFuture.create();
+        when(firebaseMessaging.sendAllAsync(anyList())).thenReturn(future);
+        BatchResponse batchResponse = mock(BatchResponse.class);
+        var response = successfulResponse();
+        when(batchResponse.getResponses()).thenReturn(List.of(response));
 
         // when
-        Mono<Void> result = fcmService.sendPushNotification(DEVICE_ID, user);
+        Mono<List<DeliveryStatus>> result = fcmService.sendAll(List.of(createNotification(DEVICE_ID_1)));
 
         // then
         StepVerifier.create(result)
                     .expectSubscription()
+                    .expectNoEvent(Duration.ofMillis(50))
+                    .then(() -> future.set(batchResponse))
+                    .assertNext(statuses -> assertEquals(List.of(DeliveryStatus.DELIVERED), statuses))
                     .verifyComplete();
     }
 
-    private ApplicationUserEntity createUser() {
-        return ApplicationUserEntity.builder()
-                                    .id(1)
-                                    .firstName("name")
-                                    .lastName("deviceId")
-                                    .build();
+    @Test
+    void sendAll_shouldReturnErrorWhenBatchFailed() {
+        // given
+        SettableApiFuture<BatchResponse> future = SettableApiFuture.create();
+        future.setException(new IllegalStateException());
+        when(firebaseMessaging.sendAllAsync(anyList())).thenReturn(future);
+
+        // when
+        Mono<List<DeliveryStatus>> result = fcmService.sendAll(List.of(createNotification(DEVICE_ID_1)));
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectError(IllegalStateException.class)
+                    .verify();
+    }
+
+    private PushNotification createNotification(String deviceId) {
+        return new PushNotification(1, deviceId, "name", "lastName");
+    }
+
+    private SendResponse successfulResponse() {
+        SendResponse response = mock(SendResponse.class);
+        when(response.isSuccessful()).thenReturn(true);
+        return response;
+    }
+
+    private SendResponse failedResponse(MessagingErrorCode errorCode) {
+        FirebaseMessagingException exception = mock(FirebaseMessagingException.class);
+        when(exception.getMessagingErrorCode()).thenReturn(errorCode);
+        SendResponse response = mock(SendResponse.class);
+        when(response.isSuccessful()).thenReturn(false);
+        when(response.getException()).thenReturn(exception);
+        return response;
     }
 }
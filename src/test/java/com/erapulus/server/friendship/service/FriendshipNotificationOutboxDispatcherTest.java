@@ -0,0 +1,166 @@
+package com.erapulus.server.friendship.service;
+
+import com.erapulus.server.friendship.database.FriendshipNotificationOutboxEntity;
+import com.erapulus.server.friendship.database.FriendshipNotificationOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class FriendshipNotificationOutboxDispatcherTest {
+
+    private static final int ID_1 = 1;
+    private static final int ID_2 = 2;
+    private static final Instant NOW = Instant.parse("2026-10-18T10:00:00Z");
+
+    @Mock
+    private FriendshipNotificationOutboxRepository outboxRepository;
+
+    @Mock
+    private PushNotificationService pushNotificationService;
+
+    private final Clock clock = Clock.fixed(NOW, ZoneOffset.UTC);
+
+    private FriendshipNotificationOutboxDispatcher outboxDispatcher;
+
+    @BeforeEach
+    void setUp() {
+        outboxDispatcher = new FriendshipNotificationOutboxDispatcher(outboxRepository, pushNotificationService, clock);
+    }
+
+    @Test
+    void drain_shouldDeleteRowsAfterNotificationsSent() {
+        // given
+        var friendRequest1 = createFriendRequest(ID_1, 3, 0);
+        var friendRequest2 = createFriendRequest(ID_2, 1, 0);
+        var friendRequests = List.of(friendRequest1, friendRequest2);
+        when(outboxRepository.findDue(eq(LocalDateTime.now(clock)), anyInt(), anyInt())).thenReturn(Flux.fromIterable(friendRequests));
+        when(pushNotificationService.sendPushNotifications(friendRequests)).thenReturn(Mono.just(Set.of()));
+        when(outboxRepository.deleteAllByIds(List.of(ID_1, ID_2))).thenReturn(Mono.just(2));
+
+        // when
+        Mono<Long> result = outboxDispatcher.drain();
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNext(2L)
+                    .verifyComplete();
+        verify(outboxRepository, never()).markFailedByIds(anyCollection(), any());
+        assertEquals(2, outboxDispatcher.dispatchedCount());
+        assertEquals(1, outboxDispatcher.dispatchedBatchCount());
+        assertEquals(3_000, outboxDispatcher.outboxLagMillis());
+    }
+
+    @Test
+    void drain_shouldDeleteSettledRowsAndRescheduleFailedOnes() {
+        // given
+        var friendRequest1 = createFriendRequest(ID_1, 5, 0);
+        var friendRequest2 = createFriendRequest(ID_2, 4, 2);
+        var friendRequests = List.of(friendRequest1, friendRequest2);
+        when(outboxRepository.findDue(any(), anyInt(), anyInt())).thenReturn(Flux.fromIterable(friendRequests));
+        when(pushNotificationService.sendPushNotifications(friendRequests)).thenReturn(Mono.just(Set.of(ID_2)));
+        when(outboxRepository.deleteAllByIds(List.of(ID_1))).thenReturn(Mono.just(1));
+        when(outboxRepository.markFailedByIds(List.of(ID_2), LocalDateTime.now(clock).plusMinutes(4))).thenReturn(Mono.just(1));
+
+        // when
+        Mono<Long> result = outboxDispatcher.drain();
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNext(2L)
+                    .verifyComplete();
+        assertEquals(1, outboxDispatcher.dispatchedCount());
+        assertEquals(1, outboxDispatcher.retriedCount());
+        assertEquals(0, outboxDispatcher.parkedCount());
+        assertEquals(5_000, outboxDispatcher.outboxLagMillis());
+    }
+
+    @Test
+    void drain_shouldParkRowsThatReachedMaxAttempts() {
+        // given
+        var friendRequests = List.of(createFriendRequest(ID_1, 5, 9));
+        when(outboxRepository.findDue(any(), anyInt(), anyInt())).thenReturn(Flux.fromIterable(friendRequests));
+        when(pushNotificationService.sendPushNotifications(friendRequests)).thenReturn(Mono.just(Set.of(ID_1)));
+        when(outboxRepository.markFailedByIds(eq(List.of(ID_1)), any())).thenReturn(Mono.just(1));
+
+        // when
+        Mono<Long> result = outboxDispatcher.drain();
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNext(1L)
+                    .verifyComplete();
+        verify(outboxRepository, never()).deleteAllByIds(anyCollection());
+        assertEquals(0, outboxDispatcher.dispatchedCount());
+        assertEquals(1, outboxDispatcher.parkedCount());
+    }
+
+    @Test
+    void drain_shouldKeepRowsWhenOutboxUnavailable() {
+        // given
+        var friendRequests = List.of(createFriendRequest(ID_1, 5, 0));
+        when(outboxRepository.findDue(any(), anyInt(), anyInt())).thenReturn(Flux.fromIterable(friendRequests));
+        when(pushNotificationService.sendPushNotifications(friendRequests)).thenReturn(Mono.just(Set.of()));
+        when(outboxRepository.deleteAllByIds(List.of(ID_1))).thenReturn(Mono.error(new IllegalStateException("connection closed")));
+
+        // when
+        Mono<Long> result = outboxDispatcher.drain();
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNext(0L)
+                    .verifyComplete();
+        assertEquals(0, outboxDispatcher.dispatchedCount());
+        assertEquals(1, outboxDispatcher.failedBatchCount());
+    }
+
+    @Test
+    void drain_shouldDoNothingWhenOutboxEmpty() {
+        // given
+        when(outboxRepository.findDue(any(), anyInt(), anyInt())).thenReturn(Flux.empty());
+
+        // when
+        Mono<Long> result = outboxDispatcher.drain();
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNext(0L)
+                    .verifyComplete();
+        verifyNoInteractions(pushNotificationService);
+        assertEquals(0, outboxDispatcher.outboxLagMillis());
+    }
+
+    private FriendshipNotificationOutboxEntity createFriendRequest(int id, int secondsAgo, int attempts) {
+        return FriendshipNotificationOutboxEntity.builder()
+                                                 .id(id)
+                                                 .applicationUserId(1)
+                                                 .friendId(2)
+                                                 .createdAt(LocalDateTime.ofInstant(NOW, ZoneOffset.UTC).minusSeconds(secondsAgo))
+                                                 .attempts(attempts)
+                                                 .build();
+    }
+}
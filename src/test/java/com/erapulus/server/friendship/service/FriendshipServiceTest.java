@@ -1,7 +1,11 @@
 package com.erapulus.server.friendship.service;
 
+import com.erapulus.server.TestUtils;
+import com.erapulus.server.common.database.PagedResult;
 import com.erapulus.server.common.web.PageablePayload;
 import com.erapulus.server.friendship.database.FriendshipEntity;
+import com.erapulus.server.friendship.database.FriendshipNotificationOutboxEntity;
+import com.erapulus.server.friendship.database.FriendshipNotificationOutboxRepository;
 import com.erapulus.server.friendship.database.FriendshipRepository;
 import com.erapulus.server.friendship.database.FriendshipStatus;
 import com.erapulus.server.friendship.dto.FriendshipDecisionDto;
@@ -11,6 +15,7 @@ import com.erapulus.server.friendship.mapper.FriendshipEntityToResponseDtoMapper
 import com.erapulus.server.student.database.StudentEntity;
 import com.erapulus.server.student.database.StudentRepository;
 import com.erapulus.server.student.dto.StudentListDto;
+import com.erapulus.server.student.mapper.StudentEntityToListDtoMapper;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -23,6 +28,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -47,7 +53,7 @@ class FriendshipServiceTest {
     StudentRepository studentRepository;
 
     @Mock
-    PushNotificationService pushNotificationService;
+    FriendshipNotificationOutboxRepository friendshipNotificationOutboxRepository;
 
     FriendshipService friendshipService;
 
@@ -55,8 +61,9 @@ class FriendshipServiceTest {
     void setUp() {
         friendshipService = new FriendshipService(friendshipRepository,
                 studentRepository,
-                pushNotificationService,
-                new FriendshipEntityToResponseDtoMapper());
+                friendshipNotificationOutboxRepository,
+                new FriendshipEntityToResponseDtoMapper(),
+                new StudentEntityToListDtoMapper(TestUtils.createImageThumbnails("https://storage.example.com/")));
     }
 
     @Test
@@ -69,10 +76,8 @@ class FriendshipServiceTest {
         var totalCount = 12;
         String name = "";
         PageRequest pageRequest = PageRequest.of(1, 10);
-        when(friendshipRepository.findFriendsByIdAndFilters(USER_ID, null, pageRequest.getOffset(), pageRequest.getPageSize()))
-                .thenReturn(Flux.just(friend1, friend2));
-        when(friendshipRepository.countFriendsByIdAndFilters(USER_ID, null))
-                .thenReturn(Mono.just(totalCount));
+        when(friendshipRepository.findPageOfFriendsByIdAndFilters(USER_ID, null, pageRequest.getOffset(), pageRequest.getPageSize()))
+                .thenReturn(Mono.just(new PagedResult<>(List.of(friend1, friend2), totalCount)));
         PageablePayload<StudentListDto> expected = new PageablePayload<>(List.of(friendDto1, friendDto2), pageRequest, totalCount);
 
         // when
@@ -113,7 +118,8 @@ class FriendshipServiceTest {
         when(friendshipRepository.findByUserIdAndFriendId(USER_ID, FRIEND_ID_1)).thenReturn(Mono.empty());
         when(friendshipRepository.save(any(FriendshipEntity.class)))
                 .then(invocationOnMock -> Mono.just(invocationOnMock.getArgument(0, FriendshipEntity.class).id(FRIENDSHIP_ID)));
-        when(pushNotificationService.sendPushNotification(any(FriendshipResponseDto.class))).thenReturn(Mono.empty());
+        when(friendshipNotificationOutboxRepository.save(any(FriendshipNotificationOutboxEntity.class)))
+                .then(invocationOnMock -> Mono.just(invocationOnMock.getArgument(0, FriendshipNotificationOutboxEntity.class)));
 
         // when
         Mono<FriendshipResponseDto> result = friendshipService.addFriendRequest(friendshipRequestDto, USER_ID);
@@ -128,6 +134,9 @@ class FriendshipServiceTest {
                         assertEquals(FriendshipStatus.REQUESTED, friendRequests.status());
                     })
                     .verifyComplete();
+        verify(friendshipNotificationOutboxRepository).save(argThat(outbox -> outbox.applicationUserId() == FRIEND_ID_1
+                && outbox.friendId() == USER_ID
+                && outbox.createdAt() != null));
     }
 
     @Test
@@ -334,6 +343,9 @@ class FriendshipServiceTest {
                              .firstName("John")
                              .lastName("John")
                              .pictureUrl("https://example.com")
+                             .pictureThumbnailUrls(Map.of(64, "https://example.com",
+                                     128, "https://example.com",
+                                     512, "https://example.com"))
                              .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,171 @@
+package com.erapulus.server.friendship.service;
+
+import com.erapulus.server.device.database.DeviceRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PushNotificationDispatcherTest {
+
+    private static final String DEVICE_ID_1 = "deviceId1";
+    private static final String DEVICE_ID_2 = "deviceId2";
+    private static final String DEVICE_ID_3 = "deviceId3";
+    private static final int OUTBOX_ID = 1;
+    private static final Duration BACKOFF = Duration.ofMillis(10);
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Mock
+    private DeviceRepository deviceRepository;
+
+    private PushNotificationDispatcher pushNotificationDispatcher;
+
+    @Test
+    void send_shouldSendNotificationsInOneBatch() {
+        // given
+        StubPushNotificationClient client = new StubPushNotificationClient();
+        pushNotificationDispatcher = new PushNotificationDispatcher(client, deviceRepository, BACKOFF, MAX_ATTEMPTS);
+
+        // when
+        Mono<List<PushNotification>> result = pushNotificationDispatcher.send(List.of(createNotification(DEVICE_ID_1),
+                createNotification(DEVICE_ID_2),
+                createNotification(DEVICE_ID_3)));
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNext(List.of())
+                    .verifyComplete();
+        assertEquals(3, pushNotificationDispatcher.deliveredCount());
+        assertEquals(1, client.batches.size());
+        assertEquals(List.of(DEVICE_ID_1, DEVICE_ID_2, DEVICE_ID_3), deviceIds(client.batches.peek()));
+        verifyNoInteractions(deviceRepository);
+    }
+
+    @Test
+    void send_shouldRetryOnlyTransientFailures() {
+        // given
+        StubPushNotificationClient client = new StubPushNotificationClient();
+        client.responses.add(Mono.just(List.of(DeliveryStatus.DELIVERED, DeliveryStatus.TRANSIENT_FAILURE, DeliveryStatus.FAILED)));
+        pushNotificationDispatcher = new PushNotificationDispatcher(client, deviceRepository, BACKOFF, MAX_ATTEMPTS);
+
+        // when
+        Mono<List<PushNotification>> result = pushNotificationDispatcher.send(List.of(createNotification(DEVICE_ID_1),
+                createNotification(DEVICE_ID_2),
+                createNotification(DEVICE_ID_3)));
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNext(List.of())
+                    .verifyComplete();
+        assertEquals(2, pushNotificationDispatcher.deliveredCount());
+        List<List<PushNotification>> batches = new ArrayList<>(client.batches);
+        assertEquals(2, batches.size());
+        assertEquals(List.of(DEVICE_ID_2), deviceIds(batches.get(1)));
+        assertEquals(1, pushNotificationDispatcher.failedCount());
+    }
+
+    @Test
+    void send_shouldRetryBatchWhenClientFailsAndReturnUndeliveredAfterMaxAttempts() {
+        // given
+        StubPushNotificationClient client = new StubPushNotificationClient();
+        for (int i = 0; i < MAX_ATTEMPTS; i++) {
+            client.responses.add(Mono.error(new IllegalStateException()));
+        }
+        pushNotificationDispatcher = new PushNotificationDispatcher(client, deviceRepository, BACKOFF, MAX_ATTEMPTS);
+
+        // when
+        Mono<List<PushNotification>> result = pushNotificationDispatcher.send(List.of(createNotification(DEVICE_ID_1)));
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNext(List.of(createNotification(DEVICE_ID_1)))
+                    .verifyComplete();
+        assertEquals(1, pushNotificationDispatcher.failedCount());
+        assertEquals(MAX_ATTEMPTS, client.batches.size());
+        assertEquals(0, pushNotificationDispatcher.deliveredCount());
+    }
+
+    @Test
+    void send_shouldPruneUnregisteredDevices() {
+        // given
+        StubPushNotificationClient client = new StubPushNotificationClient();
+        client.responses.add(Mono.just(List.of(DeliveryStatus.UNREGISTERED, DeliveryStatus.DELIVERED, DeliveryStatus.UNREGISTERED)));
+        when(deviceRepository.deleteAllByDeviceIds(List.of(DEVICE_ID_1, DEVICE_ID_3))).thenReturn(Mono.just(2));
+        pushNotificationDispatcher = new PushNotificationDispatcher(client, deviceRepository, BACKOFF, MAX_ATTEMPTS);
+
+        // when
+        Mono<List<PushNotification>> result = pushNotificationDispatcher.send(List.of(createNotification(DEVICE_ID_1),
+                createNotification(DEVICE_ID_2),
+                createNotification(DEVICE_ID_3)));
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNext(List.of())
+                    .verifyComplete();
+        assertEquals(2, pushNotificationDispatcher.prunedCount());
+        assertEquals(1, pushNotificationDispatcher.deliveredCount());
+        assertEquals(1, client.batches.size());
+    }
+
+    @Test
+    void send_shouldSplitNotificationsIntoBatchesOfMaxSize() {
+        // given
+        StubPushNotificationClient client = new StubPushNotificationClient();
+        pushNotificationDispatcher = new PushNotificationDispatcher(client, deviceRepository, BACKOFF, MAX_ATTEMPTS);
+        List<PushNotification> notifications = IntStream.range(0, PushNotificationClient.MAX_BATCH_SIZE + 1)
+                                                        .mapToObj(i -> createNotification("deviceId" + i))
+                                                        .toList();
+
+        // when
+        Mono<List<PushNotification>> result = pushNotificationDispatcher.send(notifications);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNext(List.of())
+                    .verifyComplete();
+        assertEquals(2, client.batches.size());
+        assertEquals(PushNotificationClient.MAX_BATCH_SIZE + 1, pushNotificationDispatcher.deliveredCount());
+    }
+
+    private PushNotification createNotification(String deviceId) {
+        return new PushNotification(OUTBOX_ID, deviceId, "name", "lastName");
+    }
+
+    private List<String> deviceIds(List<PushNotification> notifications) {
+        return notifications.stream().map(PushNotification::deviceId).toList();
+    }
+
+    private static class StubPushNotificationClient implements PushNotificationClient {
+
+        private final Queue<List<PushNotification>> batches = new ConcurrentLinkedQueue<>();
+        private final Queue<Mono<List<DeliveryStatus>>> responses = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public Mono<List<DeliveryStatus>> sendAll(List<PushNotification> notifications) {
+            batches.add(List.copyOf(notifications));
+            Mono<List<DeliveryStatus>> response = responses.poll();
+            if (response != null) {
+                return response;
+            }
+            return Mono.just(notifications.stream().map(notification -> DeliveryStatus.DELIVERED).toList());
+        }
+    }
+}
@@ -4,7 +4,7 @@ import com.erapulus.server.applicationuser.database.ApplicationUserEntity;
 import com.erapulus.server.applicationuser.database.ApplicationUserRepository;
 import com.erapulus.server.device.database.DeviceEntity;
 import com.erapulus.server.device.database.DeviceRepository;
-import com.erapulus.server.friendship.dto.FriendshipResponseDto;
+import com.erapulus.server.friendship.database.FriendshipNotificationOutboxEntity;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,7 +14,10 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
-import static org.mockito.ArgumentMatchers.anyString;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -22,6 +25,8 @@ class PushNotificationServiceTest {
 
     private static final int STUDENT_ID = 1;
     private static final int FRIEND_ID = 2;
+    private static final int OUTBOX_ID_1 = 1;
+    private static final int OUTBOX_ID_2 = 2;
 
     @Mock
     private DeviceRepository deviceRepository;
@@ -30,42 +35,70 @@ class PushNotificationServiceTest {
     private ApplicationUserRepository applicationUserRepository;
 
     @Mock
-    private FCMService fcmService;
+    private PushNotificationDispatcher pushNotificationDispatcher;
 
     private PushNotificationService pushNotificationService;
 
     @BeforeEach
     void setUp() {
-        this.pushNotificationService = new PushNotificationService(deviceRepository, applicationUserRepository, fcmService);
+        this.pushNotificationService = new PushNotificationService(deviceRepository, applicationUserRepository, pushNotificationDispatcher);
     }
 
     @Test
-    void sendPushNotification() {
+    void sendPushNotifications_shouldSendNotificationsToAllDevicesInOneCall() {
         // given
         var user = createUser();
         var device1 = createDevice();
         var device2 = createDevice();
-        var friendResponseDto = createFriendshipResponseDto();
+        var friendRequest = createFriendRequest(OUTBOX_ID_1, FRIEND_ID);
+        var notification = new PushNotification(OUTBOX_ID_1, "deviceId", "name", "deviceId");
 
         when(deviceRepository.findAllByStudentId(STUDENT_ID)).thenReturn(Flux.just(device1, device2));
         when(applicationUserRepository.findById(FRIEND_ID)).thenReturn(Mono.just(user));
-        when(fcmService.sendPushNotification(anyString(), any(ApplicationUserEntity.class))).thenReturn(Mono.empty());
+        when(pushNotificationDispatcher.send(anyList())).thenReturn(Mono.just(List.of()));
 
         // when
-        Mono<Void> result = pushNotificationService.sendPushNotification(friendResponseDto);
+        Mono<Set<Integer>> result = pushNotificationService.sendPushNotifications(List.of(friendRequest));
 
         // then
         StepVerifier.create(result)
                     .expectSubscription()
+                    .expectNext(Set.of())
                     .verifyComplete();
-        verify(fcmService, times(2)).sendPushNotification(anyString(), any(ApplicationUserEntity.class));
+        verify(pushNotificationDispatcher).send(List.of(notification, notification));
     }
 
-    private FriendshipResponseDto createFriendshipResponseDto() {
-        return FriendshipResponseDto.builder()
-                                    .applicationUserId(STUDENT_ID)
-                                    .friendId(FRIEND_ID)
-                                    .build();
+    @Test
+    void sendPushNotifications_shouldReturnRowsOfUndeliveredAndUnresolvedNotifications() {
+        // given
+        var user = createUser();
+        var friendRequest1 = createFriendRequest(OUTBOX_ID_1, FRIEND_ID);
+        var friendRequest2 = createFriendRequest(OUTBOX_ID_2, FRIEND_ID + 1);
+        var notification = new PushNotification(OUTBOX_ID_1, "deviceId", "name", "deviceId");
+
+        when(deviceRepository.findAllByStudentId(STUDENT_ID)).thenReturn(Flux.just(createDevice()));
+        when(applicationUserRepository.findById(FRIEND_ID)).thenReturn(Mono.just(user));
+        when(applicationUserRepository.findById(FRIEND_ID + 1)).thenReturn(Mono.error(new IllegalStateException("timeout")));
+        when(pushNotificationDispatcher.send(List.of(notification))).thenReturn(Mono.just(List.of(notification)));
+
+        // when
+        Mono<Set<Integer>> result = pushNotificationService.sendPushNotifications(List.of(friendRequest1, friendRequest2));
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNext(Set.of(OUTBOX_ID_1, OUTBOX_ID_2))
+                    .verifyComplete();
+    }
+
+    private FriendshipNotificationOutboxEntity createFriendRequest(int id, int friendId) {
+        return FriendshipNotificationOutboxEntity.builder()
+                                                 .id(id)
+                                                 .applicationUserId(STUDENT_ID)
+                                                 .friendId(friendId)
+                                                 .createdAt(LocalDateTime.now())
+                                                 .attempts(0)
+                                                 .build();
     }
 
     private ApplicationUserEntity createUser() {
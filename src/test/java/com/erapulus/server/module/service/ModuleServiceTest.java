@@ -1,6 +1,8 @@
 package com.erapulus.server.module.service;
 
 
+import com.erapulus.server.common.database.PagedResult;
+import com.erapulus.server.common.service.CatalogIndex;
 import com.erapulus.server.common.web.PageablePayload;
 import com.erapulus.server.document.service.DocumentService;
 import com.erapulus.server.module.database.ModuleEntity;
@@ -9,7 +11,6 @@ import com.erapulus.server.module.dto.ModuleRequestDto;
 import com.erapulus.server.module.dto.ModuleResponseDto;
 import com.erapulus.server.module.mapper.ModuleEntityToResponseDtoMapper;
 import com.erapulus.server.module.mapper.ModuleRequestDtoToEntityMapper;
-import com.erapulus.server.program.database.ProgramRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -43,7 +44,7 @@ class ModuleServiceTest {
     ModuleRepository moduleRepository;
 
     @Mock
-    ProgramRepository programRepository;
+    CatalogIndex catalogIndex;
 
     @Mock
     ModuleService moduleService;
@@ -54,7 +55,7 @@ class ModuleServiceTest {
     @BeforeEach
     void setUp() {
         moduleService = new ModuleService(moduleRepository,
-                programRepository,
+                catalogIndex,
                 new ModuleRequestDtoToEntityMapper(),
                 new ModuleEntityToResponseDtoMapper(),
                 documentService);
@@ -70,11 +71,9 @@ class ModuleServiceTest {
         var totalCount = 12;
         String name = "";
         PageRequest pageRequest = PageRequest.of(1, 10);
-        when(programRepository.existsByIdAndUniversityIdAndFacultyId(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
-        when(moduleRepository.findByProgramIdAndName(PROGRAM_ID, null, pageRequest.getOffset(), pageRequest.getPageSize()))
-                .thenReturn(Flux.just(module1, module2));
-        when(moduleRepository.countByProgramIdAndName(PROGRAM_ID, null))
-                .thenReturn(Mono.just(totalCount));
+        when(catalogIndex.programExists(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
+        when(moduleRepository.findPageByProgramIdAndName(PROGRAM_ID, null, pageRequest.getOffset(), pageRequest.getPageSize()))
+                .thenReturn(Mono.just(new PagedResult<>(List.of(module1, module2), totalCount)));
         PageablePayload<ModuleResponseDto> expected = new PageablePayload<>(List.of(moduleDto1, moduleDto2), pageRequest, totalCount);
 
         // when
@@ -94,10 +93,8 @@ class ModuleServiceTest {
         // given
         String name = "";
         PageRequest pageRequest = PageRequest.of(1, 10);
-        when(programRepository.existsByIdAndUniversityIdAndFacultyId(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(false));
-        when(moduleRepository.findByProgramIdAndName(PROGRAM_ID, null, pageRequest.getOffset(), pageRequest.getPageSize()))
-                .thenReturn(Flux.error(IllegalStateException::new));
-        when(moduleRepository.countByProgramIdAndName(PROGRAM_ID, null))
+        when(catalogIndex.programExists(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(false));
+        when(moduleRepository.findPageByProgramIdAndName(PROGRAM_ID, null, pageRequest.getOffset(), pageRequest.getPageSize()))
                 .thenReturn(Mono.error(IllegalStateException::new));
         // when
         Mono<PageablePayload<ModuleResponseDto>> result = moduleService.listModules(UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID, name, pageRequest);
@@ -113,7 +110,7 @@ class ModuleServiceTest {
     void createModule_shouldCreateModule() {
         // given
         var moduleRequestDto = new ModuleRequestDto();
-        when(programRepository.existsByIdAndUniversityIdAndFacultyId(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
+        when(catalogIndex.programExists(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
         when(moduleRepository.save(any(ModuleEntity.class)))
                 .then(invocationOnMock -> Mono.just(invocationOnMock.getArgument(0, ModuleEntity.class).id(ID_1)));
 
@@ -134,7 +131,7 @@ class ModuleServiceTest {
     void createModule_shouldThrowExceptionWhenFacultyNotExists() {
         // given
         var moduleRequestDto = new ModuleRequestDto();
-        when(programRepository.existsByIdAndUniversityIdAndFacultyId(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(false));
+        when(catalogIndex.programExists(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(false));
 
         // when
         Mono<ModuleResponseDto> result = moduleService.createModule(moduleRequestDto, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID);
@@ -150,7 +147,7 @@ class ModuleServiceTest {
     void getModuleById_shouldReturnModuleWhenFound() {
         // given
         var module = createModule(ID_1);
-        when(programRepository.existsByIdAndUniversityIdAndFacultyId(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
+        when(catalogIndex.programExists(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
         when(moduleRepository.findByIdAndProgramId(ID_1, PROGRAM_ID)).thenReturn(Mono.just(module));
 
         // when
@@ -169,7 +166,7 @@ class ModuleServiceTest {
     @Test
     void getModuleById_shouldThrowExceptionWhenModuleNotFound() {
         // given
-        when(programRepository.existsByIdAndUniversityIdAndFacultyId(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
+        when(catalogIndex.programExists(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
         when(moduleRepository.findByIdAndProgramId(ID_1, PROGRAM_ID)).thenReturn(Mono.empty());
 
         // when
@@ -185,7 +182,7 @@ class ModuleServiceTest {
     @Test
     void getModuleById_shouldThrowExceptionWhenProgramNotFound() {
         // given
-        when(programRepository.existsByIdAndUniversityIdAndFacultyId(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(false));
+        when(catalogIndex.programExists(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(false));
         when(moduleRepository.findByIdAndProgramId(ID_1, PROGRAM_ID)).thenReturn(Mono.error(IllegalStateException::new));
 
         // when
@@ -203,7 +200,7 @@ class ModuleServiceTest {
         // given
         var module = createModule(ID_1);
         var moduleRequestDto = new ModuleRequestDto();
-        when(programRepository.existsByIdAndUniversityIdAndFacultyId(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
+        when(catalogIndex.programExists(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
         when(moduleRepository.findByIdAndProgramId(ID_1, PROGRAM_ID)).thenReturn(Mono.just(module));
         when(moduleRepository.save(any(ModuleEntity.class)))
                 .then(invocationOnMock -> Mono.just(invocationOnMock.getArgument(0, ModuleEntity.class).id(ID_1)));
@@ -225,7 +222,7 @@ class ModuleServiceTest {
     void updateModule_shouldThrowExceptionWhenModuleNotFound() {
         // given
         var moduleRequestDto = new ModuleRequestDto();
-        when(programRepository.existsByIdAndUniversityIdAndFacultyId(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
+        when(catalogIndex.programExists(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
         when(moduleRepository.findByIdAndProgramId(ID_1, PROGRAM_ID)).thenReturn(Mono.empty());
 
         // when
@@ -242,7 +239,7 @@ class ModuleServiceTest {
     void updateModule_shouldThrowExceptionWhenProgramNotFound() {
         // given
         var moduleRequestDto = new ModuleRequestDto();
-        when(programRepository.existsByIdAndUniversityIdAndFacultyId(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(false));
+        when(catalogIndex.programExists(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(false));
 
         // when
         Mono<ModuleResponseDto> result = moduleService.updateModule(moduleRequestDto, ID_1, UNIVERSITY_ID, FACULTY_ID, PROGRAM_ID);
@@ -258,7 +255,7 @@ class ModuleServiceTest {
     void deleteModule_shouldDeleteModuleWhenFound() {
         // given
         var module = createModule(ID_1);
-        when(programRepository.existsByIdAndUniversityIdAndFacultyId(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
+        when(catalogIndex.programExists(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
         when(moduleRepository.findByIdAndProgramId(ID_1, PROGRAM_ID)).thenReturn(Mono.just(module));
         when(documentService.deleteAllDocumentsByModuleId(ID_1)).thenReturn(Flux.just(true, true));
         when(moduleRepository.deleteById(ID_1)).thenReturn(Mono.empty());
@@ -276,7 +273,7 @@ class ModuleServiceTest {
     @Test
     void deleteModule_shouldThrowExceptionWhenModuleNotFound() {
         // given
-        when(programRepository.existsByIdAndUniversityIdAndFacultyId(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
+        when(catalogIndex.programExists(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(true));
         when(moduleRepository.findByIdAndProgramId(ID_1, PROGRAM_ID)).thenReturn(Mono.empty());
         when(documentService.deleteAllDocumentsByModuleId(ID_1)).thenReturn(Flux.just(true, true));
 
@@ -293,7 +290,7 @@ class ModuleServiceTest {
     @Test
     void deleteModule_shouldThrowExceptionWhenProgramNotFound() {
         // given
-        when(programRepository.existsByIdAndUniversityIdAndFacultyId(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(false));
+        when(catalogIndex.programExists(PROGRAM_ID, UNIVERSITY_ID, FACULTY_ID)).thenReturn(Mono.just(false));
         when(moduleRepository.findByIdAndProgramId(ID_1, PROGRAM_ID)).thenReturn(Mono.error(IllegalStateException::new));
 
         // when
@@ -328,6 +325,20 @@ class ModuleServiceTest {
                     .verifyComplete();
     }
 
+    @Test
+    void deleteAllModulesByUniversityId() {
+        // given
+        when(moduleRepository.deleteAllByUniversityId(UNIVERSITY_ID)).thenReturn(Mono.empty());
+
+        // when
+        Mono<Void> result = moduleService.deleteAllModulesByUniversityId(UNIVERSITY_ID);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .verifyComplete();
+    }
+
     private ModuleEntity createModule(int id) {
         return ModuleEntity.builder()
                            .id(id)
@@ -8,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.PageRequest;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -29,6 +30,7 @@ class PostRepositoryTest {
     private static final LocalDate DATE_1 = LocalDate.of(1970, 1, 1);
     private static final LocalDate DATE_2 = LocalDate.of(1970, 1, 2);
     private static final LocalDate DATE_3 = LocalDate.of(1970, 1, 3);
+    private static final int SEEDED_POSTS = 500;
     @Autowired
     private PostRepository postRepository;
 
@@ -102,6 +104,66 @@ class PostRepositoryTest {
                     .verifyComplete();
     }
 
+    @Test
+    void findPostByFiltersAfter_shouldReturnOlderPostsThanCursor() {
+        // given
+        var university1 = createUniversity(UNIVERSITY_1);
+        var university2 = createUniversity(UNIVERSITY_2);
+        var post1 = createPost(TITLE_1, DATE_1, university1);
+        var post2 = createPost(TITLE_2, DATE_2, university1);
+        var post3 = createPost(TITLE_3, DATE_3, university1);
+        var post4 = createPost(TITLE_1, DATE_1, university2);
+
+        // when
+        var result = postRepository.findPostByFiltersAfter(university1.id(), null, DATE_1, DATE_3, post3.id(), 5);
+
+        // then
+        StepVerifier.create(result.map(PostEntity::id))
+                    .expectSubscription()
+                    .expectNext(post2.id(), post1.id())
+                    .verifyComplete();
+    }
+
+    @Test
+    void findPostByFiltersAfter_shouldWalkSameRowsAsOffsetPagination() {
+        // given
+        var university = createUniversity(UNIVERSITY_1);
+        postRepository.saveAll(Flux.range(0, SEEDED_POSTS)
+                                   .map(i -> PostEntity.builder()
+                                                       .title(i % 2 == 0 ? TITLE_1 : TITLE_2)
+                                                       .universityId(university.id())
+                                                       .date(DATE_1)
+                                                       .content("Content")
+                                                       .build()))
+                      .blockLast();
+        int pageSize = 7;
+        List<Integer> offsetIds = new ArrayList<>();
+        List<Integer> keysetIds = new ArrayList<>();
+
+        // when
+        for (int page = 0; offsetIds.size() == page * pageSize; page++) {
+            var pageRequest = PageRequest.of(page, pageSize);
+            postRepository.findPostByFilters(university.id(), TITLE_PART, DATE_1, DATE_1, pageRequest.getOffset(), pageRequest.getPageSize())
+                          .map(PostEntity::id)
+                          .doOnNext(offsetIds::add)
+                          .blockLast();
+        }
+        int after = Integer.MAX_VALUE;
+        List<Integer> page;
+        do {
+            page = postRepository.findPostByFiltersAfter(university.id(), TITLE_PART, DATE_1, DATE_1, after, pageSize)
+                                 .map(PostEntity::id)
+                                 .collectList()
+                                 .block();
+            keysetIds.addAll(page);
+            after = page.isEmpty() ? after : page.get(page.size() - 1);
+        } while (page.size() == pageSize);
+
+        // then
+        assertEquals(SEEDED_POSTS / 2, keysetIds.size());
+        assertEquals(offsetIds, keysetIds);
+    }
+
     @Test
     void countPostByFilters_shouldReturnPostNumberForGivenUniversity() {
         // given
@@ -124,6 +186,24 @@ class PostRepositoryTest {
                     .verifyComplete();
     }
 
+    @Test
+    void countPostByFilters_shouldCountAllTitlesWhenTitleIsNull() {
+        // given
+        var university = createUniversity(UNIVERSITY_1);
+        var post1 = createPost(TITLE_1, DATE_1, university);
+        var post2 = createPost(TITLE_2, DATE_2, university);
+        int expectedResult = 2;
+
+        // when
+        var result = postRepository.countPostByFilters(university.id(), null, DATE_1, DATE_3);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .assertNext(postCount -> assertEquals(expectedResult, postCount))
+                    .verifyComplete();
+    }
+
     @Test
     void findByIdAndUniversityId_shouldReturnPostWhenUniversityAndIdExists() {
         // given
@@ -2,7 +2,11 @@ package com.erapulus.server.post.service;
 
 
 import com.erapulus.server.applicationuser.dto.ApplicationUserDto;
+import com.erapulus.server.common.web.CountMode;
+import com.erapulus.server.common.web.PageCursor;
+import com.erapulus.server.common.database.PagedResult;
 import com.erapulus.server.common.web.PageablePayload;
+import com.erapulus.server.common.web.PaginationRequest;
 import com.erapulus.server.post.database.PostEntity;
 import com.erapulus.server.post.database.PostRepository;
 import com.erapulus.server.post.dto.PostRequestDto;
@@ -61,10 +65,8 @@ class PostServiceTest {
         String toDate = "";
         String title = "";
         PageRequest pageRequest = PageRequest.of(1, 10);
-        when(postRepository.findPostByFilters(UNIVERSITY_ID, title, LocalDate.of(2021,11,23), LocalDate.of(9999,12,31), pageRequest.getOffset(), pageRequest.getPageSize()))
-                .thenReturn(Flux.just(post1, post2));
-        when(postRepository.countPostByFilters(UNIVERSITY_ID, title, LocalDate.of(2021,11,23),  LocalDate.of(9999,12,31)))
-                .thenReturn(Mono.just(totalCount));
+        when(postRepository.findPageByFilters(UNIVERSITY_ID, title, LocalDate.of(2021,11,23), LocalDate.of(9999,12,31), pageRequest.getOffset(), pageRequest.getPageSize()))
+                .thenReturn(Mono.just(new PagedResult<>(List.of(post1, post2), totalCount)));
         PageablePayload<PostResponseDto> expected = new PageablePayload<>(List.of(postDto1, postDto2), pageRequest, totalCount);
 
         // when
@@ -79,6 +81,30 @@ class PostServiceTest {
                     .verifyComplete();
     }
 
+    @Test
+    void listPosts_shouldUseCursorAndReturnNextCursorWhenPageFull() {
+        // given
+        var post1 = createPost(ID_1);
+        var post2 = createPost(ID_2);
+        var totalCount = 12;
+        PageRequest pageRequest = PaginationRequest.of(2, PageCursor.of(5), CountMode.EXACT);
+        when(postRepository.findPostByFiltersAfter(UNIVERSITY_ID, null, LocalDate.of(1, 1, 1), LocalDate.of(9999, 12, 31), 5, 2))
+                .thenReturn(Flux.just(post2, post1));
+        when(postRepository.countPostByFilters(UNIVERSITY_ID, null, LocalDate.of(1, 1, 1), LocalDate.of(9999, 12, 31)))
+                .thenReturn(Mono.just(totalCount));
+
+        // when
+        Mono<PageablePayload<PostResponseDto>> result = postService.listPosts(UNIVERSITY_ID, null, "", "", pageRequest);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .assertNext(payload -> assertThat(payload)
+                            .extracting("next")
+                            .isEqualTo(PageCursor.of(ID_1).encode()))
+                    .verifyComplete();
+    }
+
     @Test
     void listPosts_shouldReturnExceptionWhenWrongInputDate() {
         // given
@@ -1,10 +1,10 @@
 package com.erapulus.server.program.service;
 
 
+import com.erapulus.server.common.database.PagedResult;
+import com.erapulus.server.common.service.CatalogIndex;
 import com.erapulus.server.common.web.PageablePayload;
 import com.erapulus.server.document.service.DocumentService;
-import com.erapulus.server.faculty.database.FacultyEntity;
-import com.erapulus.server.faculty.database.FacultyRepository;
 import com.erapulus.server.module.service.ModuleService;
 import com.erapulus.server.program.database.ProgramEntity;
 import com.erapulus.server.program.database.ProgramRepository;
@@ -30,6 +30,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,7 +45,7 @@ class ProgramServiceTest {
     ProgramRepository programRepository;
 
     @Mock
-    FacultyRepository facultyRepository;
+    CatalogIndex catalogIndex;
 
     @Mock
     ModuleService moduleService;
@@ -57,7 +58,7 @@ class ProgramServiceTest {
     @BeforeEach
     void setUp() {
         programService = new ProgramService(programRepository,
-                facultyRepository,
+                catalogIndex,
                 new ProgramRequestDtoToEntityMapper(),
                 new ProgramEntityToResponseDtoMapper(),
                 documentService,
@@ -74,11 +75,9 @@ class ProgramServiceTest {
         var totalCount = 12;
         String name = "";
         PageRequest pageRequest = PageRequest.of(1, 10);
-        when(facultyRepository.findByIdAndUniversityId(FACULTY_ID, UNIVERSITY_ID)).thenReturn(Mono.just(new FacultyEntity()));
-        when(programRepository.findByFacultyIdAndName(FACULTY_ID, null, pageRequest.getOffset(), pageRequest.getPageSize()))
-                .thenReturn(Flux.just(program1, program2));
-        when(programRepository.countByFacultyIdAndName(FACULTY_ID, null))
-                .thenReturn(Mono.just(totalCount));
+        when(catalogIndex.facultyExists(FACULTY_ID, UNIVERSITY_ID)).thenReturn(Mono.just(true));
+        when(programRepository.findPageByFacultyIdAndName(FACULTY_ID, null, pageRequest.getOffset(), pageRequest.getPageSize()))
+                .thenReturn(Mono.just(new PagedResult<>(List.of(program1, program2), totalCount)));
         PageablePayload<ProgramResponseDto> expected = new PageablePayload<>(List.of(programDto1, programDto2), pageRequest, totalCount);
 
         // when
@@ -98,9 +97,8 @@ class ProgramServiceTest {
         // given
         String name = "";
         PageRequest pageRequest = PageRequest.of(1, 10);
-        when(facultyRepository.findByIdAndUniversityId(FACULTY_ID, UNIVERSITY_ID)).thenReturn(Mono.empty());
-        when(programRepository.findByFacultyIdAndName(FACULTY_ID, null, pageRequest.getOffset(), pageRequest.getPageSize())).thenReturn(Flux.error(IllegalStateException::new));
-        when(programRepository.countByFacultyIdAndName(FACULTY_ID, null)).thenReturn(Mono.error(IllegalStateException::new));
+        when(catalogIndex.facultyExists(FACULTY_ID, UNIVERSITY_ID)).thenReturn(Mono.just(false));
+        when(programRepository.findPageByFacultyIdAndName(FACULTY_ID, null, pageRequest.getOffset(), pageRequest.getPageSize())).thenReturn(Mono.error(IllegalStateException::new));
 
         // when
         Mono<PageablePayload<ProgramResponseDto>> result = programService.listPrograms(UNIVERSITY_ID, FACULTY_ID, name, pageRequest);
@@ -116,7 +114,7 @@ class ProgramServiceTest {
     void createProgram_shouldCreateProgram() {
         // given
         var programRequestDto = new ProgramRequestDto();
-        when(facultyRepository.findByIdAndUniversityId(FACULTY_ID, UNIVERSITY_ID)).thenReturn(Mono.just(new FacultyEntity()));
+        when(catalogIndex.facultyExists(FACULTY_ID, UNIVERSITY_ID)).thenReturn(Mono.just(true));
         when(programRepository.save(any(ProgramEntity.class)))
                 .then(invocationOnMock -> Mono.just(invocationOnMock.getArgument(0, ProgramEntity.class).id(ID_1)));
 
@@ -137,7 +135,7 @@ class ProgramServiceTest {
     void createProgram_shouldThrowExceptionWhenFacultyNotExists() {
         // given
         var programRequestDto = new ProgramRequestDto();
-        when(facultyRepository.findByIdAndUniversityId(FACULTY_ID, UNIVERSITY_ID)).thenReturn(Mono.empty());
+        when(catalogIndex.facultyExists(FACULTY_ID, UNIVERSITY_ID)).thenReturn(Mono.just(false));
 
         // when
         Mono<ProgramResponseDto> result = programService.createProgram(programRequestDto, UNIVERSITY_ID, FACULTY_ID);
@@ -281,6 +279,22 @@ class ProgramServiceTest {
                     .verifyComplete();
     }
 
+    @Test
+    void deleteAllProgramsByUniversityId() {
+        // given
+        when(moduleService.deleteAllModulesByUniversityId(UNIVERSITY_ID)).thenReturn(Mono.empty());
+        when(programRepository.deleteAllByUniversityId(UNIVERSITY_ID)).thenReturn(Mono.empty());
+
+        // when
+        Mono<Void> result = programService.deleteAllProgramsByUniversityId(UNIVERSITY_ID);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .verifyComplete();
+        verify(programRepository).deleteAllByUniversityId(UNIVERSITY_ID);
+    }
+
     private ProgramEntity createProgram(int id) {
         return ProgramEntity.builder()
                             .id(id)
@@ -1,7 +1,6 @@
 package com.erapulus.server.security;
 
 import com.erapulus.server.TestUtils;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -32,8 +31,7 @@ class AuthenticationFailureHandlerTest {
 
     @BeforeEach
     void setUp() {
-        ObjectMapper objectMapper = new ObjectMapper();
-        authenticationFailureHandler = new AuthenticationFailureHandler(objectMapper);
+        authenticationFailureHandler = new AuthenticationFailureHandler();
     }
 
     @Test
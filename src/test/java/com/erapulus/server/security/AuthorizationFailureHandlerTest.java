@@ -1,7 +1,6 @@
 package com.erapulus.server.security;
 
 import com.erapulus.server.TestUtils;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -31,8 +30,7 @@ class AuthorizationFailureHandlerTest {
 
     @BeforeEach
     void setUp() {
-        ObjectMapper objectMapper = new ObjectMapper();
-        authorizationFailureHandler = new AuthorizationFailureHandler(objectMapper);
+        authorizationFailureHandler = new AuthorizationFailureHandler();
     }
 
     @Test
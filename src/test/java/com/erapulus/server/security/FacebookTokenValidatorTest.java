@@ -9,16 +9,33 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class FacebookTokenValidatorTest {
 
     private static final String TOKEN = "token.token.token";
+    private static final String RESPONSE_BODY = """
+            {
+              "first_name":"firstName",
+              "last_name":"lastName",
+              "email":"example@gmail.com",
+              "picture": {
+                "data": {
+                    "height": 720,
+                    "is_silhouette": false,
+                    "url": "https://example.com",
+                    "width": 720
+                }
+              },
+              "id": "12345"
+            }""";
     private static MockWebServer mockBackEnd;
     private FacebookTokenValidator facebookTokenValidator;
 
@@ -42,23 +59,8 @@ class FacebookTokenValidatorTest {
     @Test
     void validate_shouldReturnStudentEntityWhenTokenCorrect() {
         StudentLoginDto loginDTO = new StudentLoginDto(TOKEN);
-        String responseBody = """
-                {
-                  "first_name":"firstName",
-                  "last_name":"lastName",
-                  "email":"example@gmail.com",
-                  "picture": {
-                    "data": {
-                        "height": 720,
-                        "is_silhouette": false,
-                        "url": "https://example.com",
-                        "width": 720
-                    }
-                  },
-                  "id": "12345"
-                }""";
         mockBackEnd.enqueue(new MockResponse()
-                .setBody(responseBody)
+                .setBody(RESPONSE_BODY)
                 .addHeader("Content-Type", "application/json"));
 
         Mono<StudentEntity> result = facebookTokenValidator.validate(loginDTO);
@@ -89,4 +91,66 @@ class FacebookTokenValidatorTest {
                     .verify();
     }
 
+    @Test
+    void validate_shouldUseCachedProfileWhenTokenValidatedBefore() {
+        StudentLoginDto loginDTO = new StudentLoginDto(TOKEN);
+        mockBackEnd.enqueue(new MockResponse()
+                .setBody(RESPONSE_BODY)
+                .addHeader("Content-Type", "application/json"));
+        int requestCount = mockBackEnd.getRequestCount();
+
+        Mono<StudentEntity> result = facebookTokenValidator.validate(loginDTO)
+                                                           .then(facebookTokenValidator.validate(loginDTO));
+
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .assertNext(studentFromToken -> assertEquals("example@gmail.com", studentFromToken.email()))
+                    .verifyComplete();
+        assertEquals(requestCount + 1, mockBackEnd.getRequestCount());
+        assertEquals(1, facebookTokenValidator.cacheHitCount());
+        assertEquals(1, facebookTokenValidator.graphCallCount());
+    }
+
+    @Test
+    void validate_shouldCoalesceConcurrentRequestsForSameToken() {
+        StudentLoginDto loginDTO = new StudentLoginDto(TOKEN);
+        mockBackEnd.enqueue(new MockResponse()
+                .setBody(RESPONSE_BODY)
+                .addHeader("Content-Type", "application/json")
+                .setBodyDelay(200, TimeUnit.MILLISECONDS));
+        int requestCount = mockBackEnd.getRequestCount();
+
+        Flux<StudentEntity> result = Flux.merge(facebookTokenValidator.validate(loginDTO),
+                facebookTokenValidator.validate(loginDTO),
+                facebookTokenValidator.validate(loginDTO));
+
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNextCount(3)
+                    .verifyComplete();
+        assertEquals(requestCount + 1, mockBackEnd.getRequestCount());
+        assertEquals(1, facebookTokenValidator.graphCallCount());
+    }
+
+    @Test
+    void validate_shouldNotCacheRejectedToken() {
+        StudentLoginDto loginDTO = new StudentLoginDto(TOKEN);
+        mockBackEnd.enqueue(new MockResponse()
+                .setResponseCode(400)
+                .addHeader("Content-Type", "application/json"));
+        mockBackEnd.enqueue(new MockResponse()
+                .setBody(RESPONSE_BODY)
+                .addHeader("Content-Type", "application/json"));
+
+        Mono<StudentEntity> result = facebookTokenValidator.validate(loginDTO)
+                                                           .onErrorResume(InvalidTokenException.class, e -> Mono.empty())
+                                                           .then(facebookTokenValidator.validate(loginDTO));
+
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .assertNext(studentFromToken -> assertEquals("example@gmail.com", studentFromToken.email()))
+                    .verifyComplete();
+        assertEquals(0, facebookTokenValidator.cacheHitCount());
+        assertEquals(2, facebookTokenValidator.graphCallCount());
+    }
 }
@@ -0,0 +1,195 @@
+package com.erapulus.server.security;
+
+import com.erapulus.server.common.exception.InvalidTokenException;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class GoogleJwksTokenVerifierTest {
+
+    private static final String CLIENT_ID = "client-id";
+    private static final String ISSUER = "https://accounts.google.com";
+    private static final String EMAIL = "example@gmail.com";
+    private static final String KEY_ID_1 = "key1";
+    private static final String KEY_ID_2 = "key2";
+    private static final int HOUR = 60 * 60 * 1000;
+
+    private static KeyPair keyPair1;
+    private static KeyPair keyPair2;
+    private MockWebServer mockBackEnd;
+    private GoogleJwksTokenVerifier googleJwksTokenVerifier;
+
+    @BeforeEach
+    void setUp() throws IOException, NoSuchAlgorithmException {
+        if (keyPair1 == null) {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            keyPair1 = generator.generateKeyPair();
+            keyPair2 = generator.generateKeyPair();
+        }
+        mockBackEnd = new MockWebServer();
+        mockBackEnd.start();
+        String baseUrl = String.format("http://localhost:%s", mockBackEnd.getPort());
+        googleJwksTokenVerifier = new GoogleJwksTokenVerifier(baseUrl, CLIENT_ID);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        mockBackEnd.shutdown();
+    }
+
+    @Test
+    void verify_shouldReturnClaimsWhenTokenSignedWithPublishedKey() {
+        // given
+        enqueueKeys("public, max-age=3600", jwk(KEY_ID_1, keyPair1));
+        String token = createToken(KEY_ID_1, keyPair1, CLIENT_ID);
+
+        // when
+        Mono<Claims> result = googleJwksTokenVerifier.verify(token);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .assertNext(claims -> assertEquals(EMAIL, claims.get("email", String.class)))
+                    .verifyComplete();
+    }
+
+    @Test
+    void verify_shouldUseCachedKeysWhenMaxAgeNotExceeded() {
+        // given
+        enqueueKeys("public, max-age=3600", jwk(KEY_ID_1, keyPair1));
+        String token = createToken(KEY_ID_1, keyPair1, CLIENT_ID);
+
+        // when
+        Mono<Claims> result = googleJwksTokenVerifier.verify(token)
+                                                     .then(googleJwksTokenVerifier.verify(token));
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNextCount(1)
+                    .verifyComplete();
+        assertEquals(1, mockBackEnd.getRequestCount());
+    }
+
+    @Test
+    void verify_shouldFetchKeysAgainWhenMaxAgeExceeded() {
+        // given
+        enqueueKeys("public, max-age=0", jwk(KEY_ID_1, keyPair1));
+        enqueueKeys("public, max-age=0", jwk(KEY_ID_1, keyPair1));
+        String token = createToken(KEY_ID_1, keyPair1, CLIENT_ID);
+
+        // when
+        Mono<Claims> result = googleJwksTokenVerifier.verify(token)
+                                                     .then(googleJwksTokenVerifier.verify(token));
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNextCount(1)
+                    .verifyComplete();
+        assertEquals(2, mockBackEnd.getRequestCount());
+    }
+
+    @Test
+    void verify_shouldReturnInvalidTokenExceptionWhenKeyUnknown() {
+        // given
+        enqueueKeys("public, max-age=3600", jwk(KEY_ID_1, keyPair1));
+        String token = createToken(KEY_ID_2, keyPair2, CLIENT_ID);
+
+        // when
+        Mono<Claims> result = googleJwksTokenVerifier.verify(token);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectError(InvalidTokenException.class)
+                    .verify();
+    }
+
+    @Test
+    void verify_shouldReturnInvalidTokenExceptionWhenSignedWithOtherKey() {
+        // given
+        enqueueKeys("public, max-age=3600", jwk(KEY_ID_1, keyPair1));
+        String token = createToken(KEY_ID_1, keyPair2, CLIENT_ID);
+
+        // when
+        Mono<Claims> result = googleJwksTokenVerifier.verify(token);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectError(InvalidTokenException.class)
+                    .verify();
+    }
+
+    @Test
+    void verify_shouldReturnInvalidTokenExceptionWhenAudienceWrong() {
+        // given
+        enqueueKeys("public, max-age=3600", jwk(KEY_ID_1, keyPair1));
+        String token = createToken(KEY_ID_1, keyPair1, "other-client-id");
+
+        // when
+        Mono<Claims> result = googleJwksTokenVerifier.verify(token);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectError(InvalidTokenException.class)
+                    .verify();
+    }
+
+    private void enqueueKeys(String cacheControl, String... jwks) {
+        mockBackEnd.enqueue(new MockResponse()
+                .setBody("{\"keys\": [%s]}".formatted(String.join(",", jwks)))
+                .addHeader("Content-Type", "application/json")
+                .addHeader("Cache-Control", cacheControl));
+    }
+
+    private String jwk(String keyId, KeyPair keyPair) {
+        RSAPublicKey publicKey = (RSAPublicKey) keyPair.getPublic();
+        return """
+                {"kid": "%s", "kty": "RSA", "alg": "RS256", "use": "sig", "n": "%s", "e": "%s"}"""
+                .formatted(keyId, encode(publicKey.getModulus()), encode(publicKey.getPublicExponent()));
+    }
+
+    private String encode(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes[0] == 0) {
+            bytes = Arrays.copyOfRange(bytes, 1, bytes.length);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private String createToken(String keyId, KeyPair keyPair, String audience) {
+        long currentTime = System.currentTimeMillis();
+        return Jwts.builder()
+                   .setHeaderParam("kid", keyId)
+                   .setIssuer(ISSUER)
+                   .setAudience(audience)
+                   .claim("email", EMAIL)
+                   .setIssuedAt(new Date(currentTime))
+                   .setExpiration(new Date(currentTime + HOUR))
+                   .signWith(keyPair.getPrivate(), SignatureAlgorithm.RS256)
+                   .compact();
+    }
+}
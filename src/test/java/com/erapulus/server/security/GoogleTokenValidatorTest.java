@@ -3,9 +3,8 @@ package com.erapulus.server.security;
 import com.erapulus.server.common.exception.InvalidTokenException;
 import com.erapulus.server.student.database.StudentEntity;
 import com.erapulus.server.applicationuser.dto.StudentLoginDto;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
-import com.google.api.client.json.webtoken.JsonWebSignature;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,9 +13,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
-import java.io.IOException;
-import java.security.GeneralSecurityException;
-
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.when;
@@ -31,25 +27,24 @@ class GoogleTokenValidatorTest {
     private static final String TOKEN = "token.token.token";
 
     @Mock
-    private GoogleIdTokenVerifier googleIdTokenVerifier;
+    private GoogleJwksTokenVerifier googleJwksTokenVerifier;
 
     private GoogleTokenValidator googleTokenValidator;
 
     @BeforeEach
     void setUp() {
-        googleTokenValidator = new GoogleTokenValidator(googleIdTokenVerifier);
+        googleTokenValidator = new GoogleTokenValidator(googleJwksTokenVerifier);
     }
 
     @Test
-    void verify_shouldReturnStudentEntityForGivenValidToken() throws GeneralSecurityException, IOException {
+    void verify_shouldReturnStudentEntityForGivenValidToken() {
         // given
-        GoogleIdToken.Payload payload = new GoogleIdToken.Payload();
-        payload.set("given_name", FIRST_NAME);
-        payload.set("family_name", LAST_NAME);
-        payload.set("picture", PICTURE_URL);
-        payload.setEmail(EMAIL);
-        GoogleIdToken token = new GoogleIdToken(new JsonWebSignature.Header(), payload, new byte[]{}, new byte[]{});
-        when(googleIdTokenVerifier.verify(anyString())).thenReturn(token);
+        Claims payload = Jwts.claims();
+        payload.put("given_name", FIRST_NAME);
+        payload.put("family_name", LAST_NAME);
+        payload.put("picture", PICTURE_URL);
+        payload.put("email", EMAIL);
+        when(googleJwksTokenVerifier.verify(anyString())).thenReturn(Mono.just(payload));
         StudentLoginDto loginDTO = new StudentLoginDto(TOKEN);
 
         // when
@@ -68,25 +63,9 @@ class GoogleTokenValidatorTest {
     }
 
     @Test
-    void verify_shouldReturnInvalidTokenExceptionWhenVerifyReturnNull() throws GeneralSecurityException, IOException {
-        // given
-        when(googleIdTokenVerifier.verify(anyString())).thenReturn(null);
-        StudentLoginDto loginDTO = new StudentLoginDto(TOKEN);
-
-        // when
-        Mono<StudentEntity> result = googleTokenValidator.validate(loginDTO);
-
-        // result
-        StepVerifier.create(result)
-                    .expectSubscription()
-                    .expectError(InvalidTokenException.class)
-                    .verify();
-    }
-
-    @Test
-    void verify_shouldReturnInvalidTokenExceptionWhenVerifyReturnException() throws GeneralSecurityException, IOException {
+    void verify_shouldReturnInvalidTokenExceptionWhenVerifyReturnException() {
         // given
-        when(googleIdTokenVerifier.verify(anyString())).thenThrow(new IllegalArgumentException());
+        when(googleJwksTokenVerifier.verify(anyString())).thenReturn(Mono.error(new InvalidTokenException()));
         StudentLoginDto loginDTO = new StudentLoginDto(TOKEN);
 
         // when
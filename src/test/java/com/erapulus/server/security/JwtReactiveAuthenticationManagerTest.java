@@ -9,6 +9,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.TestingAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
@@ -20,7 +21,7 @@ import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class JwtReactiveAuthenticationManagerTest {
@@ -34,14 +35,22 @@ class JwtReactiveAuthenticationManagerTest {
     @Mock
     ApplicationUserRepository applicationUserRepository;
 
-    @Mock
-    ErapulusProperties erapulusProperties;
-
+    private UserEpochRegistry userEpochRegistry;
+    private JwtGenerator jwtGenerator;
     private JwtReactiveAuthenticationManager jwtReactiveAuthenticationManager;
 
     @BeforeEach
     void setUp() {
-        jwtReactiveAuthenticationManager = new JwtReactiveAuthenticationManager(applicationUserRepository, erapulusProperties);
+        setUp(false);
+    }
+
+    private void setUp(boolean selfContained) {
+        var erapulusProperties = new ErapulusProperties(new ErapulusProperties.JwtProperties(ISSUER, SECRET, selfContained), null, null, null, null);
+        var jwtTokenCodec = new JwtTokenCodec(erapulusProperties);
+        userEpochRegistry = new UserEpochRegistry();
+        jwtGenerator = new JwtGenerator(jwtTokenCodec, erapulusProperties, userEpochRegistry);
+        jwtReactiveAuthenticationManager = new JwtReactiveAuthenticationManager(applicationUserRepository, jwtTokenCodec, new PrincipalCache(),
+                erapulusProperties, userEpochRegistry);
     }
 
     @Test
@@ -49,8 +58,6 @@ class JwtReactiveAuthenticationManagerTest {
         // given
         ApplicationUserEntity user = ApplicationUserEntity.builder().type(UserType.STUDENT).email(EMAIL).build();
         when(applicationUserRepository.findByEmail(EMAIL)).thenReturn(Mono.just(user));
-        when(erapulusProperties.jwt()).thenReturn(new ErapulusProperties.JwtProperties(ISSUER, SECRET));
-        JwtGenerator jwtGenerator = new JwtGenerator(erapulusProperties);
         String jwt = jwtGenerator.generate(user);
         Authentication authentication = new JwtAuthenticationToken(jwt);
 
@@ -87,8 +94,6 @@ class JwtReactiveAuthenticationManagerTest {
         // given
         ApplicationUserEntity user = ApplicationUserEntity.builder().id(USER_ID).type(UserType.STUDENT).email(EMAIL).universityId(UNIVERSITY_ID).build();
         when(applicationUserRepository.findByEmail(EMAIL)).thenReturn(Mono.just(user));
-        when(erapulusProperties.jwt()).thenReturn(new ErapulusProperties.JwtProperties(ISSUER, SECRET));
-        JwtGenerator jwtGenerator = new JwtGenerator(erapulusProperties);
         String jwt = jwtGenerator.generate(user);
         Authentication authentication = new JwtAuthenticationToken(jwt);
         List<GrantedAuthority> resultRoles = List.of(new SimpleGrantedAuthority("STUDENT"),
@@ -104,4 +109,69 @@ class JwtReactiveAuthenticationManagerTest {
                     .assertNext(auth -> assertEquals(resultRoles, auth.getAuthorities()))
                     .verifyComplete();
     }
+
+    @Test
+    void authenticate_shouldQueryDatabaseOnceWhenSameUserAuthenticatedTwice() {
+        // given
+        ApplicationUserEntity user = ApplicationUserEntity.builder().id(USER_ID).type(UserType.STUDENT).email(EMAIL).universityId(UNIVERSITY_ID).build();
+        when(applicationUserRepository.findByEmail(EMAIL)).thenReturn(Mono.just(user));
+        String jwt = jwtGenerator.generate(user);
+        Authentication authentication = new JwtAuthenticationToken(jwt);
+
+        // when
+        Mono<Authentication> result = jwtReactiveAuthenticationManager.authenticate(authentication)
+                                                                      .then(jwtReactiveAuthenticationManager.authenticate(authentication));
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .assertNext(auth -> assertEquals(user, auth.getPrincipal()))
+                    .verifyComplete();
+        verify(applicationUserRepository, times(1)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void authenticate_shouldGenerateAuthorityFromClaimsWhenSelfContainedTokenPassed() {
+        // given
+        setUp(true);
+        ApplicationUserEntity user = ApplicationUserEntity.builder().id(USER_ID).type(UserType.STUDENT).email(EMAIL).universityId(UNIVERSITY_ID).build();
+        String jwt = jwtGenerator.generate(user);
+        Authentication authentication = new JwtAuthenticationToken(jwt);
+        List<GrantedAuthority> resultRoles = List.of(new SimpleGrantedAuthority("STUDENT"),
+                new SimpleGrantedAuthority("UNIVERSITY_2"),
+                new SimpleGrantedAuthority("STUDENT_1"));
+
+        // when
+        Mono<Authentication> result = jwtReactiveAuthenticationManager.authenticate(authentication);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .assertNext(auth -> {
+                        assertEquals(resultRoles, auth.getAuthorities());
+                        assertEquals(USER_ID, ((ApplicationUserEntity) auth.getPrincipal()).id());
+                    })
+                    .verifyComplete();
+        verifyNoInteractions(applicationUserRepository);
+    }
+
+    @Test
+    void authenticate_shouldReturnErrorWhenSelfContainedTokenRevoked() {
+        // given
+        setUp(true);
+        ApplicationUserEntity user = ApplicationUserEntity.builder().id(USER_ID).type(UserType.STUDENT).email(EMAIL).universityId(UNIVERSITY_ID).build();
+        String jwt = jwtGenerator.generate(user);
+        Authentication authentication = new JwtAuthenticationToken(jwt);
+        userEpochRegistry.revoke(USER_ID);
+
+        // when
+        Mono<Authentication> result = jwtReactiveAuthenticationManager.authenticate(authentication);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectError(BadCredentialsException.class)
+                    .verify();
+        verifyNoInteractions(applicationUserRepository);
+    }
 }
@@ -0,0 +1,105 @@
+package com.erapulus.server.security;
+
+import com.erapulus.server.common.configuration.ErapulusProperties;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JwtTokenCodecTest {
+
+    private static final String ISSUER = "issuer";
+    private static final String SECRET = "my-incredibly-strong-and-secure-secret";
+    private static final String NEW_SECRET = "my-other-incredibly-strong-and-secure-secret";
+    private static final String NEW_KEY_ID = "new";
+    private static final String EMAIL = "example@gmail.com";
+    private static final int HOUR = 60 * 60 * 1000;
+
+    private JwtTokenCodec jwtTokenCodec;
+
+    @BeforeEach
+    void setUp() {
+        var erapulusProperties = new ErapulusProperties(new ErapulusProperties.JwtProperties(ISSUER, SECRET, false), null, null, null, null);
+        jwtTokenCodec = new JwtTokenCodec(erapulusProperties);
+    }
+
+    @Test
+    void decode_shouldReturnClaimsWhenTokenEncodedByCodec() {
+        // given
+        String token = encode();
+
+        // when
+        Claims result = jwtTokenCodec.decode(token);
+
+        // then
+        assertEquals(EMAIL, result.getSubject());
+        assertEquals(ISSUER, result.getIssuer());
+        assertEquals("STUDENT", result.get("ROLE"));
+    }
+
+    @Test
+    void decode_shouldReturnClaimsWhenTokenHasNoKeyId() {
+        // given
+        String token = Jwts.builder()
+                           .setSubject(EMAIL)
+                           .setExpiration(new Date(System.currentTimeMillis() + HOUR))
+                           .signWith(Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8)))
+                           .compact();
+
+        // when
+        Claims result = jwtTokenCodec.decode(token);
+
+        // then
+        assertEquals(EMAIL, result.getSubject());
+    }
+
+    @Test
+    void decode_shouldAcceptOldAndNewTokensAfterKeyRotation() {
+        // given
+        String oldToken = encode();
+        jwtTokenCodec.rotateKey(NEW_KEY_ID, NEW_SECRET);
+        String newToken = encode();
+
+        // when
+        Claims oldResult = jwtTokenCodec.decode(oldToken);
+        Claims newResult = jwtTokenCodec.decode(newToken);
+
+        // then
+        assertEquals(EMAIL, oldResult.getSubject());
+        assertEquals(EMAIL, newResult.getSubject());
+    }
+
+    @Test
+    void decode_shouldThrowExceptionWhenKeyRetired() {
+        // given
+        String oldToken = encode();
+        jwtTokenCodec.rotateKey(NEW_KEY_ID, NEW_SECRET);
+        jwtTokenCodec.retireKey(JwtTokenCodec.DEFAULT_KEY_ID);
+
+        // when
+        // then
+        assertThrows(JwtException.class, () -> jwtTokenCodec.decode(oldToken));
+    }
+
+    @Test
+    void retireKey_shouldThrowExceptionWhenKeyActive() {
+        // given
+        // when
+        // then
+        assertThrows(IllegalArgumentException.class, () -> jwtTokenCodec.retireKey(JwtTokenCodec.DEFAULT_KEY_ID));
+    }
+
+    private String encode() {
+        long currentTime = System.currentTimeMillis();
+        return jwtTokenCodec.encode(Map.of("ROLE", "STUDENT"), EMAIL, new Date(currentTime), new Date(currentTime + HOUR));
+    }
+}
@@ -0,0 +1,119 @@
+package com.erapulus.server.security;
+
+import com.erapulus.server.common.configuration.ErapulusProperties;
+import com.erapulus.server.common.exception.ServiceUnavailableException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PasswordHashingServiceTest {
+
+    private static final String PASSWORD = "password";
+    private static final int THREADS = 2;
+    private static final int QUEUE_LIMIT = 4;
+
+    private BCryptPasswordEncoder bCryptPasswordEncoder;
+    private PasswordHashingService passwordHashingService;
+
+    @BeforeEach
+    void setUp() {
+        bCryptPasswordEncoder = new BCryptPasswordEncoder();
+        var erapulusProperties = new ErapulusProperties(null, null, null, new ErapulusProperties.PasswordHashingProperties(THREADS, QUEUE_LIMIT), null);
+        passwordHashingService = new PasswordHashingService(bCryptPasswordEncoder, erapulusProperties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        passwordHashingService.destroy();
+    }
+
+    @Test
+    void encode_shouldHashPasswordOnHashingThread() {
+        // given
+        // when
+        Mono<String> result = passwordHashingService.encode(PASSWORD)
+                                                    .doOnNext(hash -> assertTrue(Thread.currentThread().getName().startsWith("password-hashing")));
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .assertNext(hash -> assertTrue(bCryptPasswordEncoder.matches(PASSWORD, hash)))
+                    .verifyComplete();
+        assertEquals(1, passwordHashingService.completedCount());
+        assertEquals(0, passwordHashingService.queueDepth());
+        assertTrue(passwordHashingService.averageHashNanos() > 0);
+    }
+
+    @Test
+    void matches_shouldReturnFalseWhenPasswordWrong() {
+        // given
+        String hash = bCryptPasswordEncoder.encode(PASSWORD);
+
+        // when
+        Mono<Boolean> result = passwordHashingService.matches(PASSWORD + "a", hash);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .assertNext(Assertions::assertFalse)
+                    .verifyComplete();
+    }
+
+    @Test
+    void matches_shouldRejectRequestsWhenQueueFull() {
+        // given
+        String hash = bCryptPasswordEncoder.encode(PASSWORD);
+        int requests = THREADS + QUEUE_LIMIT + 10;
+
+        // when
+        Mono<List<Boolean>> result = Flux.range(0, requests)
+                                         .flatMap(i -> passwordHashingService.matches(PASSWORD, hash)
+                                                                             .onErrorResume(ServiceUnavailableException.class, e -> Mono.empty()),
+                                                 requests)
+                                         .collectList();
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .assertNext(accepted -> assertEquals(THREADS + QUEUE_LIMIT, accepted.size()))
+                    .verifyComplete();
+        assertEquals(10, passwordHashingService.rejectedCount());
+    }
+
+    @Test
+    void matches_shouldKeepHashingOffEventLoopDuringLoginStorm() {
+        // given
+        Scheduler eventLoop = Schedulers.newSingle("event-loop");
+        String hash = bCryptPasswordEncoder.encode(PASSWORD);
+        int logins = THREADS + QUEUE_LIMIT;
+
+        // when
+        Mono<List<String>> hashingThreads = Flux.range(0, logins)
+                                                .publishOn(eventLoop)
+                                                .flatMap(i -> passwordHashingService.matches(PASSWORD, hash)
+                                                                                    .doOnNext(Assertions::assertTrue)
+                                                                                    .map(matches -> Thread.currentThread().getName()), logins)
+                                                .collectList();
+
+        // then
+        StepVerifier.create(hashingThreads)
+                    .expectSubscription()
+                    .assertNext(threads -> {
+                        assertEquals(logins, threads.size());
+                        assertTrue(threads.stream().allMatch(thread -> thread.startsWith("password-hashing")), threads.toString());
+                    })
+                    .verifyComplete();
+        eventLoop.dispose();
+    }
+}
@@ -0,0 +1,194 @@
+package com.erapulus.server.security;
+
+import com.erapulus.server.applicationuser.database.ApplicationUserEntity;
+import com.erapulus.server.common.database.UserType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class PrincipalCacheTest {
+
+    private static final String EMAIL_1 = "example1@gmail.com";
+    private static final String EMAIL_2 = "example2@gmail.com";
+    private static final String EMAIL_3 = "example3@gmail.com";
+    private static final int USER_ID_1 = 1;
+    private static final int USER_ID_2 = 2;
+    private static final int USER_ID_3 = 3;
+    private static final Duration TTL = Duration.ofMinutes(1);
+
+    private MutableClock clock;
+    private AtomicInteger loads;
+    private PrincipalCache principalCache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        loads = new AtomicInteger();
+        principalCache = new PrincipalCache(clock, TTL, 1);
+    }
+
+    @Test
+    void get_shouldLoadUserOnlyOnceWhenEntryNotExpired() {
+        // given
+        // when
+        Mono<JwtAuthenticatedUser> result = get(EMAIL_1, USER_ID_1).then(get(EMAIL_1, USER_ID_1));
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .assertNext(user -> assertEquals(List.of(new SimpleGrantedAuthority("STUDENT")), user.getAuthorities()))
+                    .verifyComplete();
+        assertEquals(1, loads.get());
+        assertEquals(1, principalCache.hitCount());
+        assertEquals(1, principalCache.missCount());
+    }
+
+    @Test
+    void get_shouldReloadUserWhenEntryExpired() {
+        // given
+        get(EMAIL_1, USER_ID_1).block();
+        clock.advance(TTL.plusSeconds(1));
+
+        // when
+        Mono<JwtAuthenticatedUser> result = get(EMAIL_1, USER_ID_1);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNextCount(1)
+                    .verifyComplete();
+        assertEquals(2, loads.get());
+        assertEquals(1, principalCache.evictionCount());
+    }
+
+    @Test
+    void get_shouldEvictEntryWhenCacheFull() {
+        // given
+        get(EMAIL_1, USER_ID_1).block();
+
+        // when
+        Mono<JwtAuthenticatedUser> result = get(EMAIL_2, USER_ID_2);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .expectNextCount(1)
+                    .verifyComplete();
+        assertEquals(1, principalCache.size());
+        assertEquals(1, principalCache.evictionCount());
+    }
+
+    @Test
+    void invalidate_shouldRemoveEntryOfGivenUser() {
+        // given
+        get(EMAIL_1, USER_ID_1).block();
+
+        // when
+        principalCache.invalidate(USER_ID_1);
+        get(EMAIL_1, USER_ID_1).block();
+
+        // then
+        assertEquals(2, loads.get());
+        assertEquals(0, principalCache.hitCount());
+    }
+
+    @Test
+    void get_shouldEvictLeastRecentlyUsedEntryWhenCacheFull() {
+        // given
+        principalCache = new PrincipalCache(clock, TTL, 2);
+        get(EMAIL_1, USER_ID_1).block();
+        get(EMAIL_2, USER_ID_2).block();
+        get(EMAIL_1, USER_ID_1).block();
+
+        // when
+        get(EMAIL_3, USER_ID_3).block();
+        get(EMAIL_1, USER_ID_1).block();
+        get(EMAIL_2, USER_ID_2).block();
+
+        // then
+        assertEquals(4, loads.get());
+        assertEquals(2, principalCache.hitCount());
+        assertEquals(2, principalCache.evictionCount());
+    }
+
+    @Test
+    void invalidate_shouldKeepEntriesOfOtherUsers() {
+        // given
+        principalCache = new PrincipalCache(clock, TTL, 2);
+        get(EMAIL_1, USER_ID_1).block();
+        get(EMAIL_2, USER_ID_2).block();
+
+        // when
+        principalCache.invalidate(USER_ID_1);
+
+        // then
+        assertEquals(1, principalCache.size());
+        get(EMAIL_2, USER_ID_2).block();
+        assertEquals(1, principalCache.hitCount());
+    }
+
+    @Test
+    void invalidate_shouldNotCacheUserLoadedBeforeInvalidation() {
+        // given
+        Sinks.One<ApplicationUserEntity> pendingLoad = Sinks.one();
+        Mono<JwtAuthenticatedUser> result = principalCache.get(EMAIL_1, subject -> pendingLoad.asMono(),
+                user -> List.of(new SimpleGrantedAuthority(user.type().toString())));
+
+        // when
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .then(() -> principalCache.invalidate(USER_ID_1))
+                    .then(() -> pendingLoad.tryEmitValue(ApplicationUserEntity.builder().id(USER_ID_1).email(EMAIL_1).type(UserType.STUDENT).build()))
+                    .expectNextCount(1)
+                    .verifyComplete();
+
+        // then
+        assertEquals(0, principalCache.size());
+    }
+
+    private Mono<JwtAuthenticatedUser> get(String email, int userId) {
+        Function<String, Mono<ApplicationUserEntity>> loader = subject -> {
+            loads.incrementAndGet();
+            return Mono.just(ApplicationUserEntity.builder().id(userId).email(subject).type(UserType.STUDENT).build());
+        };
+        return principalCache.get(email, loader, user -> List.of(new SimpleGrantedAuthority(user.type().toString())));
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant = Instant.now();
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.erapulus.server.security;
+
+import com.erapulus.server.applicationuser.database.ApplicationUserEntity;
+import com.erapulus.server.common.database.UserType;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.server.PathContainer;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.security.authorization.AuthorizationDecision;
+import org.springframework.security.authorization.ReactiveAuthorizationManager;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.web.server.authorization.AuthorizationContext;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.Collections;
+import java.util.List;
+
+import static com.erapulus.server.common.web.CommonRequestVariable.*;
+import static com.erapulus.server.student.web.StudentRouter.STUDENT_DETAILS_URL;
+import static com.erapulus.server.university.web.UniversityRouter.UNIVERSITY_BASE_URL;
+import static com.erapulus.server.university.web.UniversityRouter.UNIVERSITY_DETAILS_URL;
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouteAuthorizationTableTest {
+
+    private static final int UNIVERSITY_ID = 1;
+    private static final int STUDENT_ID = 3;
+
+    private final RouteAuthorizationTable routeAuthorizationTable = new SecurityConfiguration().routeAuthorizationTable();
+
+    @Test
+    void resolve_shouldPreferLiteralSegmentAndExtractVariables() {
+        // given
+        ReactiveAuthorizationManager<AuthorizationContext> literalRule = new JwtReactiveAuthorizationManager(List.of(UserType.STUDENT), null);
+        ReactiveAuthorizationManager<AuthorizationContext> variableRule = new JwtReactiveAuthorizationManager(List.of(UserType.EMPLOYEE), null);
+        RouteAuthorizationTable table = new RouteAuthorizationTable()
+                .add(HttpMethod.GET, variableRule, "/api/student/{studentId}/friend/{friendId}")
+                .add(HttpMethod.GET, literalRule, "/api/student/{studentId}/friend/request");
+
+        // when
+        RouteAuthorizationTable.Route literal = table.resolve(HttpMethod.GET, "/api/student/3/friend/request");
+        RouteAuthorizationTable.Route variable = table.resolve(HttpMethod.GET, "/api/student/3/friend/4/");
+
+        // then
+        assertSame(literalRule, literal.rule());
+        assertEquals("3", literal.variables().get(STUDENT_PATH_PARAM));
+        assertSame(variableRule, variable.rule());
+        assertEquals("3", variable.variables().get(STUDENT_PATH_PARAM));
+        assertEquals("4", variable.variables().get(FRIEND_PATH_PARAM));
+    }
+
+    @Test
+    void resolve_shouldReturnNullWhenRouteNotRegistered() {
+        assertNull(routeAuthorizationTable.resolve(HttpMethod.GET, "/api/unknown"));
+        assertNull(routeAuthorizationTable.resolve(HttpMethod.HEAD, UNIVERSITY_BASE_URL));
+        assertNull(routeAuthorizationTable.resolve(HttpMethod.GET, "/api/university//faculty"));
+    }
+
+    @Test
+    void resolve_shouldMatchSameRuleAsLinearMatcherChainForAllRoutes() {
+        for (RouteAuthorizationTable.RouteDefinition definition : routeAuthorizationTable.definitions()) {
+            // given
+            String path = samplePath(definition.pattern());
+
+            // when
+            RouteAuthorizationTable.Route route = routeAuthorizationTable.resolve(definition.method(), path);
+
+            // then
+            assertNotNull(route, path);
+            assertSame(resolveLinearly(definition.method(), path), route.rule(), path);
+        }
+    }
+
+    @Test
+    void check_shouldValidateUniversityPathVariableOfResolvedRoute() {
+        // given
+        Mono<Authentication> employee = authentication(UserType.EMPLOYEE);
+        String ownUniversity = "/api/university/%d/building".formatted(UNIVERSITY_ID);
+        String otherUniversity = "/api/university/%d/building".formatted(UNIVERSITY_ID + 1);
+
+        // when
+        Mono<AuthorizationDecision> granted = routeAuthorizationTable.check(employee, context(HttpMethod.POST, ownUniversity));
+        Mono<AuthorizationDecision> denied = routeAuthorizationTable.check(employee, context(HttpMethod.POST, otherUniversity));
+
+        // then
+        StepVerifier.create(granted)
+                    .expectSubscription()
+                    .assertNext(decision -> assertTrue(decision.isGranted()))
+                    .verifyComplete();
+        StepVerifier.create(denied)
+                    .expectSubscription()
+                    .assertNext(decision -> assertFalse(decision.isGranted()))
+                    .verifyComplete();
+    }
+
+    @Test
+    void check_shouldValidateStudentPathVariableOfResolvedRoute() {
+        // given
+        Mono<Authentication> student = authentication(UserType.STUDENT);
+
+        // when
+        Mono<AuthorizationDecision> granted = routeAuthorizationTable.check(student,
+                context(HttpMethod.PUT, STUDENT_DETAILS_URL.replace("{" + STUDENT_PATH_PARAM + "}", String.valueOf(STUDENT_ID))));
+        Mono<AuthorizationDecision> denied = routeAuthorizationTable.check(student,
+                context(HttpMethod.PUT, STUDENT_DETAILS_URL.replace("{" + STUDENT_PATH_PARAM + "}", String.valueOf(STUDENT_ID + 1))));
+
+        // then
+        StepVerifier.create(granted)
+                    .expectSubscription()
+                    .assertNext(decision -> assertTrue(decision.isGranted()))
+                    .verifyComplete();
+        StepVerifier.create(denied)
+                    .expectSubscription()
+                    .assertNext(decision -> assertFalse(decision.isGranted()))
+                    .verifyComplete();
+    }
+
+    @Test
+    void check_shouldDenyAccessWhenRouteNotRegistered() {
+        // given
+        Mono<Authentication> administrator = authentication(UserType.ADMINISTRATOR);
+
+        // when
+        Mono<AuthorizationDecision> result = routeAuthorizationTable.check(administrator, context(HttpMethod.DELETE, UNIVERSITY_BASE_URL));
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .assertNext(decision -> assertFalse(decision.isGranted()))
+                    .verifyComplete();
+    }
+
+    @Test
+    void check_shouldGrantAccessToUniversityDetailsForAllUsers() {
+        // given
+        String path = UNIVERSITY_DETAILS_URL.replace("{" + UNIVERSITY_PATH_PARAM + "}", "7");
+
+        // when
+        Mono<AuthorizationDecision> result = routeAuthorizationTable.check(authentication(UserType.STUDENT), context(HttpMethod.GET, path));
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .assertNext(decision -> assertTrue(decision.isGranted()))
+                    .verifyComplete();
+    }
+
+    private ReactiveAuthorizationManager<AuthorizationContext> resolveLinearly(HttpMethod method, String path) {
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        for (RouteAuthorizationTable.RouteDefinition definition : routeAuthorizationTable.definitions()) {
+            PathPattern pattern = PathPatternParser.defaultInstance.parse(definition.pattern());
+            if (definition.method() == method && pattern.matches(pathContainer)) {
+                return definition.rule();
+            }
+        }
+        return null;
+    }
+
+    private static String samplePath(String pattern) {
+        return pattern.replaceAll("\\{[^}]+}", String.valueOf(UNIVERSITY_ID));
+    }
+
+    private static AuthorizationContext context(HttpMethod method, String path) {
+        MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.method(method, path));
+        return new AuthorizationContext(exchange);
+    }
+
+    private static Mono<Authentication> authentication(UserType userType) {
+        ApplicationUserEntity user = ApplicationUserEntity.builder()
+                                                          .id(STUDENT_ID)
+                                                          .type(userType)
+                                                          .universityId(UNIVERSITY_ID)
+                                                          .build();
+        return Mono.just(new JwtAuthenticatedUser(user, Collections.emptyList()));
+    }
+}
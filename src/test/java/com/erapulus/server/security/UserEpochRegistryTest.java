@@ -0,0 +1,79 @@
+package com.erapulus.server.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UserEpochRegistryTest {
+
+    private static final int USER_ID_1 = 1;
+    private static final int USER_ID_2 = 2;
+    private static final Instant NOW = Instant.parse("2022-01-01T12:00:00Z");
+
+    @Test
+    void isRevoked_shouldReturnTrueOnlyForEpochsBeforeRevocation() {
+        // given
+        var registry = new UserEpochRegistry(Clock.fixed(NOW, ZoneOffset.UTC));
+        long epoch = registry.currentEpoch();
+
+        // when
+        registry.revoke(USER_ID_1);
+
+        // then
+        assertTrue(registry.isRevoked(USER_ID_1, epoch - 1));
+        assertFalse(registry.isRevoked(USER_ID_2, epoch - 1));
+    }
+
+    @Test
+    void isRevoked_shouldRejectEpochMintedInSameInstantAsRevocation() {
+        // given
+        var registry = new UserEpochRegistry(Clock.fixed(NOW, ZoneOffset.UTC));
+        long epochBeforeRevocation = registry.currentEpoch();
+
+        // when
+        registry.revoke(USER_ID_1);
+        long epochAfterRevocation = registry.currentEpoch();
+
+        // then
+        assertTrue(registry.isRevoked(USER_ID_1, epochBeforeRevocation));
+        assertFalse(registry.isRevoked(USER_ID_1, epochAfterRevocation));
+    }
+
+    @Test
+    void revoke_shouldDropEntriesOlderThanRetention() {
+        // given
+        var clock = new AtomicReference<>(NOW);
+        var registry = new UserEpochRegistry(new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return clock.get();
+            }
+        });
+        registry.revoke(USER_ID_1);
+        clock.set(NOW.plus(UserEpochRegistry.RETENTION).plus(Duration.ofMinutes(1)));
+
+        // when
+        registry.revoke(USER_ID_2);
+
+        // then
+        assertEquals(1, registry.size());
+        assertFalse(registry.isRevoked(USER_ID_1, NOW.toEpochMilli() - 1));
+    }
+}
@@ -5,6 +5,8 @@ import com.erapulus.server.student.database.StudentEntity;
 import com.erapulus.server.student.dto.StudentListDto;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -17,7 +19,9 @@ class StudentEntityToListDtoMapperTest {
     private static final String INSTAGRAM_USERNAME = "instagramUsername";
     private static final String WHATS_UP_URL = "whatsUpUrl";
     private static final String PHONE_NUMBER = "+48 123 456 789";
-    private static final String PICTURE_URL = "https://www.example.com";
+    private static final String BASE_URL = "https://storage.example.com/";
+    private static final String PICTURE_URL = BASE_URL + "user/1/photo/0b6c1f6e-8a4d-4c1e-9a57-2f3d4e5a6b7c/picture.jpg";
+    private static final String EXTERNAL_PICTURE_URL = "https://www.example.com/picture.jpg";
     private static final Integer ID = 1;
     private static final Integer UNIVERSITY_ID = 2;
 
@@ -38,13 +42,35 @@ class StudentEntityToListDtoMapperTest {
                                             .build();
 
         // when
-        StudentListDto result = StudentEntityToListDtoMapper.from(entity);
+        StudentListDto result = new StudentEntityToListDtoMapper(TestUtils.createImageThumbnails(BASE_URL)).from(entity);
 
         //then
         assertEquals(ID, result.id());
         assertEquals(FIRST_NAME, result.firstName());
         assertEquals(LAST_NAME, result.lastName());
         assertEquals(PICTURE_URL, result.pictureUrl());
+        assertEquals(Map.of(64, BASE_URL + "user/1/photo/0b6c1f6e-8a4d-4c1e-9a57-2f3d4e5a6b7c/thumbnails/64/picture.jpg.png",
+                            128, BASE_URL + "user/1/photo/0b6c1f6e-8a4d-4c1e-9a57-2f3d4e5a6b7c/thumbnails/128/picture.jpg.png",
+                            512, BASE_URL + "user/1/photo/0b6c1f6e-8a4d-4c1e-9a57-2f3d4e5a6b7c/thumbnails/512/picture.jpg.png"), result.pictureThumbnailUrls());
         assertTrue(TestUtils.createValidator().validate(result).isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    void from_shouldFallBackToOriginalForExternalPicture() {
+        // given
+        StudentEntity entity = StudentEntity.builder()
+                                            .id(ID)
+                                            .firstName(FIRST_NAME)
+                                            .lastName(LAST_NAME)
+                                            .pictureUrl(EXTERNAL_PICTURE_URL)
+                                            .build();
+
+        // when
+        StudentListDto result = new StudentEntityToListDtoMapper(TestUtils.createImageThumbnails(BASE_URL)).from(entity);
+
+        //then
+        assertEquals(Map.of(64, EXTERNAL_PICTURE_URL,
+                            128, EXTERNAL_PICTURE_URL,
+                            512, EXTERNAL_PICTURE_URL), result.pictureThumbnailUrls());
+    }
+}
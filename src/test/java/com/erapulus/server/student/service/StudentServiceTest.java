@@ -1,15 +1,19 @@
 package com.erapulus.server.student.service;
 
+import com.erapulus.server.TestUtils;
 import com.erapulus.server.applicationuser.database.ApplicationUserEntity;
 import com.erapulus.server.common.database.UserType;
-import com.erapulus.server.common.service.AzureStorageService;
+import com.erapulus.server.common.service.ImageService;
 import com.erapulus.server.security.JwtAuthenticatedUser;
+import com.erapulus.server.security.PrincipalCache;
+import com.erapulus.server.security.UserEpochRegistry;
 import com.erapulus.server.student.database.StudentEntity;
 import com.erapulus.server.student.database.StudentRepository;
 import com.erapulus.server.student.dto.StudentListDto;
 import com.erapulus.server.student.dto.StudentRequestDto;
 import com.erapulus.server.student.dto.StudentResponseDto;
 import com.erapulus.server.student.dto.StudentUniversityUpdateDto;
+import com.erapulus.server.student.mapper.StudentEntityToListDtoMapper;
 import com.erapulus.server.student.mapper.StudentEntityToResponseDtoMapper;
 import com.erapulus.server.student.mapper.StudentRequestDtoToEntityMapper;
 import com.erapulus.server.university.database.UniversityEntity;
@@ -54,7 +58,13 @@ class StudentServiceTest {
     UniversityRepository universityRepository;
 
     @Mock
-    AzureStorageService azureStorageService;
+    ImageService imageService;
+
+    @Mock
+    PrincipalCache principalCache;
+
+    @Mock
+    UserEpochRegistry userEpochRegistry;
 
     StudentService studentService;
 
@@ -64,8 +74,11 @@ class StudentServiceTest {
                 new StudentRequestDtoToEntityMapper(),
                 new StudentEntityToResponseDtoMapper(),
                 universityRepository,
-                azureStorageService,
-                new UniversityEntityToResponseDtoMapper());
+                imageService,
+                new UniversityEntityToResponseDtoMapper(),
+                new StudentEntityToListDtoMapper(TestUtils.createImageThumbnails("https://example.com/")),
+                principalCache,
+                userEpochRegistry);
     }
 
     @Test
@@ -160,6 +173,7 @@ class StudentServiceTest {
                         assertEquals(EMAIL, studentResponseDto.email());
                     })
                     .verifyComplete();
+        verify(principalCache).invalidate(ID_1);
     }
 
     @Test
@@ -196,6 +210,8 @@ class StudentServiceTest {
                     .expectSubscription()
                     .assertNext(universityResponseDto -> assertEquals(UNIVERSITY_ID_2, universityResponseDto.id()))
                     .verifyComplete();
+        verify(principalCache).invalidate(ID_1);
+        verify(userEpochRegistry).revoke(ID_1);
     }
 
     @Test
@@ -241,9 +257,10 @@ class StudentServiceTest {
         var fullPath = "https://azure.com/user/1/photo/example.png";
         when(filePart.filename()).thenReturn("example.png");
         when(studentRepository.findByIdAndType(ID_1)).thenReturn(Mono.just(student));
-        when(azureStorageService.uploadFile(filePart, path)).thenReturn(Mono.just(fullPath));
+        when(imageService.uploadImage(eq(filePart), matches("user/1/photo/[0-9a-f-]{36}/example\\.png"))).thenReturn(Mono.just(fullPath));
         when(studentRepository.save(student.pictureUrl(path)))
                 .then(invocationOnMock -> Mono.just(invocationOnMock.getArgument(0, StudentEntity.class)));
+        when(imageService.scheduleReplaced(path, fullPath)).thenReturn(Mono.empty());
 
         // when
         Mono<StudentResponseDto> result = studentService.updateStudentPhoto(ID_1, filePart);
@@ -284,7 +301,7 @@ class StudentServiceTest {
         var path = "user/1/photo/example.png";
         when(filePart.filename()).thenReturn("example.png");
         when(studentRepository.findByIdAndType(ID_1)).thenReturn(Mono.just(student));
-        when(azureStorageService.uploadFile(filePart, path)).thenReturn(Mono.error(new RuntimeException()));
+        when(imageService.uploadImage(eq(filePart), matches("user/1/photo/[0-9a-f-]{36}/example\\.png"))).thenReturn(Mono.error(new RuntimeException()));
 
         // when
         Mono<StudentResponseDto> result = studentService.updateStudentPhoto(ID_1, filePart);
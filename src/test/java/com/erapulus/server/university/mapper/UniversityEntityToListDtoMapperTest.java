@@ -5,6 +5,8 @@ import com.erapulus.server.university.database.UniversityEntity;
 import com.erapulus.server.university.dto.UniversityListDto;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -19,7 +21,9 @@ class UniversityEntityToListDtoMapperTest {
     private static final String DESCRIPTION = "description";
     private static final String ZIPCODE = "00-000";
     private static final String WEBSITE_URL = "https://www.example.com/1";
-    private static final String LOGO_URL = "https://www.example.com/2";
+    private static final String BASE_URL = "https://storage.example.com/";
+    private static final String LOGO_URL = BASE_URL + "university/1/logo/0b6c1f6e-8a4d-4c1e-9a57-2f3d4e5a6b7c/2";
+    private static final String LEGACY_LOGO_URL = BASE_URL + "university/1/logo/2";
 
     @Test
     void from_shouldMapEntityToDto() {
@@ -38,12 +42,33 @@ class UniversityEntityToListDtoMapperTest {
                                                   .build();
 
         // when
-        UniversityListDto result = new UniversityEntityToListDtoMapper().from(entity);
+        UniversityListDto result = new UniversityEntityToListDtoMapper(TestUtils.createImageThumbnails(BASE_URL)).from(entity);
 
         //then
         assertEquals(ID, result.id());
         assertEquals(NAME, result.name());
         assertEquals(LOGO_URL, result.logoUrl());
+        assertEquals(Map.of(64, BASE_URL + "university/1/logo/0b6c1f6e-8a4d-4c1e-9a57-2f3d4e5a6b7c/thumbnails/64/2.png",
+                            128, BASE_URL + "university/1/logo/0b6c1f6e-8a4d-4c1e-9a57-2f3d4e5a6b7c/thumbnails/128/2.png",
+                            512, BASE_URL + "university/1/logo/0b6c1f6e-8a4d-4c1e-9a57-2f3d4e5a6b7c/thumbnails/512/2.png"), result.logoThumbnailUrls());
         assertTrue(TestUtils.createValidator().validate(result).isEmpty());
     }
-}
\ No newline at end of file
+
+    @Test
+    void from_shouldFallBackToOriginalForLogoUploadedWithoutThumbnails() {
+        // given
+        UniversityEntity entity = UniversityEntity.builder()
+                                                  .id(ID)
+                                                  .name(NAME)
+                                                  .logoUrl(LEGACY_LOGO_URL)
+                                                  .build();
+
+        // when
+        UniversityListDto result = new UniversityEntityToListDtoMapper(TestUtils.createImageThumbnails(BASE_URL)).from(entity);
+
+        //then
+        assertEquals(Map.of(64, LEGACY_LOGO_URL,
+                            128, LEGACY_LOGO_URL,
+                            512, LEGACY_LOGO_URL), result.logoThumbnailUrls());
+    }
+}
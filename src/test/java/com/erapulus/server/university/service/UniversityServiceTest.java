@@ -1,11 +1,19 @@
 package com.erapulus.server.university.service;
 
+import com.erapulus.server.TestUtils;
 import com.erapulus.server.building.service.BuildingService;
-import com.erapulus.server.common.service.AzureStorageService;
+import com.erapulus.server.common.service.ImageService;
+import com.erapulus.server.common.database.UserType;
 import com.erapulus.server.document.service.DocumentService;
+import com.erapulus.server.employee.database.EmployeeEntity;
+import com.erapulus.server.employee.database.EmployeeRepository;
+import com.erapulus.server.employee.mapper.EmployeeEntityToResponseDtoMapper;
+import com.erapulus.server.employee.mapper.EmployeeRequestDtoToEntityMapper;
 import com.erapulus.server.employee.service.EmployeeService;
 import com.erapulus.server.faculty.service.FacultyService;
 import com.erapulus.server.post.service.PostService;
+import com.erapulus.server.security.PrincipalCache;
+import com.erapulus.server.security.UserEpochRegistry;
 import com.erapulus.server.university.database.UniversityEntity;
 import com.erapulus.server.university.database.UniversityRepository;
 import com.erapulus.server.university.dto.UniversityListDto;
@@ -14,6 +22,7 @@ import com.erapulus.server.university.dto.UniversityResponseDto;
 import com.erapulus.server.university.mapper.UniversityEntityToListDtoMapper;
 import com.erapulus.server.university.mapper.UniversityEntityToResponseDtoMapper;
 import com.erapulus.server.university.mapper.UniversityRequestDtoToEntityMapper;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -29,8 +38,14 @@ import java.util.List;
 import java.util.NoSuchElementException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.matches;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,12 +55,13 @@ class UniversityServiceTest {
     private final static int ID_1 = 1;
     private final static int ID_2 = 2;
     private final static String LOGO_URL = "https://example.com";
+    private final static String EMPLOYEE_EMAIL = "employee@gmail.com";
 
     @Mock
     UniversityRepository universityRepository;
 
     @Mock
-    AzureStorageService azureStorageService;
+    ImageService imageService;
 
     @Mock
     FacultyService facultyService;
@@ -66,16 +82,7 @@ class UniversityServiceTest {
 
     @BeforeEach
     void setUp() {
-        universityService = new UniversityService(universityRepository,
-                new UniversityRequestDtoToEntityMapper(),
-                new UniversityEntityToResponseDtoMapper(),
-                new UniversityEntityToListDtoMapper(),
-                azureStorageService,
-                facultyService,
-                documentService,
-                postService,
-                employeeService,
-                buildingService);
+        universityService = createUniversityService(employeeService);
     }
 
     @Test
@@ -95,6 +102,48 @@ class UniversityServiceTest {
                     .verifyComplete();
     }
 
+    @Test
+    void getUniversityListSnapshot_shouldServeCachedSnapshotUntilUniversityChanged() {
+        // given
+        var university1 = createUniversity(ID_1);
+        var university2 = createUniversity(ID_2);
+        when(universityRepository.findAllUniversities()).thenReturn(Flux.just(university1), Flux.just(university1, university2));
+        when(universityRepository.save(any(UniversityEntity.class)))
+                .then(invocationOnMock -> Mono.just(invocationOnMock.getArgument(0, UniversityEntity.class).id(ID_2)));
+
+        // when
+        UniversityListSnapshot first = universityService.getUniversityListSnapshot().block();
+        UniversityListSnapshot cached = universityService.getUniversityListSnapshot().block();
+        universityService.createUniversity(new UniversityRequestDto()).block();
+        UniversityListSnapshot rebuilt = universityService.getUniversityListSnapshot().block();
+
+        // then
+        assertSame(first, cached);
+        assertEquals(1, first.universities().size());
+        assertEquals(2, rebuilt.universities().size());
+        assertNotEquals(first.eTag(), rebuilt.eTag());
+        verify(universityRepository, times(2)).findAllUniversities();
+    }
+
+    @Test
+    void getUniversityListSnapshot_shouldKeepETagForSameContent() {
+        // given
+        var university = createUniversity(ID_1);
+        when(universityRepository.findById(ID_1)).thenReturn(Mono.just(university));
+        when(universityRepository.findAllUniversities()).thenReturn(Flux.just(university), Flux.just(university));
+        when(universityRepository.save(any(UniversityEntity.class)))
+                .then(invocationOnMock -> Mono.just(invocationOnMock.getArgument(0, UniversityEntity.class)));
+
+        // when
+        UniversityListSnapshot first = universityService.getUniversityListSnapshot().block();
+        universityService.updateUniversity(new UniversityRequestDto(), ID_1).block();
+        UniversityListSnapshot rebuilt = universityService.getUniversityListSnapshot().block();
+
+        // then
+        assertNotEquals(first.version(), rebuilt.version());
+        assertEquals(first.eTag(), rebuilt.eTag());
+    }
+
     @Test
     void createUniversity_shouldCreateUniversity() {
         // given
@@ -186,8 +235,8 @@ class UniversityServiceTest {
         // given
         var university = createUniversity(ID_1);
         when(universityRepository.findById(ID_1)).thenReturn(Mono.just(university));
-        when(facultyService.deleteAllFacultiesByUniversityId(ID_1)).thenReturn(Flux.just(true, true));
-        when(documentService.deleteAllDocumentsByUniversityId(ID_1)).thenReturn(Flux.just(true, true));
+        when(facultyService.deleteAllFacultiesByUniversityId(ID_1)).thenReturn(Mono.empty());
+        when(documentService.deleteAllDocumentsByUniversityId(ID_1)).thenReturn(Mono.empty());
         when(buildingService.deleteAllBuildingsByUniversityId(ID_1)).thenReturn(Mono.empty());
         when(postService.deleteAllPostsByUniversityId(ID_1)).thenReturn(Mono.empty());
         when(employeeService.deleteAllEmployeesByUniversityId(ID_1)).thenReturn(Mono.empty());
@@ -203,12 +252,45 @@ class UniversityServiceTest {
                     .verifyComplete();
     }
 
+    @Test
+    void deleteUniversity_shouldInvalidateCachedPrincipalsOfDeletedEmployees() {
+        // given
+        var university = createUniversity(ID_1);
+        var employee = EmployeeEntity.builder().id(ID_2).type(UserType.EMPLOYEE).email(EMPLOYEE_EMAIL).universityId(ID_1).build();
+        var employeeRepository = mock(EmployeeRepository.class);
+        var principalCache = new PrincipalCache();
+        universityService = createUniversityService(new EmployeeService(employeeRepository,
+                new EmployeeRequestDtoToEntityMapper(),
+                new EmployeeEntityToResponseDtoMapper(),
+                principalCache,
+                new UserEpochRegistry()));
+        principalCache.get(EMPLOYEE_EMAIL, subject -> Mono.just(employee), user -> List.of()).block();
+        when(universityRepository.findById(ID_1)).thenReturn(Mono.just(university));
+        when(facultyService.deleteAllFacultiesByUniversityId(ID_1)).thenReturn(Mono.empty());
+        when(documentService.deleteAllDocumentsByUniversityId(ID_1)).thenReturn(Mono.empty());
+        when(buildingService.deleteAllBuildingsByUniversityId(ID_1)).thenReturn(Mono.empty());
+        when(postService.deleteAllPostsByUniversityId(ID_1)).thenReturn(Mono.empty());
+        when(employeeRepository.findAllIdsByUniversityId(ID_1)).thenReturn(Flux.just(ID_2));
+        when(employeeRepository.deleteAllByUniversityId(ID_1)).thenReturn(Mono.empty());
+        when(universityRepository.deleteById(ID_1)).thenReturn(Mono.empty());
+
+        // when
+        Mono<Boolean> result = universityService.deleteUniversity(ID_1);
+
+        // then
+        StepVerifier.create(result)
+                    .expectSubscription()
+                    .assertNext(Assertions::assertTrue)
+                    .verifyComplete();
+        assertEquals(0, principalCache.size());
+    }
+
     @Test
     void deleteUniversity_shouldThrowExceptionWhenUniversityNotFound() {
         // given
         when(universityRepository.findById(ID_1)).thenReturn(Mono.empty());
-        when(facultyService.deleteAllFacultiesByUniversityId(ID_1)).thenReturn(Flux.empty());
-        when(documentService.deleteAllDocumentsByUniversityId(ID_1)).thenReturn(Flux.empty());
+        when(facultyService.deleteAllFacultiesByUniversityId(ID_1)).thenReturn(Mono.empty());
+        when(documentService.deleteAllDocumentsByUniversityId(ID_1)).thenReturn(Mono.empty());
         when(buildingService.deleteAllBuildingsByUniversityId(ID_1)).thenReturn(Mono.empty());
         when(postService.deleteAllPostsByUniversityId(ID_1)).thenReturn(Mono.empty());
         when(employeeService.deleteAllEmployeesByUniversityId(ID_1)).thenReturn(Mono.empty());
@@ -228,8 +310,8 @@ class UniversityServiceTest {
         // given
         var university = createUniversity(ID_1);
         when(universityRepository.findById(ID_1)).thenReturn(Mono.just(university));
-        when(facultyService.deleteAllFacultiesByUniversityId(ID_1)).thenReturn(Flux.error(RuntimeException::new));
-        when(documentService.deleteAllDocumentsByUniversityId(ID_1)).thenReturn(Flux.empty());
+        when(facultyService.deleteAllFacultiesByUniversityId(ID_1)).thenReturn(Mono.error(RuntimeException::new));
+        when(documentService.deleteAllDocumentsByUniversityId(ID_1)).thenReturn(Mono.empty());
         when(buildingService.deleteAllBuildingsByUniversityId(ID_1)).thenReturn(Mono.empty());
         when(postService.deleteAllPostsByUniversityId(ID_1)).thenReturn(Mono.empty());
         when(employeeService.deleteAllEmployeesByUniversityId(ID_1)).thenReturn(Mono.empty());
@@ -253,9 +335,10 @@ class UniversityServiceTest {
         var fullPath = "https://azure.com/user/1/photo/example.png";
         when(filePart.filename()).thenReturn("example.png");
         when(universityRepository.findById(ID_1)).thenReturn(Mono.just(university));
-        when(azureStorageService.uploadFile(filePart, path)).thenReturn(Mono.just(fullPath));
+        when(imageService.uploadImage(eq(filePart), matches("university/1/logo/[0-9a-f-]{36}/example\\.png"))).thenReturn(Mono.just(fullPath));
         when(universityRepository.save(university.logoUrl(path)))
                 .then(invocationOnMock -> Mono.just(invocationOnMock.getArgument(0, UniversityEntity.class)));
+        when(imageService.scheduleReplaced(path, fullPath)).thenReturn(Mono.empty());
 
         // when
         Mono<UniversityResponseDto> result = universityService.updateUniversityLogo(ID_1, filePart);
@@ -295,7 +378,7 @@ class UniversityServiceTest {
         var path = "university/1/logo/example.png";
         when(filePart.filename()).thenReturn("example.png");
         when(universityRepository.findById(ID_1)).thenReturn(Mono.just(university));
-        when(azureStorageService.uploadFile(filePart, path)).thenReturn(Mono.error(new RuntimeException()));
+        when(imageService.uploadImage(eq(filePart), matches("university/1/logo/[0-9a-f-]{36}/example\\.png"))).thenReturn(Mono.error(new RuntimeException()));
 
         // when
         Mono<UniversityResponseDto> result = universityService.updateUniversityLogo(ID_1, filePart);
@@ -314,4 +397,18 @@ class UniversityServiceTest {
                                .logoUrl(LOGO_URL)
                                .build();
     }
+
+    private UniversityService createUniversityService(EmployeeService employeeService) {
+        return new UniversityService(universityRepository,
+                new UniversityRequestDtoToEntityMapper(),
+                new UniversityEntityToResponseDtoMapper(),
+                new UniversityEntityToListDtoMapper(TestUtils.createImageThumbnails("https://example.com/")),
+                imageService,
+                facultyService,
+                documentService,
+                postService,
+                employeeService,
+                buildingService,
+                new ObjectMapper());
+    }
 }
\ No newline at end of file
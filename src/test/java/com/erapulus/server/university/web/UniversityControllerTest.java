@@ -1,10 +1,15 @@
 package com.erapulus.server.university.web;
 
 import com.erapulus.server.TestUtils;
+import com.erapulus.server.common.web.ETags;
+import com.erapulus.server.common.web.ResponseTemplate;
 import com.erapulus.server.university.dto.UniversityListDto;
 import com.erapulus.server.university.dto.UniversityRequestDto;
 import com.erapulus.server.university.dto.UniversityResponseDto;
+import com.erapulus.server.university.service.UniversityListSnapshot;
 import com.erapulus.server.university.service.UniversityService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,6 +19,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.ApplicationContext;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.client.MultipartBodyBuilder;
@@ -41,6 +47,9 @@ class UniversityControllerTest {
     @Autowired
     ApplicationContext applicationContext;
 
+    @Autowired
+    ObjectMapper objectMapper;
+
     @MockBean
     UniversityService universityService;
 
@@ -52,7 +61,7 @@ class UniversityControllerTest {
     }
 
     @Test
-    void listUniversities_shouldReturnUniversities() {
+    void listUniversities_shouldReturnUniversities() throws JsonProcessingException {
         // given
         var universityList = List.of(createUniversityListDto(UNIVERSITY_ID_1), createUniversityListDto(UNIVERSITY_ID_2));
         String expectedPayload = """
@@ -69,7 +78,8 @@ class UniversityControllerTest {
                    }
                 ]""";
         String expectedResponse = TestUtils.createSuccessfulResponse(HttpStatus.OK.value(), expectedPayload);
-        when(universityService.listUniversities()).thenReturn(Mono.just(universityList));
+        var snapshot = createUniversityListSnapshot(universityList);
+        when(universityService.getUniversityListSnapshot()).thenReturn(Mono.just(snapshot));
 
         // when-then
         webTestClient.get()
@@ -79,14 +89,34 @@ class UniversityControllerTest {
                      .accept(MediaType.APPLICATION_JSON)
                      .exchange()
                      .expectStatus().isEqualTo(HttpStatus.OK)
+                     .expectHeader().valueEquals(HttpHeaders.ETAG, snapshot.eTag())
                      .expectBody().consumeWith(body -> TestUtils.assertJsonEquals(expectedResponse, TestUtils.getBodyAsString(body)));
     }
 
+    @Test
+    void listUniversities_shouldReturnNotModifiedWhenETagMatches() throws JsonProcessingException {
+        // given
+        var snapshot = createUniversityListSnapshot(List.of(createUniversityListDto(UNIVERSITY_ID_1)));
+        when(universityService.getUniversityListSnapshot()).thenReturn(Mono.just(snapshot));
+
+        // when-then
+        webTestClient.get()
+                     .uri(uriBuilder -> uriBuilder
+                             .path("/api/university")
+                             .build())
+                     .accept(MediaType.APPLICATION_JSON)
+                     .header(HttpHeaders.IF_NONE_MATCH, "\"other\", " + snapshot.eTag())
+                     .exchange()
+                     .expectStatus().isEqualTo(HttpStatus.NOT_MODIFIED)
+                     .expectHeader().valueEquals(HttpHeaders.ETAG, snapshot.eTag())
+                     .expectBody().isEmpty();
+    }
+
     @Test
     void listUniversities_shouldReturnInternalServerErrorWhenUnexpectedErrorThrown() {
         // given
         String expectedResponse = TestUtils.createErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR.value(), "internal.server.error");
-        when(universityService.listUniversities()).thenReturn(Mono.error(new RuntimeException()));
+        when(universityService.getUniversityListSnapshot()).thenReturn(Mono.error(new RuntimeException()));
 
         // when-then
         webTestClient.get()
@@ -575,6 +605,14 @@ class UniversityControllerTest {
                      .expectBody().consumeWith(body -> TestUtils.assertJsonEquals(expectedResponse, TestUtils.getBodyAsString(body)));
     }
 
+    private UniversityListSnapshot createUniversityListSnapshot(List<UniversityListDto> universities) throws JsonProcessingException {
+        byte[] body = objectMapper.writeValueAsBytes(ResponseTemplate.builder()
+                                                                     .status(HttpStatus.OK.value())
+                                                                     .payload(universities)
+                                                                     .build());
+        return new UniversityListSnapshot(1, universities, ETags.fromContent(body), body);
+    }
+
     private UniversityListDto createUniversityListDto(int id) {
         return UniversityListDto.builder()
                                 .id(id)